@@ -0,0 +1,463 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core;
+
+import de.saxsys.svgfx.core.metrics.SVGMetrics;
+import de.saxsys.svgfx.core.utils.HashUtil;
+import javafx.scene.Group;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Loads svg documents using a bounded cache of {@link SVGTemplate}s, so each document is only parsed once as long as it stays in the cache. Files are
+ * identified by their real path, their last modification time and their size, streams are identified by the hash of their content. Each load returns new
+ * nodes created by {@link SVGTemplate#instantiate()}.
+ * <p>
+ * The cache is bounded by the sum of the node counts of the cached templates and evicts the least recently used templates first. If soft values are used,
+ * the garbage collector may additionally evict templates when the heap runs low. If a {@link SVGDiskCache} is provided, templates that are not in memory
+ * are loaded from or stored in it before the document is parsed. This class is thread safe.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public class CachingSVGLoader {
+
+    // region Constants
+
+    /**
+     * The size of the buffer used to read streams.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The maximum sum of the node counts of all cached templates.
+     */
+    private final long maximumWeight;
+
+    /**
+     * Determines if the templates are only softly referenced.
+     */
+    private final boolean softValues;
+
+    /**
+     * The optional cache of compiled documents on the disk, may be null.
+     */
+    private final SVGDiskCache diskCache;
+
+    /**
+     * Contains the cached entries in the order of their last access.
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Receives the soft references of templates that have been cleared by the garbage collector.
+     */
+    private final ReferenceQueue<SVGTemplate> clearedTemplates = new ReferenceQueue<>();
+
+    /**
+     * The current sum of the node counts of all cached templates.
+     */
+    private long weight;
+
+    /**
+     * The amount of loads which used a cached template.
+     */
+    private long hitCount;
+
+    /**
+     * The amount of loads which needed to parse the document.
+     */
+    private long missCount;
+
+    /**
+     * The amount of templates removed from the cache, either because the cache was full or because they were cleared by the garbage collector.
+     */
+    private long evictionCount;
+
+    /**
+     * The {@link SVGMetrics} which record the accesses of the cache.
+     */
+    private SVGMetrics metrics = SVGMetrics.NONE;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maximumWeight the maximum sum of the node counts of all cached templates, must be greater than 0.
+     * @param softValues    true if the cached templates should only be softly referenced, so they can be removed when the heap runs low.
+     *
+     * @throws IllegalArgumentException if the given maximumWeight is not greater than 0.
+     */
+    public CachingSVGLoader(final long maximumWeight, final boolean softValues) throws IllegalArgumentException {
+        this(maximumWeight, softValues, null);
+    }
+
+    /**
+     * Creates a new instance which uses the given {@link SVGDiskCache} for templates that are not in memory.
+     *
+     * @param maximumWeight the maximum sum of the node counts of all cached templates, must be greater than 0.
+     * @param softValues    true if the cached templates should only be softly referenced, so they can be removed when the heap runs low.
+     * @param diskCache     the {@link SVGDiskCache} to use, may be null if no disk cache should be used.
+     *
+     * @throws IllegalArgumentException if the given maximumWeight is not greater than 0.
+     */
+    public CachingSVGLoader(final long maximumWeight, final boolean softValues, final SVGDiskCache diskCache) throws IllegalArgumentException {
+        if (maximumWeight <= 0) {
+            throw new IllegalArgumentException("given maximumWeight must be greater than 0");
+        }
+
+        this.maximumWeight = maximumWeight;
+        this.softValues = softValues;
+        this.diskCache = diskCache;
+    }
+
+    // endregion
+
+    // region Getter
+
+    /**
+     * Gets the {@link #hitCount}.
+     *
+     * @return the {@link #hitCount}.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the {@link #missCount}.
+     *
+     * @return the {@link #missCount}.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the {@link #evictionCount}.
+     *
+     * @return the {@link #evictionCount}.
+     */
+    public synchronized long getEvictionCount() {
+        expungeClearedTemplates();
+        return evictionCount;
+    }
+
+    /**
+     * Gets the {@link #weight}.
+     *
+     * @return the {@link #weight}.
+     */
+    public synchronized long getWeight() {
+        expungeClearedTemplates();
+        return weight;
+    }
+
+    /**
+     * Gets the amount of cached templates.
+     *
+     * @return the amount of cached templates.
+     */
+    public synchronized int getSize() {
+        expungeClearedTemplates();
+        return entries.size();
+    }
+
+    // endregion
+
+    // region Setter
+
+    /**
+     * Sets the {@link SVGMetrics} which record the accesses of the cache as {@link SVGMetrics#TEMPLATE_CACHE}.
+     *
+     * @param metrics the {@link SVGMetrics} to use, null if nothing should be recorded.
+     */
+    public synchronized void setMetrics(final SVGMetrics metrics) {
+        this.metrics = metrics != null ? metrics : SVGMetrics.NONE;
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Loads the svg file located at the given path.
+     *
+     * @param path the path of the file, must not be null.
+     *
+     * @return a new {@link Group} containing the nodes of the document.
+     *
+     * @throws IOException              if the file can not be read.
+     * @throws SVGException             if the file can not be parsed.
+     * @throws IllegalArgumentException if the given path is null.
+     */
+    public Group load(final Path path) throws IOException, SVGException, IllegalArgumentException {
+        return getTemplate(path).instantiate();
+    }
+
+    /**
+     * Loads the svg document provided by the given stream. The stream is read completely but not closed.
+     *
+     * @param stream the {@link InputStream} to read from, must not be null.
+     *
+     * @return a new {@link Group} containing the nodes of the document.
+     *
+     * @throws IOException              if the stream can not be read.
+     * @throws SVGException             if the data can not be parsed.
+     * @throws IllegalArgumentException if the given stream is null.
+     */
+    public Group load(final InputStream stream) throws IOException, SVGException, IllegalArgumentException {
+        return getTemplate(stream).instantiate();
+    }
+
+    /**
+     * Gets the template of the svg file located at the given path, parsing the file if it is not cached or has changed.
+     *
+     * @param path the path of the file, must not be null.
+     *
+     * @return the {@link SVGTemplate} of the file.
+     *
+     * @throws IOException              if the file can not be read.
+     * @throws SVGException             if the file can not be parsed.
+     * @throws IllegalArgumentException if the given path is null.
+     */
+    public SVGTemplate getTemplate(final Path path) throws IOException, SVGException, IllegalArgumentException {
+        if (path == null) {
+            throw new IllegalArgumentException("given path must not be null");
+        }
+
+        final Path realPath = path.toRealPath();
+        final BasicFileAttributes attributes = Files.readAttributes(realPath, BasicFileAttributes.class);
+        final String key = String.format("file:%s:%d:%d", realPath, attributes.lastModifiedTime().toMillis(), attributes.size());
+
+        SVGTemplate result = get(key);
+
+        if (result == null) {
+            result = diskCache != null ? diskCache.getTemplate(Files.readAllBytes(realPath)) : SVGTemplate.create(realPath);
+            put(key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Gets the template of the svg document provided by the given stream, parsing the data if no document with the same content is cached. The stream is
+     * read completely but not closed.
+     *
+     * @param stream the {@link InputStream} to read from, must not be null.
+     *
+     * @return the {@link SVGTemplate} of the document.
+     *
+     * @throws IOException              if the stream can not be read.
+     * @throws SVGException             if the data can not be parsed.
+     * @throws IllegalArgumentException if the given stream is null.
+     */
+    public SVGTemplate getTemplate(final InputStream stream) throws IOException, SVGException, IllegalArgumentException {
+        if (stream == null) {
+            throw new IllegalArgumentException("given stream must not be null");
+        }
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+
+        int read;
+        while ((read = stream.read(buffer)) >= 0) {
+            output.write(buffer, 0, read);
+        }
+
+        final byte[] data = output.toByteArray();
+        final String key = "content:" + HashUtil.createHash(data);
+
+        SVGTemplate result = get(key);
+
+        if (result == null) {
+            result = diskCache != null ? diskCache.getTemplate(data) : SVGTemplate.create(ByteBuffer.wrap(data));
+            put(key, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes all templates from the cache, the counters are not reset.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+        expungeClearedTemplates();
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Gets the cached template for the given key and updates the counters.
+     *
+     * @param key the key of the template.
+     *
+     * @return the cached {@link SVGTemplate} or null if there is none.
+     */
+    private synchronized SVGTemplate get(final String key) {
+        expungeClearedTemplates();
+
+        final Entry entry = entries.get(key);
+        final SVGTemplate result = entry != null ? entry.getTemplate() : null;
+
+        if (result != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+
+        metrics.recordCacheAccess(SVGMetrics.TEMPLATE_CACHE, result != null);
+
+        return result;
+    }
+
+    /**
+     * Adds the given template to the cache and evicts the least recently used templates until the maximum weight is no longer exceeded. Templates which
+     * alone exceed the maximum weight are not cached.
+     *
+     * @param key      the key of the template.
+     * @param template the {@link SVGTemplate} to add.
+     */
+    private synchronized void put(final String key, final SVGTemplate template) {
+        final int templateWeight = template.getNodeCount();
+
+        if (templateWeight > maximumWeight) {
+            return;
+        }
+
+        final Entry previous = entries.put(key, new Entry(key, template, templateWeight, softValues ? clearedTemplates : null));
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+
+        weight += templateWeight;
+
+        final Iterator<Entry> iterator = entries.values().iterator();
+        while (weight > maximumWeight && iterator.hasNext()) {
+            final Entry eldest = iterator.next();
+            iterator.remove();
+            weight -= eldest.weight;
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Removes all entries whose template has been cleared by the garbage collector.
+     */
+    private void expungeClearedTemplates() {
+        Reference<? extends SVGTemplate> reference;
+
+        while ((reference = clearedTemplates.poll()) != null) {
+            final String key = ((KeyedReference) reference).key;
+            final Entry entry = entries.get(key);
+
+            // the entry may have been replaced or removed in the meantime
+            if (entry != null && entry.value == reference) {
+                entries.remove(key);
+                weight -= entry.weight;
+                evictionCount++;
+            }
+        }
+    }
+
+    // endregion
+
+    // region Class
+
+    /**
+     * A soft reference to a template, which knows the key of its entry.
+     */
+    private static final class KeyedReference extends SoftReference<SVGTemplate> {
+
+        /**
+         * The key of the entry.
+         */
+        private final String key;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param key      the key of the entry.
+         * @param template the {@link SVGTemplate} to reference.
+         * @param queue    the queue to which the reference is added when it is cleared.
+         */
+        private KeyedReference(final String key, final SVGTemplate template, final ReferenceQueue<SVGTemplate> queue) {
+            super(template, queue);
+            this.key = key;
+        }
+    }
+
+    /**
+     * A cached template.
+     */
+    private static final class Entry {
+
+        /**
+         * Either the {@link SVGTemplate} or a {@link KeyedReference} to it.
+         */
+        private final Object value;
+
+        /**
+         * The weight of the template.
+         */
+        private final int weight;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param key      the key of the entry.
+         * @param template the {@link SVGTemplate} to cache.
+         * @param weight   the weight of the template.
+         * @param queue    the queue used for soft references or null if the template should be strongly referenced.
+         */
+        private Entry(final String key, final SVGTemplate template, final int weight, final ReferenceQueue<SVGTemplate> queue) {
+            this.value = queue != null ? new KeyedReference(key, template, queue) : template;
+            this.weight = weight;
+        }
+
+        /**
+         * Gets the cached template.
+         *
+         * @return the {@link SVGTemplate} or null if it has been cleared by the garbage collector.
+         */
+        private SVGTemplate getTemplate() {
+            return value instanceof KeyedReference ? ((KeyedReference) value).get() : (SVGTemplate) value;
+        }
+    }
+
+    // endregion
+}
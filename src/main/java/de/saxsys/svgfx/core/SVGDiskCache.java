@@ -0,0 +1,274 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core;
+
+import de.saxsys.svgfx.core.binary.SVGBinaryFormat;
+import de.saxsys.svgfx.core.binary.SVGCompiledScene;
+import de.saxsys.svgfx.core.utils.HashUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * A cache of compiled svg documents stored in a directory, so documents that have been parsed once do not need to be parsed again after the JVM has been
+ * restarted. Each entry contains the {@link SVGCompiledScene} of a document, with resolved styles, flattened transforms and parsed path geometry. Entries are
+ * identified by the hash of the content of the document and the {@link SVGBinaryFormat#VERSION}, so entries of an older format are never used.
+ * <p>
+ * Entries are written to a temporary file first and then moved into place, so several processes can share the same directory. Each entry starts with a
+ * checksum of its content, entries whose checksum does not match or that can not be read are deleted and replaced. This class is thread safe.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public class SVGDiskCache {
+
+    // region Constants
+
+    /**
+     * The suffix of the files containing an entry.
+     */
+    private static final String ENTRY_SUFFIX = ".svgb";
+
+    /**
+     * The suffix of the temporary files used while writing an entry.
+     */
+    private static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /**
+     * The amount of bytes of the checksum preceding the compiled scene in each entry.
+     */
+    private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The directory containing the entries.
+     */
+    private final Path directory;
+
+    /**
+     * The amount of documents that were loaded from the directory.
+     */
+    private final AtomicLong hitCount = new AtomicLong();
+
+    /**
+     * The amount of documents that needed to be parsed.
+     */
+    private final AtomicLong missCount = new AtomicLong();
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance using the given directory, which will be created if it does not exist.
+     *
+     * @param directory the directory containing the entries, must not be null.
+     *
+     * @throws IOException              if the directory can not be created.
+     * @throws IllegalArgumentException if the given directory is null.
+     */
+    public SVGDiskCache(final Path directory) throws IOException, IllegalArgumentException {
+        if (directory == null) {
+            throw new IllegalArgumentException("given directory must not be null");
+        }
+
+        this.directory = Files.createDirectories(directory);
+    }
+
+    // endregion
+
+    // region Getter
+
+    /**
+     * Gets the {@link #directory}.
+     *
+     * @return the {@link #directory}.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Gets the {@link #hitCount}.
+     *
+     * @return the {@link #hitCount}.
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the {@link #missCount}.
+     *
+     * @return the {@link #missCount}.
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Gets the template of the svg file located at the given path, loading it from the cache if the same content has been parsed before.
+     *
+     * @param path the path of the file, must not be null.
+     *
+     * @return the {@link SVGTemplate} of the file.
+     *
+     * @throws IOException              if the file can not be read or the entry can not be written.
+     * @throws SVGException             if the file can not be parsed.
+     * @throws IllegalArgumentException if the given path is null.
+     */
+    public SVGTemplate getTemplate(final Path path) throws IOException, SVGException, IllegalArgumentException {
+        if (path == null) {
+            throw new IllegalArgumentException("given path must not be null");
+        }
+
+        return getTemplate(Files.readAllBytes(path));
+    }
+
+    /**
+     * Gets the template of the given svg document, loading it from the cache if the same content has been parsed before. Otherwise the document is parsed
+     * and its compiled form is stored in the cache.
+     *
+     * @param data the content of the document, gzip compressed data is supported, must not be null.
+     *
+     * @return the {@link SVGTemplate} of the document.
+     *
+     * @throws IOException              if the entry can not be written.
+     * @throws SVGException             if the document can not be parsed.
+     * @throws IllegalArgumentException if the given data is null.
+     */
+    public SVGTemplate getTemplate(final byte[] data) throws IOException, SVGException, IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("given data must not be null");
+        }
+
+        final Path entry = directory.resolve(String.format("%s-v%d%s", HashUtil.createHash(data), SVGBinaryFormat.VERSION, ENTRY_SUFFIX));
+
+        final SVGCompiledScene cached = read(entry);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return new SVGTemplate(cached);
+        }
+
+        missCount.incrementAndGet();
+
+        final SVGTemplate result = SVGTemplate.create(ByteBuffer.wrap(data));
+
+        write(entry, result.getScene());
+
+        return result;
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Reads the compiled scene stored in the given entry. An entry whose checksum does not match its content or that can not be read is deleted.
+     *
+     * @param entry the file of the entry.
+     *
+     * @return the {@link SVGCompiledScene} or null if there is no entry or the entry can not be read.
+     */
+    private SVGCompiledScene read(final Path entry) {
+        if (!Files.exists(entry)) {
+            return null;
+        }
+
+        try {
+            final byte[] data = Files.readAllBytes(entry);
+
+            if (data.length < CHECKSUM_LENGTH || ByteBuffer.wrap(data).getLong() != createChecksum(data, CHECKSUM_LENGTH, data.length - CHECKSUM_LENGTH)) {
+                throw new SVGException(String.format("Entry [%s] is corrupt", entry));
+            }
+
+            return SVGCompiledScene.read(new ByteArrayInputStream(data, CHECKSUM_LENGTH, data.length - CHECKSUM_LENGTH), data.length - CHECKSUM_LENGTH);
+        } catch (final IOException | SVGException | RuntimeException e) {
+            // a corrupt entry is deleted, so it will be replaced
+            try {
+                Files.deleteIfExists(entry);
+            } catch (final IOException ignored) {
+                // the entry will be replaced when it is written
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * Creates the checksum of the given range of the given data.
+     *
+     * @param data   the data to use.
+     * @param offset the offset of the first byte.
+     * @param length the amount of bytes.
+     *
+     * @return the checksum.
+     */
+    private static long createChecksum(final byte[] data, final int offset, final int length) {
+        final CRC32 checksum = new CRC32();
+        checksum.update(data, offset, length);
+
+        return checksum.getValue();
+    }
+
+    /**
+     * Writes the given compiled scene into the given entry.
+     *
+     * @param entry the file of the entry.
+     * @param scene the {@link SVGCompiledScene} to write.
+     *
+     * @throws IOException if the entry can not be written.
+     */
+    private void write(final Path entry, final SVGCompiledScene scene) throws IOException {
+        final Path temporary = Files.createTempFile(directory, entry.getFileName().toString(), TEMPORARY_SUFFIX);
+
+        try {
+            final ByteArrayOutputStream content = new ByteArrayOutputStream();
+            scene.write(content);
+
+            final byte[] data = content.toByteArray();
+
+            try (final OutputStream stream = Files.newOutputStream(temporary)) {
+                stream.write(ByteBuffer.allocate(CHECKSUM_LENGTH).putLong(createChecksum(data, 0, data.length)).array());
+                stream.write(data);
+            }
+
+            try {
+                Files.move(temporary, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temporary, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    // endregion
+}
@@ -15,8 +15,13 @@ package de.saxsys.svgfx.core;
 
 import de.saxsys.svgfx.core.css.SVGCssStyle;
 import de.saxsys.svgfx.core.elements.SVGElementBase;
+import de.saxsys.svgfx.core.metrics.SVGMetrics;
 import de.saxsys.svgfx.core.utils.StringUtil;
+import de.saxsys.svgfx.css.core.CssCascade;
 import de.saxsys.svgfx.xml.core.IDocumentDataProvider;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.util.Pair;
 
 import java.util.Collection;
 import java.util.Collections;
@@ -25,6 +30,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Holds an provides data for parsed svg elements
@@ -45,6 +51,42 @@ public class SVGDocumentDataProvider implements IDocumentDataProvider {
      */
     private final Set<SVGCssStyle> styles = new HashSet<>();
 
+    /**
+     * Contains all the available styles compiled by their selectors, used to determine the styles matching an element.
+     */
+    private final CssCascade<SVGCssStyle> cascade = new CssCascade<>();
+
+    /**
+     * The viewport in user space outside of which no results need to be created, null if all results are created.
+     */
+    private Bounds viewport;
+
+    /**
+     * Contains the element and its bounds without transformations for each shape that was created, if {@link #collectBounds} is enabled. Shapes might be
+     * created in parallel, hence the map needs to be thread safe.
+     */
+    private final Map<Node, Pair<SVGElementBase<?>, Bounds>> bounds = new ConcurrentHashMap<>();
+
+    /**
+     * Determines if the bounds of the created shapes are collected.
+     */
+    private boolean collectBounds;
+
+    /**
+     * The maximum distance in the coordinate system of the result by which simplified points may deviate, 0 if points are not simplified.
+     */
+    private double simplificationTolerance;
+
+    /**
+     * The {@link SVGMetrics} which record the current parse, null if nothing is recorded.
+     */
+    private SVGMetrics metrics;
+
+    /**
+     * The id of the document which is currently parsed, null if unknown.
+     */
+    private String documentId;
+
     //endregion
 
     //region Public
@@ -68,25 +110,42 @@ public class SVGDocumentDataProvider implements IDocumentDataProvider {
     }
 
     /**
-     * Adds the given {@link SVGCssStyle} to the {@link #styles}.
+     * Returns the {@link #cascade} containing all the added styles.
+     *
+     * @return the {@link #cascade}.
+     */
+    public final CssCascade<SVGCssStyle> getCascade() {
+        return cascade;
+    }
+
+    /**
+     * Adds the given {@link SVGCssStyle} to the {@link #styles} and the {@link #cascade}.
      *
      * @param style the {@link SVGCssStyle} to add.
      *
      * @return true if the {@link SVGCssStyle} was added otherwise false.
      */
     public boolean addStyle(final SVGCssStyle style) {
+        cascade.add(style.getSelectorText(), style);
+
         return styles.add(style);
     }
 
     /**
-     * Adds the given {@link SVGCssStyle}s to the {@link #styles}.
+     * Adds the given {@link SVGCssStyle}s to the {@link #styles} and the {@link #cascade}, in the order of the given {@link Collection}.
      *
      * @param styles the {@link SVGCssStyle}s to add.
      *
      * @return true if the {@link SVGCssStyle}s were added otherwise false.
      */
     public boolean addStyles(final Collection<SVGCssStyle> styles) {
-        return this.styles.addAll(styles);
+        boolean result = false;
+
+        for (final SVGCssStyle style : styles) {
+            result |= addStyle(style);
+        }
+
+        return result;
     }
 
     /**
@@ -140,6 +199,122 @@ public class SVGDocumentDataProvider implements IDocumentDataProvider {
         return Optional.empty();
     }
 
+    /**
+     * Returns the viewport in user space outside of which no results need to be created.
+     *
+     * @return an {@link Optional} containing the viewport or an empty {@link Optional} if all results are created.
+     */
+    public final Optional<Bounds> getViewport() {
+        return Optional.ofNullable(viewport);
+    }
+
+    /**
+     * Sets the viewport in user space outside of which no results need to be created.
+     *
+     * @param viewport the viewport to use, null if all results are created.
+     */
+    public final void setViewport(final Bounds viewport) {
+        this.viewport = viewport;
+    }
+
+    /**
+     * @return the maximum distance in the coordinate system of the result by which simplified points may deviate, 0 if points are not simplified.
+     */
+    public final double getSimplificationTolerance() {
+        return simplificationTolerance;
+    }
+
+    /**
+     * Sets the maximum distance in the coordinate system of the result by which simplified points may deviate.
+     *
+     * @param simplificationTolerance the tolerance to use, 0 if points should not be simplified.
+     */
+    public final void setSimplificationTolerance(final double simplificationTolerance) {
+        this.simplificationTolerance = simplificationTolerance;
+    }
+
+    /**
+     * @return the {@link SVGMetrics} which record the current parse, {@link SVGMetrics#NONE} if nothing is recorded.
+     */
+    public final SVGMetrics getMetrics() {
+        return metrics != null ? metrics : SVGMetrics.NONE;
+    }
+
+    /**
+     * Sets the {@link SVGMetrics} which record the current parse.
+     *
+     * @param metrics the {@link SVGMetrics} to use, null if nothing should be recorded.
+     */
+    public final void setMetrics(final SVGMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return the id of the document which is currently parsed, null if unknown.
+     */
+    public final String getDocumentId() {
+        return documentId;
+    }
+
+    /**
+     * Sets the id of the document which is currently parsed.
+     *
+     * @param documentId the id of the document, might be null.
+     */
+    public final void setDocumentId(final String documentId) {
+        this.documentId = documentId;
+    }
+
+    /**
+     * @return true if the bounds of the created shapes are collected, otherwise false.
+     */
+    public final boolean isCollectingBounds() {
+        return collectBounds;
+    }
+
+    /**
+     * Sets whether the bounds of the created shapes are collected.
+     *
+     * @param collectBounds true if the bounds should be collected, otherwise false.
+     */
+    public final void setCollectingBounds(final boolean collectBounds) {
+        this.collectBounds = collectBounds;
+    }
+
+    /**
+     * Returns the elements and their bounds without transformations for each shape that was created while the bounds were collected.
+     *
+     * @return an unmodifiable map containing the element and its bounds for each created shape.
+     */
+    public final Map<Node, Pair<SVGElementBase<?>, Bounds>> getUnmodifiableBounds() {
+        return Collections.unmodifiableMap(bounds);
+    }
+
+    /**
+     * Stores the given element and bounds for the given shape.
+     *
+     * @param shape   the shape that was created.
+     * @param element the element which created the shape.
+     * @param bounds  the bounds of the shape without transformations.
+     *
+     * @throws IllegalArgumentException if any of the given parameters is null.
+     */
+    public final void storeBounds(final Node shape, final SVGElementBase<?> element, final Bounds bounds) throws IllegalArgumentException {
+        if (shape == null) {
+            throw new IllegalArgumentException("given shape must not be null");
+        }
+
+        if (element == null) {
+            throw new IllegalArgumentException("given element must not be null");
+        }
+
+        if (bounds == null) {
+            throw new IllegalArgumentException("given bounds must not be null");
+        }
+
+        this.bounds.put(shape, new Pair<>(element, bounds));
+    }
+
     //endregion
 
     //region Implement IDocumentDataProvider
@@ -151,6 +326,13 @@ public class SVGDocumentDataProvider implements IDocumentDataProvider {
     public final void clear() {
         data.clear();
         styles.clear();
+        cascade.clear();
+        viewport = null;
+        bounds.clear();
+        collectBounds = false;
+        simplificationTolerance = 0.0d;
+        metrics = null;
+        documentId = null;
     }
 
     //endregion
@@ -20,15 +20,27 @@ import de.saxsys.svgfx.core.elements.SVGElementBase;
 import de.saxsys.svgfx.core.elements.SVGElementFactory;
 import de.saxsys.svgfx.core.elements.SVGGradientBase;
 import de.saxsys.svgfx.core.elements.SVGStop;
+import de.saxsys.svgfx.core.metrics.SVGMetrics;
 import de.saxsys.svgfx.core.path.CommandParser;
 import de.saxsys.svgfx.core.path.commands.CommandFactory;
 import de.saxsys.svgfx.xml.core.SAXParser;
+import javafx.application.Platform;
+import javafx.geometry.Bounds;
 import javafx.scene.Group;
 import javafx.scene.Node;
 import org.xml.sax.EntityResolver;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
 import org.xml.sax.XMLReader;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
 /**
  * This parser is used to create SVG path data for javafx
  *
@@ -44,6 +56,65 @@ public class SVGParser extends SAXParser<Group, SVGDocumentDataProvider, SVGElem
 
     private static final SVGElementFactory SVG_ELEMENT_FACTORY = new SVGElementFactory(COMMAND_PARSER);
 
+    /**
+     * The default time in nanoseconds each chunk of a progressive load may use, which leaves enough time of a 60 hz frame for rendering.
+     */
+    public static final long DEFAULT_FRAME_BUDGET = 8_000_000L;
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The {@link ForkJoinPool} used to create the results of the top level elements in parallel, null if they are created sequentially.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The {@link SVGDocumentDataProvider} used by this parser.
+     */
+    private final SVGDocumentDataProvider dataProvider;
+
+    /**
+     * The viewport in user space outside of which no results are created, null if all results are created.
+     */
+    private Bounds viewport;
+
+    /**
+     * Determines if a {@link SVGSpatialIndex} is created for each parse.
+     */
+    private boolean spatialIndexEnabled;
+
+    /**
+     * The {@link SVGSpatialIndex} of the last parse, null if none was created.
+     */
+    private SVGSpatialIndex spatialIndex;
+
+    /**
+     * The maximum distance in the coordinate system of the result by which simplified points may deviate, 0 if points are not simplified.
+     */
+    private double simplificationTolerance;
+
+    /**
+     * Determines if the result of each parse is optimized using the {@link SVGSceneGraphOptimizer}.
+     */
+    private boolean optimizationEnabled;
+
+    /**
+     * Determines if adjacent shapes of the result of each parse are merged using the {@link SVGShapeBatcher}.
+     */
+    private boolean shapeBatchingEnabled;
+
+    /**
+     * The {@link SVGMetrics} which record the following parses.
+     */
+    private SVGMetrics metrics = SVGMetrics.NONE;
+
+    /**
+     * The time the current document was entered, as returned by {@link SVGMetrics#startPhase()}.
+     */
+    private long documentStart;
+
     // endregion
 
     // region Constructor
@@ -52,7 +123,232 @@ public class SVGParser extends SAXParser<Group, SVGDocumentDataProvider, SVGElem
      * Creates a new instance of the parser and uses the given elementCreator.
      */
     public SVGParser() {
-        super(SVG_ELEMENT_FACTORY, new SVGDocumentDataProvider());
+        this(null);
+    }
+
+    /**
+     * Creates a new instance of the parser which creates the results of the top level elements in parallel using the given pool. The results are created
+     * once the document has been read completely, so all referenced elements such as gradients, clip paths and the targets of use elements are known at
+     * that time. This is useful for documents with many independent top level elements, such as layers. JavaFX nodes can be created on any thread as long
+     * as they are not attached to a scene yet, which is the case for the result.
+     *
+     * @param pool the {@link ForkJoinPool} to use, null if the results should be created sequentially.
+     */
+    public SVGParser(final ForkJoinPool pool) {
+        this(pool, new SVGDocumentDataProvider());
+    }
+
+    /**
+     * Creates a new instance of the parser using the given pool and data provider.
+     *
+     * @param pool         the {@link ForkJoinPool} to use, null if the results should be created sequentially.
+     * @param dataProvider the {@link SVGDocumentDataProvider} to use.
+     */
+    private SVGParser(final ForkJoinPool pool, final SVGDocumentDataProvider dataProvider) {
+        super(SVG_ELEMENT_FACTORY, dataProvider);
+
+        this.pool = pool;
+        this.dataProvider = dataProvider;
+    }
+
+    // endregion
+
+    // region Getter
+
+    /**
+     * Returns the viewport in user space outside of which no results are created.
+     *
+     * @return the viewport or null if all results are created.
+     */
+    public final Bounds getViewport() {
+        return viewport;
+    }
+
+    /**
+     * @return true if a {@link SVGSpatialIndex} is created for each parse, otherwise false.
+     */
+    public final boolean isSpatialIndexEnabled() {
+        return spatialIndexEnabled;
+    }
+
+    /**
+     * @return the maximum distance in the coordinate system of the result by which simplified points may deviate, 0 if points are not simplified.
+     */
+    public final double getSimplificationTolerance() {
+        return simplificationTolerance;
+    }
+
+    /**
+     * @return true if the result of each parse is optimized using the {@link SVGSceneGraphOptimizer}, otherwise false.
+     */
+    public final boolean isOptimizationEnabled() {
+        return optimizationEnabled;
+    }
+
+    /**
+     * @return true if adjacent shapes of the result of each parse are merged using the {@link SVGShapeBatcher}, otherwise false.
+     */
+    public final boolean isShapeBatchingEnabled() {
+        return shapeBatchingEnabled;
+    }
+
+    /**
+     * @return the {@link SVGMetrics} which record the following parses, {@link SVGMetrics#NONE} if nothing is recorded.
+     */
+    public final SVGMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the {@link SVGSpatialIndex} of the shapes created by the last parse.
+     *
+     * @return the {@link SVGSpatialIndex} or null if it is not enabled or the last parse failed.
+     */
+    public final SVGSpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+
+    // endregion
+
+    // region Setter
+
+    /**
+     * Sets the viewport in user space used by the following parses. Shapes whose transformed bounding box lies completely outside of the viewport are not created
+     * at all, which saves most of the work when only a small part of a huge document is needed. The bounding
+     * boxes do not include the stroke, so the viewport should be enlarged by the widest stroke if shapes touching its border must be kept. Elements
+     * created through a use element are never skipped, since their position depends on the use element.
+     *
+     * @param viewport the viewport to use, null if all results should be created.
+     */
+    public final void setViewport(final Bounds viewport) {
+        this.viewport = viewport;
+    }
+
+    /**
+     * Sets whether a {@link SVGSpatialIndex} is created for the following parses, which allows to find the shapes in a region or at a point of the result
+     * without walking through all of its nodes.
+     *
+     * @param spatialIndexEnabled true if the {@link SVGSpatialIndex} should be created, otherwise false.
+     */
+    public final void setSpatialIndexEnabled(final boolean spatialIndexEnabled) {
+        this.spatialIndexEnabled = spatialIndexEnabled;
+    }
+
+    /**
+     * Sets the tolerance used to simplify the points of polylines, polygons and paths in the following parses. Points are removed as long as the outline
+     * does not deviate by more than the tolerance, which is given in the coordinate system of the result, so it equals device pixels if the result is not
+     * scaled. Curves of paths are flattened into straight lines before they are simplified. The tolerance is converted into the coordinate system of each
+     * shape using its accumulated transform.
+     *
+     * @param simplificationTolerance the tolerance to use, 0 if points should not be simplified.
+     *
+     * @throws IllegalArgumentException if the given tolerance is negative or not a number.
+     */
+    public final void setSimplificationTolerance(final double simplificationTolerance) throws IllegalArgumentException {
+        if (!(simplificationTolerance >= 0.0d)) {
+            throw new IllegalArgumentException(String.format("given simplificationTolerance [%f] must not be negative", simplificationTolerance));
+        }
+
+        this.simplificationTolerance = simplificationTolerance;
+    }
+
+    /**
+     * Sets whether the result of the following parses is optimized using the {@link SVGSceneGraphOptimizer}, which merges groups that neither clip nor
+     * style their children into their parent and folds their transforms into the children. The result will contain fewer nodes, however groups created
+     * for g or use elements may no longer be present.
+     *
+     * @param optimizationEnabled true if the result should be optimized, otherwise false.
+     */
+    public final void setOptimizationEnabled(final boolean optimizationEnabled) {
+        this.optimizationEnabled = optimizationEnabled;
+    }
+
+    /**
+     * Sets whether adjacent sibling shapes of the result of the following parses which are painted the same way are merged into a single path using the
+     * {@link SVGShapeBatcher}. This greatly reduces the amount of nodes of documents with many similar shapes, however the merged shapes are no longer
+     * accessible on their own. The {@link SVGSpatialIndex} is created after the shapes are merged, so the entries of the merged shapes refer to the path
+     * replacing them.
+     *
+     * @param shapeBatchingEnabled true if the shapes should be merged, otherwise false.
+     */
+    public final void setShapeBatchingEnabled(final boolean shapeBatchingEnabled) {
+        this.shapeBatchingEnabled = shapeBatchingEnabled;
+    }
+
+    /**
+     * Sets the {@link SVGMetrics} which record the following parses. The same {@link SVGMetrics} can be used by several parsers at once.
+     *
+     * @param metrics the {@link SVGMetrics} to use, null if nothing should be recorded.
+     */
+    public final void setMetrics(final SVGMetrics metrics) {
+        this.metrics = metrics != null ? metrics : SVGMetrics.NONE;
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Loads the given data into the given target using the {@link #DEFAULT_FRAME_BUDGET}, the nodes are added on the JavaFX application thread.
+     *
+     * @param target   the {@link Group} to which the nodes are added, must not be null.
+     * @param data     the {@link InputSource} to parse, must not be null.
+     * @param executor the {@link Executor} used to parse the data and create the nodes, must not be null.
+     *
+     * @return the {@link SVGProgressiveLoad} allowing to track the progress and to cancel the load.
+     *
+     * @throws IllegalArgumentException if any of the given parameters is null.
+     * @see #loadInto(Group, InputSource, Executor, long, Executor)
+     */
+    public SVGProgressiveLoad loadInto(final Group target, final InputSource data, final Executor executor) throws IllegalArgumentException {
+        return loadInto(target, data, executor, DEFAULT_FRAME_BUDGET, Platform::runLater);
+    }
+
+    /**
+     * Loads the given data into the given target without blocking the application thread. The data is parsed and its nodes are created using the given
+     * executor, afterwards the nodes are added to the target in chunks using the given application executor, each chunk using at most the given frame
+     * budget. This parser must not be used for anything else until the load is done.
+     *
+     * @param target              the {@link Group} to which the nodes are added, must not be null.
+     * @param data                the {@link InputSource} to parse, must not be null.
+     * @param executor            the {@link Executor} used to parse the data and create the nodes, must not be null.
+     * @param frameBudget         the time in nanoseconds each chunk may use to add nodes.
+     * @param applicationExecutor the {@link Executor} of the thread on which the nodes are added, usually {@link Platform#runLater(Runnable)}, must not be
+     *                            null.
+     *
+     * @return the {@link SVGProgressiveLoad} allowing to track the progress and to cancel the load.
+     *
+     * @throws IllegalArgumentException if any of the given parameters is null.
+     */
+    public SVGProgressiveLoad loadInto(final Group target,
+                                       final InputSource data,
+                                       final Executor executor,
+                                       final long frameBudget,
+                                       final Executor applicationExecutor) throws IllegalArgumentException {
+        if (target == null) {
+            throw new IllegalArgumentException("given target must not be null");
+        }
+
+        if (data == null) {
+            throw new IllegalArgumentException("given data must not be null");
+        }
+
+        if (executor == null) {
+            throw new IllegalArgumentException("given executor must not be null");
+        }
+
+        if (applicationExecutor == null) {
+            throw new IllegalArgumentException("given applicationExecutor must not be null");
+        }
+
+        final SVGProgressiveLoad load = new SVGProgressiveLoad(target, applicationExecutor, frameBudget);
+
+        load.start(executor, () -> {
+            parse(data);
+            return getResult();
+        });
+
+        return load;
     }
 
     // endregion
@@ -63,27 +359,94 @@ public class SVGParser extends SAXParser<Group, SVGDocumentDataProvider, SVGElem
     protected void configureReader(final XMLReader reader) throws SAXException {}
 
     @Override
-    protected void enteringDocument() {}
+    protected void enteringDocument() {
+        dataProvider.setViewport(viewport);
+        dataProvider.setCollectingBounds(spatialIndexEnabled);
+        dataProvider.setSimplificationTolerance(simplificationTolerance);
+        dataProvider.setMetrics(metrics);
+        dataProvider.setDocumentId(getDocumentId());
+        spatialIndex = null;
+        documentStart = metrics.startPhase();
+    }
 
     @Override
     protected Group leavingDocument(final SVGElementBase<?> element) throws SAXException {
+        metrics.endPhase(SVGMetrics.Phase.XML_READ, documentStart);
+
+        final long start = metrics.startPhase();
         final Group result = new Group();
 
         if (element != null) {
-            for (final SVGElementBase child : element.getUnmodifiableChildren()) {
-                if (canConsumeElement(element)) {
+            final List<SVGElementBase<?>> children = new ArrayList<>();
+
+            for (final SVGElementBase<?> child : element.getUnmodifiableChildren()) {
+                try {
+                    if (canConsumeElement(child) && !child.isOutsideViewport(null)) {
+                        children.add(child);
+                    }
+                } catch (final SVGException e) {
+                    throw new SAXException(e);
+                }
+            }
+
+            if (pool != null && children.size() > 1) {
+                result.getChildren().addAll(createResultsInParallel(children));
+            } else {
+                for (final SVGElementBase<?> child : children) {
                     result.getChildren().add((Node) child.getResult());
                 }
             }
         }
 
+        if (optimizationEnabled) {
+            SVGSceneGraphOptimizer.optimize(result);
+        }
+
+        final Map<Node, List<Node>> merged = new HashMap<>();
+
+        if (shapeBatchingEnabled) {
+            SVGShapeBatcher.batch(result, merged);
+        }
+
+        if (spatialIndexEnabled) {
+            spatialIndex = SVGSpatialIndex.create(result, dataProvider.getUnmodifiableBounds(), merged);
+        }
+
+        metrics.endPhase(SVGMetrics.Phase.NODE_BUILDING, start);
+
         return result;
     }
 
+    @Override
+    protected void dataRead(final long bytes) {
+        metrics.recordBytesRead(bytes);
+    }
+
     // endregion
 
     // region Private
 
+    /**
+     * Creates the results of the given elements in parallel using the {@link #pool}.
+     *
+     * @param elements the elements whose results are created.
+     *
+     * @return the results in the same order as the given elements.
+     *
+     * @throws SAXException if the result of any element could not be created.
+     */
+    private Node[] createResultsInParallel(final List<SVGElementBase<?>> elements) throws SAXException {
+        final Node[] results = new Node[elements.size()];
+
+        try {
+            pool.invoke(new ResultAction(elements, results, 0, results.length));
+        } catch (final ResultException e) {
+            throw e.getCause();
+        }
+
+        return results;
+    }
+
     private boolean canConsumeElement(final SVGElementBase element) {
         return !SVGClipPath.class.isAssignableFrom(element.getClass())
                && !SVGDefinitions.class.isAssignableFrom(element.getClass())
@@ -93,4 +456,83 @@ public class SVGParser extends SAXParser<Group, SVGDocumentDataProvider, SVGElem
     }
 
     // endregion
+
+    // region Class
+
+    /**
+     * Wraps a {@link SAXException} thrown while a result is created in parallel.
+     */
+    private static final class ResultException extends RuntimeException {
+
+        /**
+         * Creates a new instance.
+         *
+         * @param cause the {@link SAXException} that was thrown.
+         */
+        private ResultException(final SAXException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized SAXException getCause() {
+            return (SAXException) super.getCause();
+        }
+    }
+
+    /**
+     * Creates the results of a range of elements by splitting the range until it only contains a single element.
+     */
+    private static final class ResultAction extends RecursiveAction {
+
+        /**
+         * The elements whose results are created.
+         */
+        private final List<SVGElementBase<?>> elements;
+
+        /**
+         * The array containing the results.
+         */
+        private final Node[] results;
+
+        /**
+         * The index of the first element in the range.
+         */
+        private final int start;
+
+        /**
+         * The index behind the last element in the range.
+         */
+        private final int end;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param elements the elements whose results are created.
+         * @param results  the array containing the results.
+         * @param start    the index of the first element in the range.
+         * @param end      the index behind the last element in the range.
+         */
+        private ResultAction(final List<SVGElementBase<?>> elements, final Node[] results, final int start, final int end) {
+            this.elements = elements;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start == 1) {
+                try {
+                    results[start] = (Node) elements.get(start).getResult();
+                } catch (final SAXException e) {
+                    throw new ResultException(e);
+                }
+            } else {
+                final int middle = (start + end) >>> 1;
+                invokeAll(new ResultAction(elements, results, start, middle), new ResultAction(elements, results, middle, end));
+            }
+        }
+    }
+
+    // endregion
 }
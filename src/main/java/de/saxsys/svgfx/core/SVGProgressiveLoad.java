@@ -0,0 +1,311 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core;
+
+import de.saxsys.svgfx.core.interfaces.ThrowableSupplier;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.scene.Group;
+import javafx.scene.Node;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/**
+ * Loads a svg document into a {@link Group} which might already be shown. The document is parsed and its nodes are created using a background executor,
+ * afterwards the nodes are added to the target group in chunks using the application executor, which is usually the JavaFX application thread. Each chunk
+ * only adds nodes as long as the frame budget allows it, so the application thread stays responsive. Groups are added empty at first and their children
+ * are added in chunks afterwards, so even a single group wrapping the whole document is never attached with all of its descendants at once.
+ * <p>
+ * A load can be cancelled at any time, nodes which were already added to the target group will remain there.
+ *
+ * @author Xyanid on 19.10.2026.
+ * @see SVGParser#loadInto(Group, org.xml.sax.InputSource, Executor)
+ */
+public final class SVGProgressiveLoad {
+
+    // region Constants
+
+    /**
+     * The maximum number of children of a single group which are added at once.
+     */
+    private static final int BATCH_SIZE = 32;
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The group the nodes are added to.
+     */
+    private final Group target;
+
+    /**
+     * The executor of the thread on which the nodes are added to the {@link #target}.
+     */
+    private final Executor applicationExecutor;
+
+    /**
+     * The time in nanoseconds each chunk may use to add nodes.
+     */
+    private final long frameBudget;
+
+    /**
+     * The progress, which is only modified on the thread of the {@link #applicationExecutor}.
+     */
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(-1.0d);
+
+    /**
+     * Will be completed once all nodes are added, failed or cancelled.
+     */
+    private final CompletableFuture<Group> result = new CompletableFuture<>();
+
+    /**
+     * The children which still need to be added.
+     */
+    private final Deque<Pending> pending = new ArrayDeque<>();
+
+    /**
+     * The number of nodes which need to be added in total.
+     */
+    private int total;
+
+    /**
+     * The number of nodes which have already been added.
+     */
+    private int added;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance.
+     *
+     * @param target              the {@link Group} the nodes are added to.
+     * @param applicationExecutor the {@link Executor} of the thread on which the nodes are added.
+     * @param frameBudget         the time in nanoseconds each chunk may use to add nodes.
+     */
+    SVGProgressiveLoad(final Group target, final Executor applicationExecutor, final long frameBudget) {
+        this.target = target;
+        this.applicationExecutor = applicationExecutor;
+        this.frameBudget = frameBudget;
+    }
+
+    // endregion
+
+    // region Getter
+
+    /**
+     * Returns the progress of the load, which is -1 while the document is parsed and goes from 0 to 1 while the nodes are added. The progress is only
+     * updated on the thread of the application executor.
+     *
+     * @return the progress property.
+     */
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    /**
+     * @return the current progress.
+     *
+     * @see #progressProperty()
+     */
+    public double getProgress() {
+        return progress.get();
+    }
+
+    /**
+     * Returns the result of the load, which is completed with the target group once all nodes have been added. If the document can not be parsed, the
+     * result is completed exceptionally and if the load is cancelled, the result is cancelled as well.
+     *
+     * @return the {@link CompletionStage} of the load.
+     */
+    public CompletionStage<Group> getResult() {
+        return result;
+    }
+
+    /**
+     * @return true if all nodes have been added or the load failed or was cancelled.
+     */
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    /**
+     * @return true if the load has been cancelled.
+     */
+    public boolean isCancelled() {
+        return result.isCancelled();
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Cancels the load, no more nodes will be added to the target group. If the document is still being parsed, parsing will finish but its result is
+     * discarded.
+     *
+     * @return true if the load was cancelled, false if it was already done.
+     */
+    public boolean cancel() {
+        // unlike cancel, this only returns true if the result was not yet done
+        return result.completeExceptionally(new CancellationException());
+    }
+
+    // endregion
+
+    // region Package
+
+    /**
+     * Starts the load by creating the nodes using the given executor.
+     *
+     * @param executor the {@link Executor} used to create the nodes.
+     * @param loader   creates the {@link Group} containing the nodes which will be added.
+     */
+    void start(final Executor executor, final ThrowableSupplier<Group, Exception> loader) {
+        executor.execute(() -> {
+            try {
+                final Group nodes = loader.getOrFail();
+
+                if (result.isDone()) {
+                    return;
+                }
+
+                // the nodes are detached before they are handed over to the application thread
+                addPending(target, nodes);
+
+                applicationExecutor.execute(this::addChunk);
+            } catch (final Exception e) {
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Removes the children of the given source and stores them so they will be added to the given parent. The children of groups are removed as well and
+     * stored after their parent, so each group is added before its children.
+     *
+     * @param parent the {@link Group} to which the children will be added.
+     * @param source the {@link Group} whose children are removed.
+     */
+    private void addPending(final Group parent, final Group source) {
+        final List<Node> children = new ArrayList<>(source.getChildren());
+        source.getChildren().clear();
+
+        if (children.isEmpty()) {
+            return;
+        }
+
+        pending.add(new Pending(parent, children));
+        total += children.size();
+
+        for (final Node child : children) {
+            if (child instanceof Group) {
+                addPending((Group) child, (Group) child);
+            }
+        }
+    }
+
+    /**
+     * Adds nodes until either all nodes are added or the {@link #frameBudget} is used up. If there are nodes left, another chunk is scheduled.
+     */
+    private void addChunk() {
+        if (result.isDone()) {
+            return;
+        }
+
+        try {
+            final long deadline = System.nanoTime() + frameBudget;
+
+            while (!pending.isEmpty()) {
+                final Pending next = pending.peek();
+                final int end = Math.min(next.index + BATCH_SIZE, next.children.size());
+
+                next.parent.getChildren().addAll(next.children.subList(next.index, end));
+                added += end - next.index;
+                next.index = end;
+
+                if (next.index == next.children.size()) {
+                    pending.poll();
+                }
+
+                if (System.nanoTime() - deadline >= 0) {
+                    break;
+                }
+            }
+        } catch (final RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+
+        progress.set(total == 0 ? 1.0d : (double) added / total);
+
+        if (pending.isEmpty()) {
+            result.complete(target);
+        } else {
+            applicationExecutor.execute(this::addChunk);
+        }
+    }
+
+    // endregion
+
+    // region Class
+
+    /**
+     * Contains children which still need to be added to a parent.
+     */
+    private static final class Pending {
+
+        /**
+         * The {@link Group} the children are added to.
+         */
+        private final Group parent;
+
+        /**
+         * The children to add.
+         */
+        private final List<Node> children;
+
+        /**
+         * The index of the next child to add.
+         */
+        private int index;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param parent   the {@link Group} the children are added to.
+         * @param children the children to add.
+         */
+        private Pending(final Group parent, final List<Node> children) {
+            this.parent = parent;
+            this.children = children;
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.transform.Transform;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reduces the amount of nodes of a created result by merging redundant {@link Group}s into their parent. Design tools tend to create deep chains of
+ * groups which neither clip nor style their children, each of those groups adds work to every css pass, bounds computation and rendering pulse of JavaFX.
+ * <p>
+ * A group is redundant if it has no clip, effect, blend mode, opacity, id, style or user data, is visible and not cached and its own translation, rotation
+ * and scale are not set. The transforms of a redundant group are folded into each of its children, which is only safe if the children do not use their
+ * own translation, rotation, scale or layout position, since those are applied before the transforms of a node. Only instances of {@link Group} itself
+ * are merged, subclasses are kept as they are.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SVGSceneGraphOptimizer {
+
+    // region Constructor
+
+    /**
+     *
+     */
+    private SVGSceneGraphOptimizer() {
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Merges all redundant groups below the given root into their parent, the root itself is always kept.
+     *
+     * @param root the {@link Group} to optimize, must not be null.
+     *
+     * @return the amount of groups that have been removed.
+     *
+     * @throws IllegalArgumentException if the given root is null.
+     */
+    public static int optimize(final Group root) throws IllegalArgumentException {
+        if (root == null) {
+            throw new IllegalArgumentException("given root must not be null");
+        }
+
+        return optimizeChildren(root);
+    }
+
+    // endregion
+
+    // region Package
+
+    /**
+     * Determines if the given node neither has a clip, effect, blend mode, opacity, id, style or user data nor uses its own placement and is visible and
+     * not cached, so it does not affect the way its content is rendered other than by its transforms.
+     *
+     * @param node the {@link Node} to check.
+     *
+     * @return true if the node is plain, otherwise false.
+     */
+    static boolean isPlain(final Node node) {
+        return node.getClip() == null
+               && node.getEffect() == null
+               && node.getBlendMode() == null
+               && node.getOpacity() == 1.0d
+               && node.isVisible()
+               && !node.isCache()
+               && node.getId() == null
+               && node.getStyleClass().isEmpty()
+               && (node.getStyle() == null || node.getStyle().isEmpty())
+               && node.getUserData() == null
+               && hasIdentityPlacement(node);
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Optimizes the children of the given group bottom up, so chains of redundant groups are merged in a single pass. The children of the group are only
+     * replaced once, if any of them was merged.
+     *
+     * @param group the {@link Group} whose children are optimized.
+     *
+     * @return the amount of groups that have been removed.
+     */
+    private static int optimizeChildren(final Group group) {
+        final ObservableList<Node> children = group.getChildren();
+
+        List<Node> result = null;
+        int removed = 0;
+
+        for (int index = 0; index < children.size(); index++) {
+            final Node node = children.get(index);
+
+            if (node instanceof Group) {
+                removed += optimizeChildren((Group) node);
+            }
+
+            if (node.getClass() == Group.class && isRedundant((Group) node)) {
+                final Group child = (Group) node;
+                final List<Node> grandChildren = new ArrayList<>(child.getChildren());
+
+                if (!child.getTransforms().isEmpty()) {
+                    for (final Node grandChild : grandChildren) {
+                        foldTransforms(child.getTransforms(), grandChild);
+                    }
+                }
+
+                child.getChildren().clear();
+
+                if (result == null) {
+                    result = new ArrayList<>(children.subList(0, index));
+                }
+
+                result.addAll(grandChildren);
+                removed++;
+            } else if (result != null) {
+                result.add(node);
+            }
+        }
+
+        if (result != null) {
+            children.setAll(result);
+        }
+
+        return removed;
+    }
+
+    /**
+     * Determines if the given group can be merged into its parent without changing the way its children are rendered.
+     *
+     * @param group the {@link Group} to check.
+     *
+     * @return true if the group is redundant, otherwise false.
+     */
+    private static boolean isRedundant(final Group group) {
+        if (!isPlain(group)) {
+            return false;
+        }
+
+        if (!group.getTransforms().isEmpty()) {
+            for (final Node child : group.getChildren()) {
+                if (!hasIdentityPlacement(child)) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Determines if the given node does not use its layout position, translation, rotation or scale, which are applied before its transforms.
+     *
+     * @param node the {@link Node} to check.
+     *
+     * @return true if none of them are used, otherwise false.
+     */
+    private static boolean hasIdentityPlacement(final Node node) {
+        return node.getLayoutX() == 0.0d
+               && node.getLayoutY() == 0.0d
+               && node.getTranslateX() == 0.0d
+               && node.getTranslateY() == 0.0d
+               && node.getRotate() == 0.0d
+               && node.getScaleX() == 1.0d
+               && node.getScaleY() == 1.0d;
+    }
+
+    /**
+     * Replaces the transforms of the given node with a single transform, which is the concatenation of the given transforms of its former parent followed
+     * by its own transforms.
+     *
+     * @param parentTransforms the transforms of the former parent.
+     * @param node             the {@link Node} whose transforms are replaced.
+     */
+    private static void foldTransforms(final List<Transform> parentTransforms, final Node node) {
+        Transform result = null;
+
+        for (final Transform transform : parentTransforms) {
+            result = result == null ? transform : result.createConcatenation(transform);
+        }
+
+        for (final Transform transform : node.getTransforms()) {
+            result = result.createConcatenation(transform);
+        }
+
+        node.getTransforms().setAll(result);
+    }
+
+    // endregion
+}
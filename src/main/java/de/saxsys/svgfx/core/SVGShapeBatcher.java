@@ -0,0 +1,419 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Ellipse;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Polygon;
+import javafx.scene.shape.Polyline;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.Shape;
+import javafx.scene.shape.StrokeType;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Merges adjacent sibling shapes of a created result which are painted the same way into a single {@link SVGPath}, whose content is the concatenated
+ * path data of the shapes. A chart with thousands of markers of the same color becomes a handful of nodes, which renders much faster as long as the single
+ * markers do not need to be accessed anymore.
+ * <p>
+ * Merging must not change the rendered picture, since overlapping parts of a merged path are only painted once. Hence only shapes without an individual
+ * id, clip, effect, opacity or transform are merged and only if they are either filled or stroked with an opaque {@link Color}, but not both, because a
+ * later shape may otherwise cover the stroke of an earlier one. Gradients are not merged, since they are usually relative to the bounds of each shape.
+ * Strokes are only merged if they are centered, because inner and outer strokes depend on the area of the whole path. Rectangles, circles, ellipses,
+ * lines, polygons and polylines are converted into path data with a clockwise direction, so overlapping filled shapes do not cancel each other out. Paths
+ * are only merged if they are not filled, because the direction of their data is unknown.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SVGShapeBatcher {
+
+    // region Constants
+
+    /**
+     * The minimum amount of adjacent shapes which are merged.
+     */
+    private static final int MINIMUM_BATCH_SIZE = 2;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     *
+     */
+    private SVGShapeBatcher() {
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Merges the adjacent sibling shapes of all groups below and including the given root which are painted the same way.
+     *
+     * @param root the {@link Group} to batch, must not be null.
+     *
+     * @return the amount of nodes that have been removed.
+     *
+     * @throws IllegalArgumentException if the given root is null.
+     */
+    public static int batch(final Group root) throws IllegalArgumentException {
+        return batch(root, new HashMap<>());
+    }
+
+    /**
+     * Merges the adjacent sibling shapes of all groups below and including the given root which are painted the same way and adds each created path
+     * together with the shapes it replaces to the given map.
+     *
+     * @param root   the {@link Group} to batch, must not be null.
+     * @param merged the map to which each created {@link SVGPath} is added together with the shapes it replaces in the order they were painted, must not
+     *               be null.
+     *
+     * @return the amount of nodes that have been removed.
+     *
+     * @throws IllegalArgumentException if any of the given parameters is null.
+     */
+    public static int batch(final Group root, final Map<Node, List<Node>> merged) throws IllegalArgumentException {
+        if (root == null) {
+            throw new IllegalArgumentException("given root must not be null");
+        }
+
+        if (merged == null) {
+            throw new IllegalArgumentException("given merged must not be null");
+        }
+
+        return batchChildren(root, merged);
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Merges the adjacent children of the given group and all of its descendant groups.
+     *
+     * @param group  the {@link Group} whose children are merged.
+     * @param merged the map to which each created {@link SVGPath} is added together with the shapes it replaces.
+     *
+     * @return the amount of nodes that have been removed.
+     */
+    private static int batchChildren(final Group group, final Map<Node, List<Node>> merged) {
+        final List<Node> children = new ArrayList<>(group.getChildren());
+        final List<Node> result = new ArrayList<>(children.size());
+        final List<Shape> batch = new ArrayList<>();
+
+        int removed = 0;
+
+        for (final Node child : children) {
+            if (child instanceof Group) {
+                removed += batchChildren((Group) child, merged);
+            }
+
+            if (isBatchable(child)) {
+                final Shape shape = (Shape) child;
+
+                if (!batch.isEmpty() && !isPaintedEqually(batch.get(0), shape)) {
+                    removed += flush(batch, result, merged);
+                }
+
+                batch.add(shape);
+            } else {
+                removed += flush(batch, result, merged);
+                result.add(child);
+            }
+        }
+
+        removed += flush(batch, result, merged);
+
+        if (removed > 0) {
+            group.getChildren().setAll(result);
+        }
+
+        return removed;
+    }
+
+    /**
+     * Adds the given batch to the given result and clears it afterwards. If the batch contains enough shapes, they are replaced by a single {@link SVGPath}.
+     *
+     * @param batch  the shapes which are painted equally.
+     * @param result the list to which the shapes or their replacement are added.
+     * @param merged the map to which the replacement is added together with the shapes it replaces.
+     *
+     * @return the amount of nodes that have been removed.
+     */
+    private static int flush(final List<Shape> batch, final List<Node> result, final Map<Node, List<Node>> merged) {
+        final int removed;
+
+        if (batch.size() < MINIMUM_BATCH_SIZE) {
+            result.addAll(batch);
+            removed = 0;
+        } else {
+            final StringBuilder content = new StringBuilder();
+
+            for (final Shape shape : batch) {
+                appendPathData(shape, content);
+            }
+
+            final SVGPath path = new SVGPath();
+            path.setContent(content.toString());
+            copyPaint(batch.get(0), path);
+
+            result.add(path);
+            merged.put(path, new ArrayList<>(batch));
+            removed = batch.size() - 1;
+        }
+
+        batch.clear();
+
+        return removed;
+    }
+
+    /**
+     * Determines if the given node can be merged with other shapes.
+     *
+     * @param node the {@link Node} to check.
+     *
+     * @return true if the node is a supported shape which does not need to be a node on its own and is either only filled or only stroked with an opaque
+     * color, otherwise false.
+     */
+    private static boolean isBatchable(final Node node) {
+        if (!(node instanceof Shape) || !node.getTransforms().isEmpty() || !SVGSceneGraphOptimizer.isPlain(node)) {
+            return false;
+        }
+
+        final Shape shape = (Shape) node;
+
+        if (shape.getFill() != null) {
+            if (shape.getStroke() != null || !isOpaque(shape.getFill())) {
+                return false;
+            }
+        } else if (!isOpaque(shape.getStroke()) || shape.getStrokeType() != StrokeType.CENTERED) {
+            return false;
+        }
+
+        if (node.getClass() == SVGPath.class) {
+            return shape.getFill() == null && !((SVGPath) node).getContent().trim().isEmpty();
+        }
+
+        if (node.getClass() == Polygon.class) {
+            return ((Polygon) node).getPoints().size() >= 4;
+        }
+
+        if (node.getClass() == Polyline.class) {
+            return ((Polyline) node).getPoints().size() >= 4;
+        }
+
+        return node.getClass() == Rectangle.class || node.getClass() == Circle.class || node.getClass() == Ellipse.class || node.getClass() == Line.class;
+    }
+
+    /**
+     * Determines if the given paint covers everything below it the same way everywhere.
+     *
+     * @param paint the {@link Paint} to check.
+     *
+     * @return true if the paint is a {@link Color} without transparency, otherwise false.
+     */
+    private static boolean isOpaque(final Paint paint) {
+        return paint instanceof Color && ((Color) paint).getOpacity() >= 1.0d;
+    }
+
+    /**
+     * Determines if the given shapes are painted the same way.
+     *
+     * @param first  the first {@link Shape}.
+     * @param second the second {@link Shape}.
+     *
+     * @return true if the fill and all stroke properties of the shapes are equal, otherwise false.
+     */
+    private static boolean isPaintedEqually(final Shape first, final Shape second) {
+        return Objects.equals(first.getFill(), second.getFill())
+               && Objects.equals(first.getStroke(), second.getStroke())
+               && first.getStrokeWidth() == second.getStrokeWidth()
+               && first.getStrokeType() == second.getStrokeType()
+               && first.getStrokeDashOffset() == second.getStrokeDashOffset()
+               && first.getStrokeLineJoin() == second.getStrokeLineJoin()
+               && first.getStrokeLineCap() == second.getStrokeLineCap()
+               && first.getStrokeMiterLimit() == second.getStrokeMiterLimit()
+               && first.getStrokeDashArray().equals(second.getStrokeDashArray());
+    }
+
+    /**
+     * Copies the fill and all stroke properties of the given source to the given target.
+     *
+     * @param source the {@link Shape} whose properties are copied.
+     * @param target the {@link Shape} to which the properties are copied.
+     */
+    private static void copyPaint(final Shape source, final Shape target) {
+        target.setFill(source.getFill());
+        target.setStroke(source.getStroke());
+        target.setStrokeWidth(source.getStrokeWidth());
+        target.setStrokeType(source.getStrokeType());
+        target.setStrokeDashOffset(source.getStrokeDashOffset());
+        target.setStrokeLineJoin(source.getStrokeLineJoin());
+        target.setStrokeLineCap(source.getStrokeLineCap());
+        target.setStrokeMiterLimit(source.getStrokeMiterLimit());
+        target.getStrokeDashArray().setAll(source.getStrokeDashArray());
+    }
+
+    /**
+     * Appends the path data of the given shape to the given content, the data only uses absolute commands.
+     *
+     * @param shape   the {@link Shape} to convert, must be supported by {@link #isBatchable(Node)}.
+     * @param content the {@link StringBuilder} to append to.
+     */
+    private static void appendPathData(final Shape shape, final StringBuilder content) {
+        if (shape instanceof Rectangle) {
+            appendRectangle((Rectangle) shape, content);
+        } else if (shape instanceof Circle) {
+            final Circle circle = (Circle) shape;
+            appendEllipse(circle.getCenterX(), circle.getCenterY(), circle.getRadius(), circle.getRadius(), content);
+        } else if (shape instanceof Ellipse) {
+            final Ellipse ellipse = (Ellipse) shape;
+            appendEllipse(ellipse.getCenterX(), ellipse.getCenterY(), ellipse.getRadiusX(), ellipse.getRadiusY(), content);
+        } else if (shape instanceof Line) {
+            final Line line = (Line) shape;
+            append(content, 'M', line.getStartX(), line.getStartY());
+            append(content, 'L', line.getEndX(), line.getEndY());
+        } else if (shape instanceof Polygon) {
+            appendPoints(((Polygon) shape).getPoints(), true, content);
+        } else if (shape instanceof Polyline) {
+            appendPoints(((Polyline) shape).getPoints(), false, content);
+        } else {
+            final String data = ((SVGPath) shape).getContent().trim();
+
+            // a leading relative move is relative to the end of the previous data, so it needs to start at the origin again
+            if (data.charAt(0) == 'm') {
+                append(content, 'M', 0.0d, 0.0d);
+            }
+
+            content.append(data).append(' ');
+        }
+    }
+
+    /**
+     * Appends the path data of the given rectangle in clockwise direction, rounded corners are created using elliptical arcs.
+     *
+     * @param rectangle the {@link Rectangle} to convert.
+     * @param content   the {@link StringBuilder} to append to.
+     */
+    private static void appendRectangle(final Rectangle rectangle, final StringBuilder content) {
+        final double minX = rectangle.getX();
+        final double minY = rectangle.getY();
+        final double maxX = minX + rectangle.getWidth();
+        final double maxY = minY + rectangle.getHeight();
+        final double radiusX = Math.min(rectangle.getArcWidth(), rectangle.getWidth()) / 2.0d;
+        final double radiusY = Math.min(rectangle.getArcHeight(), rectangle.getHeight()) / 2.0d;
+
+        if (radiusX <= 0.0d || radiusY <= 0.0d) {
+            append(content, 'M', minX, minY);
+            append(content, 'L', maxX, minY);
+            append(content, 'L', maxX, maxY);
+            append(content, 'L', minX, maxY);
+        } else {
+            append(content, 'M', minX + radiusX, minY);
+            append(content, 'L', maxX - radiusX, minY);
+            appendArc(content, radiusX, radiusY, false, maxX, minY + radiusY);
+            append(content, 'L', maxX, maxY - radiusY);
+            appendArc(content, radiusX, radiusY, false, maxX - radiusX, maxY);
+            append(content, 'L', minX + radiusX, maxY);
+            appendArc(content, radiusX, radiusY, false, minX, maxY - radiusY);
+            append(content, 'L', minX, minY + radiusY);
+            appendArc(content, radiusX, radiusY, false, minX + radiusX, minY);
+        }
+
+        content.append("Z ");
+    }
+
+    /**
+     * Appends the path data of an ellipse in clockwise direction using two elliptical arcs.
+     *
+     * @param centerX the x coordinate of the center.
+     * @param centerY the y coordinate of the center.
+     * @param radiusX the radius along the x axis.
+     * @param radiusY the radius along the y axis.
+     * @param content the {@link StringBuilder} to append to.
+     */
+    private static void appendEllipse(final double centerX, final double centerY, final double radiusX, final double radiusY, final StringBuilder content) {
+        append(content, 'M', centerX + radiusX, centerY);
+        appendArc(content, radiusX, radiusY, true, centerX - radiusX, centerY);
+        appendArc(content, radiusX, radiusY, true, centerX + radiusX, centerY);
+        content.append("Z ");
+    }
+
+    /**
+     * Appends the path data of the given points in clockwise direction.
+     *
+     * @param points  the coordinates of the points, each x coordinate being followed by its y coordinate.
+     * @param closed  true if the points form a closed polygon, otherwise false.
+     * @param content the {@link StringBuilder} to append to.
+     */
+    private static void appendPoints(final List<Double> points, final boolean closed, final StringBuilder content) {
+        final int count = points.size() / 2;
+
+        // the signed area is positive if the points are in clockwise direction, since the y axis points down
+        double area = 0.0d;
+        for (int i = 0; i < count; i++) {
+            final int next = (i + 1) % count;
+            area += points.get(i * 2) * points.get(next * 2 + 1) - points.get(next * 2) * points.get(i * 2 + 1);
+        }
+
+        for (int i = 0; i < count; i++) {
+            final int index = area < 0.0d ? count - 1 - i : i;
+            append(content, i == 0 ? 'M' : 'L', points.get(index * 2), points.get(index * 2 + 1));
+        }
+
+        if (closed) {
+            content.append("Z ");
+        }
+    }
+
+    /**
+     * Appends a command with a single point.
+     *
+     * @param content the {@link StringBuilder} to append to.
+     * @param command the command to append.
+     * @param x       the x coordinate of the point.
+     * @param y       the y coordinate of the point.
+     */
+    private static void append(final StringBuilder content, final char command, final double x, final double y) {
+        content.append(command).append(x).append(' ').append(y).append(' ');
+    }
+
+    /**
+     * Appends a clockwise elliptical arc without rotation.
+     *
+     * @param content  the {@link StringBuilder} to append to.
+     * @param radiusX  the radius along the x axis.
+     * @param radiusY  the radius along the y axis.
+     * @param largeArc true if the arc spans more than 180 degrees, otherwise false.
+     * @param x        the x coordinate of the end point.
+     * @param y        the y coordinate of the end point.
+     */
+    private static void appendArc(final StringBuilder content, final double radiusX, final double radiusY, final boolean largeArc, final double x, final double y) {
+        content.append('A').append(radiusX).append(' ').append(radiusY).append(" 0 ").append(largeArc ? '1' : '0').append(" 1 ").append(x).append(' ').append(y).append(' ');
+    }
+
+    // endregion
+}
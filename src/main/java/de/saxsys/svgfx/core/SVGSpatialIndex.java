@@ -0,0 +1,463 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core;
+
+import de.saxsys.svgfx.core.elements.SVGElementBase;
+import javafx.geometry.Bounds;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Transform;
+import javafx.scene.transform.Translate;
+import javafx.util.Pair;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A spatial index over the shapes of a parsed document, which allows to find the shapes in a region or at a point without walking through all nodes. The
+ * index is a R-tree packed using the sort tile recursive algorithm, so it is built once and never changed afterwards. The bounds of each shape are its
+ * bounding box without the stroke, transformed into the coordinate system of the result of the parse.
+ *
+ * @author Xyanid on 19.10.2026.
+ * @see SVGParser#setSpatialIndexEnabled(boolean)
+ */
+public final class SVGSpatialIndex {
+
+    // region Constants
+
+    /**
+     * The maximum number of children of each node of the tree.
+     */
+    private static final int NODE_CAPACITY = 16;
+
+    /**
+     * Sorts tree nodes by the horizontal center of their bounds.
+     */
+    private static final Comparator<TreeNode> BY_CENTER_X = Comparator.comparingDouble(node -> node.minX + node.maxX);
+
+    /**
+     * Sorts tree nodes by the vertical center of their bounds.
+     */
+    private static final Comparator<TreeNode> BY_CENTER_Y = Comparator.comparingDouble(node -> node.minY + node.maxY);
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The root of the tree, null if the index is empty.
+     */
+    private final TreeNode root;
+
+    /**
+     * The number of entries in this index.
+     */
+    private final int size;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance containing the given entries.
+     *
+     * @param entries the entries to index.
+     */
+    private SVGSpatialIndex(final List<Entry> entries) {
+        List<TreeNode> level = new ArrayList<>(entries.size());
+
+        for (final Entry entry : entries) {
+            level.add(new TreeNode(entry));
+        }
+
+        while (level.size() > 1) {
+            level = pack(level);
+        }
+
+        root = level.isEmpty() ? null : level.get(0);
+        size = entries.size();
+    }
+
+    // endregion
+
+    // region Static
+
+    /**
+     * Creates an index containing all nodes in the tree of the given root which have bounds in the given map.
+     *
+     * @param root   the root of the tree of nodes, which defines the coordinate system of the index.
+     * @param bounds the elements and their bounds without transformations for each node that should be indexed.
+     *
+     * @return a new {@link SVGSpatialIndex}.
+     *
+     * @throws IllegalArgumentException if any of the given parameters is null.
+     */
+    public static SVGSpatialIndex create(final Node root, final Map<Node, Pair<SVGElementBase<?>, Bounds>> bounds) throws IllegalArgumentException {
+        return create(root, bounds, Collections.emptyMap());
+    }
+
+    /**
+     * Creates an index containing all nodes in the tree of the given root which have bounds in the given map. Nodes which replace several merged nodes are
+     * indexed once for each of the merged nodes that has bounds in the given map, so the entries of the merged nodes refer to the node replacing them.
+     *
+     * @param root   the root of the tree of nodes, which defines the coordinate system of the index.
+     * @param bounds the elements and their bounds without transformations for each node that should be indexed.
+     * @param merged the nodes which have been merged for each node replacing them, see {@link SVGShapeBatcher#batch(Group, Map)}.
+     *
+     * @return a new {@link SVGSpatialIndex}.
+     *
+     * @throws IllegalArgumentException if any of the given parameters is null.
+     */
+    public static SVGSpatialIndex create(final Node root, final Map<Node, Pair<SVGElementBase<?>, Bounds>> bounds, final Map<Node, List<Node>> merged)
+            throws IllegalArgumentException {
+        if (root == null) {
+            throw new IllegalArgumentException("given root must not be null");
+        }
+
+        if (bounds == null) {
+            throw new IllegalArgumentException("given bounds must not be null");
+        }
+
+        if (merged == null) {
+            throw new IllegalArgumentException("given merged must not be null");
+        }
+
+        final List<Entry> entries = new ArrayList<>();
+
+        collect(root, new Translate(), bounds, merged, entries);
+
+        return new SVGSpatialIndex(entries);
+    }
+
+    // endregion
+
+    // region Getter
+
+    /**
+     * @return the number of entries in this index.
+     */
+    public int size() {
+        return size;
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Returns all entries whose bounds intersect the given region.
+     *
+     * @param region the region to look for, must not be null.
+     *
+     * @return the entries intersecting the region in the order in which they are painted.
+     *
+     * @throws IllegalArgumentException if the given region is null.
+     */
+    public List<Entry> query(final Rectangle region) throws IllegalArgumentException {
+        if (region == null) {
+            throw new IllegalArgumentException("given region must not be null");
+        }
+
+        final double minX = region.getX();
+        final double minY = region.getY();
+        final double maxX = minX + region.getWidth();
+        final double maxY = minY + region.getHeight();
+
+        final List<Entry> result = new ArrayList<>();
+
+        if (root != null) {
+            search(root, minX, minY, maxX, maxY, result);
+        }
+
+        result.sort(Comparator.comparingInt(entry -> entry.order));
+
+        return result;
+    }
+
+    /**
+     * Returns the topmost entry whose bounds contain the given point. Only the bounds are considered, not the actual outline of the shapes.
+     *
+     * @param x the x position of the point.
+     * @param y the y position of the point.
+     *
+     * @return an {@link Optional} containing the entry which is painted last at the given point or an empty {@link Optional} if there is none.
+     */
+    public Optional<Entry> pick(final double x, final double y) {
+        final List<Entry> result = new ArrayList<>();
+
+        if (root != null) {
+            search(root, x, y, x, y, result);
+        }
+
+        return result.stream().max(Comparator.comparingInt(entry -> entry.order));
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Collects the entries of the given node and its children.
+     *
+     * @param node    the node to collect.
+     * @param parent  the transform of the parent of the node.
+     * @param bounds  the elements and their bounds for each node that should be indexed.
+     * @param merged  the nodes which have been merged for each node replacing them.
+     * @param entries the list to which the entries are added.
+     */
+    private static void collect(final Node node,
+                                final Transform parent,
+                                final Map<Node, Pair<SVGElementBase<?>, Bounds>> bounds,
+                                final Map<Node, List<Node>> merged,
+                                final List<Entry> entries) {
+        Transform transform = parent.createConcatenation(new Translate(node.getLayoutX(), node.getLayoutY()));
+
+        for (final Transform nodeTransform : node.getTransforms()) {
+            transform = transform.createConcatenation(nodeTransform);
+        }
+
+        for (final Node source : merged.getOrDefault(node, Collections.singletonList(node))) {
+            final Pair<SVGElementBase<?>, Bounds> element = bounds.get(source);
+
+            if (element != null) {
+                entries.add(new Entry(element.getKey(), node, transform.transform(element.getValue()), entries.size()));
+            }
+        }
+
+        if (node instanceof Group) {
+            for (final Node child : ((Group) node).getChildren()) {
+                collect(child, transform, bounds, merged, entries);
+            }
+        }
+    }
+
+    /**
+     * Packs the given tree nodes into the next level of the tree using the sort tile recursive algorithm.
+     *
+     * @param level the tree nodes to pack.
+     *
+     * @return the tree nodes of the next level.
+     */
+    private static List<TreeNode> pack(final List<TreeNode> level) {
+        final TreeNode[] nodes = level.toArray(new TreeNode[level.size()]);
+        final int parentCount = (nodes.length + NODE_CAPACITY - 1) / NODE_CAPACITY;
+        final int sliceCount = (int) Math.ceil(Math.sqrt(parentCount));
+        final int sliceSize = sliceCount * NODE_CAPACITY;
+
+        Arrays.sort(nodes, BY_CENTER_X);
+
+        final List<TreeNode> result = new ArrayList<>(parentCount);
+
+        for (int slice = 0; slice < nodes.length; slice += sliceSize) {
+            final int sliceEnd = Math.min(slice + sliceSize, nodes.length);
+
+            Arrays.sort(nodes, slice, sliceEnd, BY_CENTER_Y);
+
+            for (int start = slice; start < sliceEnd; start += NODE_CAPACITY) {
+                result.add(new TreeNode(Arrays.copyOfRange(nodes, start, Math.min(start + NODE_CAPACITY, sliceEnd))));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds all entries below the given tree node whose bounds intersect the given region to the given list.
+     *
+     * @param node   the tree node to search.
+     * @param minX   the minimum x position of the region.
+     * @param minY   the minimum y position of the region.
+     * @param maxX   the maximum x position of the region.
+     * @param maxY   the maximum y position of the region.
+     * @param result the list to which the entries are added.
+     */
+    private static void search(final TreeNode node, final double minX, final double minY, final double maxX, final double maxY, final List<Entry> result) {
+        if (!node.intersects(minX, minY, maxX, maxY)) {
+            return;
+        }
+
+        if (node.entry != null) {
+            result.add(node.entry);
+            return;
+        }
+
+        for (final TreeNode child : node.children) {
+            search(child, minX, minY, maxX, maxY, result);
+        }
+    }
+
+    // endregion
+
+    // region Class
+
+    /**
+     * A node of the tree, which contains either children or a single {@link Entry}.
+     */
+    private static final class TreeNode {
+
+        /**
+         * The children of this node, null if this node contains an {@link Entry}.
+         */
+        private final TreeNode[] children;
+
+        /**
+         * The entry of this node, null if this node contains children.
+         */
+        private final Entry entry;
+
+        /**
+         * The minimum x position of the bounds of this node.
+         */
+        private final double minX;
+
+        /**
+         * The minimum y position of the bounds of this node.
+         */
+        private final double minY;
+
+        /**
+         * The maximum x position of the bounds of this node.
+         */
+        private final double maxX;
+
+        /**
+         * The maximum y position of the bounds of this node.
+         */
+        private final double maxY;
+
+        /**
+         * Creates a new instance containing the given entry.
+         *
+         * @param entry the entry of the node.
+         */
+        private TreeNode(final Entry entry) {
+            children = null;
+            this.entry = entry;
+            minX = entry.bounds.getMinX();
+            minY = entry.bounds.getMinY();
+            maxX = entry.bounds.getMaxX();
+            maxY = entry.bounds.getMaxY();
+        }
+
+        /**
+         * Creates a new instance containing the given children, whose bounds enclose the bounds of all children.
+         *
+         * @param children the children of the node, must not be empty.
+         */
+        private TreeNode(final TreeNode[] children) {
+            double currentMinX = Double.POSITIVE_INFINITY;
+            double currentMinY = Double.POSITIVE_INFINITY;
+            double currentMaxX = Double.NEGATIVE_INFINITY;
+            double currentMaxY = Double.NEGATIVE_INFINITY;
+
+            for (final TreeNode child : children) {
+                currentMinX = Math.min(currentMinX, child.minX);
+                currentMinY = Math.min(currentMinY, child.minY);
+                currentMaxX = Math.max(currentMaxX, child.maxX);
+                currentMaxY = Math.max(currentMaxY, child.maxY);
+            }
+
+            this.children = children;
+            entry = null;
+            minX = currentMinX;
+            minY = currentMinY;
+            maxX = currentMaxX;
+            maxY = currentMaxY;
+        }
+
+        /**
+         * Determines whether the bounds of this node intersect the given region.
+         *
+         * @param minX the minimum x position of the region.
+         * @param minY the minimum y position of the region.
+         * @param maxX the maximum x position of the region.
+         * @param maxY the maximum y position of the region.
+         *
+         * @return true if the bounds intersect the region, otherwise false.
+         */
+        private boolean intersects(final double minX, final double minY, final double maxX, final double maxY) {
+            return this.minX <= maxX && this.maxX >= minX && this.minY <= maxY && this.maxY >= minY;
+        }
+    }
+
+    /**
+     * An element of the document together with the node created for it and its bounds in the coordinate system of the index.
+     */
+    public static final class Entry {
+
+        /**
+         * The element the node was created for.
+         */
+        private final SVGElementBase<?> element;
+
+        /**
+         * The node created for the element.
+         */
+        private final Node node;
+
+        /**
+         * The bounds of the node.
+         */
+        private final Bounds bounds;
+
+        /**
+         * The position of the node in the order in which the nodes are painted.
+         */
+        private final int order;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param element the element the node was created for.
+         * @param node    the node created for the element.
+         * @param bounds  the bounds of the node.
+         * @param order   the position of the node in the order in which the nodes are painted.
+         */
+        private Entry(final SVGElementBase<?> element, final Node node, final Bounds bounds, final int order) {
+            this.element = element;
+            this.node = node;
+            this.bounds = bounds;
+            this.order = order;
+        }
+
+        /**
+         * @return the element the node was created for.
+         */
+        public SVGElementBase<?> getElement() {
+            return element;
+        }
+
+        /**
+         * @return the node created for the element.
+         */
+        public Node getNode() {
+            return node;
+        }
+
+        /**
+         * @return the bounds of the node in the coordinate system of the index.
+         */
+        public Bounds getBounds() {
+            return bounds;
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core;
+
+import de.saxsys.svgfx.core.binary.SVGCompiledScene;
+import de.saxsys.svgfx.core.binary.SVGSceneCompiler;
+import de.saxsys.svgfx.core.binary.SVGSceneLoader;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXParseException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * An immutable and thread safe template of a parsed svg document. The document is parsed only once, its resolved styles, paints, transforms and geometry are
+ * kept in a {@link SVGCompiledScene}. Each call of {@link #instantiate()} creates new JavaFX nodes, which only requires the allocation of the nodes, so the
+ * same document can be shown at many places of a scene graph.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SVGTemplate {
+
+    // region Fields
+
+    /**
+     * The compiled document.
+     */
+    private final SVGCompiledScene scene;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance using the given {@link SVGCompiledScene}.
+     *
+     * @param scene the {@link SVGCompiledScene} to use, must not be null.
+     *
+     * @throws IllegalArgumentException if the given scene is null.
+     */
+    public SVGTemplate(final SVGCompiledScene scene) throws IllegalArgumentException {
+        if (scene == null) {
+            throw new IllegalArgumentException("given scene must not be null");
+        }
+
+        this.scene = scene;
+    }
+
+    // endregion
+
+    // region Static
+
+    /**
+     * Parses the svg file located at the given path and creates a template of it.
+     *
+     * @param path the path of the file, must not be null.
+     *
+     * @return a new {@link SVGTemplate}.
+     *
+     * @throws IOException              if the file can not be read.
+     * @throws SVGException             if the file can not be parsed or its result is not supported.
+     * @throws IllegalArgumentException if the given path is null.
+     */
+    public static SVGTemplate create(final Path path) throws IOException, SVGException, IllegalArgumentException {
+        return new SVGTemplate(SVGSceneCompiler.compile(path));
+    }
+
+    /**
+     * Parses the given data and creates a template of it.
+     *
+     * @param data the data to parse, must not be null.
+     *
+     * @return a new {@link SVGTemplate}.
+     *
+     * @throws SVGException             if the data can not be parsed or its result is not supported.
+     * @throws IllegalArgumentException if the given data is null.
+     */
+    public static SVGTemplate create(final InputSource data) throws SVGException, IllegalArgumentException {
+        final SVGParser parser = new SVGParser();
+
+        try {
+            parser.parse(data);
+        } catch (final SAXParseException e) {
+            throw new SVGException("Could not parse data", e);
+        }
+
+        return create(parser.getResult());
+    }
+
+    /**
+     * Parses the remaining data of the given buffer and creates a template of it, gzip compressed data is supported.
+     *
+     * @param buffer the buffer containing the data, must not be null.
+     *
+     * @return a new {@link SVGTemplate}.
+     *
+     * @throws IOException              if the data can not be read.
+     * @throws SVGException             if the data can not be parsed or its result is not supported.
+     * @throws IllegalArgumentException if the given buffer is null.
+     */
+    public static SVGTemplate create(final ByteBuffer buffer) throws IOException, SVGException, IllegalArgumentException {
+        final SVGParser parser = new SVGParser();
+
+        try {
+            parser.parse(buffer);
+        } catch (final SAXParseException e) {
+            throw new SVGException("Could not parse data", e);
+        }
+
+        return create(parser.getResult());
+    }
+
+    /**
+     * Creates a template of the given node and its descendants, the node is not changed and not used by the template afterwards.
+     *
+     * @param node the {@link Node} to use, must not be null.
+     *
+     * @return a new {@link SVGTemplate}.
+     *
+     * @throws SVGException             if the node or one of its descendants is not supported.
+     * @throws IllegalArgumentException if the given node is null.
+     */
+    public static SVGTemplate create(final Node node) throws SVGException, IllegalArgumentException {
+        return new SVGTemplate(SVGSceneCompiler.compile(node));
+    }
+
+    // endregion
+
+    // region Getter
+
+    /**
+     * Gets the {@link #scene}.
+     *
+     * @return the {@link #scene}.
+     */
+    public SVGCompiledScene getScene() {
+        return scene;
+    }
+
+    /**
+     * Gets the amount of nodes each instance of this template contains.
+     *
+     * @return the amount of nodes.
+     */
+    public int getNodeCount() {
+        return scene.getNodeCount();
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Creates new nodes of this template, each call returns independent nodes.
+     *
+     * @return a new {@link Group}.
+     */
+    public Group instantiate() {
+        try {
+            return SVGSceneLoader.load(scene);
+        } catch (final SVGException e) {
+            // only happens if the scene was read from corrupt data
+            throw new IllegalStateException("Template contains an invalid scene", e);
+        }
+    }
+
+    // endregion
+}
@@ -63,9 +63,10 @@ public abstract class SVGAttributeType<TValue, TUnit> extends AttributeWrapper {
      */
     private final TValue defaultValue;
     /**
-     * The actual value and unit contained within the parsed text
+     * The actual value and unit contained within the parsed text, which is created lazily and might be created by several threads at the same time when
+     * results are created in parallel, hence it is volatile.
      */
-    private Pair<TValue, TUnit> valueAndUnit;
+    private volatile Pair<TValue, TUnit> valueAndUnit;
 
     //endregion
 
@@ -115,8 +116,7 @@ public abstract class SVGAttributeType<TValue, TUnit> extends AttributeWrapper {
      * @throws SVGException when an error occurs during the initialization of the value and unit.
      */
     public final TValue getValue() throws SVGException {
-        initializeValueAndUnit();
-        return valueAndUnit.getKey();
+        return initializeValueAndUnit().getKey();
     }
 
     /**
@@ -127,8 +127,7 @@ public abstract class SVGAttributeType<TValue, TUnit> extends AttributeWrapper {
      * @throws SVGException when an error occurs during the initialization of the value and unit.
      */
     public final TUnit getUnit() throws SVGException {
-        initializeValueAndUnit();
-        return valueAndUnit.getValue();
+        return initializeValueAndUnit().getValue();
     }
 
     /**
@@ -152,8 +151,7 @@ public abstract class SVGAttributeType<TValue, TUnit> extends AttributeWrapper {
      * @throws SVGException when an error occurs during the initialization of the value
      */
     public final Pair<TValue, TUnit> getValueAndUnit() throws SVGException {
-        initializeValueAndUnit();
-        return valueAndUnit;
+        return initializeValueAndUnit();
     }
 
     /**
@@ -177,15 +175,23 @@ public abstract class SVGAttributeType<TValue, TUnit> extends AttributeWrapper {
 
     /**
      * Initializes the result based on the
+     *
+     * @return the {@link #valueAndUnit}.
      */
-    private void initializeValueAndUnit() throws SVGException {
-        if (valueAndUnit == null) {
+    private Pair<TValue, TUnit> initializeValueAndUnit() throws SVGException {
+        Pair<TValue, TUnit> result = valueAndUnit;
+
+        if (result == null) {
             if (!isInherited && !isNone) {
-                valueAndUnit = getValueAndUnit(getText());
+                result = getValueAndUnit(getText());
             } else {
-                valueAndUnit = new Pair<>(null, null);
+                result = new Pair<>(null, null);
             }
+
+            valueAndUnit = result;
         }
+
+        return result;
     }
 
     // endregion
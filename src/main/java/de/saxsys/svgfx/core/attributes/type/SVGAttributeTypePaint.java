@@ -17,6 +17,7 @@ import de.saxsys.svgfx.core.SVGDocumentDataProvider;
 import de.saxsys.svgfx.core.SVGException;
 import de.saxsys.svgfx.core.elements.SVGGradientBase;
 import de.saxsys.svgfx.core.interfaces.ThrowableSupplier;
+import de.saxsys.svgfx.core.metrics.SVGMetrics;
 import de.saxsys.svgfx.core.utils.SVGUtil;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
@@ -118,7 +119,14 @@ public class SVGAttributeTypePaint extends SVGAttributeType<Paint, Void> {
 
         // its not possible to use the IRI_FRAGMENT_IDENTIFIER on colors so we will only resolve references if we are sure its not a color itself
         if (getText().startsWith(de.saxsys.svgfx.core.definitions.Constants.IRI_IDENTIFIER)) {
-            return SVGUtil.resolveIRI(getText(), getDocumentDataProvider(), SVGGradientBase.class).createResult(boundingBox.getOrFail(), transform);
+            final SVGMetrics metrics = getDocumentDataProvider().getMetrics();
+            final long start = metrics.startPhase();
+
+            final Paint result = SVGUtil.resolveIRI(getText(), getDocumentDataProvider(), SVGGradientBase.class).createResult(boundingBox.getOrFail(), transform);
+
+            metrics.endPhase(SVGMetrics.Phase.GRADIENT_CREATION, start);
+
+            return result;
         }
 
         return getValue();
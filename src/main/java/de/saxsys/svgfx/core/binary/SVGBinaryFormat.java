@@ -0,0 +1,144 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.binary;
+
+/**
+ * Contains the constants describing the binary format of a {@link SVGCompiledScene}.
+ * <p>
+ * The format starts with the {@link #MAGIC} and the {@link #VERSION}, followed by the amount of nodes, the string table, the paint table, the operations and
+ * the values. The operations are a stream of ints, each node starts with one of the node op codes, which is followed by its int operands. All floating
+ * point operands are stored in the same order in the values.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SVGBinaryFormat {
+
+    // region Constants
+
+    /**
+     * The magic number each compiled scene starts with.
+     */
+    public static final int MAGIC = 0x53564742;
+
+    /**
+     * The version of the format, which needs to be increased each time the format changes.
+     */
+    public static final int VERSION = 1;
+
+    /**
+     * Indicates that an optional index, such as the index of a paint, is not set.
+     */
+    public static final int NO_INDEX = -1;
+
+    // endregion
+
+    // region Nodes
+
+    /**
+     * Op code of a {@link javafx.scene.Group}, followed by the amount of children.
+     */
+    public static final int NODE_GROUP = 1;
+
+    /**
+     * Op code of a {@link javafx.scene.shape.Rectangle}, its values are x, y, width, height, arc width and arc height.
+     */
+    public static final int NODE_RECTANGLE = 2;
+
+    /**
+     * Op code of a {@link javafx.scene.shape.Circle}, its values are center x, center y and radius.
+     */
+    public static final int NODE_CIRCLE = 3;
+
+    /**
+     * Op code of a {@link javafx.scene.shape.Ellipse}, its values are center x, center y, radius x and radius y.
+     */
+    public static final int NODE_ELLIPSE = 4;
+
+    /**
+     * Op code of a {@link javafx.scene.shape.Line}, its values are start x, start y, end x and end y.
+     */
+    public static final int NODE_LINE = 5;
+
+    /**
+     * Op code of a {@link javafx.scene.shape.Polygon}, followed by the amount of coordinates, which are stored in the values.
+     */
+    public static final int NODE_POLYGON = 6;
+
+    /**
+     * Op code of a {@link javafx.scene.shape.Polyline}, followed by the amount of coordinates, which are stored in the values.
+     */
+    public static final int NODE_POLYLINE = 7;
+
+    /**
+     * Op code of a {@link javafx.scene.shape.SVGPath}, followed by the index of its content in the string table and the ordinal of its fill rule.
+     */
+    public static final int NODE_PATH = 8;
+
+    // endregion
+
+    // region Node properties
+
+    /**
+     * Flag indicating that a node has transforms, the amount of transforms follows and each transform is stored as six values in the order mxx, mxy, tx,
+     * myx, myy, ty.
+     */
+    public static final int FLAG_TRANSFORMS = 1;
+
+    /**
+     * Flag indicating that a node has a layout position, which is stored as two values.
+     */
+    public static final int FLAG_LAYOUT = 1 << 1;
+
+    /**
+     * Flag indicating that a node has an opacity, which is stored as one value.
+     */
+    public static final int FLAG_OPACITY = 1 << 2;
+
+    /**
+     * Flag indicating that a node has a clip, the clip node follows the properties of the node.
+     */
+    public static final int FLAG_CLIP = 1 << 3;
+
+    // endregion
+
+    // region Paints
+
+    /**
+     * Kind of a {@link javafx.scene.paint.Color} in the paint table.
+     */
+    public static final byte PAINT_COLOR = 1;
+
+    /**
+     * Kind of a {@link javafx.scene.paint.LinearGradient} in the paint table.
+     */
+    public static final byte PAINT_LINEAR_GRADIENT = 2;
+
+    /**
+     * Kind of a {@link javafx.scene.paint.RadialGradient} in the paint table.
+     */
+    public static final byte PAINT_RADIAL_GRADIENT = 3;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Private constructor, since this class only contains constants.
+     */
+    private SVGBinaryFormat() {
+    }
+
+    // endregion
+}
@@ -0,0 +1,489 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.binary;
+
+import de.saxsys.svgfx.core.SVGException;
+import de.saxsys.svgfx.xml.core.CountingInputStream;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Contains the compiled form of a parsed svg document, as created by the {@link SVGSceneCompiler}. It consists of a string table, a paint table, a stream of
+ * int operations and packed double values as described by the {@link SVGBinaryFormat}. An instance is immutable and can therefore be shared between
+ * threads, it can be turned into JavaFX nodes using the {@link SVGSceneLoader}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SVGCompiledScene {
+
+    // region Constants
+
+    /**
+     * The maximum amount of entries of any table or array read by {@link #read(InputStream, long)}, which prevents corrupt data from allocating huge arrays.
+     */
+    static final int MAXIMUM_COUNT = 1 << 24;
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The amount of nodes contained in this scene, including clip nodes.
+     */
+    private final int nodeCount;
+
+    /**
+     * The operations of this scene.
+     */
+    private final int[] operations;
+
+    /**
+     * The values used by the {@link #operations}.
+     */
+    private final double[] values;
+
+    /**
+     * The strings used by the {@link #operations}.
+     */
+    private final String[] strings;
+
+    /**
+     * The paints used by the {@link #operations}.
+     */
+    private final Paint[] paints;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance, the given arrays will not be copied and must not be changed afterwards.
+     *
+     * @param nodeCount  the amount of nodes.
+     * @param operations the operations.
+     * @param values     the values.
+     * @param strings    the strings.
+     * @param paints     the paints.
+     */
+    SVGCompiledScene(final int nodeCount, final int[] operations, final double[] values, final String[] strings, final Paint[] paints) {
+        this.nodeCount = nodeCount;
+        this.operations = operations;
+        this.values = values;
+        this.strings = strings;
+        this.paints = paints;
+    }
+
+    // endregion
+
+    // region Getter
+
+    /**
+     * Gets the {@link #nodeCount}.
+     *
+     * @return the {@link #nodeCount}.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Gets the {@link #operations}, the returned array must not be changed.
+     *
+     * @return the {@link #operations}.
+     */
+    int[] getOperations() {
+        return operations;
+    }
+
+    /**
+     * Gets the {@link #values}, the returned array must not be changed.
+     *
+     * @return the {@link #values}.
+     */
+    double[] getValues() {
+        return values;
+    }
+
+    /**
+     * Gets the {@link #strings}, the returned array must not be changed.
+     *
+     * @return the {@link #strings}.
+     */
+    String[] getStrings() {
+        return strings;
+    }
+
+    /**
+     * Gets the {@link #paints}, the returned array must not be changed.
+     *
+     * @return the {@link #paints}.
+     */
+    Paint[] getPaints() {
+        return paints;
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Writes this scene in the binary format to the given stream. The stream will not be closed.
+     *
+     * @param stream the {@link OutputStream} to write to, must not be null.
+     *
+     * @throws IOException              if the data can not be written.
+     * @throws IllegalArgumentException if the given stream is null.
+     */
+    public void write(final OutputStream stream) throws IOException, IllegalArgumentException {
+        if (stream == null) {
+            throw new IllegalArgumentException("given stream must not be null");
+        }
+
+        final DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream));
+
+        output.writeInt(SVGBinaryFormat.MAGIC);
+        output.writeInt(SVGBinaryFormat.VERSION);
+        output.writeInt(nodeCount);
+
+        output.writeInt(strings.length);
+        for (final String string : strings) {
+            final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+
+        output.writeInt(paints.length);
+        for (final Paint paint : paints) {
+            writePaint(output, paint);
+        }
+
+        final ByteBuffer operationBytes = ByteBuffer.allocate(operations.length * Integer.BYTES);
+        operationBytes.asIntBuffer().put(operations);
+        output.writeInt(operations.length);
+        output.write(operationBytes.array());
+
+        final ByteBuffer valueBytes = ByteBuffer.allocate(values.length * Double.BYTES);
+        valueBytes.asDoubleBuffer().put(values);
+        output.writeInt(values.length);
+        output.write(valueBytes.array());
+
+        output.flush();
+    }
+
+    /**
+     * Reads a scene in the binary format from the given stream. The stream will not be closed.
+     *
+     * @param stream the {@link InputStream} to read from, must not be null.
+     *
+     * @return a new {@link SVGCompiledScene}.
+     *
+     * @throws IOException              if the data can not be read.
+     * @throws SVGException             if the data is not a compiled scene or was created with a different version of the format.
+     * @throws IllegalArgumentException if the given stream is null.
+     */
+    public static SVGCompiledScene read(final InputStream stream) throws IOException, SVGException, IllegalArgumentException {
+        return read(stream, -1L);
+    }
+
+    /**
+     * Reads a scene in the binary format from the given stream, which provides the given amount of bytes. Each count contained in the data is checked against
+     * the {@link #MAXIMUM_COUNT} and against the amount of remaining bytes, so corrupt data causes an {@link SVGException} instead of allocating huge
+     * arrays. The stream will not be closed.
+     *
+     * @param stream the {@link InputStream} to read from, must not be null.
+     * @param length the amount of bytes provided by the stream or a negative value if unknown.
+     *
+     * @return a new {@link SVGCompiledScene}.
+     *
+     * @throws IOException              if the data can not be read.
+     * @throws SVGException             if the data is not a compiled scene, was created with a different version of the format or contains invalid counts.
+     * @throws IllegalArgumentException if the given stream is null.
+     */
+    public static SVGCompiledScene read(final InputStream stream, final long length) throws IOException, SVGException, IllegalArgumentException {
+        if (stream == null) {
+            throw new IllegalArgumentException("given stream must not be null");
+        }
+
+        final SceneInput input = new SceneInput(stream instanceof BufferedInputStream ? stream : new BufferedInputStream(stream), length);
+
+        if (input.readInt() != SVGBinaryFormat.MAGIC) {
+            throw new SVGException("Given data is not a compiled scene");
+        }
+
+        final int version = input.readInt();
+        if (version != SVGBinaryFormat.VERSION) {
+            throw new SVGException(String.format("Compiled scene has version [%d] but only version [%d] is supported", version, SVGBinaryFormat.VERSION));
+        }
+
+        final int nodeCount = input.readInt();
+
+        final String[] strings = new String[input.readCount(Integer.BYTES)];
+        for (int i = 0; i < strings.length; i++) {
+            final byte[] bytes = new byte[input.readCount(Byte.BYTES)];
+            input.readFully(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        final Paint[] paints = new Paint[input.readCount(Byte.BYTES)];
+        for (int i = 0; i < paints.length; i++) {
+            paints[i] = readPaint(input);
+        }
+
+        final int[] operations = new int[input.readCount(Integer.BYTES)];
+        final byte[] operationBytes = new byte[operations.length * Integer.BYTES];
+        input.readFully(operationBytes);
+        ByteBuffer.wrap(operationBytes).asIntBuffer().get(operations);
+
+        final double[] values = new double[input.readCount(Double.BYTES)];
+        final byte[] valueBytes = new byte[values.length * Double.BYTES];
+        input.readFully(valueBytes);
+        ByteBuffer.wrap(valueBytes).asDoubleBuffer().get(values);
+
+        return new SVGCompiledScene(nodeCount, operations, values, strings, paints);
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Writes the given paint to the given output.
+     *
+     * @param output the {@link DataOutputStream} to write to.
+     * @param paint  the {@link Paint} to write, must be a {@link Color}, {@link LinearGradient} or {@link RadialGradient}.
+     *
+     * @throws IOException if the data can not be written.
+     */
+    private static void writePaint(final DataOutputStream output, final Paint paint) throws IOException {
+        if (paint instanceof Color) {
+            output.writeByte(SVGBinaryFormat.PAINT_COLOR);
+            writeColor(output, (Color) paint);
+        } else if (paint instanceof LinearGradient) {
+            final LinearGradient gradient = (LinearGradient) paint;
+            output.writeByte(SVGBinaryFormat.PAINT_LINEAR_GRADIENT);
+            output.writeDouble(gradient.getStartX());
+            output.writeDouble(gradient.getStartY());
+            output.writeDouble(gradient.getEndX());
+            output.writeDouble(gradient.getEndY());
+            output.writeBoolean(gradient.isProportional());
+            output.writeByte(gradient.getCycleMethod().ordinal());
+            writeStops(output, gradient.getStops());
+        } else {
+            final RadialGradient gradient = (RadialGradient) paint;
+            output.writeByte(SVGBinaryFormat.PAINT_RADIAL_GRADIENT);
+            output.writeDouble(gradient.getFocusAngle());
+            output.writeDouble(gradient.getFocusDistance());
+            output.writeDouble(gradient.getCenterX());
+            output.writeDouble(gradient.getCenterY());
+            output.writeDouble(gradient.getRadius());
+            output.writeBoolean(gradient.isProportional());
+            output.writeByte(gradient.getCycleMethod().ordinal());
+            writeStops(output, gradient.getStops());
+        }
+    }
+
+    /**
+     * Reads a paint from the given input.
+     *
+     * @param input the {@link SceneInput} to read from.
+     *
+     * @return the {@link Paint}.
+     *
+     * @throws IOException  if the data can not be read.
+     * @throws SVGException if the kind of the paint is not known.
+     */
+    private static Paint readPaint(final SceneInput input) throws IOException, SVGException {
+        final byte kind = input.readByte();
+
+        switch (kind) {
+            case SVGBinaryFormat.PAINT_COLOR:
+                return readColor(input);
+            case SVGBinaryFormat.PAINT_LINEAR_GRADIENT:
+                return new LinearGradient(input.readDouble(),
+                                          input.readDouble(),
+                                          input.readDouble(),
+                                          input.readDouble(),
+                                          input.readBoolean(),
+                                          readCycleMethod(input),
+                                          readStops(input));
+            case SVGBinaryFormat.PAINT_RADIAL_GRADIENT:
+                return new RadialGradient(input.readDouble(),
+                                          input.readDouble(),
+                                          input.readDouble(),
+                                          input.readDouble(),
+                                          input.readDouble(),
+                                          input.readBoolean(),
+                                          readCycleMethod(input),
+                                          readStops(input));
+            default:
+                throw new SVGException(String.format("Compiled scene contains unknown paint kind [%d]", kind));
+        }
+    }
+
+    /**
+     * Reads a {@link CycleMethod} from the given input.
+     *
+     * @param input the {@link DataInputStream} to read from.
+     *
+     * @return the {@link CycleMethod}.
+     *
+     * @throws IOException  if the data can not be read.
+     * @throws SVGException if the ordinal is not known.
+     */
+    private static CycleMethod readCycleMethod(final DataInputStream input) throws IOException, SVGException {
+        final int ordinal = input.readByte();
+
+        if (ordinal < 0 || ordinal >= CycleMethod.values().length) {
+            throw new SVGException(String.format("Compiled scene contains unknown cycle method [%d]", ordinal));
+        }
+
+        return CycleMethod.values()[ordinal];
+    }
+
+    /**
+     * Writes the given stops to the given output.
+     *
+     * @param output the {@link DataOutputStream} to write to.
+     * @param stops  the {@link Stop}s to write.
+     *
+     * @throws IOException if the data can not be written.
+     */
+    private static void writeStops(final DataOutputStream output, final List<Stop> stops) throws IOException {
+        output.writeInt(stops.size());
+
+        for (final Stop stop : stops) {
+            output.writeDouble(stop.getOffset());
+            writeColor(output, stop.getColor());
+        }
+    }
+
+    /**
+     * Reads stops from the given input.
+     *
+     * @param input the {@link SceneInput} to read from.
+     *
+     * @return the {@link Stop}s.
+     *
+     * @throws IOException  if the data can not be read.
+     * @throws SVGException if the amount of stops is invalid or exceeds the remaining data.
+     */
+    private static List<Stop> readStops(final SceneInput input) throws IOException, SVGException {
+        final int count = input.readCount(Double.BYTES);
+        final List<Stop> result = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            result.add(new Stop(input.readDouble(), readColor(input)));
+        }
+
+        return result;
+    }
+
+    /**
+     * Writes the given color to the given output.
+     *
+     * @param output the {@link DataOutputStream} to write to.
+     * @param color  the {@link Color} to write.
+     *
+     * @throws IOException if the data can not be written.
+     */
+    private static void writeColor(final DataOutputStream output, final Color color) throws IOException {
+        output.writeDouble(color.getRed());
+        output.writeDouble(color.getGreen());
+        output.writeDouble(color.getBlue());
+        output.writeDouble(color.getOpacity());
+    }
+
+    /**
+     * Reads a color from the given input.
+     *
+     * @param input the {@link DataInputStream} to read from.
+     *
+     * @return the {@link Color}.
+     *
+     * @throws IOException if the data can not be read.
+     */
+    private static Color readColor(final DataInputStream input) throws IOException {
+        return new Color(input.readDouble(), input.readDouble(), input.readDouble(), input.readDouble());
+    }
+
+    // endregion
+
+    // region Class
+
+    /**
+     * A {@link DataInputStream} which knows how many bytes have been read, so counts can be checked against the remaining data.
+     */
+    private static final class SceneInput extends DataInputStream {
+
+        /**
+         * The amount of bytes provided by the stream or a negative value if unknown.
+         */
+        private final long length;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param stream the {@link InputStream} to read from.
+         * @param length the amount of bytes provided by the stream or a negative value if unknown.
+         */
+        private SceneInput(final InputStream stream, final long length) {
+            super(new CountingInputStream(stream));
+
+            this.length = length;
+        }
+
+        /**
+         * Reads a count and checks that the entries it describes can be contained in the remaining data.
+         *
+         * @param minimumBytes the minimum amount of bytes each entry needs.
+         *
+         * @return the count.
+         *
+         * @throws IOException  if the data can not be read.
+         * @throws SVGException if the count is negative, exceeds the {@link #MAXIMUM_COUNT} or exceeds the remaining data.
+         */
+        private int readCount(final int minimumBytes) throws IOException, SVGException {
+            final int count = readInt();
+
+            if (count < 0 || count > MAXIMUM_COUNT) {
+                throw new SVGException(String.format("Compiled scene contains invalid count [%d]", count));
+            }
+
+            if (length >= 0L && (long) count * minimumBytes > length - ((CountingInputStream) in).getCount()) {
+                throw new SVGException(String.format("Compiled scene contains count [%d] exceeding the remaining data", count));
+            }
+
+            return count;
+        }
+    }
+
+    // endregion
+}
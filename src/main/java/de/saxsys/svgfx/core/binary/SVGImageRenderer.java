@@ -0,0 +1,687 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.binary;
+
+import de.saxsys.svgfx.core.SVGException;
+import de.saxsys.svgfx.core.path.PathConsumer;
+import de.saxsys.svgfx.core.path.PathDataReader;
+import de.saxsys.svgfx.core.path.PathException;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.FillRule;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.scene.shape.StrokeType;
+
+import java.awt.AlphaComposite;
+import java.awt.BasicStroke;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.MultipleGradientPaint;
+import java.awt.RadialGradientPaint;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Path2D;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Draws a {@link SVGCompiledScene} using Java2D, which allows svg documents to be rasterized into a {@link BufferedImage} without starting the JavaFX
+ * toolkit, for instance to create thumbnails on a headless server. No JavaFX nodes are created, only the immutable paint classes of JavaFX are used, which
+ * are converted into their Java2D counterparts.
+ * <p>
+ * Since the rendering only depends on the given scene and {@link Graphics2D}, several scenes can be rendered in parallel.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SVGImageRenderer {
+
+    // region Constructor
+
+    /**
+     * Private constructor, since this class only provides static methods.
+     */
+    private SVGImageRenderer() {
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Renders the given {@link SVGCompiledScene} into a new image with a transparent background.
+     *
+     * @param scene  the {@link SVGCompiledScene} to render, must not be null.
+     * @param width  the width of the image in pixels, must be greater than 0.
+     * @param height the height of the image in pixels, must be greater than 0.
+     * @param scale  the scale applied to the scene, 1 to render the scene in its original size.
+     *
+     * @return a new {@link BufferedImage} of the type {@link BufferedImage#TYPE_INT_ARGB}.
+     *
+     * @throws SVGException             if the scene is not valid.
+     * @throws IllegalArgumentException if the scene is null or the width or height is not greater than 0.
+     */
+    public static BufferedImage render(final SVGCompiledScene scene, final int width, final int height, final double scale) throws SVGException,
+                                                                                                                                     IllegalArgumentException {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException(String.format("given size [%d, %d] must be greater than 0", width, height));
+        }
+
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D graphics = image.createGraphics();
+
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setRenderingHint(RenderingHints.KEY_STROKE_CONTROL, RenderingHints.VALUE_STROKE_PURE);
+            graphics.scale(scale, scale);
+
+            draw(scene, graphics);
+        } finally {
+            graphics.dispose();
+        }
+
+        return image;
+    }
+
+    /**
+     * Draws the given {@link SVGCompiledScene} using the given graphics. The transform, clip and composite of the graphics are the same after this method
+     * has been called.
+     *
+     * @param scene    the {@link SVGCompiledScene} to draw, must not be null.
+     * @param graphics the {@link Graphics2D} to draw with, must not be null.
+     *
+     * @throws SVGException             if the scene is not valid.
+     * @throws IllegalArgumentException if either scene or graphics is null.
+     */
+    public static void draw(final SVGCompiledScene scene, final Graphics2D graphics) throws SVGException, IllegalArgumentException {
+        if (scene == null) {
+            throw new IllegalArgumentException("given scene must not be null");
+        }
+
+        if (graphics == null) {
+            throw new IllegalArgumentException("given graphics must not be null");
+        }
+
+        final Painter painter = new Painter(graphics);
+        final State state = painter.saveState();
+
+        try {
+            SVGSceneReader.read(scene, painter);
+        } finally {
+            painter.restoreState(state);
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Converts the given JavaFX paint into a Java2D paint.
+     *
+     * @param paint  the {@link Paint} to convert.
+     * @param bounds the bounds of the shape, used by proportional gradients.
+     *
+     * @return a new {@link java.awt.Paint}.
+     *
+     * @throws SVGException if the paint is not supported.
+     */
+    private static java.awt.Paint convertPaint(final Paint paint, final Rectangle2D bounds) throws SVGException {
+        if (paint instanceof Color) {
+            return convertColor((Color) paint);
+        }
+
+        if (paint instanceof LinearGradient) {
+            final LinearGradient gradient = (LinearGradient) paint;
+
+            if (gradient.getStops().size() < 2
+                || (gradient.getStartX() == gradient.getEndX() && gradient.getStartY() == gradient.getEndY())) {
+                return convertLastStop(gradient.getStops());
+            }
+
+            return new java.awt.LinearGradientPaint(new Point2D.Double(gradient.getStartX(), gradient.getStartY()),
+                                                    new Point2D.Double(gradient.getEndX(), gradient.getEndY()),
+                                                    convertFractions(gradient.getStops()),
+                                                    convertColors(gradient.getStops()),
+                                                    convertCycleMethod(gradient.getCycleMethod()),
+                                                    MultipleGradientPaint.ColorSpaceType.SRGB,
+                                                    createGradientTransform(gradient.isProportional(), bounds));
+        }
+
+        if (paint instanceof RadialGradient) {
+            final RadialGradient gradient = (RadialGradient) paint;
+
+            if (gradient.getStops().size() < 2 || gradient.getRadius() <= 0.0d) {
+                return convertLastStop(gradient.getStops());
+            }
+
+            final double angle = Math.toRadians(gradient.getFocusAngle());
+            final double distance = gradient.getFocusDistance() * gradient.getRadius();
+
+            return new RadialGradientPaint(new Point2D.Double(gradient.getCenterX(), gradient.getCenterY()),
+                                           (float) gradient.getRadius(),
+                                           new Point2D.Double(gradient.getCenterX() + Math.cos(angle) * distance,
+                                                              gradient.getCenterY() + Math.sin(angle) * distance),
+                                           convertFractions(gradient.getStops()),
+                                           convertColors(gradient.getStops()),
+                                           convertCycleMethod(gradient.getCycleMethod()),
+                                           MultipleGradientPaint.ColorSpaceType.SRGB,
+                                           createGradientTransform(gradient.isProportional(), bounds));
+        }
+
+        throw new SVGException(String.format("Paint [%s] is not supported", paint));
+    }
+
+    /**
+     * Creates the transform of a gradient.
+     *
+     * @param proportional true if the coordinates of the gradient are relative to the bounds of the shape.
+     * @param bounds       the bounds of the shape.
+     *
+     * @return a new {@link AffineTransform} mapping the unit square to the bounds if the gradient is proportional, otherwise the identity.
+     */
+    private static AffineTransform createGradientTransform(final boolean proportional, final Rectangle2D bounds) {
+        if (!proportional) {
+            return new AffineTransform();
+        }
+
+        return new AffineTransform(bounds.getWidth(), 0.0d, 0.0d, bounds.getHeight(), bounds.getX(), bounds.getY());
+    }
+
+    /**
+     * Converts the given color.
+     *
+     * @param color the {@link Color} to convert.
+     *
+     * @return a new {@link java.awt.Color}.
+     */
+    private static java.awt.Color convertColor(final Color color) {
+        return new java.awt.Color((float) color.getRed(), (float) color.getGreen(), (float) color.getBlue(), (float) color.getOpacity());
+    }
+
+    /**
+     * Converts the color of the last stop, which is used if a gradient has no visible transition.
+     *
+     * @param stops the stops of the gradient.
+     *
+     * @return a new {@link java.awt.Color}, which is transparent if there are no stops.
+     */
+    private static java.awt.Color convertLastStop(final List<Stop> stops) {
+        return stops.isEmpty() ? new java.awt.Color(0, 0, 0, 0) : convertColor(stops.get(stops.size() - 1).getColor());
+    }
+
+    /**
+     * Converts the colors of the given stops.
+     *
+     * @param stops the stops to convert.
+     *
+     * @return the colors.
+     */
+    private static java.awt.Color[] convertColors(final List<Stop> stops) {
+        final java.awt.Color[] result = new java.awt.Color[stops.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = convertColor(stops.get(i).getColor());
+        }
+
+        return result;
+    }
+
+    /**
+     * Converts the offsets of the given stops. Java2D requires the fractions to be strictly increasing, so stops with the same offset, which create a hard
+     * transition, are moved apart by the smallest possible amount.
+     *
+     * @param stops the stops to convert.
+     *
+     * @return the fractions.
+     */
+    private static float[] convertFractions(final List<Stop> stops) {
+        final float[] result = new float[stops.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (float) Math.min(1.0d, Math.max(0.0d, stops.get(i).getOffset()));
+
+            if (i > 0 && result[i] <= result[i - 1]) {
+                result[i] = Math.nextUp(result[i - 1]);
+            }
+        }
+
+        if (result[result.length - 1] > 1.0f) {
+            result[result.length - 1] = 1.0f;
+
+            for (int i = result.length - 2; i >= 0 && result[i] >= result[i + 1]; i--) {
+                result[i] = Math.nextDown(result[i + 1]);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Converts the given cycle method.
+     *
+     * @param cycleMethod the {@link CycleMethod} to convert.
+     *
+     * @return the matching {@link MultipleGradientPaint.CycleMethod}.
+     */
+    private static MultipleGradientPaint.CycleMethod convertCycleMethod(final CycleMethod cycleMethod) {
+        switch (cycleMethod) {
+            case REFLECT:
+                return MultipleGradientPaint.CycleMethod.REFLECT;
+            case REPEAT:
+                return MultipleGradientPaint.CycleMethod.REPEAT;
+            default:
+                return MultipleGradientPaint.CycleMethod.NO_CYCLE;
+        }
+    }
+
+    /**
+     * Creates the stroke for the given properties.
+     *
+     * @param width      the width of the stroke.
+     * @param lineCap    the {@link StrokeLineCap}.
+     * @param lineJoin   the {@link StrokeLineJoin}.
+     * @param miterLimit the miter limit.
+     * @param dashes     the dashes, null or empty if the stroke is solid.
+     * @param dashOffset the offset of the dashes.
+     *
+     * @return a new {@link BasicStroke}.
+     */
+    private static BasicStroke createStroke(final float width,
+                                            final StrokeLineCap lineCap,
+                                            final StrokeLineJoin lineJoin,
+                                            final double miterLimit,
+                                            final float[] dashes,
+                                            final double dashOffset) {
+        final int cap = lineCap == StrokeLineCap.ROUND ? BasicStroke.CAP_ROUND : lineCap == StrokeLineCap.SQUARE ? BasicStroke.CAP_SQUARE : BasicStroke.CAP_BUTT;
+        final int join = lineJoin == StrokeLineJoin.ROUND ? BasicStroke.JOIN_ROUND : lineJoin == StrokeLineJoin.BEVEL ? BasicStroke.JOIN_BEVEL : BasicStroke.JOIN_MITER;
+
+        return new BasicStroke(width, cap, join, (float) Math.max(1.0d, miterLimit), dashes, (float) dashOffset);
+    }
+
+    // endregion
+
+    // region Class
+
+    /**
+     * Contains the state of a {@link Graphics2D} or of the clip which is created, so it can be restored once a node has been read.
+     */
+    private static final class State {
+
+        /**
+         * The transform.
+         */
+        private final AffineTransform transform;
+
+        /**
+         * The clip, null if there is no clip.
+         */
+        private final Shape clip;
+
+        /**
+         * The composite.
+         */
+        private final Composite composite;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param transform the {@link AffineTransform}.
+         * @param clip      the clip {@link Shape}.
+         * @param composite the {@link Composite}.
+         */
+        private State(final AffineTransform transform, final Shape clip, final Composite composite) {
+            this.transform = transform;
+            this.clip = clip;
+            this.composite = composite;
+        }
+    }
+
+    /**
+     * Creates a {@link Path2D} from the segments passed to it.
+     */
+    private static final class PathBuilder implements PathConsumer {
+
+        /**
+         * The path which is created.
+         */
+        private final Path2D path;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param windingRule the winding rule of the path.
+         */
+        private PathBuilder(final int windingRule) {
+            this.path = new Path2D.Double(windingRule);
+        }
+
+        @Override
+        public void moveTo(final double x, final double y) {
+            path.moveTo(x, y);
+        }
+
+        @Override
+        public void lineTo(final double x, final double y) {
+            path.lineTo(x, y);
+        }
+
+        @Override
+        public void quadTo(final double controlX, final double controlY, final double x, final double y) {
+            path.quadTo(controlX, controlY, x, y);
+        }
+
+        @Override
+        public void curveTo(final double startControlX,
+                            final double startControlY,
+                            final double endControlX,
+                            final double endControlY,
+                            final double x,
+                            final double y) {
+            path.curveTo(startControlX, startControlY, endControlX, endControlY, x, y);
+        }
+
+        @Override
+        public void close() {
+            path.closePath();
+        }
+    }
+
+    /**
+     * Draws the nodes passed by the {@link SVGSceneReader} using a {@link Graphics2D}.
+     */
+    private static final class Painter implements SVGSceneVisitor {
+
+        /**
+         * The graphics to draw with.
+         */
+        private final Graphics2D graphics;
+
+        /**
+         * The {@link State}s to restore once the nodes which have begun end.
+         */
+        private final Deque<State> states = new ArrayDeque<>();
+
+        /**
+         * The transform of the clip which is currently created, relative to the node the clip belongs to, null if no clip is created.
+         */
+        private AffineTransform clipTransform;
+
+        /**
+         * The area of the clip which is currently created, null if no clip is created.
+         */
+        private Area clipArea;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param graphics the {@link Graphics2D} to draw with.
+         */
+        private Painter(final Graphics2D graphics) {
+            this.graphics = graphics;
+        }
+
+        @Override
+        public void beginNode(final int code, final SVGSceneReader.Geometry geometry) {
+            states.push(saveState());
+        }
+
+        @Override
+        public void layout(final double x, final double y) {
+            applyTransform(new AffineTransform(1.0d, 0.0d, 0.0d, 1.0d, x, y));
+        }
+
+        @Override
+        public void transform(final double mxx, final double mxy, final double tx, final double myx, final double myy, final double ty) {
+            applyTransform(new AffineTransform(mxx, myx, mxy, myy, tx, ty));
+        }
+
+        @Override
+        public void opacity(final double opacity) {
+            if (clipArea == null) {
+                final Composite composite = graphics.getComposite();
+                final float alpha = composite instanceof AlphaComposite ? ((AlphaComposite) composite).getAlpha() : 1.0f;
+
+                graphics.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) (alpha * Math.max(0.0d, Math.min(1.0d, opacity)))));
+            }
+        }
+
+        @Override
+        public boolean beginClip() {
+            // clips of nodes which belong to a clip are ignored
+            if (clipArea != null) {
+                return false;
+            }
+
+            clipTransform = new AffineTransform();
+            clipArea = new Area();
+
+            return true;
+        }
+
+        @Override
+        public void endClip() {
+            graphics.clip(clipArea);
+
+            clipTransform = null;
+            clipArea = null;
+        }
+
+        @Override
+        public void shape(final SVGSceneReader.Geometry geometry, final SVGSceneReader.ShapeStyle style) throws SVGException {
+            if (clipArea != null) {
+                clipArea.add(new Area(clipTransform.createTransformedShape(createGeometry(geometry))));
+            } else {
+                drawShape(geometry.getCode(), createGeometry(geometry), style);
+            }
+        }
+
+        @Override
+        public void endNode() {
+            restoreState(states.pop());
+        }
+
+        /**
+         * Creates the {@link State} of the graphics or, if a clip is created, of the clip.
+         *
+         * @return a new {@link State}.
+         */
+        private State saveState() {
+            if (clipArea != null) {
+                return new State(new AffineTransform(clipTransform), null, null);
+            }
+
+            return new State(graphics.getTransform(), graphics.getClip(), graphics.getComposite());
+        }
+
+        /**
+         * Restores the given state of the graphics or, if a clip is created, of the clip.
+         *
+         * @param state the {@link State} returned by {@link #saveState()}.
+         */
+        private void restoreState(final State state) {
+            if (clipArea != null) {
+                clipTransform = state.transform;
+            } else {
+                // the clip is given in the user space of the transform it was retrieved with
+                graphics.setTransform(state.transform);
+                graphics.setClip(state.clip);
+                graphics.setComposite(state.composite);
+            }
+        }
+
+        /**
+         * Applies the given transform to the graphics or, if a clip is created, to the clip.
+         *
+         * @param transform the {@link AffineTransform} to apply.
+         */
+        private void applyTransform(final AffineTransform transform) {
+            if (clipArea != null) {
+                clipTransform.concatenate(transform);
+            } else {
+                graphics.transform(transform);
+            }
+        }
+
+        /**
+         * Creates the Java2D shape of the given geometry.
+         *
+         * @param geometry the {@link SVGSceneReader.Geometry} to use.
+         *
+         * @return a new {@link Shape}.
+         *
+         * @throws SVGException if the path data of the shape is not valid.
+         */
+        private static Shape createGeometry(final SVGSceneReader.Geometry geometry) throws SVGException {
+            switch (geometry.getCode()) {
+                case SVGBinaryFormat.NODE_RECTANGLE:
+                    return new RoundRectangle2D.Double(geometry.getValue(0),
+                                                       geometry.getValue(1),
+                                                       geometry.getValue(2),
+                                                       geometry.getValue(3),
+                                                       geometry.getValue(4),
+                                                       geometry.getValue(5));
+                case SVGBinaryFormat.NODE_CIRCLE: {
+                    final double radius = geometry.getValue(2);
+                    return new Ellipse2D.Double(geometry.getValue(0) - radius, geometry.getValue(1) - radius, radius * 2.0d, radius * 2.0d);
+                }
+                case SVGBinaryFormat.NODE_ELLIPSE: {
+                    final double radiusX = geometry.getValue(2);
+                    final double radiusY = geometry.getValue(3);
+                    return new Ellipse2D.Double(geometry.getValue(0) - radiusX, geometry.getValue(1) - radiusY, radiusX * 2.0d, radiusY * 2.0d);
+                }
+                case SVGBinaryFormat.NODE_LINE:
+                    return new Line2D.Double(geometry.getValue(0), geometry.getValue(1), geometry.getValue(2), geometry.getValue(3));
+                case SVGBinaryFormat.NODE_POLYGON:
+                case SVGBinaryFormat.NODE_POLYLINE: {
+                    final int length = geometry.getLength();
+                    final Path2D path = new Path2D.Double(Path2D.WIND_NON_ZERO, length / 2);
+
+                    for (int i = 0; i + 1 < length; i += 2) {
+                        if (i == 0) {
+                            path.moveTo(geometry.getValue(i), geometry.getValue(i + 1));
+                        } else {
+                            path.lineTo(geometry.getValue(i), geometry.getValue(i + 1));
+                        }
+                    }
+
+                    if (geometry.getCode() == SVGBinaryFormat.NODE_POLYGON && length >= 2) {
+                        path.closePath();
+                    }
+
+                    return path;
+                }
+                default: {
+                    final PathBuilder builder = new PathBuilder(geometry.getFillRule() == FillRule.EVEN_ODD ? Path2D.WIND_EVEN_ODD : Path2D.WIND_NON_ZERO);
+
+                    try {
+                        PathDataReader.read(geometry.getContent(), builder);
+                    } catch (final PathException e) {
+                        throw new SVGException("Compiled scene contains invalid path data", e);
+                    }
+
+                    return builder.path;
+                }
+            }
+        }
+
+        /**
+         * Fills and strokes the given geometry using the given style.
+         *
+         * @param code     the code of the shape.
+         * @param geometry the geometry of the shape.
+         * @param style    the {@link SVGSceneReader.ShapeStyle} to use.
+         *
+         * @throws SVGException if a paint of the shape is not supported.
+         */
+        private void drawShape(final int code, final Shape geometry, final SVGSceneReader.ShapeStyle style) throws SVGException {
+            final double strokeWidth = style.getStrokeWidth();
+            final double[] strokeDashes = style.getStrokeDashes();
+
+            float[] dashes = strokeDashes.length > 0 ? new float[strokeDashes.length] : null;
+            double dashLength = 0.0d;
+
+            for (int i = 0; i < strokeDashes.length; i++) {
+                final double dash = strokeDashes[i];
+                dashes[i] = (float) dash;
+                dashLength += dash;
+
+                if (dash < 0.0d) {
+                    dashLength = Double.NaN;
+                }
+            }
+
+            // dashes which are all zero or contain negative values can not be used
+            if (!(dashLength > 0.0d)) {
+                dashes = null;
+            }
+
+            final Paint fill = code == SVGBinaryFormat.NODE_LINE ? null : style.getFill();
+            final Paint stroke = strokeWidth <= 0.0d ? null : style.getStroke();
+
+            if (fill == null && stroke == null) {
+                return;
+            }
+
+            final Rectangle2D bounds = geometry.getBounds2D();
+
+            if (fill != null) {
+                graphics.setPaint(convertPaint(fill, bounds));
+                graphics.fill(geometry);
+            }
+
+            if (stroke != null) {
+                final StrokeType strokeType = style.getStrokeType();
+                final StrokeLineCap lineCap = style.getStrokeLineCap();
+                final StrokeLineJoin lineJoin = style.getStrokeLineJoin();
+                final double miterLimit = style.getStrokeMiterLimit();
+                final double dashOffset = style.getStrokeDashOffset();
+
+                graphics.setPaint(convertPaint(stroke, bounds));
+
+                if (strokeType == StrokeType.CENTERED || code == SVGBinaryFormat.NODE_LINE) {
+                    graphics.setStroke(createStroke((float) strokeWidth, lineCap, lineJoin, miterLimit, dashes, dashOffset));
+                    graphics.draw(geometry);
+                } else {
+                    // a stroke inside or outside is a centered stroke with the double width, which is intersected with or subtracted from the shape
+                    final Area area = new Area(createStroke((float) (strokeWidth * 2.0d), lineCap, lineJoin, miterLimit, dashes, dashOffset).createStrokedShape(geometry));
+
+                    if (strokeType == StrokeType.INSIDE) {
+                        area.intersect(new Area(geometry));
+                    } else {
+                        area.subtract(new Area(geometry));
+                    }
+
+                    graphics.fill(area);
+                }
+            }
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.binary;
+
+import de.saxsys.svgfx.core.SVGException;
+import de.saxsys.svgfx.core.SVGParser;
+import de.saxsys.svgfx.core.utils.DoubleList;
+import de.saxsys.svgfx.core.utils.IntList;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Ellipse;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Polygon;
+import javafx.scene.shape.Polyline;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.Shape;
+import javafx.scene.transform.Transform;
+import org.xml.sax.SAXParseException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles the result of a {@link SVGParser} into a {@link SVGCompiledScene}. The result already contains everything the elements resolved while being
+ * parsed, such as styles, gradients, transforms and path content, so the compiled scene can be turned into nodes again without any xml or css parsing.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SVGSceneCompiler {
+
+    // region Constructor
+
+    /**
+     * Private constructor, since this class only provides static methods.
+     */
+    private SVGSceneCompiler() {
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Parses the svg file located at the given path and compiles its result.
+     *
+     * @param path the path of the svg file, must not be null.
+     *
+     * @return a new {@link SVGCompiledScene}.
+     *
+     * @throws IOException              if the file can not be read.
+     * @throws SVGException             if the file can not be parsed or its result can not be compiled.
+     * @throws IllegalArgumentException if the given path is null.
+     */
+    public static SVGCompiledScene compile(final Path path) throws IOException, SVGException, IllegalArgumentException {
+        if (path == null) {
+            throw new IllegalArgumentException("given path must not be null");
+        }
+
+        final SVGParser parser = new SVGParser();
+
+        try {
+            parser.parse(path);
+        } catch (final SAXParseException e) {
+            throw new SVGException(String.format("Could not parse file [%s]", path), e);
+        }
+
+        return compile(parser.getResult());
+    }
+
+    /**
+     * Compiles the given node and all its descendants.
+     *
+     * @param node the {@link Node} to compile, must not be null.
+     *
+     * @return a new {@link SVGCompiledScene}.
+     *
+     * @throws SVGException             if the node or one of its descendants is of a type or uses a paint that is not supported.
+     * @throws IllegalArgumentException if the given node is null.
+     */
+    public static SVGCompiledScene compile(final Node node) throws SVGException, IllegalArgumentException {
+        if (node == null) {
+            throw new IllegalArgumentException("given node must not be null");
+        }
+
+        final Context context = new Context();
+
+        compileNode(node, context);
+
+        return new SVGCompiledScene(context.nodeCount,
+                                    context.operations.toArray(),
+                                    context.values.toArray(),
+                                    context.strings.toArray(new String[context.strings.size()]),
+                                    context.paints.toArray(new Paint[context.paints.size()]));
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Compiles the given node into the given context.
+     *
+     * @param node    the {@link Node} to compile.
+     * @param context the {@link Context} to write to.
+     *
+     * @throws SVGException if the node or one of its descendants is of a type or uses a paint that is not supported.
+     */
+    private static void compileNode(final Node node, final Context context) throws SVGException {
+        context.nodeCount++;
+
+        if (node instanceof Group) {
+            final List<Node> children = ((Group) node).getChildren();
+
+            context.operations.add(SVGBinaryFormat.NODE_GROUP);
+            context.operations.add(children.size());
+            compileNodeProperties(node, context);
+
+            for (final Node child : children) {
+                compileNode(child, context);
+            }
+
+            return;
+        }
+
+        if (node instanceof Rectangle) {
+            final Rectangle rectangle = (Rectangle) node;
+            context.operations.add(SVGBinaryFormat.NODE_RECTANGLE);
+            context.values.addAll(rectangle.getX(), rectangle.getY(), rectangle.getWidth(), rectangle.getHeight(), rectangle.getArcWidth(), rectangle.getArcHeight());
+        } else if (node instanceof Circle) {
+            final Circle circle = (Circle) node;
+            context.operations.add(SVGBinaryFormat.NODE_CIRCLE);
+            context.values.addAll(circle.getCenterX(), circle.getCenterY(), circle.getRadius());
+        } else if (node instanceof Ellipse) {
+            final Ellipse ellipse = (Ellipse) node;
+            context.operations.add(SVGBinaryFormat.NODE_ELLIPSE);
+            context.values.addAll(ellipse.getCenterX(), ellipse.getCenterY(), ellipse.getRadiusX(), ellipse.getRadiusY());
+        } else if (node instanceof Line) {
+            final Line line = (Line) node;
+            context.operations.add(SVGBinaryFormat.NODE_LINE);
+            context.values.addAll(line.getStartX(), line.getStartY(), line.getEndX(), line.getEndY());
+        } else if (node instanceof Polygon) {
+            context.operations.add(SVGBinaryFormat.NODE_POLYGON);
+            compilePoints(((Polygon) node).getPoints(), context);
+        } else if (node instanceof Polyline) {
+            context.operations.add(SVGBinaryFormat.NODE_POLYLINE);
+            compilePoints(((Polyline) node).getPoints(), context);
+        } else if (node instanceof SVGPath) {
+            final SVGPath path = (SVGPath) node;
+            context.operations.add(SVGBinaryFormat.NODE_PATH);
+            context.operations.add(context.indexOf(path.getContent()));
+            context.operations.add(path.getFillRule().ordinal());
+        } else {
+            throw new SVGException(String.format("Node of type [%s] can not be compiled", node.getClass().getName()));
+        }
+
+        compileNodeProperties(node, context);
+        compileShapeProperties((Shape) node, context);
+    }
+
+    /**
+     * Compiles the given points into the given context.
+     *
+     * @param points  the points to compile.
+     * @param context the {@link Context} to write to.
+     */
+    private static void compilePoints(final List<Double> points, final Context context) {
+        context.operations.add(points.size());
+
+        for (final Double point : points) {
+            context.values.add(point);
+        }
+    }
+
+    /**
+     * Compiles the properties every node supports into the given context.
+     *
+     * @param node    the {@link Node} whose properties are compiled.
+     * @param context the {@link Context} to write to.
+     *
+     * @throws SVGException if the clip of the node can not be compiled.
+     */
+    private static void compileNodeProperties(final Node node, final Context context) throws SVGException {
+        int flags = 0;
+
+        if (!node.getTransforms().isEmpty()) {
+            flags |= SVGBinaryFormat.FLAG_TRANSFORMS;
+        }
+        if (node.getLayoutX() != 0.0d || node.getLayoutY() != 0.0d) {
+            flags |= SVGBinaryFormat.FLAG_LAYOUT;
+        }
+        if (node.getOpacity() != 1.0d) {
+            flags |= SVGBinaryFormat.FLAG_OPACITY;
+        }
+        if (node.getClip() != null) {
+            flags |= SVGBinaryFormat.FLAG_CLIP;
+        }
+
+        context.operations.add(flags);
+
+        if ((flags & SVGBinaryFormat.FLAG_TRANSFORMS) != 0) {
+            context.operations.add(node.getTransforms().size());
+
+            for (final Transform transform : node.getTransforms()) {
+                context.values.addAll(transform.getMxx(), transform.getMxy(), transform.getTx(), transform.getMyx(), transform.getMyy(), transform.getTy());
+            }
+        }
+        if ((flags & SVGBinaryFormat.FLAG_LAYOUT) != 0) {
+            context.values.addAll(node.getLayoutX(), node.getLayoutY());
+        }
+        if ((flags & SVGBinaryFormat.FLAG_OPACITY) != 0) {
+            context.values.add(node.getOpacity());
+        }
+        if ((flags & SVGBinaryFormat.FLAG_CLIP) != 0) {
+            compileNode(node.getClip(), context);
+        }
+    }
+
+    /**
+     * Compiles the properties every shape supports into the given context.
+     *
+     * @param shape   the {@link Shape} whose properties are compiled.
+     * @param context the {@link Context} to write to.
+     *
+     * @throws SVGException if a paint of the shape is not supported.
+     */
+    private static void compileShapeProperties(final Shape shape, final Context context) throws SVGException {
+        context.operations.add(context.indexOf(shape.getFill()));
+        context.operations.add(context.indexOf(shape.getStroke()));
+        context.operations.add(shape.getStrokeType().ordinal());
+        context.operations.add(shape.getStrokeLineJoin().ordinal());
+        context.operations.add(shape.getStrokeLineCap().ordinal());
+        context.operations.add(shape.getStrokeDashArray().size());
+
+        context.values.addAll(shape.getStrokeWidth(), shape.getStrokeDashOffset(), shape.getStrokeMiterLimit());
+
+        for (final Double dash : shape.getStrokeDashArray()) {
+            context.values.add(dash);
+        }
+    }
+
+    // endregion
+
+    // region Class
+
+    /**
+     * Contains the data collected while compiling.
+     */
+    private static final class Context {
+
+        /**
+         * The operations.
+         */
+        private final IntList operations = new IntList(256);
+
+        /**
+         * The values.
+         */
+        private final DoubleList values = new DoubleList(1024);
+
+        /**
+         * The string table.
+         */
+        private final List<String> strings = new ArrayList<>();
+
+        /**
+         * The index of each string in the {@link #strings}.
+         */
+        private final Map<String, Integer> stringIndices = new HashMap<>();
+
+        /**
+         * The paint table.
+         */
+        private final List<Paint> paints = new ArrayList<>();
+
+        /**
+         * The index of each paint in the {@link #paints}.
+         */
+        private final Map<Paint, Integer> paintIndices = new HashMap<>();
+
+        /**
+         * The amount of compiled nodes.
+         */
+        private int nodeCount;
+
+        /**
+         * Gets the index of the given string in the string table, adding it if needed.
+         *
+         * @param string the string.
+         *
+         * @return the index of the string.
+         */
+        private int indexOf(final String string) {
+            if (string == null) {
+                return SVGBinaryFormat.NO_INDEX;
+            }
+
+            return stringIndices.computeIfAbsent(string, key -> {
+                strings.add(key);
+                return strings.size() - 1;
+            });
+        }
+
+        /**
+         * Gets the index of the given paint in the paint table, adding it if needed.
+         *
+         * @param paint the {@link Paint}.
+         *
+         * @return the index of the paint.
+         *
+         * @throws SVGException if the paint is not supported.
+         */
+        private int indexOf(final Paint paint) throws SVGException {
+            if (paint == null) {
+                return SVGBinaryFormat.NO_INDEX;
+            }
+
+            if (!(paint instanceof Color) && !(paint instanceof LinearGradient) && !(paint instanceof RadialGradient)) {
+                throw new SVGException(String.format("Paint of type [%s] can not be compiled", paint.getClass().getName()));
+            }
+
+            return paintIndices.computeIfAbsent(paint, key -> {
+                paints.add(key);
+                return paints.size() - 1;
+            });
+        }
+    }
+
+    // endregion
+}
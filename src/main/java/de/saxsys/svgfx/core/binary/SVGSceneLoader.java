@@ -0,0 +1,248 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.binary;
+
+import de.saxsys.svgfx.core.SVGException;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Ellipse;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Polygon;
+import javafx.scene.shape.Polyline;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.Shape;
+import javafx.scene.transform.Affine;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Rebuilds the JavaFX nodes of a {@link SVGCompiledScene}. Since the scene already contains the resolved styles, paints, transforms and path content, no xml
+ * or css parsing is needed.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SVGSceneLoader {
+
+    // region Constructor
+
+    /**
+     * Private constructor, since this class only provides static methods.
+     */
+    private SVGSceneLoader() {
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Reads a {@link SVGCompiledScene} from the file located at the given path and creates its nodes.
+     *
+     * @param path the path of the file, must not be null.
+     *
+     * @return a new {@link Group} containing the nodes of the scene.
+     *
+     * @throws IOException              if the file can not be read.
+     * @throws SVGException             if the file does not contain a valid compiled scene.
+     * @throws IllegalArgumentException if the given path is null.
+     */
+    public static Group load(final Path path) throws IOException, SVGException, IllegalArgumentException {
+        if (path == null) {
+            throw new IllegalArgumentException("given path must not be null");
+        }
+
+        try (final InputStream stream = Files.newInputStream(path)) {
+            return load(stream);
+        }
+    }
+
+    /**
+     * Reads a {@link SVGCompiledScene} from the given stream and creates its nodes. The stream will not be closed.
+     *
+     * @param stream the {@link InputStream} to read from, must not be null.
+     *
+     * @return a new {@link Group} containing the nodes of the scene.
+     *
+     * @throws IOException              if the data can not be read.
+     * @throws SVGException             if the data is not a valid compiled scene.
+     * @throws IllegalArgumentException if the given stream is null.
+     */
+    public static Group load(final InputStream stream) throws IOException, SVGException, IllegalArgumentException {
+        return load(SVGCompiledScene.read(stream));
+    }
+
+    /**
+     * Creates the nodes of the given {@link SVGCompiledScene}. Each call creates new nodes, so the result can be added to a scene graph independently of
+     * other results.
+     *
+     * @param scene the {@link SVGCompiledScene} to use, must not be null.
+     *
+     * @return a new {@link Group} containing the nodes of the scene.
+     *
+     * @throws SVGException             if the scene is not valid.
+     * @throws IllegalArgumentException if the given scene is null.
+     */
+    public static Group load(final SVGCompiledScene scene) throws SVGException, IllegalArgumentException {
+        if (scene == null) {
+            throw new IllegalArgumentException("given scene must not be null");
+        }
+
+        final Builder builder = new Builder();
+
+        SVGSceneReader.read(scene, builder);
+
+        final Node result = builder.result;
+
+        if (result instanceof Group) {
+            return (Group) result;
+        }
+
+        return new Group(result);
+    }
+
+    // endregion
+
+    // region Class
+
+    /**
+     * Creates the nodes passed by the {@link SVGSceneReader}.
+     */
+    private static final class Builder implements SVGSceneVisitor {
+
+        /**
+         * The nodes which have begun but not yet ended.
+         */
+        private final Deque<Node> nodes = new ArrayDeque<>();
+
+        /**
+         * Determines if the next node is the clip of the current node.
+         */
+        private boolean clipping;
+
+        /**
+         * The root node, null until it has ended.
+         */
+        private Node result;
+
+        @Override
+        public void beginNode(final int code, final SVGSceneReader.Geometry geometry) {
+            final Node node = createNode(code, geometry);
+
+            if (clipping) {
+                nodes.peek().setClip(node);
+                clipping = false;
+            } else if (!nodes.isEmpty()) {
+                ((Group) nodes.peek()).getChildren().add(node);
+            }
+
+            nodes.push(node);
+        }
+
+        @Override
+        public void layout(final double x, final double y) {
+            nodes.peek().setLayoutX(x);
+            nodes.peek().setLayoutY(y);
+        }
+
+        @Override
+        public void transform(final double mxx, final double mxy, final double tx, final double myx, final double myy, final double ty) {
+            nodes.peek().getTransforms().add(new Affine(mxx, mxy, tx, myx, myy, ty));
+        }
+
+        @Override
+        public void opacity(final double opacity) {
+            nodes.peek().setOpacity(opacity);
+        }
+
+        @Override
+        public boolean beginClip() {
+            clipping = true;
+            return true;
+        }
+
+        @Override
+        public void endClip() {
+        }
+
+        @Override
+        public void shape(final SVGSceneReader.Geometry geometry, final SVGSceneReader.ShapeStyle style) {
+            final Shape shape = (Shape) nodes.peek();
+
+            shape.setFill(style.getFill());
+            shape.setStroke(style.getStroke());
+            shape.setStrokeType(style.getStrokeType());
+            shape.setStrokeLineJoin(style.getStrokeLineJoin());
+            shape.setStrokeLineCap(style.getStrokeLineCap());
+            shape.setStrokeWidth(style.getStrokeWidth());
+            shape.setStrokeDashOffset(style.getStrokeDashOffset());
+            shape.setStrokeMiterLimit(style.getStrokeMiterLimit());
+
+            for (final double dash : style.getStrokeDashes()) {
+                shape.getStrokeDashArray().add(dash);
+            }
+        }
+
+        @Override
+        public void endNode() {
+            result = nodes.pop();
+        }
+
+        /**
+         * Creates the node for the given op code.
+         *
+         * @param code     the op code of the node.
+         * @param geometry the {@link SVGSceneReader.Geometry} of the node, null if the node is a group.
+         *
+         * @return a new {@link Node}.
+         */
+        private static Node createNode(final int code, final SVGSceneReader.Geometry geometry) {
+            switch (code) {
+                case SVGBinaryFormat.NODE_RECTANGLE: {
+                    final Rectangle rectangle = new Rectangle(geometry.getValue(0), geometry.getValue(1), geometry.getValue(2), geometry.getValue(3));
+                    rectangle.setArcWidth(geometry.getValue(4));
+                    rectangle.setArcHeight(geometry.getValue(5));
+                    return rectangle;
+                }
+                case SVGBinaryFormat.NODE_CIRCLE:
+                    return new Circle(geometry.getValue(0), geometry.getValue(1), geometry.getValue(2));
+                case SVGBinaryFormat.NODE_ELLIPSE:
+                    return new Ellipse(geometry.getValue(0), geometry.getValue(1), geometry.getValue(2), geometry.getValue(3));
+                case SVGBinaryFormat.NODE_LINE:
+                    return new Line(geometry.getValue(0), geometry.getValue(1), geometry.getValue(2), geometry.getValue(3));
+                case SVGBinaryFormat.NODE_POLYGON:
+                    return new Polygon(geometry.copyValues());
+                case SVGBinaryFormat.NODE_POLYLINE:
+                    return new Polyline(geometry.copyValues());
+                case SVGBinaryFormat.NODE_PATH: {
+                    final SVGPath path = new SVGPath();
+                    path.setContent(geometry.getContent());
+                    path.setFillRule(geometry.getFillRule());
+                    return path;
+                }
+                default:
+                    return new Group();
+            }
+        }
+    }
+
+    // endregion
+}
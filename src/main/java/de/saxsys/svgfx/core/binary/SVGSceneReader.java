@@ -0,0 +1,612 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core.binary;
+
+import de.saxsys.svgfx.core.SVGException;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.FillRule;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.scene.shape.StrokeType;
+
+/**
+ * Reads the operations and values of a {@link SVGCompiledScene} and passes its nodes to a {@link SVGSceneVisitor}. This is the only place which knows the
+ * operand layout of the {@link SVGBinaryFormat}, so the loader and the renderers only need to handle the decoded nodes.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+final class SVGSceneReader {
+
+    // region Constants
+
+    /**
+     * The available {@link FillRule}s.
+     */
+    private static final FillRule[] FILL_RULES = FillRule.values();
+
+    /**
+     * The available {@link StrokeType}s.
+     */
+    private static final StrokeType[] STROKE_TYPES = StrokeType.values();
+
+    /**
+     * The available {@link StrokeLineJoin}s.
+     */
+    private static final StrokeLineJoin[] STROKE_LINE_JOINS = StrokeLineJoin.values();
+
+    /**
+     * The available {@link StrokeLineCap}s.
+     */
+    private static final StrokeLineCap[] STROKE_LINE_CAPS = StrokeLineCap.values();
+
+    /**
+     * The number of values of a single transform.
+     */
+    private static final int TRANSFORM_LENGTH = 6;
+
+    /**
+     * The {@link SVGSceneVisitor} used for nodes which are skipped.
+     */
+    private static final SVGSceneVisitor SKIPPING_VISITOR = new SVGSceneVisitor() {
+        @Override
+        public void beginNode(final int code, final Geometry geometry) {
+        }
+
+        @Override
+        public void layout(final double x, final double y) {
+        }
+
+        @Override
+        public void transform(final double mxx, final double mxy, final double tx, final double myx, final double myy, final double ty) {
+        }
+
+        @Override
+        public void opacity(final double opacity) {
+        }
+
+        @Override
+        public boolean beginClip() {
+            return false;
+        }
+
+        @Override
+        public void endClip() {
+        }
+
+        @Override
+        public void shape(final Geometry geometry, final ShapeStyle style) {
+        }
+
+        @Override
+        public void endNode() {
+        }
+    };
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The operations.
+     */
+    private final int[] operations;
+
+    /**
+     * The values.
+     */
+    private final double[] values;
+
+    /**
+     * The strings.
+     */
+    private final String[] strings;
+
+    /**
+     * The paints.
+     */
+    private final Paint[] paints;
+
+    /**
+     * The position in the {@link #operations}.
+     */
+    private int operation;
+
+    /**
+     * The position in the {@link #values}.
+     */
+    private int value;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance which starts at the beginning of the given scene.
+     *
+     * @param scene the {@link SVGCompiledScene} to read.
+     */
+    private SVGSceneReader(final SVGCompiledScene scene) {
+        this.operations = scene.getOperations();
+        this.values = scene.getValues();
+        this.strings = scene.getStrings();
+        this.paints = scene.getPaints();
+    }
+
+    // endregion
+
+    // region Package
+
+    /**
+     * Passes the root node of the given {@link SVGCompiledScene} and all its descendants to the given {@link SVGSceneVisitor}.
+     *
+     * @param scene   the {@link SVGCompiledScene} to read.
+     * @param visitor the {@link SVGSceneVisitor} to use.
+     *
+     * @throws SVGException if the scene is not valid or the visitor can not handle one of its nodes.
+     */
+    static void read(final SVGCompiledScene scene, final SVGSceneVisitor visitor) throws SVGException {
+        try {
+            new SVGSceneReader(scene).readNode(visitor);
+        } catch (final IndexOutOfBoundsException e) {
+            throw new SVGException("Compiled scene is incomplete", e);
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Reads the next node and all its descendants.
+     *
+     * @param visitor the {@link SVGSceneVisitor} to which the node is passed.
+     *
+     * @throws SVGException if the node is not valid.
+     */
+    private void readNode(final SVGSceneVisitor visitor) throws SVGException {
+        final int code = operations[operation++];
+
+        if (code == SVGBinaryFormat.NODE_GROUP) {
+            final int childCount = operations[operation++];
+
+            visitor.beginNode(code, null);
+            readNodeProperties(visitor);
+
+            for (int i = 0; i < childCount; i++) {
+                readNode(visitor);
+            }
+        } else {
+            final Geometry geometry = readGeometry(code);
+
+            visitor.beginNode(code, geometry);
+            readNodeProperties(visitor);
+            visitor.shape(geometry, readShapeStyle());
+        }
+
+        visitor.endNode();
+    }
+
+    /**
+     * Reads the geometry of a shape.
+     *
+     * @param code the op code of the shape.
+     *
+     * @return the {@link Geometry} of the shape.
+     *
+     * @throws SVGException if the op code is unknown.
+     */
+    private Geometry readGeometry(final int code) throws SVGException {
+        final int length;
+        String content = null;
+        FillRule fillRule = null;
+
+        switch (code) {
+            case SVGBinaryFormat.NODE_RECTANGLE:
+                length = 6;
+                break;
+            case SVGBinaryFormat.NODE_CIRCLE:
+                length = 3;
+                break;
+            case SVGBinaryFormat.NODE_ELLIPSE:
+            case SVGBinaryFormat.NODE_LINE:
+                length = 4;
+                break;
+            case SVGBinaryFormat.NODE_POLYGON:
+            case SVGBinaryFormat.NODE_POLYLINE:
+                length = operations[operation++];
+                break;
+            case SVGBinaryFormat.NODE_PATH:
+                length = 0;
+                content = strings[operations[operation++]];
+                fillRule = FILL_RULES[operations[operation++]];
+                break;
+            default:
+                throw new SVGException(String.format("Compiled scene contains unknown node op code [%d]", code));
+        }
+
+        return new Geometry(code, values, take(length), length, content, fillRule);
+    }
+
+    /**
+     * Reads the properties every node supports and passes them to the given visitor.
+     *
+     * @param visitor the {@link SVGSceneVisitor} to which the properties are passed.
+     *
+     * @throws SVGException if the clip of the node is not valid.
+     */
+    private void readNodeProperties(final SVGSceneVisitor visitor) throws SVGException {
+        final int flags = operations[operation++];
+
+        int transformCount = 0;
+        int transformValue = value;
+
+        if ((flags & SVGBinaryFormat.FLAG_TRANSFORMS) != 0) {
+            transformCount = operations[operation++];
+            transformValue = take(transformCount * TRANSFORM_LENGTH);
+        }
+        if ((flags & SVGBinaryFormat.FLAG_LAYOUT) != 0) {
+            final int index = take(2);
+            visitor.layout(values[index], values[index + 1]);
+        }
+        for (int i = 0; i < transformCount; i++) {
+            final int index = transformValue + i * TRANSFORM_LENGTH;
+            visitor.transform(values[index], values[index + 1], values[index + 2], values[index + 3], values[index + 4], values[index + 5]);
+        }
+        if ((flags & SVGBinaryFormat.FLAG_OPACITY) != 0) {
+            visitor.opacity(values[take(1)]);
+        }
+        if ((flags & SVGBinaryFormat.FLAG_CLIP) != 0) {
+            if (visitor.beginClip()) {
+                readNode(visitor);
+                visitor.endClip();
+            } else {
+                readNode(SKIPPING_VISITOR);
+            }
+        }
+    }
+
+    /**
+     * Reads the style of a shape.
+     *
+     * @return the {@link ShapeStyle} of the shape.
+     */
+    private ShapeStyle readShapeStyle() {
+        final int fill = operations[operation++];
+        final int stroke = operations[operation++];
+        final StrokeType strokeType = STROKE_TYPES[operations[operation++]];
+        final StrokeLineJoin strokeLineJoin = STROKE_LINE_JOINS[operations[operation++]];
+        final StrokeLineCap strokeLineCap = STROKE_LINE_CAPS[operations[operation++]];
+        final int dashCount = operations[operation++];
+        final int index = take(3 + dashCount);
+        final double[] dashes = new double[dashCount];
+
+        System.arraycopy(values, index + 3, dashes, 0, dashCount);
+
+        return new ShapeStyle(fill == SVGBinaryFormat.NO_INDEX ? null : paints[fill],
+                              stroke == SVGBinaryFormat.NO_INDEX ? null : paints[stroke],
+                              strokeType,
+                              strokeLineJoin,
+                              strokeLineCap,
+                              values[index],
+                              values[index + 1],
+                              values[index + 2],
+                              dashes);
+    }
+
+    /**
+     * Advances the position in the {@link #values} by the given length.
+     *
+     * @param length the number of values to take.
+     *
+     * @return the position of the first value taken.
+     *
+     * @throws IndexOutOfBoundsException if there are not enough values left.
+     */
+    private int take(final int length) throws IndexOutOfBoundsException {
+        if (length < 0 || length > values.length - value) {
+            throw new IndexOutOfBoundsException(String.format("Can not take [%d] values at [%d]", length, value));
+        }
+
+        final int result = value;
+        value += length;
+
+        return result;
+    }
+
+    // endregion
+
+    // region Class
+
+    /**
+     * The geometry of a shape. The values are interpreted depending on the {@link #getCode()} as defined by the {@link SVGBinaryFormat}.
+     */
+    static final class Geometry {
+
+        /**
+         * The op code of the shape.
+         */
+        private final int code;
+
+        /**
+         * The values of the scene.
+         */
+        private final double[] values;
+
+        /**
+         * The position of the first value of this geometry.
+         */
+        private final int offset;
+
+        /**
+         * The number of values of this geometry.
+         */
+        private final int length;
+
+        /**
+         * The content of a path, null for other shapes.
+         */
+        private final String content;
+
+        /**
+         * The {@link FillRule} of a path, null for other shapes.
+         */
+        private final FillRule fillRule;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param code     the op code of the shape.
+         * @param values   the values of the scene.
+         * @param offset   the position of the first value of this geometry.
+         * @param length   the number of values of this geometry.
+         * @param content  the content of a path.
+         * @param fillRule the {@link FillRule} of a path.
+         */
+        private Geometry(final int code, final double[] values, final int offset, final int length, final String content, final FillRule fillRule) {
+            this.code = code;
+            this.values = values;
+            this.offset = offset;
+            this.length = length;
+            this.content = content;
+            this.fillRule = fillRule;
+        }
+
+        /**
+         * Gets the {@link #code}.
+         *
+         * @return {@link #code}
+         */
+        int getCode() {
+            return code;
+        }
+
+        /**
+         * Gets the {@link #length}.
+         *
+         * @return {@link #length}
+         */
+        int getLength() {
+            return length;
+        }
+
+        /**
+         * Gets the value at the given position.
+         *
+         * @param index the position relative to the first value of this geometry.
+         *
+         * @return the value.
+         */
+        double getValue(final int index) {
+            return values[offset + index];
+        }
+
+        /**
+         * Creates a copy of the values of this geometry.
+         *
+         * @return the values.
+         */
+        double[] copyValues() {
+            final double[] result = new double[length];
+
+            System.arraycopy(values, offset, result, 0, length);
+
+            return result;
+        }
+
+        /**
+         * Gets the {@link #content}.
+         *
+         * @return {@link #content}
+         */
+        String getContent() {
+            return content;
+        }
+
+        /**
+         * Gets the {@link #fillRule}.
+         *
+         * @return {@link #fillRule}
+         */
+        FillRule getFillRule() {
+            return fillRule;
+        }
+    }
+
+    /**
+     * The style of a shape.
+     */
+    static final class ShapeStyle {
+
+        /**
+         * The fill, null if the shape is not filled.
+         */
+        private final Paint fill;
+
+        /**
+         * The stroke, null if the shape is not stroked.
+         */
+        private final Paint stroke;
+
+        /**
+         * The {@link StrokeType}.
+         */
+        private final StrokeType strokeType;
+
+        /**
+         * The {@link StrokeLineJoin}.
+         */
+        private final StrokeLineJoin strokeLineJoin;
+
+        /**
+         * The {@link StrokeLineCap}.
+         */
+        private final StrokeLineCap strokeLineCap;
+
+        /**
+         * The width of the stroke.
+         */
+        private final double strokeWidth;
+
+        /**
+         * The offset of the dashes.
+         */
+        private final double strokeDashOffset;
+
+        /**
+         * The miter limit.
+         */
+        private final double strokeMiterLimit;
+
+        /**
+         * The dashes.
+         */
+        private final double[] strokeDashes;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param fill             the fill.
+         * @param stroke           the stroke.
+         * @param strokeType       the {@link StrokeType}.
+         * @param strokeLineJoin   the {@link StrokeLineJoin}.
+         * @param strokeLineCap    the {@link StrokeLineCap}.
+         * @param strokeWidth      the width of the stroke.
+         * @param strokeDashOffset the offset of the dashes.
+         * @param strokeMiterLimit the miter limit.
+         * @param strokeDashes     the dashes.
+         */
+        private ShapeStyle(final Paint fill,
+                           final Paint stroke,
+                           final StrokeType strokeType,
+                           final StrokeLineJoin strokeLineJoin,
+                           final StrokeLineCap strokeLineCap,
+                           final double strokeWidth,
+                           final double strokeDashOffset,
+                           final double strokeMiterLimit,
+                           final double[] strokeDashes) {
+            this.fill = fill;
+            this.stroke = stroke;
+            this.strokeType = strokeType;
+            this.strokeLineJoin = strokeLineJoin;
+            this.strokeLineCap = strokeLineCap;
+            this.strokeWidth = strokeWidth;
+            this.strokeDashOffset = strokeDashOffset;
+            this.strokeMiterLimit = strokeMiterLimit;
+            this.strokeDashes = strokeDashes;
+        }
+
+        /**
+         * Gets the {@link #fill}.
+         *
+         * @return {@link #fill}
+         */
+        Paint getFill() {
+            return fill;
+        }
+
+        /**
+         * Gets the {@link #stroke}.
+         *
+         * @return {@link #stroke}
+         */
+        Paint getStroke() {
+            return stroke;
+        }
+
+        /**
+         * Gets the {@link #strokeType}.
+         *
+         * @return {@link #strokeType}
+         */
+        StrokeType getStrokeType() {
+            return strokeType;
+        }
+
+        /**
+         * Gets the {@link #strokeLineJoin}.
+         *
+         * @return {@link #strokeLineJoin}
+         */
+        StrokeLineJoin getStrokeLineJoin() {
+            return strokeLineJoin;
+        }
+
+        /**
+         * Gets the {@link #strokeLineCap}.
+         *
+         * @return {@link #strokeLineCap}
+         */
+        StrokeLineCap getStrokeLineCap() {
+            return strokeLineCap;
+        }
+
+        /**
+         * Gets the {@link #strokeWidth}.
+         *
+         * @return {@link #strokeWidth}
+         */
+        double getStrokeWidth() {
+            return strokeWidth;
+        }
+
+        /**
+         * Gets the {@link #strokeDashOffset}.
+         *
+         * @return {@link #strokeDashOffset}
+         */
+        double getStrokeDashOffset() {
+            return strokeDashOffset;
+        }
+
+        /**
+         * Gets the {@link #strokeMiterLimit}.
+         *
+         * @return {@link #strokeMiterLimit}
+         */
+        double getStrokeMiterLimit() {
+            return strokeMiterLimit;
+        }
+
+        /**
+         * Gets the {@link #strokeDashes}, which must not be modified.
+         *
+         * @return {@link #strokeDashes}
+         */
+        double[] getStrokeDashes() {
+            return strokeDashes;
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.binary;
+
+import de.saxsys.svgfx.core.SVGException;
+import de.saxsys.svgfx.core.canvas.SVGGraphicsRenderer;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.FillRule;
+import javafx.scene.transform.Affine;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Draws a {@link SVGCompiledScene} onto a {@link GraphicsContext} by replaying its operations directly, so neither the svg elements nor the JavaFX nodes
+ * need to be created or retained. This allows the same compiled scene to be used for nodes, using the {@link SVGSceneLoader}, for drawing and for
+ * serialization.
+ * <p>
+ * The same limitations as for the {@link SVGGraphicsRenderer} apply, stroke dashes and stroke types are ignored.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SVGSceneRenderer {
+
+    // region Constructor
+
+    /**
+     * Private constructor, since this class only provides static methods.
+     */
+    private SVGSceneRenderer() {
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Draws the given {@link SVGCompiledScene} onto the given context. The state of the context is the same after this method has been called.
+     *
+     * @param scene   the {@link SVGCompiledScene} to draw, must not be null.
+     * @param context the {@link GraphicsContext} to draw onto, must not be null.
+     *
+     * @throws SVGException             if the scene is not valid.
+     * @throws IllegalArgumentException if either scene or context is null.
+     */
+    public static void draw(final SVGCompiledScene scene, final GraphicsContext context) throws SVGException, IllegalArgumentException {
+        if (scene == null) {
+            throw new IllegalArgumentException("given scene must not be null");
+        }
+
+        if (context == null) {
+            throw new IllegalArgumentException("given context must not be null");
+        }
+
+        context.save();
+
+        try {
+            SVGSceneReader.read(scene, new Painter(context));
+        } finally {
+            context.restore();
+        }
+    }
+
+    // endregion
+
+    // region Class
+
+    /**
+     * Draws the nodes passed by the {@link SVGSceneReader} onto a {@link GraphicsContext}.
+     */
+    private static final class Painter implements SVGSceneVisitor {
+
+        /**
+         * The context to draw onto.
+         */
+        private final GraphicsContext context;
+
+        /**
+         * The transforms of the context before each clip node began, used to restore them since the path is not part of the saved state.
+         */
+        private final Deque<Affine> clipTransforms = new ArrayDeque<>();
+
+        /**
+         * Determines if the current nodes belong to a clip, in which case their geometry is only appended to the current path.
+         */
+        private boolean clipping;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param context the {@link GraphicsContext} to draw onto.
+         */
+        private Painter(final GraphicsContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public void beginNode(final int code, final SVGSceneReader.Geometry geometry) {
+            if (clipping) {
+                clipTransforms.push(context.getTransform());
+            } else {
+                context.save();
+            }
+        }
+
+        @Override
+        public void layout(final double x, final double y) {
+            context.translate(x, y);
+        }
+
+        @Override
+        public void transform(final double mxx, final double mxy, final double tx, final double myx, final double myy, final double ty) {
+            context.transform(mxx, myx, mxy, myy, tx, ty);
+        }
+
+        @Override
+        public void opacity(final double opacity) {
+            if (!clipping) {
+                context.setGlobalAlpha(context.getGlobalAlpha() * opacity);
+            }
+        }
+
+        @Override
+        public boolean beginClip() {
+            // clips of nodes which belong to a clip are ignored
+            if (clipping) {
+                return false;
+            }
+
+            context.beginPath();
+            clipping = true;
+
+            return true;
+        }
+
+        @Override
+        public void endClip() {
+            clipping = false;
+            context.setFillRule(FillRule.NON_ZERO);
+            context.clip();
+        }
+
+        @Override
+        public void shape(final SVGSceneReader.Geometry geometry, final SVGSceneReader.ShapeStyle style) {
+            if (clipping) {
+                appendGeometry(geometry);
+            } else {
+                drawShape(geometry, style);
+            }
+        }
+
+        @Override
+        public void endNode() {
+            if (clipping) {
+                context.setTransform(clipTransforms.pop());
+            } else {
+                context.restore();
+            }
+        }
+
+        /**
+         * Appends the given geometry to the current path of the context.
+         *
+         * @param geometry the {@link SVGSceneReader.Geometry} to append.
+         */
+        private void appendGeometry(final SVGSceneReader.Geometry geometry) {
+            switch (geometry.getCode()) {
+                case SVGBinaryFormat.NODE_RECTANGLE:
+                    SVGGraphicsRenderer.appendRectangle(geometry.getValue(0),
+                                                        geometry.getValue(1),
+                                                        geometry.getValue(2),
+                                                        geometry.getValue(3),
+                                                        geometry.getValue(4),
+                                                        geometry.getValue(5),
+                                                        context);
+                    break;
+                case SVGBinaryFormat.NODE_CIRCLE:
+                    SVGGraphicsRenderer.appendEllipse(geometry.getValue(0), geometry.getValue(1), geometry.getValue(2), geometry.getValue(2), context);
+                    break;
+                case SVGBinaryFormat.NODE_ELLIPSE:
+                    SVGGraphicsRenderer.appendEllipse(geometry.getValue(0), geometry.getValue(1), geometry.getValue(2), geometry.getValue(3), context);
+                    break;
+                case SVGBinaryFormat.NODE_LINE:
+                    context.moveTo(geometry.getValue(0), geometry.getValue(1));
+                    context.lineTo(geometry.getValue(2), geometry.getValue(3));
+                    break;
+                case SVGBinaryFormat.NODE_POLYGON:
+                case SVGBinaryFormat.NODE_POLYLINE: {
+                    final int length = geometry.getLength();
+
+                    for (int i = 0; i + 1 < length; i += 2) {
+                        if (i == 0) {
+                            context.moveTo(geometry.getValue(i), geometry.getValue(i + 1));
+                        } else {
+                            context.lineTo(geometry.getValue(i), geometry.getValue(i + 1));
+                        }
+                    }
+
+                    if (geometry.getCode() == SVGBinaryFormat.NODE_POLYGON && length >= 2) {
+                        context.closePath();
+                    }
+                    break;
+                }
+                default:
+                    context.appendSVGPath(geometry.getContent());
+                    break;
+            }
+        }
+
+        /**
+         * Fills and strokes the given geometry using the given style.
+         *
+         * @param geometry the {@link SVGSceneReader.Geometry} to draw.
+         * @param style    the {@link SVGSceneReader.ShapeStyle} to use.
+         */
+        private void drawShape(final SVGSceneReader.Geometry geometry, final SVGSceneReader.ShapeStyle style) {
+            final Paint fill = geometry.getCode() == SVGBinaryFormat.NODE_LINE ? null : style.getFill();
+            final Paint stroke = style.getStrokeWidth() <= 0.0d ? null : style.getStroke();
+
+            if (fill == null && stroke == null) {
+                return;
+            }
+
+            context.beginPath();
+            appendGeometry(geometry);
+
+            if (fill != null) {
+                context.setFillRule(geometry.getCode() == SVGBinaryFormat.NODE_PATH ? geometry.getFillRule() : FillRule.NON_ZERO);
+                context.setFill(fill);
+                context.fill();
+            }
+
+            // the stroke type and the dashes are not supported by a graphics context
+            if (stroke != null) {
+                context.setStroke(stroke);
+                context.setLineWidth(style.getStrokeWidth());
+                context.setLineCap(style.getStrokeLineCap());
+                context.setLineJoin(style.getStrokeLineJoin());
+                context.setMiterLimit(style.getStrokeMiterLimit());
+                context.stroke();
+            }
+        }
+    }
+
+    // endregion
+}
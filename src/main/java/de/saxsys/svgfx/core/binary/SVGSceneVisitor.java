@@ -0,0 +1,90 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core.binary;
+
+import de.saxsys.svgfx.core.SVGException;
+
+/**
+ * Receives the nodes of a {@link SVGCompiledScene} read by the {@link SVGSceneReader}. For each node {@link #beginNode(int, SVGSceneReader.Geometry)} is
+ * called first, followed by its layout position, its transforms, its opacity and its clip. Afterwards the children of a group or the style of a shape are
+ * passed, before {@link #endNode()} is called.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+interface SVGSceneVisitor {
+
+    /**
+     * Called when a node begins.
+     *
+     * @param code     the op code of the node as defined by the {@link SVGBinaryFormat}.
+     * @param geometry the {@link SVGSceneReader.Geometry} of the node, null if the node is a group.
+     *
+     * @throws SVGException if the node can not be handled.
+     */
+    void beginNode(final int code, final SVGSceneReader.Geometry geometry) throws SVGException;
+
+    /**
+     * Called if the current node has a layout position.
+     *
+     * @param x the x coordinate of the layout position.
+     * @param y the y coordinate of the layout position.
+     */
+    void layout(final double x, final double y);
+
+    /**
+     * Called for each transform of the current node in the order in which they are applied.
+     *
+     * @param mxx the x coordinate scaling element.
+     * @param mxy the xy coordinate element.
+     * @param tx  the x coordinate translation element.
+     * @param myx the yx coordinate element.
+     * @param myy the y coordinate scaling element.
+     * @param ty  the y coordinate translation element.
+     */
+    void transform(final double mxx, final double mxy, final double tx, final double myx, final double myy, final double ty);
+
+    /**
+     * Called if the current node has an opacity.
+     *
+     * @param opacity the opacity.
+     */
+    void opacity(final double opacity);
+
+    /**
+     * Called if the current node has a clip, before the clip node is read.
+     *
+     * @return true if the clip node should be passed to this visitor followed by {@link #endClip()}, false if it should be skipped.
+     */
+    boolean beginClip();
+
+    /**
+     * Called after the clip node of the current node has been passed to this visitor.
+     */
+    void endClip();
+
+    /**
+     * Called once all node properties of the current shape have been passed.
+     *
+     * @param geometry the {@link SVGSceneReader.Geometry} of the shape.
+     * @param style    the {@link SVGSceneReader.ShapeStyle} of the shape.
+     *
+     * @throws SVGException if the shape can not be handled.
+     */
+    void shape(final SVGSceneReader.Geometry geometry, final SVGSceneReader.ShapeStyle style) throws SVGException;
+
+    /**
+     * Called when the current node and all its descendants have been passed.
+     */
+    void endNode();
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.canvas;
+
+import de.saxsys.svgfx.core.SVGException;
+import de.saxsys.svgfx.core.SVGTemplate;
+import de.saxsys.svgfx.core.binary.SVGCompiledScene;
+import de.saxsys.svgfx.core.binary.SVGSceneRenderer;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+
+/**
+ * A resizable {@link Canvas} showing the content of a svg document. Instead of adding one node per svg element to the scene graph, the content is drawn
+ * using the {@link SVGGraphicsRenderer}, so static artwork with a lot of elements only costs a single node. The content is redrawn each time the canvas is
+ * resized, its preferred size is the size needed to show the content completely. When created from a {@link SVGTemplate}, the compiled scene of the template
+ * is drawn directly, so no nodes are retained at all.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public class SVGCanvas extends Canvas {
+
+    // region Fields
+
+    /**
+     * The nodes describing the content, which are never part of a scene graph, null if the {@link #scene} is used.
+     */
+    private final Node content;
+
+    /**
+     * The compiled scene describing the content, null if the {@link #content} is used.
+     */
+    private final SVGCompiledScene scene;
+
+    /**
+     * The bounds of the content.
+     */
+    private final Bounds bounds;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance showing the content of the given template.
+     *
+     * @param template the {@link SVGTemplate} to show, must not be null.
+     *
+     * @throws IllegalArgumentException if the given template is null.
+     */
+    public SVGCanvas(final SVGTemplate template) throws IllegalArgumentException {
+        if (template == null) {
+            throw new IllegalArgumentException("given template must not be null");
+        }
+
+        this.content = null;
+        this.scene = template.getScene();
+        // the nodes are only needed once to determine the bounds
+        this.bounds = template.instantiate().getBoundsInLocal();
+
+        addListeners();
+    }
+
+    /**
+     * Creates a new instance showing the given content.
+     *
+     * @param content the {@link Node} to show, must not be null and must not be part of a scene graph.
+     *
+     * @throws IllegalArgumentException if the given content is null.
+     */
+    public SVGCanvas(final Node content) throws IllegalArgumentException {
+        if (content == null) {
+            throw new IllegalArgumentException("given content must not be null");
+        }
+
+        this.content = content;
+        this.scene = null;
+        this.bounds = content.getBoundsInLocal();
+
+        addListeners();
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Clears the canvas and draws the content.
+     *
+     * @throws IllegalStateException if the compiled scene of the template can not be drawn.
+     */
+    public void draw() throws IllegalStateException {
+        final GraphicsContext context = getGraphicsContext2D();
+
+        context.clearRect(0.0d, 0.0d, getWidth(), getHeight());
+
+        if (scene != null) {
+            try {
+                SVGSceneRenderer.draw(scene, context);
+            } catch (final SVGException e) {
+                throw new IllegalStateException("Could not draw the compiled scene", e);
+            }
+        } else {
+            SVGGraphicsRenderer.draw(content, context);
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Adds the listeners which redraw the content whenever the size changes.
+     */
+    private void addListeners() {
+        widthProperty().addListener(observable -> draw());
+        heightProperty().addListener(observable -> draw());
+    }
+
+    // endregion
+
+    // region Override Canvas
+
+    @Override
+    public boolean isResizable() {
+        return true;
+    }
+
+    @Override
+    public double minWidth(final double height) {
+        return 0.0d;
+    }
+
+    @Override
+    public double minHeight(final double width) {
+        return 0.0d;
+    }
+
+    @Override
+    public double prefWidth(final double height) {
+        return Math.max(0.0d, bounds.getMaxX());
+    }
+
+    @Override
+    public double prefHeight(final double width) {
+        return Math.max(0.0d, bounds.getMaxY());
+    }
+
+    @Override
+    public double maxWidth(final double height) {
+        return Double.MAX_VALUE;
+    }
+
+    @Override
+    public double maxHeight(final double width) {
+        return Double.MAX_VALUE;
+    }
+
+    @Override
+    public void resize(final double width, final double height) {
+        setWidth(width);
+        setHeight(height);
+    }
+
+    // endregion
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.canvas;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Ellipse;
+import javafx.scene.shape.FillRule;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Polygon;
+import javafx.scene.shape.Polyline;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.Shape;
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.Transform;
+
+import java.util.List;
+
+/**
+ * Draws the nodes created from a svg document onto a {@link GraphicsContext}, which avoids the overhead each node has when it is part of a scene graph. The
+ * nodes are only used as description of what needs to be drawn, so they must not be part of a scene graph themselves. Groups, the shapes created by the
+ * svg elements, paints including gradients, transforms, opacity and clips are supported.
+ * <p>
+ * The {@link GraphicsContext} always strokes centered and does not support dashes, so {@link Shape#getStrokeType()} and {@link Shape#getStrokeDashArray()}
+ * are ignored.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SVGGraphicsRenderer {
+
+    // region Constants
+
+    /**
+     * The distance of the control points of a cubic bezier curve approximating a quarter of a circle with a radius of 1.
+     */
+    private static final double KAPPA = 0.5522847498307936d;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Private constructor, since this class only provides static methods.
+     */
+    private SVGGraphicsRenderer() {
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Draws the given node and all its descendants onto the given context. The state of the context is the same after this method has been called.
+     *
+     * @param node    the {@link Node} to draw, must not be null.
+     * @param context the {@link GraphicsContext} to draw onto, must not be null.
+     *
+     * @throws IllegalArgumentException if either node or context is null.
+     */
+    public static void draw(final Node node, final GraphicsContext context) throws IllegalArgumentException {
+        if (node == null) {
+            throw new IllegalArgumentException("given node must not be null");
+        }
+
+        if (context == null) {
+            throw new IllegalArgumentException("given context must not be null");
+        }
+
+        drawNode(node, context);
+    }
+
+    /**
+     * Appends a rectangle with optionally rounded corners to the current path of the given context, the same way a {@link Rectangle} would look like.
+     *
+     * @param x         the x position.
+     * @param y         the y position.
+     * @param width     the width.
+     * @param height    the height.
+     * @param arcWidth  the horizontal diameter of the arc at the corners.
+     * @param arcHeight the vertical diameter of the arc at the corners.
+     * @param context   the {@link GraphicsContext} to use, must not be null.
+     */
+    public static void appendRectangle(final double x,
+                                       final double y,
+                                       final double width,
+                                       final double height,
+                                       final double arcWidth,
+                                       final double arcHeight,
+                                       final GraphicsContext context) {
+        final double radiusX = Math.min(arcWidth / 2.0d, width / 2.0d);
+        final double radiusY = Math.min(arcHeight / 2.0d, height / 2.0d);
+
+        if (radiusX <= 0.0d || radiusY <= 0.0d) {
+            context.rect(x, y, width, height);
+            return;
+        }
+
+        final double controlX = radiusX * KAPPA;
+        final double controlY = radiusY * KAPPA;
+        final double right = x + width;
+        final double bottom = y + height;
+
+        context.moveTo(x + radiusX, y);
+        context.lineTo(right - radiusX, y);
+        context.bezierCurveTo(right - radiusX + controlX, y, right, y + radiusY - controlY, right, y + radiusY);
+        context.lineTo(right, bottom - radiusY);
+        context.bezierCurveTo(right, bottom - radiusY + controlY, right - radiusX + controlX, bottom, right - radiusX, bottom);
+        context.lineTo(x + radiusX, bottom);
+        context.bezierCurveTo(x + radiusX - controlX, bottom, x, bottom - radiusY + controlY, x, bottom - radiusY);
+        context.lineTo(x, y + radiusY);
+        context.bezierCurveTo(x, y + radiusY - controlY, x + radiusX - controlX, y, x + radiusX, y);
+        context.closePath();
+    }
+
+    /**
+     * Appends an ellipse using four cubic bezier curves to the current path of the given context.
+     *
+     * @param centerX the x position of the center.
+     * @param centerY the y position of the center.
+     * @param radiusX the horizontal radius.
+     * @param radiusY the vertical radius.
+     * @param context the {@link GraphicsContext} to use, must not be null.
+     */
+    public static void appendEllipse(final double centerX, final double centerY, final double radiusX, final double radiusY, final GraphicsContext context) {
+        final double controlX = radiusX * KAPPA;
+        final double controlY = radiusY * KAPPA;
+
+        context.moveTo(centerX + radiusX, centerY);
+        context.bezierCurveTo(centerX + radiusX, centerY + controlY, centerX + controlX, centerY + radiusY, centerX, centerY + radiusY);
+        context.bezierCurveTo(centerX - controlX, centerY + radiusY, centerX - radiusX, centerY + controlY, centerX - radiusX, centerY);
+        context.bezierCurveTo(centerX - radiusX, centerY - controlY, centerX - controlX, centerY - radiusY, centerX, centerY - radiusY);
+        context.bezierCurveTo(centerX + controlX, centerY - radiusY, centerX + radiusX, centerY - controlY, centerX + radiusX, centerY);
+        context.closePath();
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Draws the given node and all its descendants.
+     *
+     * @param node    the {@link Node} to draw.
+     * @param context the {@link GraphicsContext} to draw onto.
+     */
+    private static void drawNode(final Node node, final GraphicsContext context) {
+        if (!node.isVisible() || node.getOpacity() <= 0.0d) {
+            return;
+        }
+
+        context.save();
+
+        applyTransforms(node, context);
+
+        if (node.getOpacity() < 1.0d) {
+            context.setGlobalAlpha(context.getGlobalAlpha() * node.getOpacity());
+        }
+
+        if (node.getClip() != null) {
+            applyClip(node.getClip(), context);
+        }
+
+        if (node instanceof Group) {
+            for (final Node child : ((Group) node).getChildren()) {
+                drawNode(child, context);
+            }
+        } else if (node instanceof Shape) {
+            drawShape((Shape) node, context);
+        }
+
+        context.restore();
+    }
+
+    /**
+     * Applies the layout position and the transforms of the given node to the given context, in the same order as JavaFX does.
+     *
+     * @param node    the {@link Node} whose transforms are applied.
+     * @param context the {@link GraphicsContext} to use.
+     */
+    private static void applyTransforms(final Node node, final GraphicsContext context) {
+        if (node.getLayoutX() != 0.0d || node.getLayoutY() != 0.0d) {
+            context.translate(node.getLayoutX(), node.getLayoutY());
+        }
+
+        final List<Transform> transforms = node.getTransforms();
+
+        for (final Transform transform : transforms) {
+            context.transform(transform.getMxx(), transform.getMyx(), transform.getMxy(), transform.getMyy(), transform.getTx(), transform.getTy());
+        }
+    }
+
+    /**
+     * Intersects the clip of the given context with the geometry of the given clip node.
+     *
+     * @param clip    the {@link Node} used as clip.
+     * @param context the {@link GraphicsContext} to use.
+     */
+    private static void applyClip(final Node clip, final GraphicsContext context) {
+        context.beginPath();
+        appendClip(clip, context);
+        context.setFillRule(FillRule.NON_ZERO);
+        context.clip();
+    }
+
+    /**
+     * Appends the geometry of the given clip node and its descendants to the current path of the given context. The path is transformed when it is appended,
+     * so the transform of the context is restored afterwards.
+     *
+     * @param clip    the {@link Node} used as clip.
+     * @param context the {@link GraphicsContext} to use.
+     */
+    private static void appendClip(final Node clip, final GraphicsContext context) {
+        final Affine transform = context.getTransform();
+
+        applyTransforms(clip, context);
+
+        if (clip instanceof Group) {
+            for (final Node child : ((Group) clip).getChildren()) {
+                appendClip(child, context);
+            }
+        } else if (clip instanceof Shape) {
+            appendShape((Shape) clip, context);
+        }
+
+        context.setTransform(transform);
+    }
+
+    /**
+     * Fills and strokes the given shape.
+     *
+     * @param shape   the {@link Shape} to draw.
+     * @param context the {@link GraphicsContext} to draw onto.
+     */
+    private static void drawShape(final Shape shape, final GraphicsContext context) {
+        final Paint fill = shape instanceof Line ? null : shape.getFill();
+        final Paint stroke = shape.getStrokeWidth() > 0.0d ? shape.getStroke() : null;
+
+        if (fill == null && stroke == null) {
+            return;
+        }
+
+        context.beginPath();
+
+        if (!appendShape(shape, context)) {
+            return;
+        }
+
+        if (fill != null) {
+            context.setFillRule(shape instanceof SVGPath ? ((SVGPath) shape).getFillRule() : FillRule.NON_ZERO);
+            context.setFill(fill);
+            context.fill();
+        }
+
+        if (stroke != null) {
+            context.setStroke(stroke);
+            context.setLineWidth(shape.getStrokeWidth());
+            context.setLineCap(shape.getStrokeLineCap());
+            context.setLineJoin(shape.getStrokeLineJoin());
+            context.setMiterLimit(shape.getStrokeMiterLimit());
+            context.stroke();
+        }
+    }
+
+    /**
+     * Appends the geometry of the given shape to the current path of the given context.
+     *
+     * @param shape   the {@link Shape} whose geometry is appended.
+     * @param context the {@link GraphicsContext} to use.
+     *
+     * @return true if the shape is supported, otherwise false.
+     */
+    private static boolean appendShape(final Shape shape, final GraphicsContext context) {
+        if (shape instanceof SVGPath) {
+            context.appendSVGPath(((SVGPath) shape).getContent());
+        } else if (shape instanceof Rectangle) {
+            final Rectangle rectangle = (Rectangle) shape;
+            appendRectangle(rectangle.getX(),
+                            rectangle.getY(),
+                            rectangle.getWidth(),
+                            rectangle.getHeight(),
+                            rectangle.getArcWidth(),
+                            rectangle.getArcHeight(),
+                            context);
+        } else if (shape instanceof Circle) {
+            final Circle circle = (Circle) shape;
+            appendEllipse(circle.getCenterX(), circle.getCenterY(), circle.getRadius(), circle.getRadius(), context);
+        } else if (shape instanceof Ellipse) {
+            final Ellipse ellipse = (Ellipse) shape;
+            appendEllipse(ellipse.getCenterX(), ellipse.getCenterY(), ellipse.getRadiusX(), ellipse.getRadiusY(), context);
+        } else if (shape instanceof Line) {
+            final Line line = (Line) shape;
+            context.moveTo(line.getStartX(), line.getStartY());
+            context.lineTo(line.getEndX(), line.getEndY());
+        } else if (shape instanceof Polygon) {
+            appendPoints(((Polygon) shape).getPoints(), true, context);
+        } else if (shape instanceof Polyline) {
+            appendPoints(((Polyline) shape).getPoints(), false, context);
+        } else {
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Appends the given points as connected lines.
+     *
+     * @param points  the points, each x coordinate followed by its y coordinate.
+     * @param close   true if the last point should be connected with the first point.
+     * @param context the {@link GraphicsContext} to use.
+     */
+    private static void appendPoints(final List<Double> points, final boolean close, final GraphicsContext context) {
+        for (int i = 0; i + 1 < points.size(); i += 2) {
+            if (i == 0) {
+                context.moveTo(points.get(i), points.get(i + 1));
+            } else {
+                context.lineTo(points.get(i), points.get(i + 1));
+            }
+        }
+
+        if (close && points.size() >= 2) {
+            context.closePath();
+        }
+    }
+
+    // endregion
+}
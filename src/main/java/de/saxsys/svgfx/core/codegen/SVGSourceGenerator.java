@@ -0,0 +1,803 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.codegen;
+
+import de.saxsys.svgfx.core.SVGException;
+import de.saxsys.svgfx.core.SVGParser;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Ellipse;
+import javafx.scene.shape.FillRule;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Polygon;
+import javafx.scene.shape.Polyline;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.Shape;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.shape.StrokeLineJoin;
+import javafx.scene.shape.StrokeType;
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.Transform;
+import org.xml.sax.SAXParseException;
+
+import javax.lang.model.SourceVersion;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates Java source code of a class which creates the same nodes as the result of a {@link SVGParser}. The generated class has a static
+ * {@code create()} method returning a new {@link Group}, all paints are stored as constants and transforms are folded into a single {@link
+ * javafx.scene.transform.Affine} each, so using the class at runtime does not require any xml, css or path parsing.
+ * <p>
+ * The generator can be run at build time, e.g. using the exec-maven-plugin in the generate-sources phase, by calling {@link #main(String[])} with the output
+ * directory, the package name and the svg files. Since the limits of a class file apply to the generated code, it is intended for icons and other small
+ * documents.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SVGSourceGenerator {
+
+    // region Constants
+
+    /**
+     * The maximum amount of children that are added to a group in one generated method.
+     */
+    private static final int CHILDREN_PER_METHOD = 256;
+
+    /**
+     * The maximum length of a string literal, longer strings are split.
+     */
+    private static final int MAXIMUM_LITERAL_LENGTH = 8192;
+
+    /**
+     * The classes imported by the generated code.
+     */
+    private static final List<Class<?>> IMPORTS = Arrays.asList(Group.class,
+                                                                Color.class,
+                                                                CycleMethod.class,
+                                                                LinearGradient.class,
+                                                                Paint.class,
+                                                                RadialGradient.class,
+                                                                Stop.class,
+                                                                Circle.class,
+                                                                Ellipse.class,
+                                                                FillRule.class,
+                                                                Line.class,
+                                                                Polygon.class,
+                                                                Polyline.class,
+                                                                Rectangle.class,
+                                                                SVGPath.class,
+                                                                StrokeLineCap.class,
+                                                                StrokeLineJoin.class,
+                                                                StrokeType.class,
+                                                                Affine.class);
+
+    /**
+     * The suffixes of svg files, which are not part of the generated class name.
+     */
+    private static final List<String> SVG_SUFFIXES = Arrays.asList(".svg", ".svgz");
+
+    /**
+     * The indentation used in the generated code.
+     */
+    private static final String INDENT = "    ";
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Private constructor, since this class only provides static methods.
+     */
+    private SVGSourceGenerator() {
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Generates a class for each given svg file.
+     *
+     * @param arguments the output directory, the package name and at least one svg file.
+     *
+     * @throws IOException  if a file can not be read or written.
+     * @throws SVGException if a file can not be parsed or its result can not be generated.
+     */
+    public static void main(final String[] arguments) throws IOException, SVGException {
+        if (arguments.length < 3) {
+            throw new IllegalArgumentException(String.format("Usage: %s <output directory> <package name> <svg file>...", SVGSourceGenerator.class.getName()));
+        }
+
+        final Path outputDirectory = Paths.get(arguments[0]);
+
+        for (int i = 2; i < arguments.length; i++) {
+            generate(Paths.get(arguments[i]), outputDirectory, arguments[1]);
+        }
+    }
+
+    /**
+     * Parses the given svg file and writes the source of the generated class into the given output directory, using the directory structure of the package.
+     * The name of the class is derived from the name of the file.
+     *
+     * @param file            the svg file, must not be null.
+     * @param outputDirectory the root directory of the generated sources, must not be null.
+     * @param packageName     the package of the generated class, may be empty for the default package but must not be null.
+     *
+     * @return the path of the generated source file.
+     *
+     * @throws IOException              if the file can not be read or the source can not be written.
+     * @throws SVGException             if the file can not be parsed or its result can not be generated.
+     * @throws IllegalArgumentException if any of the given values is null.
+     */
+    public static Path generate(final Path file, final Path outputDirectory, final String packageName) throws IOException, SVGException, IllegalArgumentException {
+        if (file == null) {
+            throw new IllegalArgumentException("given file must not be null");
+        }
+
+        if (outputDirectory == null) {
+            throw new IllegalArgumentException("given outputDirectory must not be null");
+        }
+
+        if (packageName == null) {
+            throw new IllegalArgumentException("given packageName must not be null");
+        }
+
+        final SVGParser parser = new SVGParser();
+
+        try {
+            parser.parse(file);
+        } catch (final SAXParseException e) {
+            throw new SVGException(String.format("Could not parse file [%s]", file), e);
+        }
+
+        final String className = createClassName(file.getFileName().toString());
+
+        Path directory = outputDirectory;
+        if (!packageName.isEmpty()) {
+            directory = directory.resolve(packageName.replace('.', '/'));
+        }
+        Files.createDirectories(directory);
+
+        final Path result = directory.resolve(className + ".java");
+
+        Files.write(result, generate(parser.getResult(), packageName, className, file.getFileName().toString()).getBytes(StandardCharsets.UTF_8));
+
+        return result;
+    }
+
+    /**
+     * Generates the source of a class which creates the given node.
+     *
+     * @param node        the {@link Node} to generate, must not be null.
+     * @param packageName the package of the generated class, may be empty for the default package but must not be null.
+     * @param className   the simple name of the generated class, must be a valid java identifier.
+     * @param source      the description of the source of the node, which is added to the documentation of the class, may be null.
+     *
+     * @return the source of the generated class.
+     *
+     * @throws SVGException             if the node or one of its descendants is of a type or uses a paint that is not supported.
+     * @throws IllegalArgumentException if the node or the package name is null or the class name is not a valid java identifier.
+     */
+    public static String generate(final Node node, final String packageName, final String className, final String source) throws SVGException, IllegalArgumentException {
+        if (node == null) {
+            throw new IllegalArgumentException("given node must not be null");
+        }
+
+        if (packageName == null) {
+            throw new IllegalArgumentException("given packageName must not be null");
+        }
+
+        if (!SourceVersion.isName(className) || className.contains(".")) {
+            throw new IllegalArgumentException(String.format("given className [%s] is not a valid java identifier", className));
+        }
+
+        if (isImported(className)) {
+            throw new IllegalArgumentException(String.format("given className [%s] is already used by an import of the generated code", className));
+        }
+
+        final Context context = new Context();
+        final String rootMethod = generateNode(node, context);
+
+        final StringBuilder result = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            result.append("package ").append(packageName).append(";\n\n");
+        }
+
+        for (final Class<?> type : IMPORTS) {
+            result.append("import ").append(type.getName()).append(";\n");
+        }
+
+        result.append("\n/**\n")
+              .append(" * Creates the nodes of ").append(source != null ? escapeComment(source) : "a svg document").append(".\n")
+              .append(" * <p>\n")
+              .append(" * Generated by ").append(SVGSourceGenerator.class.getName()).append(", do not edit.\n")
+              .append(" */\n")
+              .append("public final class ").append(className).append(" {\n\n");
+
+        for (final String paint : context.paints) {
+            result.append(paint);
+        }
+        if (!context.paints.isEmpty()) {
+            result.append('\n');
+        }
+
+        result.append(INDENT).append("private ").append(className).append("() {\n")
+              .append(INDENT).append("}\n\n")
+              .append(INDENT).append("/**\n")
+              .append(INDENT).append(" * Creates new nodes, each call returns a new instance.\n")
+              .append(INDENT).append(" *\n")
+              .append(INDENT).append(" * @return a new {@link Group}.\n")
+              .append(INDENT).append(" */\n")
+              .append(INDENT).append("public static Group create() {\n");
+
+        if (node instanceof Group) {
+            result.append(INDENT).append(INDENT).append("return ").append(rootMethod).append("();\n");
+        } else {
+            result.append(INDENT).append(INDENT).append("return new Group(").append(rootMethod).append("());\n");
+        }
+
+        result.append(INDENT).append("}\n");
+
+        for (final String method : context.methods) {
+            result.append('\n').append(method);
+        }
+
+        result.append("}\n");
+
+        return result.toString();
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Creates the name of a class based on the given file name, e.g. "status-icon.svg" results in "StatusIcon".
+     *
+     * @param fileName the name of the file.
+     *
+     * @return a valid java class name.
+     */
+    private static String createClassName(final String fileName) {
+        String name = fileName;
+        for (final String suffix : SVG_SUFFIXES) {
+            if (name.toLowerCase().endsWith(suffix)) {
+                name = name.substring(0, name.length() - suffix.length());
+                break;
+            }
+        }
+
+        final StringBuilder result = new StringBuilder();
+        boolean upperCase = true;
+
+        for (final char character : name.toCharArray()) {
+            if (Character.isJavaIdentifierPart(character)) {
+                result.append(upperCase ? Character.toUpperCase(character) : character);
+                upperCase = false;
+            } else {
+                upperCase = true;
+            }
+        }
+
+        if (result.length() == 0 || !Character.isJavaIdentifierStart(result.charAt(0)) || !SourceVersion.isName(result)) {
+            result.insert(0, "SVG");
+        }
+
+        if (isImported(result.toString())) {
+            result.append("SVG");
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Determines if the given simple name is used by one of the {@link #IMPORTS}.
+     *
+     * @param name the simple name.
+     *
+     * @return true if the name is used by an import, otherwise false.
+     */
+    private static boolean isImported(final String name) {
+        for (final Class<?> type : IMPORTS) {
+            if (type.getSimpleName().equals(name)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Generates a method which creates the given node and returns the name of the method.
+     *
+     * @param node    the {@link Node} to generate.
+     * @param context the {@link Context} to use.
+     *
+     * @return the name of the generated method.
+     *
+     * @throws SVGException if the node or one of its descendants is of a type or uses a paint that is not supported.
+     */
+    private static String generateNode(final Node node, final Context context) throws SVGException {
+        final String name = context.nextMethodName("node");
+        final StringBuilder body = new StringBuilder();
+        final String type;
+
+        if (node instanceof Group) {
+            type = "Group";
+            statement(body, "final Group node = new Group()");
+        } else if (node instanceof Rectangle) {
+            final Rectangle rectangle = (Rectangle) node;
+            type = "Rectangle";
+            statement(body, String.format("final Rectangle node = new Rectangle(%s, %s, %s, %s)",
+                                          literal(rectangle.getX()),
+                                          literal(rectangle.getY()),
+                                          literal(rectangle.getWidth()),
+                                          literal(rectangle.getHeight())));
+            if (rectangle.getArcWidth() != 0.0d) {
+                statement(body, String.format("node.setArcWidth(%s)", literal(rectangle.getArcWidth())));
+            }
+            if (rectangle.getArcHeight() != 0.0d) {
+                statement(body, String.format("node.setArcHeight(%s)", literal(rectangle.getArcHeight())));
+            }
+        } else if (node instanceof Circle) {
+            final Circle circle = (Circle) node;
+            type = "Circle";
+            statement(body, String.format("final Circle node = new Circle(%s, %s, %s)", literal(circle.getCenterX()), literal(circle.getCenterY()), literal(circle.getRadius())));
+        } else if (node instanceof Ellipse) {
+            final Ellipse ellipse = (Ellipse) node;
+            type = "Ellipse";
+            statement(body, String.format("final Ellipse node = new Ellipse(%s, %s, %s, %s)",
+                                          literal(ellipse.getCenterX()),
+                                          literal(ellipse.getCenterY()),
+                                          literal(ellipse.getRadiusX()),
+                                          literal(ellipse.getRadiusY())));
+        } else if (node instanceof Line) {
+            final Line line = (Line) node;
+            type = "Line";
+            statement(body, String.format("final Line node = new Line(%s, %s, %s, %s)",
+                                          literal(line.getStartX()),
+                                          literal(line.getStartY()),
+                                          literal(line.getEndX()),
+                                          literal(line.getEndY())));
+        } else if (node instanceof Polygon) {
+            type = "Polygon";
+            statement(body, String.format("final Polygon node = new Polygon(%s)", literal(((Polygon) node).getPoints())));
+        } else if (node instanceof Polyline) {
+            type = "Polyline";
+            statement(body, String.format("final Polyline node = new Polyline(%s)", literal(((Polyline) node).getPoints())));
+        } else if (node instanceof SVGPath) {
+            final SVGPath path = (SVGPath) node;
+            type = "SVGPath";
+            statement(body, "final SVGPath node = new SVGPath()");
+            statement(body, String.format("node.setContent(%s)", literal(path.getContent())));
+            if (path.getFillRule() != FillRule.NON_ZERO) {
+                statement(body, String.format("node.setFillRule(FillRule.%s)", path.getFillRule().name()));
+            }
+        } else {
+            throw new SVGException(String.format("Node of type [%s] can not be generated", node.getClass().getName()));
+        }
+
+        generateNodeProperties(node, body, context);
+
+        if (node instanceof Shape) {
+            generateShapeProperties((Shape) node, body, context);
+        }
+
+        if (node instanceof Group) {
+            generateChildren(((Group) node).getChildren(), body, context);
+        }
+
+        statement(body, "return node");
+
+        context.methods.add(method("private static " + type + " " + name + "()", body));
+
+        return name;
+    }
+
+    /**
+     * Generates the code which adds the given children to the group named "node".
+     *
+     * @param children the children to generate.
+     * @param body     the body of the method creating the group.
+     * @param context  the {@link Context} to use.
+     *
+     * @throws SVGException if one of the children can not be generated.
+     */
+    private static void generateChildren(final List<Node> children, final StringBuilder body, final Context context) throws SVGException {
+        if (children.size() <= CHILDREN_PER_METHOD) {
+            for (final Node child : children) {
+                statement(body, String.format("node.getChildren().add(%s())", generateNode(child, context)));
+            }
+            return;
+        }
+
+        // large groups are split so that no generated method exceeds the size limit of the class file format
+        for (int start = 0; start < children.size(); start += CHILDREN_PER_METHOD) {
+            final String name = context.nextMethodName("children");
+            final StringBuilder childrenBody = new StringBuilder();
+
+            for (final Node child : children.subList(start, Math.min(start + CHILDREN_PER_METHOD, children.size()))) {
+                statement(childrenBody, String.format("node.getChildren().add(%s())", generateNode(child, context)));
+            }
+
+            context.methods.add(method("private static void " + name + "(final Group node)", childrenBody));
+            statement(body, String.format("%s(node)", name));
+        }
+    }
+
+    /**
+     * Generates the code which applies the properties every node supports.
+     *
+     * @param node    the {@link Node} whose properties are generated.
+     * @param body    the body of the method creating the node.
+     * @param context the {@link Context} to use.
+     *
+     * @throws SVGException if the clip of the node can not be generated.
+     */
+    private static void generateNodeProperties(final Node node, final StringBuilder body, final Context context) throws SVGException {
+        if (!node.getTransforms().isEmpty()) {
+            Transform transform = node.getTransforms().get(0);
+            for (int i = 1; i < node.getTransforms().size(); i++) {
+                transform = transform.createConcatenation(node.getTransforms().get(i));
+            }
+
+            statement(body, String.format("node.getTransforms().add(new Affine(%s, %s, %s, %s, %s, %s))",
+                                          literal(transform.getMxx()),
+                                          literal(transform.getMxy()),
+                                          literal(transform.getTx()),
+                                          literal(transform.getMyx()),
+                                          literal(transform.getMyy()),
+                                          literal(transform.getTy())));
+        }
+        if (node.getLayoutX() != 0.0d) {
+            statement(body, String.format("node.setLayoutX(%s)", literal(node.getLayoutX())));
+        }
+        if (node.getLayoutY() != 0.0d) {
+            statement(body, String.format("node.setLayoutY(%s)", literal(node.getLayoutY())));
+        }
+        if (node.getOpacity() != 1.0d) {
+            statement(body, String.format("node.setOpacity(%s)", literal(node.getOpacity())));
+        }
+        if (node.getClip() != null) {
+            statement(body, String.format("node.setClip(%s())", generateNode(node.getClip(), context)));
+        }
+    }
+
+    /**
+     * Generates the code which applies the properties every shape supports. The fill and the stroke are always applied, since their defaults depend on
+     * the kind of the shape, e.g. lines and polylines are stroked but not filled by default. Other properties that have their default value are skipped.
+     *
+     * @param shape   the {@link Shape} whose properties are generated.
+     * @param body    the body of the method creating the shape.
+     * @param context the {@link Context} to use.
+     *
+     * @throws SVGException if a paint of the shape is not supported.
+     */
+    private static void generateShapeProperties(final Shape shape, final StringBuilder body, final Context context) throws SVGException {
+        statement(body, String.format("node.setFill(%s)", context.paintName(shape.getFill())));
+        statement(body, String.format("node.setStroke(%s)", context.paintName(shape.getStroke())));
+        if (shape.getStrokeWidth() != 1.0d) {
+            statement(body, String.format("node.setStrokeWidth(%s)", literal(shape.getStrokeWidth())));
+        }
+        if (shape.getStrokeType() != StrokeType.CENTERED) {
+            statement(body, String.format("node.setStrokeType(StrokeType.%s)", shape.getStrokeType().name()));
+        }
+        if (shape.getStrokeLineJoin() != StrokeLineJoin.MITER) {
+            statement(body, String.format("node.setStrokeLineJoin(StrokeLineJoin.%s)", shape.getStrokeLineJoin().name()));
+        }
+        if (shape.getStrokeLineCap() != StrokeLineCap.SQUARE) {
+            statement(body, String.format("node.setStrokeLineCap(StrokeLineCap.%s)", shape.getStrokeLineCap().name()));
+        }
+        if (shape.getStrokeMiterLimit() != 10.0d) {
+            statement(body, String.format("node.setStrokeMiterLimit(%s)", literal(shape.getStrokeMiterLimit())));
+        }
+        if (shape.getStrokeDashOffset() != 0.0d) {
+            statement(body, String.format("node.setStrokeDashOffset(%s)", literal(shape.getStrokeDashOffset())));
+        }
+        if (!shape.getStrokeDashArray().isEmpty()) {
+            final StringBuilder dashes = new StringBuilder();
+            for (final Double dash : shape.getStrokeDashArray()) {
+                dashes.append(dashes.length() == 0 ? "" : ", ").append(literal(dash));
+            }
+            statement(body, String.format("node.getStrokeDashArray().addAll(%s)", dashes));
+        }
+    }
+
+    /**
+     * Creates the expression which creates the given paint.
+     *
+     * @param paint the {@link Paint} to create.
+     *
+     * @return the expression creating the paint.
+     *
+     * @throws SVGException if the paint is not supported.
+     */
+    private static String paintExpression(final Paint paint) throws SVGException {
+        if (paint instanceof Color) {
+            return colorExpression((Color) paint);
+        } else if (paint instanceof LinearGradient) {
+            final LinearGradient gradient = (LinearGradient) paint;
+            return String.format("new LinearGradient(%s, %s, %s, %s, %b, CycleMethod.%s%s)",
+                                 literal(gradient.getStartX()),
+                                 literal(gradient.getStartY()),
+                                 literal(gradient.getEndX()),
+                                 literal(gradient.getEndY()),
+                                 gradient.isProportional(),
+                                 gradient.getCycleMethod().name(),
+                                 stopsExpression(gradient.getStops()));
+        } else if (paint instanceof RadialGradient) {
+            final RadialGradient gradient = (RadialGradient) paint;
+            return String.format("new RadialGradient(%s, %s, %s, %s, %s, %b, CycleMethod.%s%s)",
+                                 literal(gradient.getFocusAngle()),
+                                 literal(gradient.getFocusDistance()),
+                                 literal(gradient.getCenterX()),
+                                 literal(gradient.getCenterY()),
+                                 literal(gradient.getRadius()),
+                                 gradient.isProportional(),
+                                 gradient.getCycleMethod().name(),
+                                 stopsExpression(gradient.getStops()));
+        }
+
+        throw new SVGException(String.format("Paint of type [%s] can not be generated", paint.getClass().getName()));
+    }
+
+    /**
+     * Creates the arguments which create the given stops, each one starting with a comma.
+     *
+     * @param stops the {@link Stop}s to create.
+     *
+     * @return the arguments creating the stops.
+     */
+    private static String stopsExpression(final List<Stop> stops) {
+        final StringBuilder result = new StringBuilder();
+
+        for (final Stop stop : stops) {
+            result.append(String.format(",\n%s%s%snew Stop(%s, %s)", INDENT, INDENT, INDENT, literal(stop.getOffset()), colorExpression(stop.getColor())));
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Creates the expression which creates the given color.
+     *
+     * @param color the {@link Color} to create.
+     *
+     * @return the expression creating the color.
+     */
+    private static String colorExpression(final Color color) {
+        return String.format("new Color(%s, %s, %s, %s)", literal(color.getRed()), literal(color.getGreen()), literal(color.getBlue()), literal(color.getOpacity()));
+    }
+
+    /**
+     * Creates the literal of the given value.
+     *
+     * @param value the value.
+     *
+     * @return the literal of the value.
+     */
+    private static String literal(final double value) {
+        if (Double.isNaN(value)) {
+            return "Double.NaN";
+        }
+
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "Double.POSITIVE_INFINITY" : "Double.NEGATIVE_INFINITY";
+        }
+
+        return Double.toString(value) + "d";
+    }
+
+    /**
+     * Creates the literals of the given values separated by comma.
+     *
+     * @param values the values.
+     *
+     * @return the literals of the values.
+     */
+    private static String literal(final List<Double> values) {
+        final StringBuilder result = new StringBuilder();
+
+        for (final Double value : values) {
+            result.append(result.length() == 0 ? "" : ", ").append(literal(value));
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Creates the expression of the given string, long strings are split into several literals which are joined at runtime.
+     *
+     * @param value the value, may be null.
+     *
+     * @return the expression of the string.
+     */
+    private static String literal(final String value) {
+        if (value == null) {
+            return "null";
+        }
+
+        if (value.length() <= MAXIMUM_LITERAL_LENGTH) {
+            return quote(value);
+        }
+
+        // the compiler would join constant literals again, so a builder is used to avoid exceeding the size limit of a constant
+        final StringBuilder result = new StringBuilder("new StringBuilder(").append(value.length()).append(')');
+
+        for (int start = 0; start < value.length(); start += MAXIMUM_LITERAL_LENGTH) {
+            result.append(".append(").append(quote(value.substring(start, Math.min(start + MAXIMUM_LITERAL_LENGTH, value.length())))).append(')');
+        }
+
+        return result.append(".toString()").toString();
+    }
+
+    /**
+     * Creates a quoted java string literal of the given value.
+     *
+     * @param value the value.
+     *
+     * @return the quoted literal.
+     */
+    private static String quote(final String value) {
+        final StringBuilder result = new StringBuilder(value.length() + 2).append('"');
+
+        for (final char character : value.toCharArray()) {
+            switch (character) {
+                case '"':
+                    result.append("\\\"");
+                    break;
+                case '\\':
+                    result.append("\\\\");
+                    break;
+                case '\n':
+                    result.append("\\n");
+                    break;
+                case '\r':
+                    result.append("\\r");
+                    break;
+                case '\t':
+                    result.append("\\t");
+                    break;
+                default:
+                    if (character < 0x20 || character > 0x7E) {
+                        result.append(String.format("\\u%04x", (int) character));
+                    } else {
+                        result.append(character);
+                    }
+            }
+        }
+
+        return result.append('"').toString();
+    }
+
+    /**
+     * Escapes the given text so that it can be used in a documentation comment.
+     *
+     * @param text the text.
+     *
+     * @return the escaped text.
+     */
+    private static String escapeComment(final String text) {
+        return text.replace("*/", "*&#47;").replace("\n", " ").replace("\r", " ");
+    }
+
+    /**
+     * Appends the given statement to the given body.
+     *
+     * @param body      the body of a method.
+     * @param statement the statement without the trailing semicolon.
+     */
+    private static void statement(final StringBuilder body, final String statement) {
+        body.append(INDENT).append(INDENT).append(statement).append(";\n");
+    }
+
+    /**
+     * Creates the code of a method.
+     *
+     * @param signature the signature of the method.
+     * @param body      the body of the method.
+     *
+     * @return the code of the method.
+     */
+    private static String method(final String signature, final StringBuilder body) {
+        return INDENT + signature + " {\n" + body + INDENT + "}\n";
+    }
+
+    // endregion
+
+    // region Class
+
+    /**
+     * Contains the data collected while generating.
+     */
+    private static final class Context {
+
+        /**
+         * The declarations of the paint constants.
+         */
+        private final List<String> paints = new ArrayList<>();
+
+        /**
+         * The name of the constant of each paint.
+         */
+        private final Map<Paint, String> paintNames = new HashMap<>();
+
+        /**
+         * The generated methods.
+         */
+        private final List<String> methods = new ArrayList<>();
+
+        /**
+         * The amount of generated methods.
+         */
+        private int methodCount;
+
+        /**
+         * Creates the name of the next method.
+         *
+         * @param prefix the prefix of the name.
+         *
+         * @return the name of the next method.
+         */
+        private String nextMethodName(final String prefix) {
+            return prefix + methodCount++;
+        }
+
+        /**
+         * Gets the name of the constant of the given paint, declaring it if needed.
+         *
+         * @param paint the {@link Paint}, may be null.
+         *
+         * @return the name of the constant of the paint.
+         *
+         * @throws SVGException if the paint is not supported.
+         */
+        private String paintName(final Paint paint) throws SVGException {
+            if (paint == null) {
+                return "null";
+            }
+
+            String name = paintNames.get(paint);
+
+            if (name == null) {
+                name = "PAINT_" + paints.size();
+                paints.add(String.format("%sprivate static final Paint %s = %s;\n", INDENT, name, paintExpression(paint)));
+                paintNames.put(paint, name);
+            }
+
+            return name;
+        }
+    }
+
+    // endregion
+}
@@ -22,17 +22,24 @@ import de.saxsys.svgfx.core.attributes.type.SVGAttributeType;
 import de.saxsys.svgfx.core.attributes.type.SVGAttributeTypeString;
 import de.saxsys.svgfx.core.attributes.type.SVGAttributeTypeTransform;
 import de.saxsys.svgfx.core.css.SVGCssStyle;
+import de.saxsys.svgfx.core.metrics.SVGMetrics;
 import de.saxsys.svgfx.core.utils.SVGUtil;
 import de.saxsys.svgfx.core.utils.StringUtil;
+import de.saxsys.svgfx.css.core.CssCascade;
 import de.saxsys.svgfx.css.definitions.Constants;
+import de.saxsys.svgfx.jfr.FlightRecorderEvents;
 import de.saxsys.svgfx.xml.core.ElementBase;
 import javafx.scene.transform.Transform;
 import javafx.scene.transform.Translate;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * This class represents a basic scg element, which provides some basic functionality to get the style of the class.
@@ -41,12 +48,22 @@ import java.util.Optional;
  */
 public abstract class SVGElementBase<TResult> extends ElementBase<SVGAttributeType, SVGAttributeHolder, SVGDocumentDataProvider, TResult, SVGElementBase<?>> {
 
+    // region Constants
+
+    /**
+     * The pattern separating the classes in a {@link CoreAttributeMapper#CLASS}.
+     */
+    private static final String CLASS_SEPARATOR = "\\s+";
+
+    // endregion
+
     // region Fields
 
     /**
-     * The result represented by this element.
+     * The result represented by this element, volatile since it is created lazily and might be requested by several threads when results are created in
+     * parallel.
      */
-    private TResult result;
+    private volatile TResult result;
 
     // endregion
 
@@ -74,15 +91,19 @@ public abstract class SVGElementBase<TResult> extends ElementBase<SVGAttributeTy
      */
     @Override
     public final TResult getResult() throws SAXException {
-        if (result == null) {
+        TResult currentResult = result;
+
+        if (currentResult == null) {
             try {
-                result = createAndInitializeResult(null, null);
+                currentResult = createAndInitializeResult(null, null);
             } catch (final SVGException e) {
                 throw new SAXException(e);
             }
+
+            result = currentResult;
         }
 
-        return result;
+        return currentResult;
     }
 
     @Override
@@ -115,14 +136,47 @@ public abstract class SVGElementBase<TResult> extends ElementBase<SVGAttributeTy
      */
     public final TResult createAndInitializeResult(final SVGCssStyle parentStyle, final Transform parentTransform) throws SVGException {
 
-        final SVGCssStyle combinedStyle = getStyleAndResolveInheritance(parentStyle);
-        final Transform combinedTransform = combineTransform(parentTransform);
+        final String documentId = getDocumentDataProvider().getDocumentId();
+        final Object event = FlightRecorderEvents.begin(FlightRecorderEvents.Operation.RESULT_CREATION);
 
-        final TResult result = createResult(combinedStyle, combinedTransform);
+        try {
+            final SVGMetrics metrics = getDocumentDataProvider().getMetrics();
+            final long start = metrics.startPhase();
+            final Object styleEvent = FlightRecorderEvents.begin(FlightRecorderEvents.Operation.STYLE_RESOLUTION);
 
-        initializeResult(result, combinedStyle, combinedTransform);
+            final SVGCssStyle combinedStyle;
+            try {
+                combinedStyle = getStyleAndResolveInheritance(parentStyle);
+            } finally {
+                FlightRecorderEvents.end(styleEvent, documentId, getName());
+            }
 
-        return result;
+            metrics.endPhase(SVGMetrics.Phase.STYLE_RESOLUTION, start);
+
+            final Transform combinedTransform = combineTransform(parentTransform);
+
+            final TResult result = createOrReuseResult(combinedStyle, combinedTransform, parentTransform);
+
+            initializeResult(result, combinedStyle, combinedTransform);
+
+            return result;
+        } finally {
+            FlightRecorderEvents.end(event, documentId, getName());
+        }
+    }
+
+    /**
+     * Determines whether the result of this element lies completely outside of the viewport of the {@link SVGDocumentDataProvider}, in which case it does
+     * not need to be created. Elements whose bounds can not be determined cheaply are never outside of the viewport.
+     *
+     * @param parentTransform the transform of the parent of this element, may be null.
+     *
+     * @return true if the result of this element does not need to be created, otherwise false.
+     *
+     * @throws SVGException if the bounds of this element could not be determined.
+     */
+    public boolean isOutsideViewport(final Transform parentTransform) throws SVGException {
+        return false;
     }
 
     //endregion
@@ -146,6 +200,39 @@ public abstract class SVGElementBase<TResult> extends ElementBase<SVGAttributeTy
         return Optional.empty();
     }
 
+    /**
+     * Combines the given transform with the transformation of this element.
+     *
+     * @param otherTransform the transform of the parent of this element, may be null.
+     *
+     * @return the combined transform, which is an identity transform if neither is present.
+     *
+     * @throws SVGException if there is a transformation which has invalid data for its matrix.
+     */
+    protected final Transform combineTransform(final Transform otherTransform) throws SVGException {
+        final Optional<Transform> transform = getTransformation();
+
+        if (transform.isPresent() && otherTransform != null) {
+            return otherTransform.createConcatenation(transform.get());
+        } else if (transform.isPresent()) { return transform.get(); } else if (otherTransform != null) { return otherTransform; } else { return new Translate(); }
+    }
+
+    /**
+     * Returns the result which is initialized by {@link #createAndInitializeResult(SVGCssStyle, Transform)}. By default a new result is created using
+     * {@link #createResult(SVGCssStyle, Transform)}, but elements may return a result which was already created for the same parent transform.
+     *
+     * @param ownStyle        the {@link SVGCssStyle} of this element.
+     * @param ownTransform    the {@link Transform} of this element.
+     * @param parentTransform the transform of the parent of this element, may be null.
+     *
+     * @return the result which has not been initialized yet.
+     *
+     * @throws SVGException will be thrown when an error during creation occurs
+     */
+    protected TResult createOrReuseResult(final SVGCssStyle ownStyle, final Transform ownTransform, final Transform parentTransform) throws SVGException {
+        return createResult(ownStyle, ownTransform);
+    }
+
     // endregion
 
     // region Private
@@ -163,14 +250,6 @@ public abstract class SVGElementBase<TResult> extends ElementBase<SVGAttributeTy
     }
 
 
-    private Transform combineTransform(final Transform otherTransform) throws SVGException {
-        final Optional<Transform> transform = getTransformation();
-
-        if (transform.isPresent() && otherTransform != null) {
-            return otherTransform.createConcatenation(transform.get());
-        } else if (transform.isPresent()) { return transform.get(); } else if (otherTransform != null) { return otherTransform; } else { return new Translate(); }
-    }
-
     /**
      * Gets the elements own {@link SVGCssStyle} and combines it with the given {@link SVGCssStyle}
      *
@@ -236,14 +315,17 @@ public abstract class SVGElementBase<TResult> extends ElementBase<SVGAttributeTy
 
         style.combineWithStyle(otherStyle);
 
+        // inherited properties might be shared with other styles, so they are replaced instead of being modified
         for (final Map.Entry<String, SVGAttributeType> property : style.getProperties().entrySet()) {
             if (property.getValue().getIsInherited()) {
+                final SVGAttributeType resolvedProperty = style.getAttributeHolder().createAttributeType(property.getKey());
                 final Optional<SVGAttributeType> otherProperty = otherStyle.getAttributeHolder().getAttribute(property.getKey());
                 if (otherProperty.isPresent()) {
-                    property.getValue().setText(otherProperty.get().getText());
+                    resolvedProperty.setText(otherProperty.get().getText());
                 } else {
-                    property.getValue().useDefaultValue();
+                    resolvedProperty.useDefaultValue();
                 }
+                property.setValue(resolvedProperty);
             }
         }
     }
@@ -274,6 +356,9 @@ public abstract class SVGElementBase<TResult> extends ElementBase<SVGAttributeTy
      *     circle style="fill:#111111; stroke:#001122" class="st1"
      * </pre>
      * this will result in fill = 111111, stroke = #001122 and fill-rule = odd.
+     * <p>
+     * Referenced {@link SVGCssStyle}s are all styles matching the element by type, id or any of its classes, see {@link CssCascade}. If several styles
+     * match, the one with the highest specificity, declared last, is preferred.
      *
      * @return the {@link SVGCssStyle} of this element or null if no style can be determined.
      */
@@ -292,15 +377,15 @@ public abstract class SVGElementBase<TResult> extends ElementBase<SVGAttributeTy
             }
         }
 
-        // if a referenced style is present it will be used overwriting other attributes in the process
-        SVGCssStyle referencedStyle = getReferencedStyle();
-        if (referencedStyle != null) {
+        // the styles matching this element are ordered by their priority and combining only adds missing properties, so the first, most specific one wins
+        for (final SVGCssStyle matchingStyle : getMatchingStyles()) {
 
             if (style == null) {
-                style = referencedStyle;
-            } else {
-                style.combineWithStyle(referencedStyle);
+                // the matching styles are shared by all elements using them, so they are copied before they are modified
+                style = new SVGCssStyle(getDocumentDataProvider());
             }
+
+            style.combineWithStyle(matchingStyle);
         }
 
         if (style == null) {
@@ -341,26 +426,47 @@ public abstract class SVGElementBase<TResult> extends ElementBase<SVGAttributeTy
     }
 
     /**
-     * Gets the elements referenced {@link SVGCssStyle}, which will only be available if the element has the {@link CoreAttributeMapper#CLASS}.
+     * Gets the {@link SVGCssStyle}s matching this element by its type, its {@link CoreAttributeMapper#ID} and each of the classes in its {@link
+     * CoreAttributeMapper#CLASS}, ordered by their priority. Styles whose selector can not be evaluated by the {@link CssCascade} but ends with a class, such as
+     * a descendant selector, are used for all elements of the class, see {@link CssCascade#match(String, String, Set)}.
      *
-     * @return the {@link SVGCssStyle} referenced by this element or null if there is none.
+     * @return a new {@link List} containing the {@link SVGCssStyle}s matching this element, the style with the highest priority comes first.
      *
-     * @throws SVGException if the element uses a style reference but the style was not found in the {@link #documentDataProvider}.
+     * @throws SVGException if the element uses classes but none of them is used by any style of the {@link #documentDataProvider}.
      */
-    private SVGCssStyle getReferencedStyle() throws SVGException {
+    private List<SVGCssStyle> getMatchingStyles() throws SVGException {
+
+        final Set<String> classes = new LinkedHashSet<>();
 
         final Optional<SVGAttributeTypeString> className = getAttributeHolder().getAttribute(CoreAttributeMapper.CLASS.getName(), SVGAttributeTypeString.class);
         if (className.isPresent()) {
-            final String reference = className.get().getValue();
+            for (final String name : className.get().getValue().trim().split(CLASS_SEPARATOR)) {
+                if (!name.isEmpty()) {
+                    classes.add(name);
+                }
+            }
+        }
+
+        final Optional<SVGAttributeTypeString> id = getAttributeHolder().getAttribute(CoreAttributeMapper.ID.getName(), SVGAttributeTypeString.class);
 
-            return getDocumentDataProvider().getUnmodifiableStyles()
-                                            .stream()
-                                            .filter(data -> data.getName().endsWith(reference))
-                                            .findFirst()
-                                            .orElseThrow(() -> new SVGException(String.format("Given style reference [%s] was not found", reference)));
+        final CssCascade<SVGCssStyle> cascade = getDocumentDataProvider().getCascade();
 
+        final List<SVGCssStyle> result = new ArrayList<>(cascade.match(getName(), id.isPresent() ? id.get().getValue() : null, classes));
+
+        boolean isReferenced = classes.isEmpty();
+
+        for (final String name : classes) {
+            if (cascade.containsClass(name)) {
+                isReferenced = true;
+                break;
+            }
         }
-        return null;
+
+        if (!isReferenced) {
+            throw new SVGException(String.format("Given style reference [%s] was not found", className.get().getValue()));
+        }
+
+        return result;
     }
 
     /**
@@ -394,7 +500,7 @@ public abstract class SVGElementBase<TResult> extends ElementBase<SVGAttributeTy
             result = new SVGCssStyle(getDocumentDataProvider());
 
             try {
-                result.parseCssText(cssText.toString());
+                result.parseCssText(cssText);
             } catch (final IllegalStateException e) {
                 throw new SVGException(String.format("Css text [%s] could not be parsed", cssText), e);
             }
@@ -14,6 +14,7 @@
 package de.saxsys.svgfx.core.elements;
 
 import de.saxsys.svgfx.core.SVGDocumentDataProvider;
+import de.saxsys.svgfx.core.metrics.SVGMetrics;
 import de.saxsys.svgfx.core.path.CommandParser;
 import de.saxsys.svgfx.xml.core.IElementFactory;
 import org.xml.sax.Attributes;
@@ -44,6 +45,32 @@ public class SVGElementFactory implements IElementFactory<SVGDocumentDataProvide
     @Override
     public SVGElementBase<?> createElement(final String name, final Attributes attributes, final SVGDocumentDataProvider dataProvider) {
 
+        final SVGMetrics metrics = dataProvider != null ? dataProvider.getMetrics() : SVGMetrics.NONE;
+        final long start = metrics.startPhase();
+
+        final SVGElementBase<?> result = create(name, attributes, dataProvider);
+
+        metrics.endPhase(SVGMetrics.Phase.ELEMENT_CREATION, start);
+        metrics.recordElement(result != null ? name : SVGMetrics.OTHER_ELEMENTS);
+
+        return result;
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Creates the element for the given name.
+     *
+     * @param name         the name of the element.
+     * @param attributes   the attributes of the element.
+     * @param dataProvider the data provider to use.
+     *
+     * @return a new {@link SVGElementBase} or null if the element is not supported.
+     */
+    private SVGElementBase<?> create(final String name, final Attributes attributes, final SVGDocumentDataProvider dataProvider) {
+
         if (SVGCircle.ELEMENT_NAME.equals(name)) {
             return new SVGCircle(name, attributes, dataProvider);
         } else if (SVGClipPath.ELEMENT_NAME.equals(name)) {
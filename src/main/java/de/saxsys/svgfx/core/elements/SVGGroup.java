@@ -65,6 +65,10 @@ public class SVGGroup extends SVGNodeBase<Group> {
 
             final SVGElementBase actualChild = (SVGElementBase) child;
 
+            if (actualChild.isOutsideViewport(ownTransform)) {
+                continue;
+            }
+
             final Object childResult = actualChild.createAndInitializeResult(ownStyle, ownTransform);
 
             if (childResult instanceof Node) {
@@ -21,8 +21,11 @@ import de.saxsys.svgfx.core.attributes.type.SVGAttributeTypeFillRule;
 import de.saxsys.svgfx.core.attributes.type.SVGAttributeTypeRectangle;
 import de.saxsys.svgfx.core.attributes.type.SVGAttributeTypeString;
 import de.saxsys.svgfx.core.css.SVGCssStyle;
+import de.saxsys.svgfx.core.metrics.SVGMetrics;
 import de.saxsys.svgfx.core.path.CommandParser;
 import de.saxsys.svgfx.core.path.PathException;
+import de.saxsys.svgfx.core.path.PathMeasure;
+import de.saxsys.svgfx.core.path.PathSimplifier;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.transform.Transform;
 import org.xml.sax.Attributes;
@@ -49,6 +52,11 @@ public class SVGPath extends SVGShapeBase<javafx.scene.shape.SVGPath> {
 
     private final CommandParser commandParser;
 
+    /**
+     * The {@link PathMeasure} of this path, created when it is first needed.
+     */
+    private volatile PathMeasure pathMeasure;
+
     // endregion
 
     //region Constructor
@@ -68,6 +76,30 @@ public class SVGPath extends SVGShapeBase<javafx.scene.shape.SVGPath> {
 
     //endregion
 
+    // region Public
+
+    /**
+     * Returns the {@link PathMeasure} of this path, which allows to get its length as well as the position and direction at a given distance along it. The
+     * {@link PathMeasure} is created once and its lookup table is shared by all following queries.
+     *
+     * @return the {@link PathMeasure} of this path.
+     *
+     * @throws SVGException if the path does not have a {@link CoreAttributeMapper#PATH_DESCRIPTION}.
+     */
+    public final PathMeasure getPathMeasure() throws SVGException {
+        PathMeasure currentPathMeasure = pathMeasure;
+
+        if (currentPathMeasure == null) {
+            currentPathMeasure = new PathMeasure(getAttributeHolder().getAttributeOrFail(CoreAttributeMapper.PATH_DESCRIPTION.getName(), SVGAttributeTypeString.class)
+                                                                     .getValue());
+            pathMeasure = currentPathMeasure;
+        }
+
+        return currentPathMeasure;
+    }
+
+    // endregion
+
     //region Override SVGElementBase
 
     @Override
@@ -76,7 +108,22 @@ public class SVGPath extends SVGShapeBase<javafx.scene.shape.SVGPath> {
 
         final Optional<SVGAttributeTypeString> path = getAttributeHolder().getAttribute(CoreAttributeMapper.PATH_DESCRIPTION.getName(), SVGAttributeTypeString.class);
         if (path.isPresent()) {
-            result.setContent(path.get().getValue());
+            final SVGMetrics metrics = getDocumentDataProvider().getMetrics();
+            final long start = metrics.startPhase();
+
+            final double tolerance = getSimplificationTolerance(ownTransform);
+
+            if (tolerance > 0.0d) {
+                try {
+                    result.setContent(PathSimplifier.simplify(path.get().getValue(), tolerance));
+                } catch (final PathException e) {
+                    throw new SVGException(String.format("Could not simplify path [%s]", path.get().getValue()), e);
+                }
+            } else {
+                result.setContent(path.get().getValue());
+            }
+
+            metrics.endPhase(SVGMetrics.Phase.PATH_PARSING, start);
         }
 
         return result;
@@ -105,7 +152,7 @@ public class SVGPath extends SVGShapeBase<javafx.scene.shape.SVGPath> {
 
         final Rectangle boundingBox;
         try {
-            boundingBox = commandParser.getBoundingBox(path);
+            boundingBox = commandParser.getBoundingBox(path, getDocumentDataProvider().getDocumentId(), getName());
         } catch (final PathException e) {
             throw new SVGException(String.format("Could not parse path [%s]", path), e);
         }
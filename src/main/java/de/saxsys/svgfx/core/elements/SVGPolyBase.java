@@ -19,7 +19,9 @@ import de.saxsys.svgfx.core.attributes.CoreAttributeMapper;
 import de.saxsys.svgfx.core.attributes.type.SVGAttributeTypePoint;
 import de.saxsys.svgfx.core.attributes.type.SVGAttributeTypePoints;
 import de.saxsys.svgfx.core.attributes.type.SVGAttributeTypeRectangle;
+import de.saxsys.svgfx.core.path.PathSimplifier;
 import javafx.scene.shape.Shape;
+import javafx.scene.transform.Transform;
 import org.xml.sax.Attributes;
 
 import java.util.ArrayList;
@@ -74,6 +76,22 @@ public abstract class SVGPolyBase<TShape extends Shape> extends SVGShapeBase<TSh
         return actualPoints;
     }
 
+    /**
+     * Returns the points contained by the attributes, simplified using the tolerance of the {@link SVGDocumentDataProvider}.
+     *
+     * @param ownTransform the accumulated transform of this element, may be null.
+     *
+     * @return the points which need to be kept, given as pairs of x and y positions.
+     *
+     * @throws SVGException if any of the points in the corresponding attribute does not provide x and y position.
+     */
+    protected final double[] getSimplifiedPoints(final Transform ownTransform) throws SVGException {
+        final double[] points = getPoints().stream().mapToDouble(Double::doubleValue).toArray();
+        final double tolerance = getSimplificationTolerance(ownTransform);
+
+        return tolerance > 0.0d ? PathSimplifier.simplify(points, tolerance) : points;
+    }
+
     //endregion
 
     // region Implement SVGShapeBase
@@ -56,7 +56,7 @@ public class SVGPolygon extends SVGPolyBase<Polygon> {
     @Override
     protected final Polygon createResult(final SVGCssStyle ownStyle, final Transform ownTransform) throws SVGException {
 
-        return new Polygon(getPoints().stream().mapToDouble(Double::doubleValue).toArray());
+        return new Polygon(getSimplifiedPoints(ownTransform));
     }
 
     //endregion
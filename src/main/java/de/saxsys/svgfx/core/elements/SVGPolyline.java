@@ -57,7 +57,7 @@ public class SVGPolyline extends SVGPolyBase<javafx.scene.shape.Polyline> {
     @Override
     protected final Polyline createResult(final SVGCssStyle ownStyle, final Transform ownTransform) throws SVGException {
 
-        return new Polyline(getPoints().stream().mapToDouble(Double::doubleValue).toArray());
+        return new Polyline(getSimplifiedPoints(ownTransform));
     }
 
     //endregion
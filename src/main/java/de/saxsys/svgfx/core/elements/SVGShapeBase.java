@@ -25,6 +25,8 @@ import de.saxsys.svgfx.core.attributes.type.SVGAttributeTypeStrokeLineCap;
 import de.saxsys.svgfx.core.attributes.type.SVGAttributeTypeStrokeLineJoin;
 import de.saxsys.svgfx.core.attributes.type.SVGAttributeTypeStrokeType;
 import de.saxsys.svgfx.core.css.SVGCssStyle;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.LinearGradient;
 import javafx.scene.paint.Paint;
@@ -37,6 +39,7 @@ import org.xml.sax.Attributes;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * This class represents a base class which contains shape element from svg.
@@ -47,6 +50,16 @@ import java.util.Optional;
  */
 public abstract class SVGShapeBase<TShape extends Shape> extends SVGNodeBase<TShape> {
 
+    // region Fields
+
+    /**
+     * The shape which was created by {@link #isOutsideViewport(Transform)} and can be reused by the next result creation using the same parent transform,
+     * contains null if there is none.
+     */
+    private final AtomicReference<ViewportProbe<TShape>> viewportProbe = new AtomicReference<>();
+
+    // endregion
+
     //region Constructor
 
     /**
@@ -62,6 +75,50 @@ public abstract class SVGShapeBase<TShape extends Shape> extends SVGNodeBase<TSh
 
     //endregion
 
+    // region Override SVGElementBase
+
+    /**
+     * {@inheritDoc}
+     * Uses the bounding box of the shape without its stroke transformed by the combined transform.
+     */
+    @Override
+    public final boolean isOutsideViewport(final Transform parentTransform) throws SVGException {
+        final Optional<Bounds> viewport = getDocumentDataProvider().getViewport();
+
+        if (!viewport.isPresent() || SVGUse.isCreatingReferencedElement()) {
+            return false;
+        }
+
+        // shapes do not use their style to create the result, so the shape can be reused once it is created with the actual style
+        final Transform ownTransform = combineTransform(parentTransform);
+        final TShape shape = createResult(null, ownTransform);
+
+        if (!viewport.get().intersects(ownTransform.transform(getBounds(shape)))) {
+            return true;
+        }
+
+        viewportProbe.set(new ViewportProbe<>(parentTransform, shape));
+
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Reuses the shape created by {@link #isOutsideViewport(Transform)} if it was created for the given parent transform.
+     */
+    @Override
+    protected final TShape createOrReuseResult(final SVGCssStyle ownStyle, final Transform ownTransform, final Transform parentTransform) throws SVGException {
+        final ViewportProbe<TShape> probe = viewportProbe.getAndSet(null);
+
+        if (probe != null && probe.parentTransform == parentTransform) {
+            return probe.shape;
+        }
+
+        return createResult(ownStyle, ownTransform);
+    }
+
+    // endregion
+
     // region Override SVGNodeBase
 
     /**
@@ -73,12 +130,57 @@ public abstract class SVGShapeBase<TShape extends Shape> extends SVGNodeBase<TSh
         super.initializeResult(result, ownStyle, ownTransform);
 
         applyStyle(result, ownStyle, ownTransform);
+
+        if (getDocumentDataProvider().isCollectingBounds()) {
+            getDocumentDataProvider().storeBounds(result, this, getBounds(result));
+        }
+    }
+
+    // endregion
+
+    // region Protected
+
+    /**
+     * Returns the tolerance by which simplified points of this shape may deviate, converted into the coordinate system of this shape.
+     *
+     * @param ownTransform the accumulated transform of this shape, may be null.
+     *
+     * @return the tolerance or 0 if the points should not be simplified.
+     */
+    protected final double getSimplificationTolerance(final Transform ownTransform) {
+        final double tolerance = getDocumentDataProvider().getSimplificationTolerance();
+
+        if (tolerance <= 0.0d || ownTransform == null) {
+            return tolerance;
+        }
+
+        final double scale = Math.sqrt(Math.abs(ownTransform.determinant()));
+
+        return scale > 0.0d ? tolerance / scale : 0.0d;
     }
 
     // endregion
 
     // region Private
 
+    /**
+     * Returns the bounding box of the given shape as {@link Bounds}.
+     *
+     * @param shape the shape to use.
+     *
+     * @return the bounds of the shape without its stroke and transformations.
+     *
+     * @throws SVGException if the bounding box could not be determined.
+     */
+    private Bounds getBounds(final TShape shape) throws SVGException {
+        final SVGAttributeTypeRectangle.SVGTypeRectangle boundingBox = createBoundingBox(shape);
+
+        return new BoundingBox(boundingBox.getMinX().getValue(),
+                               boundingBox.getMinY().getValue(),
+                               boundingBox.getMaxX().getValue() - boundingBox.getMinX().getValue(),
+                               boundingBox.getMaxY().getValue() - boundingBox.getMinY().getValue());
+    }
+
     /**
      * Applies the basic style every {@link Shape} supports to the given shape.
      *
@@ -229,4 +331,37 @@ public abstract class SVGShapeBase<TShape extends Shape> extends SVGNodeBase<TSh
     protected abstract SVGAttributeTypeRectangle.SVGTypeRectangle createBoundingBox(final TShape shape) throws SVGException;
 
     // endregion
-}
\ No newline at end of file
+
+    // region Class
+
+    /**
+     * Contains a shape created to determine whether it lies outside of the viewport and the parent transform it was created for.
+     *
+     * @param <TShape> type of the shape.
+     */
+    private static final class ViewportProbe<TShape> {
+
+        /**
+         * The transform of the parent the shape was created for, may be null.
+         */
+        private final Transform parentTransform;
+
+        /**
+         * The shape.
+         */
+        private final TShape shape;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param parentTransform the transform of the parent the shape was created for.
+         * @param shape           the shape.
+         */
+        private ViewportProbe(final Transform parentTransform, final TShape shape) {
+            this.parentTransform = parentTransform;
+            this.shape = shape;
+        }
+    }
+
+    // endregion
+}
@@ -18,21 +18,22 @@ import de.saxsys.svgfx.core.SVGException;
 import de.saxsys.svgfx.core.attributes.CoreAttributeMapper;
 import de.saxsys.svgfx.core.attributes.type.SVGAttributeTypeString;
 import de.saxsys.svgfx.core.css.SVGCssStyle;
-import de.saxsys.svgfx.css.definitions.Constants;
+import de.saxsys.svgfx.css.core.CssRule;
+import de.saxsys.svgfx.css.core.CssRuleCache;
 import javafx.scene.transform.Transform;
 import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * This class represents the style element from svg
  *
  * @author Xyanid on 27.10.2015.
  */
-public class SVGStyle extends SVGElementBase<Set<SVGCssStyle>> {
+public class SVGStyle extends SVGElementBase<List<SVGCssStyle>> {
 
     // region Constants
 
@@ -88,9 +89,7 @@ public class SVGStyle extends SVGElementBase<Set<SVGCssStyle>> {
      */
     @Override
     public void processCharacterData(final char[] ch, final int start, final int length) throws SAXException {
-        for (int i = start; i < length; i++) {
-            characters.append(ch[i]);
-        }
+        characters.append(ch, start, length);
     }
 
     @Override
@@ -103,32 +102,23 @@ public class SVGStyle extends SVGElementBase<Set<SVGCssStyle>> {
      * This implementation does not use the given data
      */
     @Override
-    protected final Set<SVGCssStyle> createResult(final SVGCssStyle ownStyle,
+    protected final List<SVGCssStyle> createResult(final SVGCssStyle ownStyle,
                                                   final Transform ownTransform) throws SVGException {
 
-        final Set<SVGCssStyle> result = new HashSet<>();
+        // the order of the styles is kept since it is part of the cascade
+        final List<SVGCssStyle> result = new ArrayList<>();
 
         final Optional<SVGAttributeTypeString> type = getAttributeHolder().getAttribute(CoreAttributeMapper.TYPE.getName(), SVGAttributeTypeString.class);
         if (!type.isPresent() || type.get().getValue().equals(CSS_TYPE)) {
 
-            final StringBuilder builder = new StringBuilder();
-
-            for (int i = 0; i < characters.length(); i++) {
-
-                char character = characters.charAt(i);
-
-                builder.append(character);
-
-                if (character == Constants.DECLARATION_BLOCK_END) {
-
-                    SVGCssStyle styleDef = new SVGCssStyle(getDocumentDataProvider());
+            // the rules are shared between documents, the styles however resolve references using the data provider of this document
+            for (final CssRule rule : CssRuleCache.getRules(characters.toString(), getDocumentDataProvider().getMetrics())) {
 
-                    styleDef.parseCssText(builder.toString());
+                final SVGCssStyle styleDef = new SVGCssStyle(getDocumentDataProvider());
 
-                    result.add(styleDef);
+                styleDef.applyRule(rule);
 
-                    builder.setLength(0);
-                }
+                result.add(styleDef);
             }
         }
 
@@ -136,7 +126,7 @@ public class SVGStyle extends SVGElementBase<Set<SVGCssStyle>> {
     }
 
     @Override
-    protected void initializeResult(final Set<SVGCssStyle> cssStyles,
+    protected void initializeResult(final List<SVGCssStyle> cssStyles,
                                     final SVGCssStyle ownStyle,
                                     final Transform ownTransform) throws SVGException {
 
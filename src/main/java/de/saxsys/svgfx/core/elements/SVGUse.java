@@ -40,6 +40,12 @@ public class SVGUse extends SVGNodeBase<Group> {
      */
     public static final String ELEMENT_NAME = "use";
 
+    /**
+     * Contains for each thread the number of use elements which are currently creating the result of their referenced element. The position of a use
+     * element is not part of the transform handed to the referenced element, so its results can not be tested against the viewport.
+     */
+    private static final ThreadLocal<int[]> REFERENCE_DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
     // endregion
 
     // region Constructor
@@ -57,6 +63,19 @@ public class SVGUse extends SVGNodeBase<Group> {
 
     // endregion
 
+    // region Package
+
+    /**
+     * Determines whether a use element is currently creating the result of its referenced element on the current thread.
+     *
+     * @return true if a use element is creating the result of its referenced element, otherwise false.
+     */
+    static boolean isCreatingReferencedElement() {
+        return REFERENCE_DEPTH.get()[0] > 0;
+    }
+
+    // endregion
+
     // region SVGElementBase
 
     /**
@@ -75,7 +94,15 @@ public class SVGUse extends SVGNodeBase<Group> {
         final Group result = new Group();
         result.setLayoutX(getAttributeHolder().getAttributeValue(CoreAttributeMapper.POSITION_X.getName(), Double.class, SVGAttributeTypeLength.DEFAULT_VALUE));
         result.setLayoutY(getAttributeHolder().getAttributeValue(CoreAttributeMapper.POSITION_Y.getName(), Double.class, SVGAttributeTypeLength.DEFAULT_VALUE));
-        result.getChildren().add((Node) referencedElement.createAndInitializeResult(ownStyle, ownTransform));
+
+        final int[] depth = REFERENCE_DEPTH.get();
+        depth[0]++;
+
+        try {
+            result.getChildren().add((Node) referencedElement.createAndInitializeResult(ownStyle, ownTransform));
+        } finally {
+            depth[0]--;
+        }
 
         return result;
     }
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the recorded metrics in memory, summing them up until {@link #reset()} is called. The metrics can be read directly or via JMX once the instance is
+ * registered using {@link #register(String)}. All methods can be called from several threads at once.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public class InMemorySVGMetrics implements SVGMetrics, SVGMetricsMXBean {
+
+    // region Constants
+
+    /**
+     * The domain and type of the {@link ObjectName} used when registering the metrics.
+     */
+    private static final String OBJECT_NAME_PREFIX = "de.saxsys.svgfx:type=SVGMetrics,name=";
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * Contains the total time in nanoseconds of each phase, indexed by the ordinal of the {@link SVGMetrics.Phase}.
+     */
+    private final LongAdder[] phaseNanos = createAdders(Phase.values().length);
+
+    /**
+     * Contains the amount of recordings of each phase, indexed by the ordinal of the {@link SVGMetrics.Phase}.
+     */
+    private final LongAdder[] phaseCounts = createAdders(Phase.values().length);
+
+    /**
+     * Contains the amount of each element read, keyed by the name of the element.
+     */
+    private final Map<String, LongAdder> elementCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Contains the hits and the accesses of each cache, keyed by the name of the cache.
+     */
+    private final Map<String, LongAdder[]> cacheAccesses = new ConcurrentHashMap<>();
+
+    /**
+     * The total amount of bytes read.
+     */
+    private final LongAdder bytesRead = new LongAdder();
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Returns the total time in nanoseconds spent in the given phase.
+     *
+     * @param phase the {@link SVGMetrics.Phase}, must not be null.
+     *
+     * @return the total time spent in the phase.
+     */
+    public long getPhaseNanos(final Phase phase) {
+        return phaseNanos[phase.ordinal()].sum();
+    }
+
+    /**
+     * Returns how often the given phase was recorded.
+     *
+     * @param phase the {@link SVGMetrics.Phase}, must not be null.
+     *
+     * @return the amount of recordings of the phase.
+     */
+    public long getPhaseCount(final Phase phase) {
+        return phaseCounts[phase.ordinal()].sum();
+    }
+
+    /**
+     * Registers this instance at the platform MBean server using the given name.
+     *
+     * @param name the name used in the {@link ObjectName}, must not be null.
+     *
+     * @return the {@link ObjectName} under which this instance was registered.
+     *
+     * @throws JMException if the instance could not be registered.
+     */
+    public ObjectName register(final String name) throws JMException {
+        final ObjectName result = new ObjectName(OBJECT_NAME_PREFIX + ObjectName.quote(name));
+
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, result);
+
+        return result;
+    }
+
+    /**
+     * Removes the registration of the given {@link ObjectName} from the platform MBean server.
+     *
+     * @param name the {@link ObjectName} returned by {@link #register(String)}.
+     *
+     * @throws JMException if the registration could not be removed.
+     */
+    public void unregister(final ObjectName name) throws JMException {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+    }
+
+    // endregion
+
+    // region Implement SVGMetrics
+
+    @Override
+    public void recordPhase(final Phase phase, final long nanos) {
+        phaseNanos[phase.ordinal()].add(nanos);
+        phaseCounts[phase.ordinal()].increment();
+    }
+
+    @Override
+    public void recordElement(final String name) {
+        elementCounts.computeIfAbsent(name, key -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void recordBytesRead(final long bytes) {
+        bytesRead.add(bytes);
+    }
+
+    @Override
+    public void recordCacheAccess(final String cache, final boolean hit) {
+        final LongAdder[] accesses = cacheAccesses.computeIfAbsent(cache, key -> createAdders(2));
+
+        if (hit) {
+            accesses[0].increment();
+        }
+
+        accesses[1].increment();
+    }
+
+    // endregion
+
+    // region Implement SVGMetricsMXBean
+
+    @Override
+    public Map<String, Long> getPhaseNanos() {
+        return sumPhases(phaseNanos);
+    }
+
+    @Override
+    public Map<String, Long> getPhaseCounts() {
+        return sumPhases(phaseCounts);
+    }
+
+    @Override
+    public Map<String, Long> getElementCounts() {
+        final Map<String, Long> result = new TreeMap<>();
+
+        for (final Map.Entry<String, LongAdder> entry : elementCounts.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().sum());
+        }
+
+        return result;
+    }
+
+    @Override
+    public long getBytesRead() {
+        return bytesRead.sum();
+    }
+
+    @Override
+    public Map<String, Double> getCacheHitRatios() {
+        final Map<String, Double> result = new TreeMap<>();
+
+        for (final Map.Entry<String, LongAdder[]> entry : cacheAccesses.entrySet()) {
+            final long accesses = entry.getValue()[1].sum();
+
+            result.put(entry.getKey(), accesses == 0 ? 0.0d : (double) entry.getValue()[0].sum() / accesses);
+        }
+
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < phaseNanos.length; i++) {
+            phaseNanos[i].reset();
+            phaseCounts[i].reset();
+        }
+
+        elementCounts.clear();
+        cacheAccesses.clear();
+        bytesRead.reset();
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Creates the given amount of new {@link LongAdder}s.
+     *
+     * @param count the amount of adders to create.
+     *
+     * @return a new array containing the {@link LongAdder}s.
+     */
+    private static LongAdder[] createAdders(final int count) {
+        final LongAdder[] result = new LongAdder[count];
+
+        for (int i = 0; i < count; i++) {
+            result[i] = new LongAdder();
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the sums of the given adders keyed by the name of the phases.
+     *
+     * @param adders the adders indexed by the ordinal of the phases.
+     *
+     * @return a new {@link Map} containing the sums.
+     */
+    private static Map<String, Long> sumPhases(final LongAdder[] adders) {
+        final Map<String, Long> result = new TreeMap<>();
+
+        for (final Phase phase : Phase.values()) {
+            result.put(phase.name(), adders[phase.ordinal()].sum());
+        }
+
+        return result;
+    }
+
+    // endregion
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core.metrics;
+
+/**
+ * Records how much time the phases of loading a svg document take, which elements are created, how much data is read and how often caches are hit. The
+ * methods may be called from several threads at once, since results might be created in parallel. Phases can be nested, for instance {@link
+ * Phase#NODE_BUILDING} contains the {@link Phase#STYLE_RESOLUTION} of the elements.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public interface SVGMetrics {
+
+    // region Enumeration
+
+    /**
+     * The phases of loading a svg document.
+     */
+    enum Phase {
+        /**
+         * Reading the xml data until the end of the document, including the {@link #ELEMENT_CREATION}.
+         */
+        XML_READ,
+        /**
+         * Creating the elements while the xml data is read.
+         */
+        ELEMENT_CREATION,
+        /**
+         * Combining the styles of an element and resolving their inheritance.
+         */
+        STYLE_RESOLUTION,
+        /**
+         * Reading the path data of a path element.
+         */
+        PATH_PARSING,
+        /**
+         * Creating the gradient used to paint a shape.
+         */
+        GRADIENT_CREATION,
+        /**
+         * Creating the nodes of the top level elements after the document has been read.
+         */
+        NODE_BUILDING
+    }
+
+    // endregion
+
+    // region Constants
+
+    /**
+     * The name of the cache of parsed style sheets.
+     */
+    String CSS_RULE_CACHE = "cssRules";
+
+    /**
+     * The name of the cache of templates used by a {@link de.saxsys.svgfx.core.CachingSVGLoader}.
+     */
+    String TEMPLATE_CACHE = "templates";
+
+    /**
+     * The name under which all elements are recorded which are not supported, so arbitrary names from untrusted documents do not increase the recorded
+     * data.
+     */
+    String OTHER_ELEMENTS = "other";
+
+    /**
+     * Does not record anything and does not measure any time.
+     */
+    SVGMetrics NONE = new SVGMetrics() {
+        @Override
+        public long startPhase() {
+            return 0L;
+        }
+
+        @Override
+        public void endPhase(final Phase phase, final long start) {}
+
+        @Override
+        public void recordPhase(final Phase phase, final long nanos) {}
+
+        @Override
+        public void recordElement(final String name) {}
+
+        @Override
+        public void recordBytesRead(final long bytes) {}
+
+        @Override
+        public void recordCacheAccess(final String cache, final boolean hit) {}
+    };
+
+    // endregion
+
+    // region Default
+
+    /**
+     * Returns the start time of a phase which is to be passed to {@link #endPhase(Phase, long)}.
+     *
+     * @return the start time in nanoseconds.
+     */
+    default long startPhase() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the time passed since the given start time for the given phase.
+     *
+     * @param phase the {@link Phase} which ended.
+     * @param start the start time returned by {@link #startPhase()}.
+     */
+    default void endPhase(final Phase phase, final long start) {
+        recordPhase(phase, System.nanoTime() - start);
+    }
+
+    // endregion
+
+    // region Abstract
+
+    /**
+     * Records that the given phase took the given time.
+     *
+     * @param phase the {@link Phase}.
+     * @param nanos the time in nanoseconds.
+     */
+    void recordPhase(final Phase phase, final long nanos);
+
+    /**
+     * Records that an element with the given name was read.
+     *
+     * @param name the name of the element or {@link #OTHER_ELEMENTS} if the element is not supported.
+     */
+    void recordElement(final String name);
+
+    /**
+     * Records that the given amount of bytes was read.
+     *
+     * @param bytes the amount of bytes.
+     */
+    void recordBytesRead(final long bytes);
+
+    /**
+     * Records an access of the cache with the given name.
+     *
+     * @param cache the name of the cache.
+     * @param hit   true if the cache contained the requested data, otherwise false.
+     */
+    void recordCacheAccess(final String cache, final boolean hit);
+
+    // endregion
+}
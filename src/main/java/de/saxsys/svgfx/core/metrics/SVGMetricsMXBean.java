@@ -0,0 +1,64 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core.metrics;
+
+import java.util.Map;
+
+/**
+ * The management interface of {@link InMemorySVGMetrics}, which allows the recorded metrics to be read using JMX.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public interface SVGMetricsMXBean {
+
+    /**
+     * Returns the total time in nanoseconds spent in each phase, keyed by the name of the {@link SVGMetrics.Phase}.
+     *
+     * @return the total time spent in each phase.
+     */
+    Map<String, Long> getPhaseNanos();
+
+    /**
+     * Returns how often each phase was recorded, keyed by the name of the {@link SVGMetrics.Phase}.
+     *
+     * @return the amount of recordings of each phase.
+     */
+    Map<String, Long> getPhaseCounts();
+
+    /**
+     * Returns how often each element was read, keyed by the name of the element.
+     *
+     * @return the amount of each element read.
+     */
+    Map<String, Long> getElementCounts();
+
+    /**
+     * Returns the total amount of bytes read.
+     *
+     * @return the total amount of bytes read.
+     */
+    long getBytesRead();
+
+    /**
+     * Returns the ratio of hits to accesses of each cache, keyed by the name of the cache.
+     *
+     * @return the hit ratio of each cache, between 0 and 1.
+     */
+    Map<String, Double> getCacheHitRatios();
+
+    /**
+     * Removes all recorded metrics.
+     */
+    void reset();
+}
@@ -0,0 +1,371 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core.path;
+
+import java.util.Arrays;
+
+/**
+ * Computes the exact bounds of cubic bezier curves. The curves are given as structure of arrays, so the x positions of all control points are stored in one
+ * array and the y positions in another one, each curve using four consecutive entries: start, start control, end control and end. The extrema are found by
+ * solving the derivative of each curve in closed form using only primitive arithmetic. Each curve always evaluates the same number of candidates instead of
+ * collecting its roots, so the loops are simple enough to be optimized well by the JIT compiler. No memory is allocated by the kernel methods.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class BezierBounds {
+
+    // region Constants
+
+    /**
+     * Determines a value below which the quadratic coefficient of a derivative is considered to be 0.
+     */
+    private static final double NEAR_NULL = 1e-12;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     *
+     */
+    private BezierBounds() {
+
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Computes the bounds of each of the given curves.
+     *
+     * @param x     the x positions of the control points, four for each curve.
+     * @param y     the y positions of the control points, four for each curve.
+     * @param count the number of curves.
+     * @param minX  receives the minimum x position of each curve.
+     * @param minY  receives the minimum y position of each curve.
+     * @param maxX  receives the maximum x position of each curve.
+     * @param maxY  receives the maximum y position of each curve.
+     *
+     * @throws IllegalArgumentException if any of the arrays is null or too short for the given count.
+     */
+    public static void getBounds(final double[] x,
+                                 final double[] y,
+                                 final int count,
+                                 final double[] minX,
+                                 final double[] minY,
+                                 final double[] maxX,
+                                 final double[] maxY) throws IllegalArgumentException {
+        checkControlPoints(x, y, count);
+
+        if (minX == null || minY == null || maxX == null || maxY == null) {
+            throw new IllegalArgumentException("given result arrays must not be null");
+        }
+
+        if (minX.length < count || minY.length < count || maxX.length < count || maxY.length < count) {
+            throw new IllegalArgumentException(String.format("given result arrays must have a length of at least [%d]", count));
+        }
+
+        for (int i = 0; i < count; i++) {
+            final int offset = i * 4;
+
+            minX[i] = getMinimum(x[offset], x[offset + 1], x[offset + 2], x[offset + 3]);
+            maxX[i] = getMaximum(x[offset], x[offset + 1], x[offset + 2], x[offset + 3]);
+            minY[i] = getMinimum(y[offset], y[offset + 1], y[offset + 2], y[offset + 3]);
+            maxY[i] = getMaximum(y[offset], y[offset + 1], y[offset + 2], y[offset + 3]);
+        }
+    }
+
+    /**
+     * Computes the bounds enclosing all of the given curves.
+     *
+     * @param x      the x positions of the control points, four for each curve.
+     * @param y      the y positions of the control points, four for each curve.
+     * @param count  the number of curves.
+     * @param result receives the minimum x, minimum y, maximum x and maximum y position, which are infinite if the count is 0.
+     *
+     * @throws IllegalArgumentException if any of the arrays is null or too short for the given count.
+     */
+    public static void getBounds(final double[] x, final double[] y, final int count, final double[] result) throws IllegalArgumentException {
+        checkControlPoints(x, y, count);
+
+        if (result == null || result.length < 4) {
+            throw new IllegalArgumentException("given result must have a length of at least 4");
+        }
+
+        double resultMinX = Double.POSITIVE_INFINITY;
+        double resultMinY = Double.POSITIVE_INFINITY;
+        double resultMaxX = Double.NEGATIVE_INFINITY;
+        double resultMaxY = Double.NEGATIVE_INFINITY;
+
+        for (int i = 0; i < count; i++) {
+            final int offset = i * 4;
+
+            resultMinX = Math.min(resultMinX, getMinimum(x[offset], x[offset + 1], x[offset + 2], x[offset + 3]));
+            resultMaxX = Math.max(resultMaxX, getMaximum(x[offset], x[offset + 1], x[offset + 2], x[offset + 3]));
+            resultMinY = Math.min(resultMinY, getMinimum(y[offset], y[offset + 1], y[offset + 2], y[offset + 3]));
+            resultMaxY = Math.max(resultMaxY, getMaximum(y[offset], y[offset + 1], y[offset + 2], y[offset + 3]));
+        }
+
+        result[0] = resultMinX;
+        result[1] = resultMinY;
+        result[2] = resultMaxX;
+        result[3] = resultMaxY;
+    }
+
+    /**
+     * Computes the bounds of all segments of the given path data at once. Straight lines and quadratic curves are converted into cubic curves, moving to a
+     * position without drawing a segment does not extend the bounds.
+     *
+     * @param data   the path data to use, must not be null.
+     * @param result receives the minimum x, minimum y, maximum x and maximum y position, which are infinite if the path does not have any segments.
+     *
+     * @throws PathException            if the given data is not valid.
+     * @throws IllegalArgumentException if any of the given parameters is null or the result is too short.
+     */
+    public static void getBounds(final CharSequence data, final double[] result) throws PathException, IllegalArgumentException {
+        if (result == null || result.length < 4) {
+            throw new IllegalArgumentException("given result must have a length of at least 4");
+        }
+
+        final Collector collector = new Collector();
+
+        PathDataReader.read(data, collector);
+
+        getBounds(collector.x, collector.y, collector.count, result);
+    }
+
+    /**
+     * Returns the minimum value of a single cubic bezier curve in one dimension, which does not need any arrays.
+     *
+     * @param start        the value of the start point.
+     * @param startControl the value of the start control point.
+     * @param endControl   the value of the end control point.
+     * @param end          the value of the end point.
+     *
+     * @return the minimum value of the curve.
+     */
+    public static double getMinimum(final double start, final double startControl, final double endControl, final double end) {
+        final double a = 3.0d * (end - start) + 9.0d * (startControl - endControl);
+        final double b = 6.0d * (start + endControl) - 12.0d * startControl;
+        final double c = 3.0d * (startControl - start);
+
+        return Math.min(Math.min(start, end), Math.min(evaluate(start, startControl, endControl, end, getFirstRoot(a, b, c)),
+                                                       evaluate(start, startControl, endControl, end, getSecondRoot(a, b, c))));
+    }
+
+    /**
+     * Returns the maximum value of a single cubic bezier curve in one dimension, which does not need any arrays.
+     *
+     * @param start        the value of the start point.
+     * @param startControl the value of the start control point.
+     * @param endControl   the value of the end control point.
+     * @param end          the value of the end point.
+     *
+     * @return the maximum value of the curve.
+     */
+    public static double getMaximum(final double start, final double startControl, final double endControl, final double end) {
+        final double a = 3.0d * (end - start) + 9.0d * (startControl - endControl);
+        final double b = 6.0d * (start + endControl) - 12.0d * startControl;
+        final double c = 3.0d * (startControl - start);
+
+        return Math.max(Math.max(start, end), Math.max(evaluate(start, startControl, endControl, end, getFirstRoot(a, b, c)),
+                                                       evaluate(start, startControl, endControl, end, getSecondRoot(a, b, c))));
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Checks if the given control points contain the given number of curves.
+     *
+     * @param x     the x positions of the control points.
+     * @param y     the y positions of the control points.
+     * @param count the number of curves.
+     *
+     * @throws IllegalArgumentException if any of the arrays is null or too short for the given count.
+     */
+    private static void checkControlPoints(final double[] x, final double[] y, final int count) throws IllegalArgumentException {
+        if (x == null || y == null) {
+            throw new IllegalArgumentException("given control points must not be null");
+        }
+
+        if (count < 0 || x.length < count * 4 || y.length < count * 4) {
+            throw new IllegalArgumentException(String.format("given control points must contain [%d] curves", count));
+        }
+    }
+
+    /**
+     * Returns the first root of the derivative a * t^2 + b * t + c clamped to [0, 1]. If the derivative is linear its only root is returned and if there is
+     * no root 0 is returned, which is the start of the curve and therefore does not change the result.
+     *
+     * @param a the quadratic coefficient.
+     * @param b the linear coefficient.
+     * @param c the constant coefficient.
+     *
+     * @return the first root clamped to [0, 1].
+     */
+    private static double getFirstRoot(final double a, final double b, final double c) {
+        final double discriminant = b * b - 4.0d * a * c;
+
+        final double root;
+
+        if (Math.abs(a) < NEAR_NULL) {
+            root = Math.abs(b) < NEAR_NULL ? 0.0d : -c / b;
+        } else {
+            root = discriminant < 0.0d ? 0.0d : (-b + Math.sqrt(discriminant)) / (2.0d * a);
+        }
+
+        return Math.max(0.0d, Math.min(1.0d, root));
+    }
+
+    /**
+     * Returns the second root of the derivative a * t^2 + b * t + c clamped to [0, 1]. If the derivative is linear or there is no root 0 is returned, which
+     * is the start of the curve and therefore does not change the result.
+     *
+     * @param a the quadratic coefficient.
+     * @param b the linear coefficient.
+     * @param c the constant coefficient.
+     *
+     * @return the second root clamped to [0, 1].
+     */
+    private static double getSecondRoot(final double a, final double b, final double c) {
+        final double discriminant = b * b - 4.0d * a * c;
+
+        final double root = Math.abs(a) < NEAR_NULL || discriminant < 0.0d ? 0.0d : (-b - Math.sqrt(discriminant)) / (2.0d * a);
+
+        return Math.max(0.0d, Math.min(1.0d, root));
+    }
+
+    /**
+     * Evaluates a cubic bezier curve in one dimension.
+     *
+     * @param start        the value of the start point.
+     * @param startControl the value of the start control point.
+     * @param endControl   the value of the end control point.
+     * @param end          the value of the end point.
+     * @param t            the position on the curve in [0, 1].
+     *
+     * @return the value of the curve at the given position.
+     */
+    private static double evaluate(final double start, final double startControl, final double endControl, final double end, final double t) {
+        final double mt = 1.0d - t;
+
+        return mt * mt * mt * start + 3.0d * mt * t * (mt * startControl + t * endControl) + t * t * t * end;
+    }
+
+    // endregion
+
+    // region Class
+
+    /**
+     * Collects the segments of a path as cubic curves.
+     */
+    private static final class Collector implements PathConsumer {
+
+        /**
+         * The x positions of the control points.
+         */
+        private double[] x = new double[64];
+
+        /**
+         * The y positions of the control points.
+         */
+        private double[] y = new double[64];
+
+        /**
+         * The number of curves.
+         */
+        private int count;
+
+        /**
+         * The x position of the current point.
+         */
+        private double currentX;
+
+        /**
+         * The y position of the current point.
+         */
+        private double currentY;
+
+        /**
+         * The x position of the start of the current sub path.
+         */
+        private double startX;
+
+        /**
+         * The y position of the start of the current sub path.
+         */
+        private double startY;
+
+        @Override
+        public void moveTo(final double x, final double y) {
+            currentX = x;
+            currentY = y;
+            startX = x;
+            startY = y;
+        }
+
+        @Override
+        public void lineTo(final double x, final double y) {
+            curveTo(currentX, currentY, x, y, x, y);
+        }
+
+        @Override
+        public void quadTo(final double controlX, final double controlY, final double x, final double y) {
+            curveTo(currentX + 2.0d / 3.0d * (controlX - currentX),
+                    currentY + 2.0d / 3.0d * (controlY - currentY),
+                    x + 2.0d / 3.0d * (controlX - x),
+                    y + 2.0d / 3.0d * (controlY - y),
+                    x,
+                    y);
+        }
+
+        @Override
+        public void curveTo(final double startControlX,
+                            final double startControlY,
+                            final double endControlX,
+                            final double endControlY,
+                            final double x,
+                            final double y) {
+            if (count * 4 == this.x.length) {
+                this.x = Arrays.copyOf(this.x, this.x.length * 2);
+                this.y = Arrays.copyOf(this.y, this.y.length * 2);
+            }
+
+            final int offset = count * 4;
+
+            this.x[offset] = currentX;
+            this.x[offset + 1] = startControlX;
+            this.x[offset + 2] = endControlX;
+            this.x[offset + 3] = x;
+            this.y[offset] = currentY;
+            this.y[offset + 1] = startControlY;
+            this.y[offset + 2] = endControlY;
+            this.y[offset + 3] = y;
+
+            count++;
+            currentX = x;
+            currentY = y;
+        }
+
+        @Override
+        public void close() {
+            lineTo(startX, startY);
+        }
+    }
+
+    // endregion
+}
@@ -18,6 +18,7 @@ import de.saxsys.svgfx.core.path.commands.MoveCommand;
 import de.saxsys.svgfx.core.path.commands.PathCommand;
 import de.saxsys.svgfx.core.utils.StringUtil;
 import de.saxsys.svgfx.core.utils.Wrapper;
+import de.saxsys.svgfx.jfr.FlightRecorderEvents;
 import javafx.geometry.Point2D;
 import javafx.scene.shape.Rectangle;
 
@@ -79,6 +80,45 @@ public class CommandParser {
      * @throws PathException if any error occurrs during the creation of the bounding box.
      */
     public Rectangle getBoundingBox(final String path) throws PathException {
+        return getBoundingBox(path, null, null);
+    }
+
+    /**
+     * Returns the bounding box that would result from the given path command. If the creation is slow, a flight recorder event is emitted which contains
+     * the given document id and element name.
+     *
+     * @param path        a {@link String} which represents an svg path command chain.
+     * @param documentId  the id of the document containing the path, might be null.
+     * @param elementName the name of the element containing the path, might be null.
+     *
+     * @return a new {@link Rectangle} determining the bounding box.
+     *
+     * @throws PathException if any error occurrs during the creation of the bounding box.
+     */
+    public Rectangle getBoundingBox(final String path, final String documentId, final String elementName) throws PathException {
+        final Object event = FlightRecorderEvents.begin(FlightRecorderEvents.Operation.BOUNDING_BOX);
+
+        try {
+            return createBoundingBox(path);
+        } finally {
+            FlightRecorderEvents.end(event, documentId, elementName);
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Creates the bounding box that would result from the given path command.
+     *
+     * @param path a {@link String} which represents an svg path command chain.
+     *
+     * @return a new {@link Rectangle} determining the bounding box.
+     *
+     * @throws PathException if any error occurrs during the creation of the bounding box.
+     */
+    private Rectangle createBoundingBox(final String path) throws PathException {
 
         if (isNullOrEmpty(path)) {
             throw new PathException("Can not get bounding box from empty path command");
@@ -110,10 +150,6 @@ public class CommandParser {
         return previousBoundingBox.getOptional().orElseThrow(() -> new PathException(String.format("Could not get bounding box from data [%s]", path)));
     }
 
-    // endregion
-
-    // region Private
-
     private Optional<Rectangle> getNextBoundingBox(final PathCommand currentCommand,
                                                    final Point2D previousPoint,
                                                    final Wrapper<Rectangle> previousBoundingBox) throws PathException {
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.path;
+
+/**
+ * Receives the segments of a path, all given in absolute coordinates. Arcs and the short forms of the curves are already converted, so only straight lines
+ * and bezier curves need to be handled.
+ *
+ * @author Xyanid on 19.10.2026.
+ * @see PathDataReader
+ */
+public interface PathConsumer {
+
+    /**
+     * Starts a new sub path at the given position.
+     *
+     * @param x the x position.
+     * @param y the y position.
+     */
+    void moveTo(final double x, final double y);
+
+    /**
+     * Adds a straight line from the current position to the given position.
+     *
+     * @param x the x position.
+     * @param y the y position.
+     */
+    void lineTo(final double x, final double y);
+
+    /**
+     * Adds a quadratic bezier curve from the current position to the given position.
+     *
+     * @param controlX the x position of the control point.
+     * @param controlY the y position of the control point.
+     * @param x        the x position of the end point.
+     * @param y        the y position of the end point.
+     */
+    void quadTo(final double controlX, final double controlY, final double x, final double y);
+
+    /**
+     * Adds a cubic bezier curve from the current position to the given position.
+     *
+     * @param startControlX the x position of the first control point.
+     * @param startControlY the y position of the first control point.
+     * @param endControlX   the x position of the second control point.
+     * @param endControlY   the y position of the second control point.
+     * @param x             the x position of the end point.
+     * @param y             the y position of the end point.
+     */
+    void curveTo(final double startControlX, final double startControlY, final double endControlX, final double endControlY, final double x, final double y);
+
+    /**
+     * Closes the current sub path by adding a straight line to its start position.
+     */
+    void close();
+}
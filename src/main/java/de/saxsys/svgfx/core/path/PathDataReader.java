@@ -0,0 +1,512 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.path;
+
+/**
+ * Reads the data of a svg path, as used by the d attribute of a path element, and passes its segments to a {@link PathConsumer}. Unlike the
+ * {@link CommandParser}, all commands including arcs and implicitly repeated commands are supported and the data is read in a single pass without splitting
+ * it into strings first.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class PathDataReader {
+
+    // region Constants
+
+    /**
+     * The names of all the commands.
+     */
+    private static final String COMMANDS = "MmLlHhVvCcSsQqTtAaZz";
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The data to read.
+     */
+    private final CharSequence data;
+
+    /**
+     * The consumer receiving the segments.
+     */
+    private final PathConsumer consumer;
+
+    /**
+     * The position in the {@link #data}.
+     */
+    private int position;
+
+    /**
+     * The x position of the current point.
+     */
+    private double currentX;
+
+    /**
+     * The y position of the current point.
+     */
+    private double currentY;
+
+    /**
+     * The x position of the start of the current sub path.
+     */
+    private double startX;
+
+    /**
+     * The y position of the start of the current sub path.
+     */
+    private double startY;
+
+    /**
+     * The x position of the last control point, used by the short forms of the curves.
+     */
+    private double controlX;
+
+    /**
+     * The y position of the last control point, used by the short forms of the curves.
+     */
+    private double controlY;
+
+    /**
+     * The upper case name of the previous command.
+     */
+    private char previousCommand;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance.
+     *
+     * @param data     the data to read.
+     * @param consumer the {@link PathConsumer} receiving the segments.
+     */
+    private PathDataReader(final CharSequence data, final PathConsumer consumer) {
+        this.data = data;
+        this.consumer = consumer;
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Reads the given path data and passes its segments to the given consumer.
+     *
+     * @param data     the path data to read, must not be null.
+     * @param consumer the {@link PathConsumer} receiving the segments, must not be null.
+     *
+     * @throws PathException            if the data is not valid, the segments read so far will already have been passed to the consumer.
+     * @throws IllegalArgumentException if either data or consumer is null.
+     */
+    public static void read(final CharSequence data, final PathConsumer consumer) throws PathException, IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("given data must not be null");
+        }
+
+        if (consumer == null) {
+            throw new IllegalArgumentException("given consumer must not be null");
+        }
+
+        new PathDataReader(data, consumer).readCommands();
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Reads all the commands in the data.
+     *
+     * @throws PathException if the data is not valid.
+     */
+    private void readCommands() throws PathException {
+        char command = 0;
+
+        skipSeparators();
+
+        while (position < data.length()) {
+            final char character = data.charAt(position);
+
+            if (COMMANDS.indexOf(character) >= 0) {
+                command = character;
+                position++;
+            } else if (command == 0) {
+                throw new PathException(String.format("Path data must start with a command [%s]", data));
+            } else if (command == 'Z' || command == 'z') {
+                throw new PathException(String.format("Path data contains unexpected character [%s] at position [%d]", character, position));
+            }
+
+            readCommand(command);
+
+            // additional coordinates after a move are treated as lines
+            if (command == 'M') {
+                command = 'L';
+            } else if (command == 'm') {
+                command = 'l';
+            }
+
+            skipSeparators();
+        }
+    }
+
+    /**
+     * Reads the arguments of the given command and passes the resulting segments to the consumer.
+     *
+     * @param command the name of the command.
+     *
+     * @throws PathException if the arguments are not valid.
+     */
+    private void readCommand(final char command) throws PathException {
+        final boolean relative = Character.isLowerCase(command);
+        final double offsetX = relative ? currentX : 0.0d;
+        final double offsetY = relative ? currentY : 0.0d;
+        final char name = Character.toUpperCase(command);
+
+        switch (name) {
+            case 'M': {
+                currentX = startX = offsetX + readNumber();
+                currentY = startY = offsetY + readNumber();
+                consumer.moveTo(currentX, currentY);
+                break;
+            }
+            case 'L': {
+                final double x = offsetX + readNumber();
+                final double y = offsetY + readNumber();
+                lineTo(x, y);
+                break;
+            }
+            case 'H':
+                lineTo(offsetX + readNumber(), currentY);
+                break;
+            case 'V':
+                lineTo(currentX, offsetY + readNumber());
+                break;
+            case 'C': {
+                final double startControlX = offsetX + readNumber();
+                final double startControlY = offsetY + readNumber();
+                final double endControlX = offsetX + readNumber();
+                final double endControlY = offsetY + readNumber();
+                final double x = offsetX + readNumber();
+                final double y = offsetY + readNumber();
+                curveTo(startControlX, startControlY, endControlX, endControlY, x, y);
+                break;
+            }
+            case 'S': {
+                final boolean reflect = previousCommand == 'C' || previousCommand == 'S';
+                final double startControlX = reflect ? 2.0d * currentX - controlX : currentX;
+                final double startControlY = reflect ? 2.0d * currentY - controlY : currentY;
+                final double endControlX = offsetX + readNumber();
+                final double endControlY = offsetY + readNumber();
+                final double x = offsetX + readNumber();
+                final double y = offsetY + readNumber();
+                curveTo(startControlX, startControlY, endControlX, endControlY, x, y);
+                break;
+            }
+            case 'Q': {
+                final double quadControlX = offsetX + readNumber();
+                final double quadControlY = offsetY + readNumber();
+                final double x = offsetX + readNumber();
+                final double y = offsetY + readNumber();
+                quadTo(quadControlX, quadControlY, x, y);
+                break;
+            }
+            case 'T': {
+                final boolean reflect = previousCommand == 'Q' || previousCommand == 'T';
+                final double quadControlX = reflect ? 2.0d * currentX - controlX : currentX;
+                final double quadControlY = reflect ? 2.0d * currentY - controlY : currentY;
+                final double x = offsetX + readNumber();
+                final double y = offsetY + readNumber();
+                quadTo(quadControlX, quadControlY, x, y);
+                break;
+            }
+            case 'A': {
+                final double radiusX = readNumber();
+                final double radiusY = readNumber();
+                final double rotation = readNumber();
+                final boolean largeArc = readFlag();
+                final boolean sweep = readFlag();
+                final double x = offsetX + readNumber();
+                final double y = offsetY + readNumber();
+                arcTo(radiusX, radiusY, rotation, largeArc, sweep, x, y);
+                break;
+            }
+            default: {
+                consumer.close();
+                currentX = startX;
+                currentY = startY;
+                break;
+            }
+        }
+
+        previousCommand = name;
+    }
+
+    /**
+     * Passes a straight line to the consumer and updates the current point.
+     *
+     * @param x the x position of the end point.
+     * @param y the y position of the end point.
+     */
+    private void lineTo(final double x, final double y) {
+        consumer.lineTo(x, y);
+        currentX = x;
+        currentY = y;
+    }
+
+    /**
+     * Passes a quadratic bezier curve to the consumer and updates the current and the control point.
+     *
+     * @param quadControlX the x position of the control point.
+     * @param quadControlY the y position of the control point.
+     * @param x            the x position of the end point.
+     * @param y            the y position of the end point.
+     */
+    private void quadTo(final double quadControlX, final double quadControlY, final double x, final double y) {
+        consumer.quadTo(quadControlX, quadControlY, x, y);
+        controlX = quadControlX;
+        controlY = quadControlY;
+        currentX = x;
+        currentY = y;
+    }
+
+    /**
+     * Passes a cubic bezier curve to the consumer and updates the current and the control point.
+     *
+     * @param startControlX the x position of the first control point.
+     * @param startControlY the y position of the first control point.
+     * @param endControlX   the x position of the second control point.
+     * @param endControlY   the y position of the second control point.
+     * @param x             the x position of the end point.
+     * @param y             the y position of the end point.
+     */
+    private void curveTo(final double startControlX,
+                         final double startControlY,
+                         final double endControlX,
+                         final double endControlY,
+                         final double x,
+                         final double y) {
+        consumer.curveTo(startControlX, startControlY, endControlX, endControlY, x, y);
+        controlX = endControlX;
+        controlY = endControlY;
+        currentX = x;
+        currentY = y;
+    }
+
+    /**
+     * Converts an elliptical arc into cubic bezier curves, each covering at most a quarter of the ellipse, as described in the implementation notes of the
+     * svg specification.
+     *
+     * @param radiusX  the horizontal radius of the ellipse.
+     * @param radiusY  the vertical radius of the ellipse.
+     * @param rotation the rotation of the ellipse in degrees.
+     * @param largeArc true if the larger of the possible arcs should be used.
+     * @param sweep    true if the arc should be drawn in the direction of positive angles.
+     * @param x        the x position of the end point.
+     * @param y        the y position of the end point.
+     */
+    private void arcTo(final double radiusX,
+                       final double radiusY,
+                       final double rotation,
+                       final boolean largeArc,
+                       final boolean sweep,
+                       final double x,
+                       final double y) {
+        if (x == currentX && y == currentY) {
+            return;
+        }
+
+        if (radiusX == 0.0d || radiusY == 0.0d) {
+            lineTo(x, y);
+            return;
+        }
+
+        final double angle = Math.toRadians(rotation % 360.0d);
+        final double cos = Math.cos(angle);
+        final double sin = Math.sin(angle);
+
+        final double halfX = (currentX - x) / 2.0d;
+        final double halfY = (currentY - y) / 2.0d;
+        final double rotatedX = cos * halfX + sin * halfY;
+        final double rotatedY = -sin * halfX + cos * halfY;
+
+        double rx = Math.abs(radiusX);
+        double ry = Math.abs(radiusY);
+
+        // radii which are too small are scaled up until the ellipse just fits
+        final double lambda = (rotatedX * rotatedX) / (rx * rx) + (rotatedY * rotatedY) / (ry * ry);
+        if (lambda > 1.0d) {
+            rx *= Math.sqrt(lambda);
+            ry *= Math.sqrt(lambda);
+        }
+
+        final double numerator = rx * rx * ry * ry - rx * rx * rotatedY * rotatedY - ry * ry * rotatedX * rotatedX;
+        final double denominator = rx * rx * rotatedY * rotatedY + ry * ry * rotatedX * rotatedX;
+
+        double coefficient = Math.sqrt(Math.max(0.0d, numerator / denominator));
+        if (largeArc == sweep) {
+            coefficient = -coefficient;
+        }
+
+        final double rotatedCenterX = coefficient * rx * rotatedY / ry;
+        final double rotatedCenterY = -coefficient * ry * rotatedX / rx;
+
+        final double centerX = cos * rotatedCenterX - sin * rotatedCenterY + (currentX + x) / 2.0d;
+        final double centerY = sin * rotatedCenterX + cos * rotatedCenterY + (currentY + y) / 2.0d;
+
+        final double startVectorX = (rotatedX - rotatedCenterX) / rx;
+        final double startVectorY = (rotatedY - rotatedCenterY) / ry;
+        final double endVectorX = (-rotatedX - rotatedCenterX) / rx;
+        final double endVectorY = (-rotatedY - rotatedCenterY) / ry;
+
+        final double startAngle = Math.atan2(startVectorY, startVectorX);
+        double sweepAngle = Math.atan2(startVectorX * endVectorY - startVectorY * endVectorX, startVectorX * endVectorX + startVectorY * endVectorY);
+
+        if (!sweep && sweepAngle > 0.0d) {
+            sweepAngle -= 2.0d * Math.PI;
+        } else if (sweep && sweepAngle < 0.0d) {
+            sweepAngle += 2.0d * Math.PI;
+        }
+
+        final int segments = Math.max(1, (int) Math.ceil(Math.abs(sweepAngle) / (Math.PI / 2.0d) - 1e-9d));
+        final double segmentAngle = sweepAngle / segments;
+        final double factor = 4.0d / 3.0d * Math.tan(segmentAngle / 4.0d);
+
+        for (int i = 0; i < segments; i++) {
+            final double angleStart = startAngle + i * segmentAngle;
+            final double angleEnd = angleStart + segmentAngle;
+            final double cosStart = Math.cos(angleStart);
+            final double sinStart = Math.sin(angleStart);
+            final double cosEnd = Math.cos(angleEnd);
+            final double sinEnd = Math.sin(angleEnd);
+
+            final double firstX = cosStart - factor * sinStart;
+            final double firstY = sinStart + factor * cosStart;
+            final double secondX = cosEnd + factor * sinEnd;
+            final double secondY = sinEnd - factor * cosEnd;
+
+            final boolean last = i == segments - 1;
+
+            consumer.curveTo(centerX + rx * cos * firstX - ry * sin * firstY,
+                             centerY + rx * sin * firstX + ry * cos * firstY,
+                             centerX + rx * cos * secondX - ry * sin * secondY,
+                             centerY + rx * sin * secondX + ry * cos * secondY,
+                             last ? x : centerX + rx * cos * cosEnd - ry * sin * sinEnd,
+                             last ? y : centerY + rx * sin * cosEnd + ry * cos * sinEnd);
+        }
+
+        currentX = x;
+        currentY = y;
+    }
+
+    /**
+     * Skips all whitespaces and commas.
+     */
+    private void skipSeparators() {
+        while (position < data.length()) {
+            final char character = data.charAt(position);
+
+            if (character != ',' && !Character.isWhitespace(character)) {
+                return;
+            }
+
+            position++;
+        }
+    }
+
+    /**
+     * Reads the next number.
+     *
+     * @return the number.
+     *
+     * @throws PathException if there is no number at the current position.
+     */
+    private double readNumber() throws PathException {
+        skipSeparators();
+
+        final int start = position;
+
+        if (position < data.length() && (data.charAt(position) == '-' || data.charAt(position) == '+')) {
+            position++;
+        }
+
+        final int digits = skipDigits();
+        int fractionDigits = 0;
+
+        if (position < data.length() && data.charAt(position) == '.') {
+            position++;
+            fractionDigits = skipDigits();
+        }
+
+        if (digits + fractionDigits == 0) {
+            throw new PathException(String.format("Path data does not contain a number at position [%d] in [%s]", start, data));
+        }
+
+        if (position < data.length() && (data.charAt(position) == 'e' || data.charAt(position) == 'E')) {
+            final int exponent = position;
+            position++;
+
+            if (position < data.length() && (data.charAt(position) == '-' || data.charAt(position) == '+')) {
+                position++;
+            }
+
+            // an e without digits is not an exponent
+            if (skipDigits() == 0) {
+                position = exponent;
+            }
+        }
+
+        return Double.parseDouble(data.subSequence(start, position).toString());
+    }
+
+    /**
+     * Skips all the digits at the current position.
+     *
+     * @return the number of skipped digits.
+     */
+    private int skipDigits() {
+        final int start = position;
+
+        while (position < data.length() && data.charAt(position) >= '0' && data.charAt(position) <= '9') {
+            position++;
+        }
+
+        return position - start;
+    }
+
+    /**
+     * Reads the next flag of an arc, which is either 0 or 1 and does not need to be separated from the following number.
+     *
+     * @return true if the flag is 1, otherwise false.
+     *
+     * @throws PathException if there is no flag at the current position.
+     */
+    private boolean readFlag() throws PathException {
+        skipSeparators();
+
+        if (position < data.length()) {
+            final char character = data.charAt(position++);
+
+            if (character == '0' || character == '1') {
+                return character == '1';
+            }
+        }
+
+        throw new PathException(String.format("Path data does not contain a flag at position [%d] in [%s]", position - 1, data));
+    }
+
+    // endregion
+}
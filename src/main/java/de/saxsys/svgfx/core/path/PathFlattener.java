@@ -0,0 +1,404 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core.path;
+
+import de.saxsys.svgfx.core.path.commands.BezierCurveCommand;
+import javafx.geometry.Point2D;
+
+import java.util.Arrays;
+
+/**
+ * Turns the segments of a path into polylines, which can be used by rasterizers, hit tests or formats without curves. Curves are subdivided adaptively
+ * until each part is flat enough, so the polylines never deviate from the curves by more than the flatness tolerance. The points are written into primitive
+ * buffers which are reused by each call of {@link #reset()} or {@link #flatten(CharSequence)}, so flattening many paths with the same instance does not
+ * allocate any memory once the buffers are large enough.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class PathFlattener implements PathConsumer {
+
+    // region Constants
+
+    /**
+     * The maximum number of times a curve is subdivided, which limits the number of points of a single curve to 2 ^ 16.
+     */
+    private static final int MAX_DEPTH = 16;
+
+    /**
+     * The initial number of points the buffers can hold.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The maximum distance between a curve and its polyline.
+     */
+    private double tolerance;
+
+    /**
+     * The flatness limit used by the subdivision, which is derived from the {@link #tolerance}.
+     */
+    private double flatness;
+
+    /**
+     * The points of all polylines, given as pairs of x and y positions.
+     */
+    private double[] coordinates = new double[INITIAL_CAPACITY * 2];
+
+    /**
+     * The number of points in the {@link #coordinates}.
+     */
+    private int pointCount;
+
+    /**
+     * The index of the first point of each polyline.
+     */
+    private int[] starts = new int[8];
+
+    /**
+     * Determines for each polyline if it is closed.
+     */
+    private boolean[] closed = new boolean[8];
+
+    /**
+     * The number of polylines.
+     */
+    private int subPathCount;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance.
+     *
+     * @param tolerance the maximum distance between a curve and its polyline, must be greater than 0.
+     *
+     * @throws IllegalArgumentException if the tolerance is not greater than 0.
+     */
+    public PathFlattener(final double tolerance) throws IllegalArgumentException {
+        setTolerance(tolerance);
+    }
+
+    // endregion
+
+    // region Getter
+
+    /**
+     * @return the maximum distance between a curve and its polyline.
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * @return the number of points of all polylines.
+     */
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    /**
+     * Returns the buffer containing the points of all polylines as pairs of x and y positions. Only the first {@link #getPointCount()} points are valid and
+     * the buffer is reused, so its content changes once this instance is used again.
+     *
+     * @return the buffer containing the points.
+     */
+    public double[] getCoordinates() {
+        return coordinates;
+    }
+
+    /**
+     * @return the number of polylines, which is one for each sub path.
+     */
+    public int getSubPathCount() {
+        return subPathCount;
+    }
+
+    /**
+     * Returns the index of the first point of the given polyline.
+     *
+     * @param index the index of the polyline.
+     *
+     * @return the index of the first point.
+     *
+     * @throws IndexOutOfBoundsException if the index is not valid.
+     */
+    public int getSubPathStart(final int index) throws IndexOutOfBoundsException {
+        checkSubPathIndex(index);
+
+        return starts[index];
+    }
+
+    /**
+     * Returns the index after the last point of the given polyline.
+     *
+     * @param index the index of the polyline.
+     *
+     * @return the index after the last point.
+     *
+     * @throws IndexOutOfBoundsException if the index is not valid.
+     */
+    public int getSubPathEnd(final int index) throws IndexOutOfBoundsException {
+        checkSubPathIndex(index);
+
+        return index + 1 < subPathCount ? starts[index + 1] : pointCount;
+    }
+
+    /**
+     * Determines whether the given polyline is closed, in which case its last point is connected to its first point.
+     *
+     * @param index the index of the polyline.
+     *
+     * @return true if the polyline is closed, otherwise false.
+     *
+     * @throws IndexOutOfBoundsException if the index is not valid.
+     */
+    public boolean isSubPathClosed(final int index) throws IndexOutOfBoundsException {
+        checkSubPathIndex(index);
+
+        return closed[index];
+    }
+
+    // endregion
+
+    // region Setter
+
+    /**
+     * Sets the maximum distance between a curve and its polyline, which is used for all following curves.
+     *
+     * @param tolerance the tolerance to use, must be greater than 0.
+     *
+     * @throws IllegalArgumentException if the tolerance is not greater than 0.
+     */
+    public void setTolerance(final double tolerance) throws IllegalArgumentException {
+        if (!(tolerance > 0.0d)) {
+            throw new IllegalArgumentException(String.format("given tolerance [%f] must be greater than 0", tolerance));
+        }
+
+        this.tolerance = tolerance;
+        // a curve deviates from its chord by at most a quarter of the square root of the sum used by the subdivision
+        this.flatness = 16.0d * tolerance * tolerance;
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Removes all polylines, the buffers are kept so they can be reused.
+     */
+    public void reset() {
+        pointCount = 0;
+        subPathCount = 0;
+    }
+
+    /**
+     * Removes all polylines and flattens the given path data.
+     *
+     * @param data the path data to flatten, must not be null.
+     *
+     * @throws PathException            if the data is not valid, the segments read so far will already have been flattened.
+     * @throws IllegalArgumentException if the given data is null.
+     */
+    public void flatten(final CharSequence data) throws PathException, IllegalArgumentException {
+        reset();
+
+        PathDataReader.read(data, this);
+    }
+
+    /**
+     * Flattens the given curve command starting at the given position, which allows to use the commands created by the
+     * {@link de.saxsys.svgfx.core.path.commands.CommandFactory}.
+     *
+     * @param absoluteCurrentPoint the absolute current position of the path, which is the start of the curve.
+     * @param command              the {@link BezierCurveCommand} to flatten.
+     *
+     * @throws PathException if the command is relative but the provided point is null.
+     */
+    public void curveTo(final Point2D absoluteCurrentPoint, final BezierCurveCommand command) throws PathException {
+        final Point2D startControlPoint = command.getAbsoluteStartControlPoint(absoluteCurrentPoint);
+        final Point2D endControlPoint = command.getAbsoluteEndControlPoint(absoluteCurrentPoint);
+        final Point2D endPoint = command.getAbsoluteEndPoint(absoluteCurrentPoint);
+
+        if (subPathCount == 0) {
+            moveTo(absoluteCurrentPoint.getX(), absoluteCurrentPoint.getY());
+        }
+
+        curveTo(startControlPoint.getX(), startControlPoint.getY(), endControlPoint.getX(), endControlPoint.getY(), endPoint.getX(), endPoint.getY());
+    }
+
+    // endregion
+
+    // region Implement PathConsumer
+
+    @Override
+    public void moveTo(final double x, final double y) {
+        if (subPathCount == starts.length) {
+            starts = Arrays.copyOf(starts, subPathCount * 2);
+            closed = Arrays.copyOf(closed, subPathCount * 2);
+        }
+
+        starts[subPathCount] = pointCount;
+        closed[subPathCount] = false;
+        subPathCount++;
+
+        add(x, y);
+    }
+
+    @Override
+    public void lineTo(final double x, final double y) {
+        continueSubPath();
+        add(x, y);
+    }
+
+    @Override
+    public void quadTo(final double controlX, final double controlY, final double x, final double y) {
+        continueSubPath();
+
+        final double startX = coordinates[pointCount * 2 - 2];
+        final double startY = coordinates[pointCount * 2 - 1];
+
+        subdivide(startX,
+                  startY,
+                  startX + 2.0d / 3.0d * (controlX - startX),
+                  startY + 2.0d / 3.0d * (controlY - startY),
+                  x + 2.0d / 3.0d * (controlX - x),
+                  y + 2.0d / 3.0d * (controlY - y),
+                  x,
+                  y,
+                  0);
+    }
+
+    @Override
+    public void curveTo(final double startControlX,
+                        final double startControlY,
+                        final double endControlX,
+                        final double endControlY,
+                        final double x,
+                        final double y) {
+        continueSubPath();
+
+        subdivide(coordinates[pointCount * 2 - 2], coordinates[pointCount * 2 - 1], startControlX, startControlY, endControlX, endControlY, x, y, 0);
+    }
+
+    @Override
+    public void close() {
+        if (subPathCount > 0) {
+            closed[subPathCount - 1] = true;
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Makes sure there is an open polyline to which points can be added. If the last polyline is closed, a new one is started at its first point.
+     */
+    private void continueSubPath() {
+        if (subPathCount == 0) {
+            moveTo(0.0d, 0.0d);
+        } else if (closed[subPathCount - 1]) {
+            final int start = starts[subPathCount - 1];
+
+            moveTo(coordinates[start * 2], coordinates[start * 2 + 1]);
+        }
+    }
+
+    /**
+     * Adds the points of the given cubic curve except for its start, subdividing it until each part is flat enough.
+     *
+     * @param startX        the x position of the start point.
+     * @param startY        the y position of the start point.
+     * @param startControlX the x position of the first control point.
+     * @param startControlY the y position of the first control point.
+     * @param endControlX   the x position of the second control point.
+     * @param endControlY   the y position of the second control point.
+     * @param endX          the x position of the end point.
+     * @param endY          the y position of the end point.
+     * @param depth         the number of times the curve was already subdivided.
+     */
+    private void subdivide(final double startX,
+                           final double startY,
+                           final double startControlX,
+                           final double startControlY,
+                           final double endControlX,
+                           final double endControlY,
+                           final double endX,
+                           final double endY,
+                           final int depth) {
+        final double ux = 3.0d * startControlX - 2.0d * startX - endX;
+        final double uy = 3.0d * startControlY - 2.0d * startY - endY;
+        final double vx = 3.0d * endControlX - 2.0d * endX - startX;
+        final double vy = 3.0d * endControlY - 2.0d * endY - startY;
+
+        if (depth >= MAX_DEPTH || Math.max(ux * ux, vx * vx) + Math.max(uy * uy, vy * vy) <= flatness) {
+            add(endX, endY);
+            return;
+        }
+
+        final double firstX = (startX + startControlX) * 0.5d;
+        final double firstY = (startY + startControlY) * 0.5d;
+        final double middleX = (startControlX + endControlX) * 0.5d;
+        final double middleY = (startControlY + endControlY) * 0.5d;
+        final double lastX = (endControlX + endX) * 0.5d;
+        final double lastY = (endControlY + endY) * 0.5d;
+        final double leftX = (firstX + middleX) * 0.5d;
+        final double leftY = (firstY + middleY) * 0.5d;
+        final double rightX = (middleX + lastX) * 0.5d;
+        final double rightY = (middleY + lastY) * 0.5d;
+        final double splitX = (leftX + rightX) * 0.5d;
+        final double splitY = (leftY + rightY) * 0.5d;
+
+        subdivide(startX, startY, firstX, firstY, leftX, leftY, splitX, splitY, depth + 1);
+        subdivide(splitX, splitY, rightX, rightY, lastX, lastY, endX, endY, depth + 1);
+    }
+
+    /**
+     * Adds the given point to the last polyline.
+     *
+     * @param x the x position.
+     * @param y the y position.
+     */
+    private void add(final double x, final double y) {
+        if (pointCount * 2 == coordinates.length) {
+            coordinates = Arrays.copyOf(coordinates, coordinates.length * 2);
+        }
+
+        coordinates[pointCount * 2] = x;
+        coordinates[pointCount * 2 + 1] = y;
+        pointCount++;
+    }
+
+    /**
+     * Checks if the given index of a polyline is valid.
+     *
+     * @param index the index of the polyline.
+     *
+     * @throws IndexOutOfBoundsException if the index is not valid.
+     */
+    private void checkSubPathIndex(final int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= subPathCount) {
+            throw new IndexOutOfBoundsException(String.format("given index [%d] is not within [0, %d)", index, subPathCount));
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,425 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core.path;
+
+import javafx.geometry.Point2D;
+
+import java.util.Arrays;
+
+/**
+ * Measures a path, which allows to get its length as well as the position and direction at a given distance along the path, for instance to move a marker
+ * along a route. The path is flattened using a {@link PathFlattener} and the accumulated length of each point is stored in a table, which is created
+ * lazily once it is first needed and used by all following queries. Sub paths are measured one after another, moving from one sub path to the next does
+ * not add any length. Closed sub paths include the line back to their start.
+ * <p>
+ * This class is thread safe.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class PathMeasure {
+
+    // region Constants
+
+    /**
+     * The default maximum distance between the path and the flattened path the measurements are based on.
+     */
+    public static final double DEFAULT_TOLERANCE = 0.01d;
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The path data to measure.
+     */
+    private final CharSequence data;
+
+    /**
+     * The maximum distance between the path and the flattened path the measurements are based on.
+     */
+    private final double tolerance;
+
+    /**
+     * The table containing the accumulated lengths, created when it is first needed.
+     */
+    private volatile Table table;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance using the {@link #DEFAULT_TOLERANCE}.
+     *
+     * @param data the path data to measure, must not be null.
+     *
+     * @throws IllegalArgumentException if the given data is null.
+     */
+    public PathMeasure(final CharSequence data) throws IllegalArgumentException {
+        this(data, DEFAULT_TOLERANCE);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param data      the path data to measure, must not be null.
+     * @param tolerance the maximum distance between the path and the flattened path the measurements are based on, must be greater than 0.
+     *
+     * @throws IllegalArgumentException if the given data is null or the tolerance is not greater than 0.
+     */
+    public PathMeasure(final CharSequence data, final double tolerance) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("given data must not be null");
+        }
+
+        if (!(tolerance > 0.0d)) {
+            throw new IllegalArgumentException(String.format("given tolerance [%f] must be greater than 0", tolerance));
+        }
+
+        this.data = data;
+        this.tolerance = tolerance;
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * @return the total length of all sub paths.
+     *
+     * @throws PathException if the path data is not valid.
+     */
+    public double getLength() throws PathException {
+        final Table currentTable = getTable();
+
+        return currentTable.count > 0 ? currentTable.lengths[currentTable.count - 1] : 0.0d;
+    }
+
+    /**
+     * Returns the position at the given distance along the path.
+     *
+     * @param distance the distance along the path, which is clamped to the length of the path.
+     *
+     * @return a new {@link Point2D} describing the position.
+     *
+     * @throws PathException if the path data is not valid or does not contain any points.
+     */
+    public Point2D getPointAtLength(final double distance) throws PathException {
+        final double[] result = new double[4];
+
+        getPositionAndTangent(distance, result);
+
+        return new Point2D(result[0], result[1]);
+    }
+
+    /**
+     * Returns the direction of the path at the given distance along the path.
+     *
+     * @param distance the distance along the path, which is clamped to the length of the path.
+     *
+     * @return a new {@link Point2D} describing the direction with a length of 1, or a length of 0 if the path does not have any length.
+     *
+     * @throws PathException if the path data is not valid or does not contain any points.
+     */
+    public Point2D getTangentAtLength(final double distance) throws PathException {
+        final double[] result = new double[4];
+
+        getPositionAndTangent(distance, result);
+
+        return new Point2D(result[2], result[3]);
+    }
+
+    /**
+     * Writes the position and direction at the given distance along the path into the given array, which allows to query the path each frame without
+     * creating any objects.
+     *
+     * @param distance the distance along the path, which is clamped to the length of the path.
+     * @param result   the array receiving the x and y position followed by the x and y direction, must have a length of at least 4.
+     *
+     * @throws PathException            if the path data is not valid or does not contain any points.
+     * @throws IllegalArgumentException if the given array is null or too short.
+     */
+    public void getPositionAndTangent(final double distance, final double[] result) throws PathException, IllegalArgumentException {
+        if (result == null || result.length < 4) {
+            throw new IllegalArgumentException("given result must have a length of at least 4");
+        }
+
+        final Table currentTable = getTableOrFail();
+        final int index = currentTable.getSegment(distance);
+
+        currentTable.getPosition(index, distance, result);
+        currentTable.getTangent(index, result);
+    }
+
+    /**
+     * Passes the part of the path between the given distances to the given consumer as straight lines.
+     *
+     * @param startDistance the distance along the path at which the part starts, which is clamped to the length of the path.
+     * @param endDistance   the distance along the path at which the part ends, which is clamped to the length of the path. Nothing is passed to the
+     *                      consumer if it is not greater than the start distance.
+     * @param consumer      the {@link PathConsumer} receiving the part, must not be null.
+     *
+     * @throws PathException            if the path data is not valid or does not contain any points.
+     * @throws IllegalArgumentException if the given consumer is null.
+     */
+    public void getSegment(final double startDistance, final double endDistance, final PathConsumer consumer) throws PathException, IllegalArgumentException {
+        if (consumer == null) {
+            throw new IllegalArgumentException("given consumer must not be null");
+        }
+
+        final Table currentTable = getTableOrFail();
+
+        if (startDistance >= endDistance) {
+            return;
+        }
+
+        final double[] position = new double[2];
+
+        final int startIndex = currentTable.getSegment(startDistance);
+        final int endIndex = currentTable.getSegment(endDistance);
+
+        currentTable.getPosition(startIndex, startDistance, position);
+        consumer.moveTo(position[0], position[1]);
+
+        for (int i = startIndex; i < endIndex; i++) {
+            if (currentTable.moves[i]) {
+                consumer.moveTo(currentTable.points[i * 2], currentTable.points[i * 2 + 1]);
+            } else {
+                consumer.lineTo(currentTable.points[i * 2], currentTable.points[i * 2 + 1]);
+            }
+        }
+
+        currentTable.getPosition(endIndex, endDistance, position);
+        consumer.lineTo(position[0], position[1]);
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * @return the {@link Table} of the path, which is created if needed.
+     *
+     * @throws PathException if the path data is not valid.
+     */
+    private Table getTable() throws PathException {
+        Table currentTable = table;
+
+        if (currentTable == null) {
+            final PathFlattener flattener = new PathFlattener(tolerance);
+
+            flattener.flatten(data);
+
+            currentTable = new Table(flattener);
+            table = currentTable;
+        }
+
+        return currentTable;
+    }
+
+    /**
+     * @return the {@link Table} of the path, which is created if needed.
+     *
+     * @throws PathException if the path data is not valid or does not contain any points.
+     */
+    private Table getTableOrFail() throws PathException {
+        final Table currentTable = getTable();
+
+        if (currentTable.count == 0) {
+            throw new PathException(String.format("Can not measure path [%s] since it does not contain any points", data));
+        }
+
+        return currentTable;
+    }
+
+    // endregion
+
+    // region Class
+
+    /**
+     * Contains the points of the flattened path and their accumulated lengths.
+     */
+    private static final class Table {
+
+        /**
+         * The points, given as pairs of x and y positions.
+         */
+        private final double[] points;
+
+        /**
+         * The accumulated length of each point.
+         */
+        private final double[] lengths;
+
+        /**
+         * Determines for each point if it starts a new sub path, so the line to it is not part of the path.
+         */
+        private final boolean[] moves;
+
+        /**
+         * The number of points.
+         */
+        private final int count;
+
+        /**
+         * Creates a new instance containing the polylines of the given flattener.
+         *
+         * @param flattener the {@link PathFlattener} containing the flattened path.
+         */
+        private Table(final PathFlattener flattener) {
+            int size = flattener.getPointCount();
+
+            for (int subPath = 0; subPath < flattener.getSubPathCount(); subPath++) {
+                if (flattener.isSubPathClosed(subPath)) {
+                    size++;
+                }
+            }
+
+            points = new double[size * 2];
+            lengths = new double[size];
+            moves = new boolean[size];
+
+            final double[] coordinates = flattener.getCoordinates();
+            int index = 0;
+
+            for (int subPath = 0; subPath < flattener.getSubPathCount(); subPath++) {
+                final int start = flattener.getSubPathStart(subPath);
+                final int end = flattener.getSubPathEnd(subPath);
+
+                System.arraycopy(coordinates, start * 2, points, index * 2, (end - start) * 2);
+                moves[index] = true;
+                index += end - start;
+
+                if (flattener.isSubPathClosed(subPath)) {
+                    points[index * 2] = coordinates[start * 2];
+                    points[index * 2 + 1] = coordinates[start * 2 + 1];
+                    index++;
+                }
+            }
+
+            for (int i = 1; i < size; i++) {
+                lengths[i] = lengths[i - 1] + (moves[i] ? 0.0d : getSegmentLength(i));
+            }
+
+            count = size;
+        }
+
+        /**
+         * Returns the index of the point ending the line which contains the given distance.
+         *
+         * @param distance the distance along the path.
+         *
+         * @return the index of the point ending the line, which is 0 if the path only consists of a single point.
+         */
+        private int getSegment(final double distance) {
+            if (count == 1) {
+                return 0;
+            }
+
+            int index = Arrays.binarySearch(lengths, 1, count, Math.max(0.0d, Math.min(distance, lengths[count - 1])));
+
+            if (index < 0) {
+                index = -index - 1;
+            } else {
+                // the same length may be contained more than once, use the first line reaching it
+                while (index > 1 && lengths[index - 1] == lengths[index] && !moves[index - 1]) {
+                    index--;
+                }
+            }
+
+            while (index < count - 1 && moves[index]) {
+                index++;
+            }
+
+            return index;
+        }
+
+        /**
+         * Writes the position at the given distance on the line ending at the given index into the given array.
+         *
+         * @param index    the index of the point ending the line.
+         * @param distance the distance along the path.
+         * @param result   the array receiving the x and y position.
+         */
+        private void getPosition(final int index, final double distance, final double[] result) {
+            if (index == 0 || moves[index]) {
+                result[0] = points[index * 2];
+                result[1] = points[index * 2 + 1];
+                return;
+            }
+
+            final double length = lengths[index] - lengths[index - 1];
+            final double factor = length > 0.0d ? Math.max(0.0d, Math.min(1.0d, (distance - lengths[index - 1]) / length)) : 1.0d;
+
+            result[0] = points[index * 2 - 2] + factor * (points[index * 2] - points[index * 2 - 2]);
+            result[1] = points[index * 2 - 1] + factor * (points[index * 2 + 1] - points[index * 2 - 1]);
+        }
+
+        /**
+         * Writes the direction of the line ending at the given index into the given array, if the line has no length the closest line having a length is
+         * used instead.
+         *
+         * @param index  the index of the point ending the line.
+         * @param result the array receiving the x and y direction at the positions 2 and 3.
+         */
+        private void getTangent(final int index, final double[] result) {
+            for (int distance = 0; distance < count; distance++) {
+                if (setTangent(index + distance, result) || setTangent(index - distance, result)) {
+                    return;
+                }
+            }
+
+            result[2] = 0.0d;
+            result[3] = 0.0d;
+        }
+
+        /**
+         * Writes the direction of the line ending at the given index into the given array if the line exists and has a length.
+         *
+         * @param index  the index of the point ending the line.
+         * @param result the array receiving the x and y direction at the positions 2 and 3.
+         *
+         * @return true if the direction was written, otherwise false.
+         */
+        private boolean setTangent(final int index, final double[] result) {
+            if (index < 1 || index >= count || moves[index]) {
+                return false;
+            }
+
+            final double length = getSegmentLength(index);
+
+            if (length <= 0.0d) {
+                return false;
+            }
+
+            result[2] = (points[index * 2] - points[index * 2 - 2]) / length;
+            result[3] = (points[index * 2 + 1] - points[index * 2 - 1]) / length;
+
+            return true;
+        }
+
+        /**
+         * Returns the length of the line ending at the given index.
+         *
+         * @param index the index of the point ending the line.
+         *
+         * @return the length of the line.
+         */
+        private double getSegmentLength(final int index) {
+            return Math.hypot(points[index * 2] - points[index * 2 - 2], points[index * 2 + 1] - points[index * 2 - 1]);
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core.path;
+
+import java.util.Arrays;
+
+/**
+ * Reduces the number of points of polylines and paths using the Douglas-Peucker algorithm, so that the result never deviates from the original by more than
+ * a given tolerance. This is useful for documents carrying far more points than can be seen, such as maps exported from geographic information systems.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class PathSimplifier {
+
+    // region Constructor
+
+    /**
+     *
+     */
+    private PathSimplifier() {
+
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Simplifies the given points.
+     *
+     * @param points    the points to simplify, given as pairs of x and y positions, must not be null.
+     * @param tolerance the maximum distance between the original and the simplified points.
+     *
+     * @return the points which need to be kept, given as pairs of x and y positions.
+     *
+     * @throws IllegalArgumentException if the given points are null or do not consist of pairs.
+     */
+    public static double[] simplify(final double[] points, final double tolerance) throws IllegalArgumentException {
+        if (points == null) {
+            throw new IllegalArgumentException("given points must not be null");
+        }
+
+        if (points.length % 2 != 0) {
+            throw new IllegalArgumentException(String.format("given points must consist of pairs but has [%d] values", points.length));
+        }
+
+        return simplify(points, 0, points.length / 2, tolerance);
+    }
+
+    /**
+     * Simplifies the given path data. Curves are flattened into straight lines first using a {@link PathFlattener}, so the result only consists of move,
+     * line and close commands.
+     *
+     * @param data      the path data to simplify, must not be null.
+     * @param tolerance the maximum distance between the original and the simplified path, must be greater than 0.
+     *
+     * @return the simplified path data.
+     *
+     * @throws PathException            if the given data is not valid.
+     * @throws IllegalArgumentException if the given data is null or the tolerance is not greater than 0.
+     */
+    public static String simplify(final CharSequence data, final double tolerance) throws PathException, IllegalArgumentException {
+        // half of the tolerance is used by the flattening and half by the simplification, so both together stay within the tolerance
+        final PathFlattener flattener = new PathFlattener(tolerance * 0.5d);
+
+        flattener.flatten(data);
+
+        final StringBuilder result = new StringBuilder();
+
+        for (int subPath = 0; subPath < flattener.getSubPathCount(); subPath++) {
+            final int start = flattener.getSubPathStart(subPath);
+            final double[] simplified = simplify(flattener.getCoordinates(), start, flattener.getSubPathEnd(subPath) - start, tolerance * 0.5d);
+
+            for (int i = 0; i < simplified.length; i += 2) {
+                if (result.length() > 0) {
+                    result.append(' ');
+                }
+
+                result.append(i == 0 ? 'M' : 'L').append(simplified[i]).append(' ').append(simplified[i + 1]);
+            }
+
+            if (flattener.isSubPathClosed(subPath)) {
+                result.append(" Z");
+            }
+        }
+
+        return result.toString();
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Simplifies the given number of points of the given points starting at the given offset.
+     *
+     * @param points    the points to simplify.
+     * @param offset    the index of the first point to use.
+     * @param count     the number of points to use.
+     * @param tolerance the maximum distance between the original and the simplified points.
+     *
+     * @return the points which need to be kept.
+     */
+    private static double[] simplify(final double[] points, final int offset, final int count, final double tolerance) {
+        if (count < 3) {
+            return Arrays.copyOfRange(points, offset * 2, (offset + count) * 2);
+        }
+
+        final boolean[] keep = new boolean[count];
+        keep[0] = true;
+        keep[count - 1] = true;
+
+        final int[] stack = new int[count * 2];
+        int stackSize = 0;
+        stack[stackSize++] = 0;
+        stack[stackSize++] = count - 1;
+
+        final double squaredTolerance = tolerance * tolerance;
+        int kept = 2;
+
+        while (stackSize > 0) {
+            final int end = stack[--stackSize];
+            final int start = stack[--stackSize];
+
+            double maxDistance = -1.0d;
+            int index = -1;
+
+            for (int i = start + 1; i < end; i++) {
+                final double distance = getSquaredDistance(points, offset + i, offset + start, offset + end);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    index = i;
+                }
+            }
+
+            if (index >= 0 && maxDistance > squaredTolerance) {
+                keep[index] = true;
+                kept++;
+
+                stack[stackSize++] = start;
+                stack[stackSize++] = index;
+                stack[stackSize++] = index;
+                stack[stackSize++] = end;
+            }
+        }
+
+        final double[] result = new double[kept * 2];
+
+        for (int i = 0, j = 0; i < count; i++) {
+            if (keep[i]) {
+                result[j++] = points[(offset + i) * 2];
+                result[j++] = points[(offset + i) * 2 + 1];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the squared distance of a point to the line segment between two other points.
+     *
+     * @param points the points, given as pairs of x and y positions.
+     * @param index  the index of the point.
+     * @param start  the index of the start of the line segment.
+     * @param end    the index of the end of the line segment.
+     *
+     * @return the squared distance of the point to the line segment.
+     */
+    private static double getSquaredDistance(final double[] points, final int index, final int start, final int end) {
+        final double startX = points[start * 2];
+        final double startY = points[start * 2 + 1];
+        final double deltaX = points[end * 2] - startX;
+        final double deltaY = points[end * 2 + 1] - startY;
+        final double pointX = points[index * 2] - startX;
+        final double pointY = points[index * 2 + 1] - startY;
+
+        final double length = deltaX * deltaX + deltaY * deltaY;
+        final double factor = length > 0.0d ? Math.max(0.0d, Math.min(1.0d, (pointX * deltaX + pointY * deltaY) / length)) : 0.0d;
+
+        final double distanceX = pointX - factor * deltaX;
+        final double distanceY = pointY - factor * deltaY;
+
+        return distanceX * distanceX + distanceY * distanceY;
+    }
+
+    // endregion
+}
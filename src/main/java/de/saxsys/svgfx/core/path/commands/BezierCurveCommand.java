@@ -13,12 +13,11 @@
 
 package de.saxsys.svgfx.core.path.commands;
 
+import de.saxsys.svgfx.core.path.BezierBounds;
 import de.saxsys.svgfx.core.path.PathException;
 import javafx.geometry.Point2D;
 import javafx.scene.shape.Rectangle;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -28,15 +27,6 @@ import java.util.Optional;
  */
 public abstract class BezierCurveCommand extends PathCommand {
 
-    // region Constants
-
-    /**
-     * Determine a value that indicated a near null.
-     */
-    private static final double NEAR_NULL = 1e-12;
-
-    // endregion
-
     // region Fields
 
     /**
@@ -99,92 +89,13 @@ public abstract class BezierCurveCommand extends PathCommand {
         final Point2D absoluteStartControlPoint = getAbsoluteStartControlPoint(absoluteCurrentPoint);
         final Point2D absoluteEndControlPoint = getAbsoluteEndControlPoint(absoluteCurrentPoint);
         final Point2D absoluteEndPoint = getAbsoluteEndPoint(absoluteCurrentPoint);
-        final List<Double> localExtrema = getExtremaValues(absoluteCurrentPoint, absoluteStartControlPoint, absoluteEndControlPoint, absoluteEndPoint);
-
-        double minX = Math.min(absoluteCurrentPoint.getX(), absoluteEndPoint.getX());
-        double maxX = Math.max(absoluteCurrentPoint.getX(), absoluteEndPoint.getX());
-        double minY = Math.min(absoluteCurrentPoint.getY(), absoluteEndPoint.getY());
-        double maxY = Math.max(absoluteCurrentPoint.getY(), absoluteEndPoint.getY());
-
-        for (final Double t : localExtrema) {
-            final Point2D curvePosition = getCurvePoint(t, absoluteCurrentPoint, absoluteStartControlPoint, absoluteEndControlPoint, absoluteEndPoint);
-            minX = Math.min(minX, curvePosition.getX());
-            maxX = Math.max(maxX, curvePosition.getX());
-            minY = Math.min(minY, curvePosition.getY());
-            maxY = Math.max(maxY, curvePosition.getY());
-        }
-
-        return Optional.of(new Rectangle(minX, minY, maxX - minX, maxY - minY));
-    }
-
-    // endregion
-
-    // region Private
-
-    private Point2D getCurvePoint(final Double t,
-                                  final Point2D start,
-                                  final Point2D startControl,
-                                  final Point2D endControl,
-                                  final Point2D end) {
-        final Double mt = 1.0d - t;
 
-        final Double tEnd = Math.pow(t, 3);
-        final Double tEndControl = 3 * Math.pow(t, 2) * mt;
+        final double minX = BezierBounds.getMinimum(absoluteCurrentPoint.getX(), absoluteStartControlPoint.getX(), absoluteEndControlPoint.getX(), absoluteEndPoint.getX());
+        final double minY = BezierBounds.getMinimum(absoluteCurrentPoint.getY(), absoluteStartControlPoint.getY(), absoluteEndControlPoint.getY(), absoluteEndPoint.getY());
+        final double maxX = BezierBounds.getMaximum(absoluteCurrentPoint.getX(), absoluteStartControlPoint.getX(), absoluteEndControlPoint.getX(), absoluteEndPoint.getX());
+        final double maxY = BezierBounds.getMaximum(absoluteCurrentPoint.getY(), absoluteStartControlPoint.getY(), absoluteEndControlPoint.getY(), absoluteEndPoint.getY());
 
-        final Double mtStart = Math.pow(mt, 3);
-        final Double mtStartControl = 3 * Math.pow(mt, 2) * t;
-
-        final Double x = mtStart * start.getX() + mtStartControl * startControl.getX() + tEndControl * endControl.getX() + tEnd * end.getX();
-        final Double y = mtStart * start.getY() + mtStartControl * startControl.getY() + tEndControl * endControl.getY() + tEnd * end.getY();
-
-        return new Point2D(x, y);
-    }
-
-    private List<Double> getExtremaValues(final Point2D start,
-                                          final Point2D startControl,
-                                          final Point2D endControl,
-                                          final Point2D end) {
-
-        final List<Double> result = new ArrayList<>(0);
-
-        result.addAll(getExtremaValues(start.getX(), startControl.getX(), endControl.getX(), end.getX()));
-        result.addAll(getExtremaValues(start.getY(), startControl.getY(), endControl.getY(), end.getY()));
-
-        return result;
-    }
-
-    private List<Double> getExtremaValues(final Double start, final Double startControl, final Double endControl, final Double end) {
-
-        final List<Double> result = new ArrayList<>(0);
-
-        final Double a = -3 * start + 9 * startControl - 9 * endControl + 3 * end;
-        final Double b = 6 * start - 12 * startControl + 6 * endControl;
-        final Double c = 3 * startControl - 3 * start;
-
-        final Double b2ac = b * b - 4 * c * a;
-        final Double sqrtb2ac = Math.sqrt(b2ac);
-
-        if (isSmallerOrNearNull(Math.abs(a)) && !isSmallerOrNearNull(Math.abs(b))) {
-            final double t = -c / b;
-            if (0 < t && t < 1) {
-                result.add(t);
-            }
-        } else if (b2ac >= 0) {
-            final Double t1 = (-b + sqrtb2ac) / (2 * a);
-            if (0 < t1 && t1 < 1) {
-                result.add(t1);
-            }
-            final Double t2 = (-b - sqrtb2ac) / (2 * a);
-            if (0 < t2 && t2 < 1) {
-                result.add(t2);
-            }
-        }
-
-        return result;
-    }
-
-    private boolean isSmallerOrNearNull(final double value) {
-        return value < NEAR_NULL;
+        return Optional.of(new Rectangle(minX, minY, maxX - minX, maxY - minY));
     }
 
     // endregion
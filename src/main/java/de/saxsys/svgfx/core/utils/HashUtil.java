@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.utils;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * This class provides functionality to create hashes of data.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class HashUtil {
+
+    // region Constants
+
+    /**
+     * The algorithm used to create hashes.
+     */
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    /**
+     * The characters used to represent a hash.
+     */
+    private static final char[] HEX_CHARACTERS = "0123456789abcdef".toCharArray();
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Private constructor, since this class only provides static methods.
+     */
+    private HashUtil() {
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Creates the SHA-256 hash of the given data as lower case hexadecimal string.
+     *
+     * @param data the data to hash, must not be null.
+     *
+     * @return the hash of the data.
+     *
+     * @throws IllegalArgumentException if the given data is null.
+     */
+    public static String createHash(final byte[] data) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("given data must not be null");
+        }
+
+        final MessageDigest digest;
+
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (final NoSuchAlgorithmException e) {
+            // every java platform is required to support the algorithm
+            throw new IllegalStateException(e);
+        }
+
+        final byte[] hash = digest.digest(data);
+        final char[] result = new char[hash.length * 2];
+
+        for (int i = 0; i < hash.length; i++) {
+            result[i * 2] = HEX_CHARACTERS[(hash[i] >> 4) & 0x0F];
+            result[i * 2 + 1] = HEX_CHARACTERS[hash[i] & 0x0F];
+        }
+
+        return new String(result);
+    }
+
+    // endregion
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.utils;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of primitive {@code int} values, which avoids the boxing a {@link java.util.List} would require. The backing array is reused when the
+ * list is cleared, so the same instance can be used for several operations without allocating new memory.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class IntList {
+
+    // region Constants
+
+    /**
+     * The initial capacity used if none is provided.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The array containing the values.
+     */
+    private int[] values;
+
+    /**
+     * The amount of values contained in the {@link #values}.
+     */
+    private int size;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new empty instance using the default capacity.
+     */
+    public IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new empty instance using the given capacity.
+     *
+     * @param capacity the initial capacity, must not be negative.
+     *
+     * @throws IllegalArgumentException if the given capacity is negative.
+     */
+    public IntList(final int capacity) throws IllegalArgumentException {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("given capacity must not be negative");
+        }
+
+        this.values = new int[capacity];
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Gets the {@link #size}.
+     *
+     * @return the {@link #size}.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if this list does not contain any values.
+     *
+     * @return true if the list is empty, otherwise false.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the value at the given index.
+     *
+     * @param index the index of the value.
+     *
+     * @return the value at the given index.
+     *
+     * @throws IndexOutOfBoundsException if the given index is not within the size of this list.
+     */
+    public int get(final int index) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index [%d] is not within size [%d]", index, size));
+        }
+
+        return values[index];
+    }
+
+    /**
+     * Sets the value at the given index.
+     *
+     * @param index the index of the value.
+     * @param value the value to set.
+     *
+     * @throws IndexOutOfBoundsException if the given index is not within the size of this list.
+     */
+    public void set(final int index, final int value) throws IndexOutOfBoundsException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.format("Index [%d] is not within size [%d]", index, size));
+        }
+
+        values[index] = value;
+    }
+
+    /**
+     * Adds the given value at the end of this list.
+     *
+     * @param value the value to add.
+     */
+    public void add(final int value) {
+        ensureCapacity(size + 1);
+        values[size++] = value;
+    }
+
+    /**
+     * Adds the given values at the end of this list.
+     *
+     * @param values the values to add, must not be null.
+     *
+     * @throws IllegalArgumentException if the given values are null.
+     */
+    public void addAll(final int... values) throws IllegalArgumentException {
+        if (values == null) {
+            throw new IllegalArgumentException("given values must not be null");
+        }
+
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, this.values, size, values.length);
+        size += values.length;
+    }
+
+    /**
+     * Removes all values from this list, the allocated memory is kept.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Creates a new array containing the values of this list.
+     *
+     * @return a new array containing the values.
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Makes sure that the {@link #values} can hold at least the given amount of values.
+     *
+     * @param capacity the required capacity.
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length + (values.length >> 1) + 1));
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,585 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.css.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Matches styles against elements using the selectors the styles were declared with. Grouped selectors are split into their single selectors and each
+ * compound selector, consisting of an optional type selector followed by any amount of id and class selectors, is compiled once into a bucket keyed by its id,
+ * its first class or its type, with its specificity precomputed. An element is therefore matched with a few hash lookups instead of checking every style.
+ * Selectors using combinators, attribute selectors or pseudo classes can not be evaluated, however the classes they use still count as used. If such a
+ * selector ends with a class, its style is applied to all elements of that class after all evaluated styles, since the rest of the selector is ignored. For
+ * the same reason a selector consisting of a single name is also applied to the elements having a class of that name, as styles are sometimes declared
+ * without the leading class selector.
+ * <p>
+ * Styles can be added at any time, the buckets are compiled when the first element is matched after a style has been added. Matching can be done from several
+ * threads at once.
+ *
+ * @param <TStyle> the type of the styles.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class CssCascade<TStyle> {
+
+    // region Constants
+
+    /**
+     * The selector which matches any type.
+     */
+    private static final String UNIVERSAL_SELECTOR = "*";
+
+    /**
+     * The separator of the selectors in a grouped selector.
+     */
+    private static final String GROUP_SEPARATOR = ",";
+
+    /**
+     * The amount of bits the amount of id selectors is shifted in the specificity.
+     */
+    private static final int ID_SHIFT = 16;
+
+    /**
+     * The amount of bits the amount of class selectors is shifted in the specificity.
+     */
+    private static final int CLASS_SHIFT = 8;
+
+    /**
+     * The maximum amount of selectors of one kind counted in the specificity.
+     */
+    private static final int MAXIMUM_COUNT = 0xFF;
+
+    /**
+     * The character starting a class selector.
+     */
+    private static final char CLASS_SELECTOR_START = '.';
+
+    // endregion
+
+    // region Rule
+
+    /**
+     * A compiled compound selector together with its style.
+     *
+     * @param <TStyle> the type of the style.
+     */
+    private static final class Rule<TStyle> {
+
+        // region Fields
+
+        /**
+         * The style of the rule.
+         */
+        private final TStyle style;
+
+        /**
+         * The type the element must have or null if any type matches.
+         */
+        private final String type;
+
+        /**
+         * The id the element must have or null if any id matches.
+         */
+        private final String id;
+
+        /**
+         * The classes the element must have.
+         */
+        private final String[] classes;
+
+        /**
+         * The specificity of the selector, the amount of ids, classes and types each packed into its own byte.
+         */
+        private final int specificity;
+
+        /**
+         * The position of the rule in the order of declaration.
+         */
+        private final int order;
+
+        // endregion
+
+        // region Constructor
+
+        /**
+         * Creates a new instance.
+         *
+         * @param style   the style of the rule.
+         * @param type    the type of the selector.
+         * @param id      the id of the selector.
+         * @param classes the classes of the selector.
+         * @param order   the position of the rule in the order of declaration.
+         */
+        private Rule(final TStyle style, final String type, final String id, final String[] classes, final int order) {
+            this.style = style;
+            this.type = type;
+            this.id = id;
+            this.classes = classes;
+            this.order = order;
+            this.specificity = ((id == null ? 0 : 1) << ID_SHIFT) | (Math.min(classes.length, MAXIMUM_COUNT) << CLASS_SHIFT) | (type == null ? 0 : 1);
+        }
+
+        // endregion
+
+        // region Public
+
+        /**
+         * Determines if the rule matches the given element.
+         *
+         * @param elementType    the type of the element.
+         * @param elementId      the id of the element, might be null.
+         * @param elementClasses the classes of the element.
+         *
+         * @return true if the rule matches the element, otherwise false.
+         */
+        boolean matches(final String elementType, final String elementId, final Set<String> elementClasses) {
+            if (type != null && !type.equals(elementType)) {
+                return false;
+            }
+
+            if (id != null && !id.equals(elementId)) {
+                return false;
+            }
+
+            for (final String name : classes) {
+                if (!elementClasses.contains(name)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        // endregion
+    }
+
+    // endregion
+
+    // region Buckets
+
+    /**
+     * The compiled rules of the cascade, which are not changed after they have been compiled.
+     *
+     * @param <TStyle> the type of the styles.
+     */
+    private static final class Buckets<TStyle> {
+
+        // region Fields
+
+        /**
+         * Contains the rules which have an id selector keyed by the id.
+         */
+        private final Map<String, List<Rule<TStyle>>> byId = new HashMap<>();
+
+        /**
+         * Contains the rules which have no id but a class selector keyed by their first class.
+         */
+        private final Map<String, List<Rule<TStyle>>> byClass = new HashMap<>();
+
+        /**
+         * Contains the rules which only have a type selector keyed by the type.
+         */
+        private final Map<String, List<Rule<TStyle>>> byType = new HashMap<>();
+
+        /**
+         * Contains the rules which match any element.
+         */
+        private final List<Rule<TStyle>> universal = new ArrayList<>();
+
+        /**
+         * Contains the rules of selectors which can not be evaluated keyed by the class they end with, in the order of their declaration.
+         */
+        private final Map<String, List<Rule<TStyle>>> byTrailingClass = new HashMap<>();
+
+        /**
+         * Contains all classes used by any selector.
+         */
+        private final Set<String> classes = new HashSet<>();
+
+        // endregion
+
+        // region Constructor
+
+        /**
+         * Creates a new instance putting the given rules into their buckets.
+         *
+         * @param rules              the rules to use.
+         * @param trailingRules      the rules of selectors which can not be evaluated, each only having the class the selector ends with.
+         * @param unsupportedClasses the classes used by selectors which can not be evaluated.
+         */
+        private Buckets(final List<Rule<TStyle>> rules, final List<Rule<TStyle>> trailingRules, final Set<String> unsupportedClasses) {
+            classes.addAll(unsupportedClasses);
+
+            for (final Rule<TStyle> rule : trailingRules) {
+                classes.add(rule.classes[0]);
+                byTrailingClass.computeIfAbsent(rule.classes[0], key -> new ArrayList<>()).add(rule);
+            }
+
+            for (final Rule<TStyle> rule : rules) {
+                Collections.addAll(classes, rule.classes);
+
+                if (rule.id != null) {
+                    byId.computeIfAbsent(rule.id, key -> new ArrayList<>()).add(rule);
+                } else if (rule.classes.length > 0) {
+                    byClass.computeIfAbsent(rule.classes[0], key -> new ArrayList<>()).add(rule);
+                } else if (rule.type != null) {
+                    byType.computeIfAbsent(rule.type, key -> new ArrayList<>()).add(rule);
+                } else {
+                    universal.add(rule);
+                }
+            }
+        }
+
+        // endregion
+    }
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * Orders rules by their priority, the rule with the highest specificity declared last comes first.
+     */
+    private final Comparator<Rule<TStyle>> priority = Comparator.<Rule<TStyle>>comparingInt(rule -> rule.specificity)
+            .thenComparingInt(rule -> rule.order)
+            .reversed();
+
+    /**
+     * Orders rules by their declaration, the rule declared last comes first.
+     */
+    private final Comparator<Rule<TStyle>> declaration = Comparator.<Rule<TStyle>>comparingInt(rule -> rule.order).reversed();
+
+    /**
+     * Contains all the rules in the order they were added.
+     */
+    private final List<Rule<TStyle>> rules = new ArrayList<>();
+
+    /**
+     * Contains a rule for each selector which can not be evaluated but ends with a class, only having that class, in the order they were added.
+     */
+    private final List<Rule<TStyle>> trailingRules = new ArrayList<>();
+
+    /**
+     * Contains the classes used by selectors which can not be evaluated.
+     */
+    private final Set<String> unsupportedClasses = new HashSet<>();
+
+    /**
+     * The compiled {@link #rules}, null if a rule has been added since they were compiled.
+     */
+    private volatile Buckets<TStyle> buckets;
+
+    /**
+     * The amount of styles added, used as the order of the rules.
+     */
+    private int styleCount;
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Compiles the given selector into a {@link Rule}.
+     *
+     * @param selector the selector to compile, already trimmed.
+     * @param style    the style of the rule.
+     * @param order    the position of the rule in the order of declaration.
+     *
+     * @return a new {@link Rule} or null if the selector is not supported.
+     */
+    private static <TStyle> Rule<TStyle> compile(final String selector, final TStyle style, final int order) {
+
+        String type = null;
+        String id = null;
+        final List<String> classes = new ArrayList<>();
+
+        int start = 0;
+        char kind = 0;
+
+        for (int i = 0; i <= selector.length(); i++) {
+
+            final char character = i < selector.length() ? selector.charAt(i) : 0;
+
+            if (i < selector.length() && character != '.' && character != '#') {
+                if (!isNameCharacter(character) && !(character == '*' && i == 0)) {
+                    return null;
+                }
+                continue;
+            }
+
+            final String name = selector.substring(start, i);
+
+            if (kind == 0) {
+                type = name.isEmpty() || UNIVERSAL_SELECTOR.equals(name) ? null : name;
+            } else if (name.isEmpty()) {
+                return null;
+            } else if (kind == '#') {
+                if (id != null) {
+                    return null;
+                }
+                id = name;
+            } else {
+                classes.add(name);
+            }
+
+            kind = character;
+            start = i + 1;
+        }
+
+        return new Rule<>(style, type, id, classes.toArray(new String[classes.size()]), order);
+    }
+
+    /**
+     * Stores the classes used by the given selector which can not be evaluated and a rule for the class the selector ends with, if any.
+     *
+     * @param selector the selector which can not be evaluated, already trimmed.
+     * @param style    the style of the selector.
+     * @param order    the position of the selector in the order of declaration.
+     */
+    private void addUnsupported(final String selector, final TStyle style, final int order) {
+        int start = selector.indexOf(CLASS_SELECTOR_START);
+
+        while (start >= 0) {
+            int end = start + 1;
+
+            while (end < selector.length() && isNameCharacter(selector.charAt(end))) {
+                end++;
+            }
+
+            if (end > start + 1) {
+                final String name = selector.substring(start + 1, end);
+
+                unsupportedClasses.add(name);
+
+                if (end == selector.length()) {
+                    trailingRules.add(new Rule<>(style, null, null, new String[]{name}, order));
+                }
+            }
+
+            start = selector.indexOf(CLASS_SELECTOR_START, end);
+        }
+    }
+
+    /**
+     * Determines if the given character can be part of a name.
+     *
+     * @param character the character to check.
+     *
+     * @return true if the character can be part of a name, otherwise false.
+     */
+    private static boolean isNameCharacter(final char character) {
+        return Character.isLetterOrDigit(character) || character == '-' || character == '_';
+    }
+
+    /**
+     * Returns the compiled {@link #buckets}, compiling them if needed.
+     *
+     * @return the compiled {@link #buckets}.
+     */
+    private Buckets<TStyle> getBuckets() {
+        Buckets<TStyle> result = buckets;
+
+        if (result == null) {
+            synchronized (rules) {
+                result = buckets;
+
+                if (result == null) {
+                    result = new Buckets<>(rules, trailingRules, unsupportedClasses);
+                    buckets = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Adds the rules of the given bucket which match the element to the given result.
+     *
+     * @param bucket         the bucket to check, might be null.
+     * @param elementType    the type of the element.
+     * @param elementId      the id of the element.
+     * @param elementClasses the classes of the element.
+     * @param result         the list to add the matching rules to.
+     */
+    private static <TStyle> void addMatches(final List<Rule<TStyle>> bucket,
+                                            final String elementType,
+                                            final String elementId,
+                                            final Set<String> elementClasses,
+                                            final List<Rule<TStyle>> result) {
+        if (bucket != null) {
+            for (final Rule<TStyle> rule : bucket) {
+                if (rule.matches(elementType, elementId, elementClasses)) {
+                    result.add(rule);
+                }
+            }
+        }
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Adds the given style using the given selector text, which may contain several selectors separated by a comma. Selectors which are not supported are
+     * only used to determine the classes in use and the class they end with.
+     *
+     * @param selectorText the selectors of the style, might be null in which case the style is not added.
+     * @param style        the style to add, must not be null.
+     *
+     * @return true if at least one selector of the style is supported, otherwise false.
+     *
+     * @throws IllegalArgumentException if the given style is null.
+     */
+    public boolean add(final String selectorText, final TStyle style) throws IllegalArgumentException {
+
+        if (style == null) {
+            throw new IllegalArgumentException("given style must not be null");
+        }
+
+        if (selectorText == null) {
+            return false;
+        }
+
+        boolean result = false;
+
+        synchronized (rules) {
+            final int order = styleCount++;
+
+            for (final String selector : selectorText.split(GROUP_SEPARATOR)) {
+                final String trimmedSelector = selector.trim();
+
+                if (trimmedSelector.isEmpty()) {
+                    continue;
+                }
+
+                final Rule<TStyle> rule = compile(trimmedSelector, style, order);
+
+                if (rule == null) {
+                    addUnsupported(trimmedSelector, style, order);
+                    continue;
+                }
+
+                rules.add(rule);
+                result = true;
+
+                // a single name might be meant as a class declared without the leading class selector
+                if (rule.id == null && rule.classes.length == 0 && rule.type != null) {
+                    trailingRules.add(new Rule<>(style, null, null, new String[]{rule.type}, order));
+                }
+            }
+
+            buckets = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the styles matching the given element ordered by their priority, the style with the highest specificity which was added last comes first. The
+     * styles of selectors which can not be evaluated but end with one of the classes follow, the style which was added last coming first. A style whose
+     * selectors match the element several times is contained once for each match.
+     *
+     * @param elementType    the type of the element, must not be null.
+     * @param elementId      the id of the element, might be null.
+     * @param elementClasses the classes of the element, must not be null.
+     *
+     * @return a new {@link List} containing the matching styles.
+     *
+     * @throws IllegalArgumentException if the given type or classes are null.
+     */
+    public List<TStyle> match(final String elementType, final String elementId, final Set<String> elementClasses) throws IllegalArgumentException {
+
+        if (elementType == null) {
+            throw new IllegalArgumentException("given element type must not be null");
+        }
+
+        if (elementClasses == null) {
+            throw new IllegalArgumentException("given element classes must not be null");
+        }
+
+        final Buckets<TStyle> current = getBuckets();
+
+        final List<Rule<TStyle>> matches = new ArrayList<>();
+
+        if (elementId != null) {
+            addMatches(current.byId.get(elementId), elementType, elementId, elementClasses, matches);
+        }
+
+        for (final String name : elementClasses) {
+            addMatches(current.byClass.get(name), elementType, elementId, elementClasses, matches);
+        }
+
+        addMatches(current.byType.get(elementType), elementType, elementId, elementClasses, matches);
+        addMatches(current.universal, elementType, elementId, elementClasses, matches);
+
+        final List<Rule<TStyle>> trailingMatches = new ArrayList<>();
+
+        for (final String name : elementClasses) {
+            addMatches(current.byTrailingClass.get(name), elementType, elementId, elementClasses, trailingMatches);
+        }
+
+        if (matches.isEmpty() && trailingMatches.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        matches.sort(priority);
+        trailingMatches.sort(declaration);
+
+        final List<TStyle> result = new ArrayList<>(matches.size() + trailingMatches.size());
+
+        for (final Rule<TStyle> rule : matches) {
+            result.add(rule.style);
+        }
+
+        for (final Rule<TStyle> rule : trailingMatches) {
+            result.add(rule.style);
+        }
+
+        return result;
+    }
+
+    /**
+     * Determines if any selector uses the given class, including selectors which can not be evaluated and selectors consisting of the given name only.
+     *
+     * @param name the name of the class.
+     *
+     * @return true if any selector uses the given class, otherwise false.
+     */
+    public boolean containsClass(final String name) {
+        return getBuckets().classes.contains(name);
+    }
+
+    /**
+     * Removes all styles.
+     */
+    public void clear() {
+        synchronized (rules) {
+            rules.clear();
+            trailingRules.clear();
+            unsupportedClasses.clear();
+            styleCount = 0;
+            buckets = null;
+        }
+    }
+
+    // endregion
+}
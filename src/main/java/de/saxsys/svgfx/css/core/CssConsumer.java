@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.css.core;
+
+/**
+ * Receives the tokens of css text read by a {@link CssReader}. Tokens are given as ranges of a {@link CharSequence}, which is either the read data itself or a
+ * buffer of the reader if the token contained a comment, so no strings are created unless the consumer needs them. The given {@link CharSequence} is only
+ * valid during the call.
+ *
+ * @author Xyanid on 19.10.2026.
+ * @see CssReader
+ */
+public interface CssConsumer {
+
+    /**
+     * Starts a new rule using the given selector, which is already trimmed and might be empty.
+     *
+     * @param data  the data containing the selector.
+     * @param start the index of the first character of the selector.
+     * @param end   the index after the last character of the selector.
+     */
+    void startRule(final CharSequence data, final int start, final int end);
+
+    /**
+     * Adds a declaration to the current rule. The name and the value are already trimmed and the value does not contain string indicators at its start or end.
+     *
+     * @param data       the data containing the declaration.
+     * @param nameStart  the index of the first character of the name.
+     * @param nameEnd    the index after the last character of the name.
+     * @param valueStart the index of the first character of the value.
+     * @param valueEnd   the index after the last character of the value.
+     */
+    void declaration(final CharSequence data, final int nameStart, final int nameEnd, final int valueStart, final int valueEnd);
+
+    /**
+     * Ends the current rule.
+     */
+    void endRule();
+}
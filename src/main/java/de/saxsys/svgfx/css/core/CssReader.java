@@ -0,0 +1,330 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.css.core;
+
+import de.saxsys.svgfx.css.definitions.Constants;
+
+/**
+ * Reads css text in a single pass and passes the selectors and declarations to a {@link CssConsumer} as ranges of the data. Comments are skipped and strings
+ * are kept as they are, so characters inside a string do not end a declaration or a rule. Only tokens which contain a comment are copied into a buffer, all
+ * other tokens refer to the read data directly.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class CssReader {
+
+    // region Fields
+
+    /**
+     * The data which is read.
+     */
+    private final CharSequence data;
+
+    /**
+     * The consumer which will receive the tokens.
+     */
+    private final CssConsumer consumer;
+
+    /**
+     * Contains the current token without its comments, only used if {@link #isUsingBuffer} is true.
+     */
+    private final StringBuilder buffer = new StringBuilder();
+
+    /**
+     * The index of the first character of the current token in the {@link #data}.
+     */
+    private int tokenStart;
+
+    /**
+     * Determines if the current token contained a comment and is therefore stored in the {@link #buffer}.
+     */
+    private boolean isUsingBuffer;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance.
+     *
+     * @param data     the data to read.
+     * @param consumer the consumer which will receive the tokens.
+     */
+    private CssReader(final CharSequence data, final CssConsumer consumer) {
+        this.data = data;
+        this.consumer = consumer;
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Reads all rules of the given data. A rule which is not closed at the end of the data is started but never ended.
+     *
+     * @param data     the data to read, must not be null.
+     * @param consumer the {@link CssConsumer} which will receive the tokens, must not be null.
+     *
+     * @throws IllegalArgumentException if either argument is null or a declaration is not formatted correctly.
+     */
+    public static void read(final CharSequence data, final CssConsumer consumer) throws IllegalArgumentException {
+        validate(data, consumer);
+
+        new CssReader(data, consumer).readRules(false);
+    }
+
+    /**
+     * Reads the first rule of the given data, any data after the end of the first rule is ignored.
+     *
+     * @param data     the data to read, must not be null.
+     * @param consumer the {@link CssConsumer} which will receive the tokens, must not be null.
+     *
+     * @throws IllegalArgumentException if either argument is null or a declaration is not formatted correctly.
+     * @throws IllegalStateException    if the rule is not closed.
+     */
+    public static void readRule(final CharSequence data, final CssConsumer consumer) throws IllegalArgumentException, IllegalStateException {
+        validate(data, consumer);
+
+        if (new CssReader(data, consumer).readRules(true)) {
+            throw new IllegalStateException("Css text not properly closed, can not use this css data.");
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Validates the given arguments.
+     *
+     * @param data     the data to read.
+     * @param consumer the consumer which will receive the tokens.
+     *
+     * @throws IllegalArgumentException if either argument is null.
+     */
+    private static void validate(final CharSequence data, final CssConsumer consumer) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("given data must not be null");
+        }
+
+        if (consumer == null) {
+            throw new IllegalArgumentException("given consumer must not be null");
+        }
+    }
+
+    /**
+     * Reads the rules of the {@link #data}.
+     *
+     * @param isSingleRule determines if reading stops after the first rule.
+     *
+     * @return true if the data ended inside a declaration block, otherwise false.
+     *
+     * @throws IllegalArgumentException if a declaration is not formatted correctly.
+     */
+    private boolean readRules(final boolean isSingleRule) throws IllegalArgumentException {
+
+        final int length = data.length();
+
+        boolean isInsideDeclarationBlock = false;
+        boolean isInsideString = false;
+
+        startToken(0);
+
+        for (int i = 0; i < length; i++) {
+
+            final char character = data.charAt(i);
+
+            if (!isInsideString && character == Constants.COMMENT_TAG && i < length - 1 && data.charAt(i + 1) == Constants.COMMENT_INDICATOR) {
+                i = skipComment(i);
+                continue;
+            }
+
+            if (character == Constants.STRING_INDICATOR) {
+                isInsideString = !isInsideString;
+            } else if (!isInsideString) {
+
+                if (character == Constants.DECLARATION_BLOCK_START) {
+                    final int end = isUsingBuffer ? buffer.length() : i;
+                    final CharSequence source = isUsingBuffer ? buffer : data;
+                    final int start = skipWhitespaces(source, isUsingBuffer ? 0 : tokenStart, end);
+
+                    consumer.startRule(source, start, skipTrailingWhitespaces(source, start, end));
+
+                    isInsideDeclarationBlock = true;
+                    startToken(i + 1);
+                    continue;
+                } else if (character == Constants.PROPERTY_END) {
+                    readDeclaration(i, true);
+                    startToken(i + 1);
+                    continue;
+                } else if (character == Constants.DECLARATION_BLOCK_END) {
+                    readDeclaration(i, false);
+                    consumer.endRule();
+
+                    isInsideDeclarationBlock = false;
+
+                    if (isSingleRule) {
+                        return false;
+                    }
+
+                    startToken(i + 1);
+                    continue;
+                }
+            }
+
+            if (isUsingBuffer) {
+                buffer.append(character);
+            }
+        }
+
+        return isInsideDeclarationBlock;
+    }
+
+    /**
+     * Starts a new token at the given index.
+     *
+     * @param index the index of the first character of the token.
+     */
+    private void startToken(final int index) {
+        tokenStart = index;
+        isUsingBuffer = false;
+    }
+
+    /**
+     * Skips the comment starting at the given index. If the current token already contains characters other than whitespaces, the token is copied into the
+     * {@link #buffer}, otherwise the token is started after the comment.
+     *
+     * @param index the index of the comment tag starting the comment.
+     *
+     * @return the index of the last character of the comment.
+     */
+    private int skipComment(final int index) {
+
+        if (!isUsingBuffer && skipWhitespaces(data, tokenStart, index) < index) {
+            buffer.setLength(0);
+            buffer.append(data, tokenStart, index);
+            isUsingBuffer = true;
+        }
+
+        int end = data.length() - 1;
+
+        for (int i = index + 2; i < data.length(); i++) {
+            if (data.charAt(i) == Constants.COMMENT_TAG && data.charAt(i - 1) == Constants.COMMENT_INDICATOR) {
+                end = i;
+                break;
+            }
+        }
+
+        if (!isUsingBuffer) {
+            tokenStart = end + 1;
+        }
+
+        return end;
+    }
+
+    /**
+     * Reads the declaration which ends at the given index and passes it to the {@link #consumer}.
+     *
+     * @param index      the index of the character ending the declaration.
+     * @param isRequired determines if the declaration must contain data, otherwise a declaration containing only whitespaces is ignored.
+     *
+     * @throws IllegalArgumentException if the declaration is not formatted correctly.
+     */
+    private void readDeclaration(final int index, final boolean isRequired) throws IllegalArgumentException {
+
+        final CharSequence source = isUsingBuffer ? buffer : data;
+        final int end = isUsingBuffer ? buffer.length() : index;
+        final int begin = isUsingBuffer ? 0 : tokenStart;
+
+        final int start = skipWhitespaces(source, begin, end);
+        final int stop = skipTrailingWhitespaces(source, start, end);
+
+        if (start == stop) {
+            if (!isRequired) {
+                return;
+            }
+
+            if (begin == end) {
+                throw new IllegalArgumentException("Given data must not be null in order to create a attribute type from it");
+            }
+        }
+
+        int separator = -1;
+
+        for (int i = start; i < stop; i++) {
+            if (source.charAt(i) == Constants.PROPERTY_SEPARATOR) {
+                separator = i;
+                break;
+            }
+        }
+
+        if (separator == -1 || separator >= stop - 1) {
+            throw new IllegalArgumentException("Given data either does not provide a attribute type separator separator or is to short");
+        }
+
+        int valueStart = skipWhitespaces(source, separator + 1, stop);
+        int valueEnd = stop;
+
+        if (source.charAt(valueStart) == Constants.STRING_INDICATOR) {
+            valueStart++;
+        }
+
+        if (valueEnd > valueStart && source.charAt(valueEnd - 1) == Constants.STRING_INDICATOR) {
+            valueEnd--;
+        }
+
+        consumer.declaration(source, start, skipTrailingWhitespaces(source, start, separator), valueStart, valueEnd);
+    }
+
+    /**
+     * Returns the index of the first character in the given range which is not a whitespace, using the same definition of whitespaces as {@link String#trim()}.
+     *
+     * @param source the data to check.
+     * @param start  the index to start at.
+     * @param end    the index to stop at.
+     *
+     * @return the index of the first character which is not a whitespace or the end if there is none.
+     */
+    private static int skipWhitespaces(final CharSequence source, final int start, final int end) {
+        int result = start;
+
+        while (result < end && source.charAt(result) <= ' ') {
+            result++;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the index after the last character in the given range which is not a whitespace, using the same definition of whitespaces as {@link
+     * String#trim()}.
+     *
+     * @param source the data to check.
+     * @param start  the index to stop at.
+     * @param end    the index to start at.
+     *
+     * @return the index after the last character which is not a whitespace or the start if there is none.
+     */
+    private static int skipTrailingWhitespaces(final CharSequence source, final int start, final int end) {
+        int result = end;
+
+        while (result > start && source.charAt(result - 1) <= ' ') {
+            result--;
+        }
+
+        return result;
+    }
+
+    // endregion
+}
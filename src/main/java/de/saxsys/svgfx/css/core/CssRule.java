@@ -0,0 +1,186 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.css.core;
+
+import javafx.util.Pair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable, parsed css rule consisting of the name including its selector and the declared properties in the order of their declaration. Since a rule does
+ * not depend on any document, it can be shared between different documents and used to fill a {@link CssStyle} via {@link CssStyle#applyRule(CssRule)}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class CssRule {
+
+    // region Fields
+
+    /**
+     * The name of the rule including its selector, may be null if the css text did not contain a declaration block start.
+     */
+    private final String name;
+
+    /**
+     * Contains the properties of this rule in the order of their declaration, the key is the name and the value is the text of the property.
+     */
+    private final List<Pair<String, String>> properties;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance.
+     *
+     * @param name       the name of the rule including its selector.
+     * @param properties the properties of the rule.
+     */
+    private CssRule(final String name, final List<Pair<String, String>> properties) {
+        this.name = name;
+        this.properties = Collections.unmodifiableList(properties);
+    }
+
+    // endregion
+
+    // region Getter
+
+    /**
+     * Returns the {@link #name}.
+     *
+     * @return the {@link #name}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the {@link #properties}, the returned list can not be modified.
+     *
+     * @return the {@link #properties}.
+     */
+    public List<Pair<String, String>> getProperties() {
+        return properties;
+    }
+
+    // endregion
+
+    // region Collector
+
+    /**
+     * Collects the tokens of a {@link CssReader} into {@link CssRule}s.
+     */
+    private static final class Collector implements CssConsumer {
+
+        // region Fields
+
+        /**
+         * Contains the rules which have been ended.
+         */
+        private final List<CssRule> rules = new ArrayList<>();
+
+        /**
+         * The name of the current rule.
+         */
+        private String name;
+
+        /**
+         * Contains the properties of the current rule.
+         */
+        private List<Pair<String, String>> properties = new ArrayList<>();
+
+        // endregion
+
+        // region Implement CssConsumer
+
+        @Override
+        public void startRule(final CharSequence data, final int start, final int end) {
+            name = data.subSequence(start, end).toString();
+        }
+
+        @Override
+        public void declaration(final CharSequence data, final int nameStart, final int nameEnd, final int valueStart, final int valueEnd) {
+            properties.add(new Pair<>(data.subSequence(nameStart, nameEnd).toString(), data.subSequence(valueStart, valueEnd).toString()));
+        }
+
+        @Override
+        public void endRule() {
+            rules.add(createRule());
+
+            name = null;
+            properties = new ArrayList<>();
+        }
+
+        // endregion
+
+        // region Public
+
+        /**
+         * Creates a new {@link CssRule} from the current name and properties.
+         *
+         * @return a new {@link CssRule}.
+         */
+        CssRule createRule() {
+            return new CssRule(name, properties);
+        }
+
+        // endregion
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Consumes the given css text and creates a new {@link CssRule} from its first rule. the css text must follow the default rules of a css style.
+     *
+     * @param cssText the text that is to be consumed, must not be null.
+     *
+     * @return a new {@link CssRule}.
+     *
+     * @throws IllegalStateException    if the css text is not formatted correctly.
+     * @throws IllegalArgumentException if the css text is null or a property of the css text is not formatted correctly.
+     */
+    public static CssRule parse(final CharSequence cssText) {
+
+        final Collector collector = new Collector();
+
+        CssReader.readRule(cssText, collector);
+
+        return collector.rules.isEmpty() ? collector.createRule() : collector.rules.get(0);
+    }
+
+    /**
+     * Consumes the given style sheet in a single pass and creates a new {@link CssRule} for each of its rules. A rule which is not closed at the end of the
+     * style sheet is ignored.
+     *
+     * @param styleSheet the style sheet that is to be consumed, must not be null.
+     *
+     * @return a new unmodifiable {@link List} containing the {@link CssRule}s in the order of their declaration.
+     *
+     * @throws IllegalArgumentException if the style sheet is null or a property of the style sheet is not formatted correctly.
+     */
+    public static List<CssRule> parseAll(final CharSequence styleSheet) {
+
+        final Collector collector = new Collector();
+
+        CssReader.read(styleSheet, collector);
+
+        return Collections.unmodifiableList(collector.rules);
+    }
+
+    // endregion
+}
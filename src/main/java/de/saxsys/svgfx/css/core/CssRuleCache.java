@@ -0,0 +1,243 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.css.core;
+
+import de.saxsys.svgfx.core.metrics.SVGMetrics;
+import de.saxsys.svgfx.core.utils.HashUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A process wide cache of the {@link CssRule}s contained in a style sheet, keyed by the hash of the text of the style sheet. Documents which share the same
+ * style sheet will therefore only parse it once, while the text itself is not retained. The cache is bounded and evicts the least recently used style sheets
+ * once either {@link #MAXIMUM_SIZE} or {@link #MAXIMUM_CHARACTERS} is exceeded.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class CssRuleCache {
+
+    // region Constants
+
+    /**
+     * The maximum amount of style sheets kept in the cache.
+     */
+    public static final int MAXIMUM_SIZE = 1024;
+
+    /**
+     * The maximum amount of characters of all style sheets kept in the cache. Style sheets which are larger on their own are never cached.
+     */
+    public static final long MAXIMUM_CHARACTERS = 1L << 22;
+
+    // endregion
+
+    // region Static
+
+    /**
+     * Contains the unmodifiable {@link CssRule}s and the length of each style sheet keyed by the hash of the style sheet, access ordered so the eldest entry
+     * is the least recently used one. All access is synchronized on the map.
+     */
+    private static final Map<String, Entry> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * The amount of characters of all style sheets in the {@link #CACHE}.
+     */
+    private static long characters;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     *
+     */
+    private CssRuleCache() {
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Returns the {@link CssRule}s of the given style sheet, parsing them only if the style sheet is not already cached.
+     *
+     * @param styleSheet the text of the style sheet, must not be null.
+     *
+     * @return an unmodifiable {@link List} containing the {@link CssRule}s of the style sheet in the order of their declaration.
+     *
+     * @throws IllegalArgumentException if the given style sheet is null or one of its rules is not formatted correctly.
+     */
+    public static List<CssRule> getRules(final String styleSheet) {
+        return getRules(styleSheet, SVGMetrics.NONE);
+    }
+
+    /**
+     * Returns the {@link CssRule}s of the given style sheet, parsing them only if the style sheet is not already cached, and records whether the style sheet
+     * was cached as an access of the {@link SVGMetrics#CSS_RULE_CACHE}.
+     *
+     * @param styleSheet the text of the style sheet, must not be null.
+     * @param metrics    the {@link SVGMetrics} recording the access, must not be null.
+     *
+     * @return an unmodifiable {@link List} containing the {@link CssRule}s of the style sheet in the order of their declaration.
+     *
+     * @throws IllegalArgumentException if any of the given parameters is null or one of the rules is not formatted correctly.
+     */
+    public static List<CssRule> getRules(final String styleSheet, final SVGMetrics metrics) {
+
+        if (styleSheet == null) {
+            throw new IllegalArgumentException("given style sheet must not be null");
+        }
+
+        if (metrics == null) {
+            throw new IllegalArgumentException("given metrics must not be null");
+        }
+
+        final String key = createKey(styleSheet);
+
+        List<CssRule> result = get(key);
+
+        metrics.recordCacheAccess(SVGMetrics.CSS_RULE_CACHE, result != null);
+
+        if (result == null) {
+            // parsing is done outside of the lock, in the rare case two threads parse the same style sheet the result is equal
+            result = CssRule.parseAll(styleSheet);
+            put(key, new Entry(result, styleSheet.length()));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the amount of style sheets currently cached.
+     *
+     * @return the amount of style sheets currently cached.
+     */
+    public static int size() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    /**
+     * Returns the amount of characters of all style sheets currently cached.
+     *
+     * @return the amount of characters of all style sheets currently cached.
+     */
+    public static long getCharacters() {
+        synchronized (CACHE) {
+            return characters;
+        }
+    }
+
+    /**
+     * Removes all cached style sheets.
+     */
+    public static void clear() {
+        synchronized (CACHE) {
+            CACHE.clear();
+            characters = 0;
+        }
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Creates the key of the given style sheet.
+     *
+     * @param styleSheet the text of the style sheet.
+     *
+     * @return the hash of the style sheet.
+     */
+    private static String createKey(final String styleSheet) {
+        return HashUtil.createHash(styleSheet.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the {@link CssRule}s cached for the given key.
+     *
+     * @param key the key of the style sheet.
+     *
+     * @return the {@link CssRule}s or null if the style sheet is not cached.
+     */
+    private static List<CssRule> get(final String key) {
+        synchronized (CACHE) {
+            final Entry entry = CACHE.get(key);
+
+            return entry != null ? entry.rules : null;
+        }
+    }
+
+    /**
+     * Caches the given entry and evicts the least recently used ones until the cache is within its bounds again.
+     *
+     * @param key   the key of the style sheet.
+     * @param entry the {@link Entry} to cache.
+     */
+    private static void put(final String key, final Entry entry) {
+        if (entry.characters > MAXIMUM_CHARACTERS) {
+            return;
+        }
+
+        synchronized (CACHE) {
+            final Entry previous = CACHE.put(key, entry);
+
+            characters += entry.characters - (previous != null ? previous.characters : 0);
+
+            final Iterator<Entry> iterator = CACHE.values().iterator();
+
+            while (CACHE.size() > MAXIMUM_SIZE || characters > MAXIMUM_CHARACTERS) {
+                characters -= iterator.next().characters;
+                iterator.remove();
+            }
+        }
+    }
+
+    // endregion
+
+    // region Class
+
+    /**
+     * Contains the {@link CssRule}s of a style sheet and its length.
+     */
+    private static final class Entry {
+
+        /**
+         * The unmodifiable {@link CssRule}s.
+         */
+        private final List<CssRule> rules;
+
+        /**
+         * The amount of characters of the style sheet.
+         */
+        private final int characters;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param rules      the unmodifiable {@link CssRule}s.
+         * @param characters the amount of characters of the style sheet.
+         */
+        private Entry(final List<CssRule> rules, final int characters) {
+            this.rules = rules;
+            this.characters = characters;
+        }
+    }
+
+    // endregion
+}
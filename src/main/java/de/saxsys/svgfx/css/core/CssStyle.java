@@ -15,7 +15,6 @@ package de.saxsys.svgfx.css.core;
 
 
 import de.saxsys.svgfx.core.utils.StringUtil;
-import de.saxsys.svgfx.css.definitions.Constants;
 import de.saxsys.svgfx.xml.core.AttributeHolder;
 import de.saxsys.svgfx.xml.core.AttributeWrapper;
 import javafx.util.Pair;
@@ -34,24 +33,6 @@ public abstract class CssStyle<TAttributeType extends AttributeWrapper, TAttribu
 
     // region Enumeration
 
-    /**
-     * Determines how a character read while parsing css text is processed.
-     */
-    private enum ParsingState {
-        /**
-         * Meaning the character will be parsed as correct data.
-         */
-        DATA,
-        /**
-         * Meaning the character will be parsed as a comment, meaning it will not be used.
-         */
-        COMMENT,
-        /**
-         * Meaning the character will be parsed as a string.
-         */
-        STRING
-    }
-
     /**
      * Determines what kind of selector is used in the style if any.
      */
@@ -95,6 +76,10 @@ public abstract class CssStyle<TAttributeType extends AttributeWrapper, TAttribu
      * The name of the style excluding the class or id selector
      */
     private String name;
+    /**
+     * The name of the style as declared, including any selectors.
+     */
+    private String selectorText;
     /**
      * Contains all the attributes of this {@link CssStyle}.
      */
@@ -121,6 +106,7 @@ public abstract class CssStyle<TAttributeType extends AttributeWrapper, TAttribu
      */
     public CssStyle(final String name, final TAttributeHolder attributeHolder) {
         this.name = name;
+        this.selectorText = name;
         this.attributeHolder = attributeHolder;
     }
 
@@ -135,6 +121,15 @@ public abstract class CssStyle<TAttributeType extends AttributeWrapper, TAttribu
         return name;
     }
 
+    /**
+     * Returns the {@link #selectorText}.
+     *
+     * @return the {@link #selectorText}.
+     */
+    public final String getSelectorText() {
+        return selectorText;
+    }
+
     /**
      * Return the {@link #attributeHolder}.
      *
@@ -159,6 +154,8 @@ public abstract class CssStyle<TAttributeType extends AttributeWrapper, TAttribu
      * @param name the name to use which might contain the selector.
      */
     private void setNameAndSelector(final String name) {
+        selectorText = name;
+
         if (StringUtil.isNotNullOrEmpty(name)) {
             if (name.startsWith(Selector.ID.getName())) {
                 selector = Selector.ID;
@@ -180,34 +177,20 @@ public abstract class CssStyle<TAttributeType extends AttributeWrapper, TAttribu
     // region Private
 
     /**
-     * Determines the {@link TAttributeType} from the given data.
-     *
-     * @param data data to be used.
+     * Creates the {@link TAttributeType} for the given property and adds it to the {@link #attributeHolder}, properties which are not supported by the
+     * {@link #attributeHolder} are ignored.
      *
-     * @return a new {@link Pair} containing the name of the {@link TAttributeType} as the key and the {@link TAttributeType} as the value;
+     * @param propertyName the name of the property as declared.
+     * @param text         the text of the property.
      */
-    private Pair<String, TAttributeType> determineAttributeType(final String data) throws IllegalArgumentException {
-        if (StringUtil.isNullOrEmpty(data)) {
-            throw new IllegalArgumentException("Given data must not be null in order to create a attribute type from it");
-        }
-
-        final String trimmedData = data.trim();
+    private void addProperty(final String propertyName, final String text) {
 
-        int index = trimmedData.indexOf(Constants.PROPERTY_SEPARATOR);
-
-        if (index == -1 || index >= trimmedData.length() - 1) {
-            throw new IllegalArgumentException("Given data either does not provide a attribute type separator separator or is to short");
-        }
-
-        final String name = trimmedData.substring(0, index).trim();
-
-        TAttributeType attribute = attributeHolder.createAttributeType(StringUtil.stripStringIndicators(name));
+        final TAttributeType attribute = attributeHolder.createAttributeType(StringUtil.stripStringIndicators(propertyName));
 
         if (attribute != null) {
-            attribute.setText(StringUtil.stripStringIndicators(trimmedData.substring(index + 1).trim()));
+            attribute.setText(text);
+            attributeHolder.getAttributes().put(propertyName, attribute);
         }
-
-        return new Pair<>(name, attribute);
     }
 
     // endregion
@@ -239,101 +222,61 @@ public abstract class CssStyle<TAttributeType extends AttributeWrapper, TAttribu
     }
 
     /**
-     * Consumes the given css text and set the style. the css text must follow the default rules of a css style.
+     * Sets the name, the selector and the properties of this {@link CssStyle} using the given {@link CssRule}, properties previously contained in this style
+     * are removed. Properties which are not supported by the {@link #attributeHolder} are ignored.
      *
-     * @param cssText the text that is to be consumed, must not be null or empty.
+     * @param rule the {@link CssRule} which is to be used, must not be null.
      *
-     * @throws IllegalStateException if the css text is not formatted correctly.
+     * @throws IllegalArgumentException if the given {@link CssRule} is null.
      */
-    public final void parseCssText(final String cssText) {
+    public final void applyRule(final CssRule rule) {
+
+        if (rule == null) {
+            throw new IllegalArgumentException("given rule must not be null");
+        }
 
         name = null;
+        selectorText = null;
         selector = Selector.NONE;
         attributeHolder.getAttributes().clear();
 
-        final StringBuilder dataBuilder = new StringBuilder();
-
-        boolean isInsideDeclarationBlock = false;
+        setNameAndSelector(rule.getName());
 
-        ParsingState state = ParsingState.DATA;
+        for (final Pair<String, String> property : rule.getProperties()) {
+            addProperty(property.getKey(), property.getValue());
+        }
+    }
 
-        for (int i = 0; i < cssText.length(); i++) {
+    /**
+     * Consumes the given css text and set the style. the css text must follow the default rules of a css style. The properties are read in a single pass
+     * and passed to the {@link #attributeHolder} directly.
+     *
+     * @param cssText the text that is to be consumed, must not be null or empty.
+     *
+     * @throws IllegalStateException if the css text is not formatted correctly.
+     */
+    public final void parseCssText(final CharSequence cssText) {
 
-            char character = cssText.charAt(i);
+        name = null;
+        selectorText = null;
+        selector = Selector.NONE;
+        attributeHolder.getAttributes().clear();
 
-            // if we are in a comment do not need to do anything
-            if (state == ParsingState.COMMENT) {
-                // in this case we are at the end of the comment section
-                if (character == Constants.COMMENT_TAG && i > 0 && cssText.charAt(i - 1) == Constants.COMMENT_INDICATOR) {
-                    state = ParsingState.DATA;
-                }
-                continue;
+        CssReader.readRule(cssText, new CssConsumer() {
+            @Override
+            public void startRule(final CharSequence data, final int start, final int end) {
+                setNameAndSelector(data.subSequence(start, end).toString());
             }
 
-            // we are reading a string indicator so we either enter the string or we are leaving it
-            if (character == Constants.STRING_INDICATOR) {
-
-                if (state != ParsingState.STRING) {
-                    state = ParsingState.STRING;
-                } else {
-                    state = ParsingState.DATA;
-                }
+            @Override
+            public void declaration(final CharSequence data, final int nameStart, final int nameEnd, final int valueStart, final int valueEnd) {
+                addProperty(data.subSequence(nameStart, nameEnd).toString(), data.subSequence(valueStart, valueEnd).toString());
             }
 
-            // if we are not within a string every character is consumed since they are part of the value
-            if (state != ParsingState.STRING) {
-
-                // in this case the comment section started
-                if (character == Constants.COMMENT_TAG && i < cssText.length() - 1 && cssText.charAt(i + 1) == Constants.COMMENT_INDICATOR) {
-                    state = ParsingState.COMMENT;
-                    continue;
-                }
-
-                // if the declaration block starts we set the current data as the name of the css style
-                if (character == Constants.DECLARATION_BLOCK_START) {
-                    setNameAndSelector(dataBuilder.toString().trim());
-                    isInsideDeclarationBlock = true;
-                    dataBuilder.setLength(0);
-                    continue;
-
-                    // we have found the end of a property so we consume if if possible and add it
-                } else if (character == Constants.PROPERTY_END) {
-
-                    Pair<String, TAttributeType> property = determineAttributeType(dataBuilder.toString());
-
-                    if (property.getValue() != null) {
-                        attributeHolder.getAttributes().put(property.getKey(), property.getValue());
-                    }
-
-                    dataBuilder.setLength(0);
-                    continue;
-
-                    // at this point we have reached the end of the style and stop doing what ever we did
-                } else if (character == Constants.DECLARATION_BLOCK_END) {
-
-                    if (dataBuilder.toString().trim().length() > 0) {
-                        Pair<String, TAttributeType> property = determineAttributeType(dataBuilder.toString());
-
-                        if (property.getValue() != null) {
-                            attributeHolder.getAttributes().put(property.getKey(), property.getValue());
-                        }
-                    }
-
-                    isInsideDeclarationBlock = false;
-                    break;
-                }
-
-                dataBuilder.append(character);
-            }
-            // we are inside a string in which case we only add data if we are inside the declaration block already
-            else if (isInsideDeclarationBlock) {
-                dataBuilder.append(character);
+            @Override
+            public void endRule() {
             }
-        }
-
-        if (isInsideDeclarationBlock) {
-            throw new IllegalStateException("Css text not properly closed, can not use this css data.");
-        }
+        });
     }
 
     // endregion
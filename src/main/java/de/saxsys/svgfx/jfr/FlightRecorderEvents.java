@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.jfr;
+
+/**
+ * Emits Java Flight Recorder events for the expensive operations of loading a svg document. The events are only loaded if the Java Flight Recorder is
+ * available in the running virtual machine, otherwise all methods do nothing. Each event has a threshold, so only slow operations are recorded; the thresholds
+ * can be changed using the settings of a recording.
+ * <p>
+ * An operation is started using {@link #begin(Operation)} and ended using {@link #end(Object, String, String)}, the returned token is null if the event is
+ * not enabled, in which case ending it does nothing.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class FlightRecorderEvents {
+
+    // region Enumeration
+
+    /**
+     * The operations for which events are emitted.
+     */
+    public enum Operation {
+        /**
+         * Parsing a whole document, the default threshold is 20 ms.
+         */
+        PARSE,
+        /**
+         * Creating the result of an element including its children, the default threshold is 5 ms.
+         */
+        RESULT_CREATION,
+        /**
+         * Resolving the style of an element, the default threshold is 1 ms.
+         */
+        STYLE_RESOLUTION,
+        /**
+         * Determining the bounding box of path data, the default threshold is 1 ms.
+         */
+        BOUNDING_BOX
+    }
+
+    // endregion
+
+    // region Interface
+
+    /**
+     * Creates and commits the events.
+     */
+    interface EventFactory {
+
+        /**
+         * Begins the event of the given operation.
+         *
+         * @param operation the {@link Operation} which begins.
+         *
+         * @return the event or null if it is not enabled.
+         */
+        Object begin(final Operation operation);
+
+        /**
+         * Ends the given event and commits it if it exceeds its threshold.
+         *
+         * @param event       the event returned by {@link #begin(Operation)}, never null.
+         * @param documentId  the id of the document, might be null.
+         * @param elementName the name of the element, might be null.
+         */
+        void end(final Object event, final String documentId, final String elementName);
+    }
+
+    // endregion
+
+    // region Constants
+
+    /**
+     * The name of the class which is only available if the Java Flight Recorder is available.
+     */
+    private static final String FLIGHT_RECORDER_CLASS = "jdk.jfr.FlightRecorder";
+
+    /**
+     * The name of the {@link EventFactory} using the Java Flight Recorder. The class is located in src/main/jfr and only compiled by the jfr profiles, which are
+     * active when building with a JDK 8 of update 262 or later or any JDK of version 11 or later, so it might be missing as well.
+     */
+    private static final String EVENT_FACTORY_CLASS = "de.saxsys.svgfx.jfr.JfrEventFactory";
+
+    /**
+     * The {@link EventFactory} to use or null if the Java Flight Recorder is not available.
+     */
+    private static final EventFactory FACTORY = createFactory();
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     *
+     */
+    private FlightRecorderEvents() {
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Creates the {@link EventFactory} if the Java Flight Recorder is available.
+     *
+     * @return a new {@link EventFactory} or null if the Java Flight Recorder is not available.
+     */
+    private static EventFactory createFactory() {
+        try {
+            Class.forName(FLIGHT_RECORDER_CLASS);
+
+            return (EventFactory) Class.forName(EVENT_FACTORY_CLASS).newInstance();
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Determines if the Java Flight Recorder is available, in which case events will be emitted when they are enabled in a recording.
+     *
+     * @return true if the Java Flight Recorder is available, otherwise false.
+     */
+    public static boolean isAvailable() {
+        return FACTORY != null;
+    }
+
+    /**
+     * Begins the event of the given operation.
+     *
+     * @param operation the {@link Operation} which begins, must not be null.
+     *
+     * @return a token which must be passed to {@link #end(Object, String, String)}, null if the event is not enabled.
+     */
+    public static Object begin(final Operation operation) {
+        return FACTORY != null ? FACTORY.begin(operation) : null;
+    }
+
+    /**
+     * Ends the event of the given token and commits it if its duration exceeds its threshold.
+     *
+     * @param token       the token returned by {@link #begin(Operation)}, might be null in which case nothing happens.
+     * @param documentId  the id of the document, might be null.
+     * @param elementName the name of the element, might be null.
+     */
+    public static void end(final Object token, final String documentId, final String elementName) {
+        if (token != null) {
+            FACTORY.end(token, documentId, elementName);
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.xml.core;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link InputStream} which reads the remaining bytes of a {@link ByteBuffer}. The stream works on a duplicate of the given buffer, so the position of the
+ * original buffer is not changed. Since the data is already in memory, the stream does not need any additional buffering.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public class ByteBufferInputStream extends InputStream {
+
+    // region Fields
+
+    /**
+     * The buffer from which the data is read.
+     */
+    private final ByteBuffer buffer;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance which will read the remaining bytes of the given {@link ByteBuffer}.
+     *
+     * @param buffer the {@link ByteBuffer} to read from, must not be null.
+     *
+     * @throws IllegalArgumentException if the given buffer is null.
+     */
+    public ByteBufferInputStream(final ByteBuffer buffer) throws IllegalArgumentException {
+        if (buffer == null) {
+            throw new IllegalArgumentException("given buffer must not be null");
+        }
+
+        this.buffer = buffer.duplicate();
+    }
+
+    // endregion
+
+    // region Override InputStream
+
+    @Override
+    public int read() {
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+        if (length == 0) {
+            return 0;
+        }
+
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+
+        final int count = Math.min(length, buffer.remaining());
+        buffer.get(bytes, offset, count);
+
+        return count;
+    }
+
+    @Override
+    public long skip(final long count) {
+        if (count <= 0) {
+            return 0;
+        }
+
+        final int skipped = (int) Math.min(count, buffer.remaining());
+        buffer.position(buffer.position() + skipped);
+
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    @Override
+    public synchronized void mark(final int readLimit) {
+        buffer.mark();
+    }
+
+    @Override
+    public synchronized void reset() {
+        buffer.reset();
+    }
+
+    // endregion
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.xml.core;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An {@link InputStream} which counts the bytes read from the underlying stream. Bytes which are read again after {@link #reset()} are only counted once.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public class CountingInputStream extends FilterInputStream {
+
+    // region Fields
+
+    /**
+     * The amount of bytes read so far, volatile since the stream might be read by a different thread than the one requesting the count.
+     */
+    private volatile long count;
+
+    /**
+     * The {@link #count} when the stream was marked.
+     */
+    private long markedCount;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance which will count the bytes read from the given {@link InputStream}.
+     *
+     * @param stream the {@link InputStream} to read from, must not be null.
+     *
+     * @throws IllegalArgumentException if the given stream is null.
+     */
+    public CountingInputStream(final InputStream stream) throws IllegalArgumentException {
+        super(stream);
+
+        if (stream == null) {
+            throw new IllegalArgumentException("given stream must not be null");
+        }
+    }
+
+    // endregion
+
+    // region Getter
+
+    /**
+     * Returns the {@link #count}.
+     *
+     * @return the {@link #count}.
+     */
+    public final long getCount() {
+        return count;
+    }
+
+    // endregion
+
+    // region Override FilterInputStream
+
+    @Override
+    public int read() throws IOException {
+        final int result = super.read();
+
+        if (result >= 0) {
+            count++;
+        }
+
+        return result;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        final int result = super.read(bytes, offset, length);
+
+        if (result > 0) {
+            count += result;
+        }
+
+        return result;
+    }
+
+    @Override
+    public long skip(final long length) throws IOException {
+        final long result = super.skip(length);
+
+        count += result;
+
+        return result;
+    }
+
+    @Override
+    public synchronized void mark(final int readLimit) {
+        super.mark(readLimit);
+        markedCount = count;
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        super.reset();
+        count = markedCount;
+    }
+
+    // endregion
+}
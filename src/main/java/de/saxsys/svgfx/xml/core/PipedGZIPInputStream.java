@@ -0,0 +1,237 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.xml.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * An {@link InputStream} which decompresses gzip data on a separate thread. The decompressed data is handed over to the reading thread through a bounded
+ * queue of chunks, so decompression and consumption of the data can overlap while the amount of buffered data stays limited. Closing this stream stops the
+ * decompression and closes the given source.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public class PipedGZIPInputStream extends InputStream {
+
+    // region Constants
+
+    /**
+     * Marks the end of the decompressed data.
+     */
+    private static final byte[] END_OF_DATA = new byte[0];
+
+    // endregion
+
+    // region Fields
+
+    /**
+     * The chunks of decompressed data that have not yet been read.
+     */
+    private final BlockingQueue<byte[]> chunks;
+
+    /**
+     * Contains the exception that occurred during the decompression, if any.
+     */
+    private volatile IOException inflaterException;
+
+    /**
+     * Determines if this stream has been closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * The chunk which is currently being read.
+     */
+    private byte[] currentChunk;
+
+    /**
+     * The position in the {@link #currentChunk}.
+     */
+    private int position;
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Creates a new instance and starts the decompression of the given source.
+     *
+     * @param source    the {@link InputStream} providing the gzip compressed data, must not be null.
+     * @param chunkSize the size in bytes of each decompressed chunk, must be greater than 0.
+     * @param capacity  the maximum amount of chunks that can be decompressed ahead of the reader, must be greater than 0.
+     *
+     * @throws IllegalArgumentException if the given source is null or the given chunkSize or capacity are not greater than 0.
+     * @throws IOException              if the gzip header of the source can not be read.
+     */
+    public PipedGZIPInputStream(final InputStream source, final int chunkSize, final int capacity) throws IllegalArgumentException, IOException {
+        if (source == null) {
+            throw new IllegalArgumentException("given source must not be null");
+        }
+
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("given chunkSize must be greater than 0");
+        }
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("given capacity must be greater than 0");
+        }
+
+        final GZIPInputStream inflater = new GZIPInputStream(source, chunkSize);
+
+        this.chunks = new ArrayBlockingQueue<>(capacity);
+
+        final Thread inflaterThread = new Thread(() -> inflate(inflater, chunkSize), "svgfx-gzip-inflater");
+        inflaterThread.setDaemon(true);
+        inflaterThread.start();
+    }
+
+    // endregion
+
+    // region Override InputStream
+
+    @Override
+    public int read() throws IOException {
+        if (!nextChunk()) {
+            return -1;
+        }
+
+        return currentChunk[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+
+        if (!nextChunk()) {
+            return -1;
+        }
+
+        final int count = Math.min(length, currentChunk.length - position);
+        System.arraycopy(currentChunk, position, bytes, offset, count);
+        position += count;
+
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return currentChunk == null || currentChunk == END_OF_DATA ? 0 : currentChunk.length - position;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        // clearing the chunks releases the inflater thread if it waits for space, it will then notice that the stream is closed and stop
+        closed = true;
+        chunks.clear();
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Makes sure that the {@link #currentChunk} contains data that has not been read yet.
+     *
+     * @return true if there is data to be read, false if the end of the data has been reached.
+     *
+     * @throws IOException if this stream is closed, the reading thread was interrupted or the decompression failed.
+     */
+    private boolean nextChunk() throws IOException {
+        if (closed) {
+            throw new IOException("stream is closed");
+        }
+
+        while (currentChunk != END_OF_DATA && (currentChunk == null || position == currentChunk.length)) {
+            try {
+                currentChunk = chunks.take();
+                position = 0;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted while waiting for decompressed data");
+            }
+        }
+
+        if (currentChunk == END_OF_DATA && inflaterException != null) {
+            throw new IOException("could not decompress data", inflaterException);
+        }
+
+        return currentChunk != END_OF_DATA;
+    }
+
+    /**
+     * Decompresses the data of the given inflater into chunks, until the end of the data is reached or this stream is closed.
+     *
+     * @param inflater  the {@link GZIPInputStream} to read from.
+     * @param chunkSize the size of each chunk.
+     */
+    private void inflate(final GZIPInputStream inflater, final int chunkSize) {
+        try {
+            while (!closed) {
+                final byte[] chunk = new byte[chunkSize];
+
+                int length = 0;
+                int read;
+                while (length < chunkSize && (read = inflater.read(chunk, length, chunkSize - length)) >= 0) {
+                    length += read;
+                }
+
+                if (length == 0) {
+                    break;
+                }
+
+                chunks.put(length == chunkSize ? chunk : Arrays.copyOf(chunk, length));
+            }
+        } catch (final IOException e) {
+            inflaterException = e;
+        } catch (final InterruptedException e) {
+            inflaterException = new InterruptedIOException("interrupted while decompressing data");
+        } finally {
+            try {
+                inflater.close();
+            } catch (final IOException ignored) {
+                // the data has already been consumed or is no longer needed
+            }
+
+            putEndOfData();
+        }
+    }
+
+    /**
+     * Adds the {@link #END_OF_DATA} to the {@link #chunks}, if the stream has not yet been closed.
+     */
+    private void putEndOfData() {
+        try {
+            if (!closed) {
+                chunks.put(END_OF_DATA);
+            }
+        } catch (final InterruptedException ignored) {
+            // only happens when the stream is closed, in which case nobody is waiting for data anymore
+        }
+    }
+
+    // endregion
+}
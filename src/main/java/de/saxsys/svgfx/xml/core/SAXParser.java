@@ -13,6 +13,7 @@
 
 package de.saxsys.svgfx.xml.core;
 
+import de.saxsys.svgfx.jfr.FlightRecorderEvents;
 import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.ReadOnlyProperty;
 import org.xml.sax.Attributes;
@@ -24,12 +25,20 @@ import org.xml.sax.XMLReader;
 import org.xml.sax.helpers.DefaultHandler;
 
 import javax.xml.parsers.SAXParserFactory;
+import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Stack;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Basic XML parser which uses a given elementFactory to process the data provided while parsing.
@@ -49,6 +58,36 @@ public abstract class SAXParser<TResult, TDocumentDataProvider extends IDocument
 
     private static final String FEATURE_VALIDATION = "http://xml.org/sax/features/validation";
 
+    /**
+     * The size of the buffer used when reading data from a stream or a channel.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The default minimum size in bytes of a file so that it will be memory mapped instead of being read using a buffered stream.
+     */
+    public static final long DEFAULT_MEMORY_MAPPING_THRESHOLD = 8L * 1024L * 1024L;
+
+    /**
+     * The minimum size in bytes of gzip compressed data so that it will be decompressed on a separate thread using a {@link PipedGZIPInputStream}.
+     */
+    private static final long PIPELINED_DECOMPRESSION_THRESHOLD = 1024L * 1024L;
+
+    /**
+     * The amount of decompressed chunks the {@link PipedGZIPInputStream} may buffer ahead of the parser.
+     */
+    private static final int PIPELINED_DECOMPRESSION_CAPACITY = 16;
+
+    /**
+     * The first byte of the gzip magic number.
+     */
+    private static final int GZIP_MAGIC_FIRST = 0x1F;
+
+    /**
+     * The second byte of the gzip magic number.
+     */
+    private static final int GZIP_MAGIC_SECOND = 0x8B;
+
     // endregion
 
     // region Enumeration
@@ -127,6 +166,18 @@ public abstract class SAXParser<TResult, TDocumentDataProvider extends IDocument
      * Determines the amount of successful parses.
      */
     private long successfulParses;
+    /**
+     * The id of the document which is currently or was last parsed.
+     */
+    private String documentId;
+    /**
+     * The id of the document which is about to be parsed, which is the path of the file if one is parsed.
+     */
+    private String pendingDocumentId;
+    /**
+     * The minimum size in bytes of a file so that it will be memory mapped instead of being read using a buffered stream.
+     */
+    private long memoryMappingThreshold = DEFAULT_MEMORY_MAPPING_THRESHOLD;
     /**
      * The last element that has been popped from the {@link #elementStack}.
      */
@@ -194,6 +245,41 @@ public abstract class SAXParser<TResult, TDocumentDataProvider extends IDocument
         return successfulParses;
     }
 
+    /**
+     * Gets the {@link #documentId}, which is the path of the parsed file, the system id of the parsed {@link InputSource} or the number of the parse
+     * prefixed by #.
+     *
+     * @return the {@link #documentId}, null if nothing has been parsed yet.
+     */
+    public final String getDocumentId() {
+        return documentId;
+    }
+
+    /**
+     * Gets the {@link #memoryMappingThreshold}.
+     *
+     * @return the minimum size in bytes of a file so that it will be memory mapped.
+     */
+    public final long getMemoryMappingThreshold() {
+        return memoryMappingThreshold;
+    }
+
+    /**
+     * Sets the minimum size in bytes of a file so that it will be memory mapped instead of being read using a buffered stream, the default is {@link
+     * #DEFAULT_MEMORY_MAPPING_THRESHOLD}. Mapping small files is usually slower than reading them.
+     *
+     * @param memoryMappingThreshold the threshold to use.
+     *
+     * @throws IllegalArgumentException if the given threshold is negative.
+     */
+    public final void setMemoryMappingThreshold(final long memoryMappingThreshold) throws IllegalArgumentException {
+        if (memoryMappingThreshold < 0L) {
+            throw new IllegalArgumentException(String.format("given memoryMappingThreshold [%d] must not be negative", memoryMappingThreshold));
+        }
+
+        this.memoryMappingThreshold = memoryMappingThreshold;
+    }
+
     /**
      * Gets the value of the State.
      *
@@ -273,6 +359,18 @@ public abstract class SAXParser<TResult, TDocumentDataProvider extends IDocument
 
     // endregion
 
+    // region Protected
+
+    /**
+     * Will be called after the data of a file, a channel or a buffer has been parsed, even if the parsing failed. It is not called when an {@link
+     * InputSource} is parsed directly, since the amount of its data is unknown. Does nothing by default.
+     *
+     * @param bytes the amount of bytes read, which for compressed data is the amount of compressed bytes.
+     */
+    protected void dataRead(final long bytes) {}
+
+    // endregion
+
     // region Public
 
     /**
@@ -314,11 +412,83 @@ public abstract class SAXParser<TResult, TDocumentDataProvider extends IDocument
             throw new IllegalArgumentException("given file must not be null");
         }
 
-        InputStream stream = new FileInputStream(file);
+        parse(file.toPath());
+    }
 
-        parse(new InputSource(stream));
+    /**
+     * Parses the data of the file located at the given path. Large files will be memory mapped, smaller files will be read using a buffered stream. The
+     * file will always be closed, even if the parsing fails. Gzip compressed files, such as .svgz files, are detected and decompressed while being parsed.
+     *
+     * @param path path of the file to be used
+     *
+     * @throws SAXParseException        if an exception occurs while parsing the data
+     * @throws IllegalArgumentException if the given path is null
+     * @throws IllegalStateException    if this method is being called while the parser is still busy
+     * @throws IOException              if the file can not be found or opened
+     */
+    public final void parse(final Path path) throws SAXParseException, IllegalArgumentException, IllegalStateException, IOException {
+        if (path == null) {
+            throw new IllegalArgumentException("given path must not be null");
+        }
 
-        stream.close();
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            pendingDocumentId = path.toString();
+            parse(channel);
+        } finally {
+            pendingDocumentId = null;
+        }
+    }
+
+    /**
+     * Parses the data provided by the given channel, starting at its current position. If the channel is a {@link FileChannel} and the remaining data is
+     * large, the data will be memory mapped, otherwise the channel is read using a buffered stream. The channel will not be closed by this method.
+     *
+     * @param channel the channel to read the data from
+     *
+     * @throws SAXParseException        if an exception occurs while parsing the data
+     * @throws IllegalArgumentException if the given channel is null
+     * @throws IllegalStateException    if this method is being called while the parser is still busy
+     * @throws IOException              if the channel can not be read
+     */
+    public final void parse(final ReadableByteChannel channel) throws SAXParseException, IllegalArgumentException, IllegalStateException, IOException {
+        if (channel == null) {
+            throw new IllegalArgumentException("given channel must not be null");
+        }
+
+        if (channel instanceof FileChannel) {
+            final FileChannel fileChannel = (FileChannel) channel;
+            final long position = fileChannel.position();
+            final long remaining = fileChannel.size() - position;
+
+            // a single buffer can not map more than Integer.MAX_VALUE bytes, so larger files are streamed
+            if (remaining >= memoryMappingThreshold && remaining <= Integer.MAX_VALUE) {
+                parse(fileChannel.map(FileChannel.MapMode.READ_ONLY, position, remaining));
+                return;
+            }
+        }
+
+        final long length = channel instanceof FileChannel ? ((FileChannel) channel).size() - ((FileChannel) channel).position() : -1L;
+
+        // the stream is not closed since this would also close the channel, which is owned by the caller
+        parse(new BufferedInputStream(Channels.newInputStream(channel), BUFFER_SIZE), length);
+    }
+
+    /**
+     * Parses the remaining data of the given buffer. The position of the buffer will not be changed.
+     *
+     * @param buffer the buffer containing the data
+     *
+     * @throws SAXParseException        if an exception occurs while parsing the data
+     * @throws IllegalArgumentException if the given buffer is null
+     * @throws IllegalStateException    if this method is being called while the parser is still busy
+     * @throws IOException              if the data can not be read
+     */
+    public final void parse(final ByteBuffer buffer) throws SAXParseException, IllegalArgumentException, IllegalStateException, IOException {
+        if (buffer == null) {
+            throw new IllegalArgumentException("given buffer must not be null");
+        }
+
+        parse(new ByteBufferInputStream(buffer), buffer.remaining());
     }
 
     /**
@@ -340,6 +510,8 @@ public abstract class SAXParser<TResult, TDocumentDataProvider extends IDocument
             throw new IllegalStateException("Can not attempt to parse while the parser is still working");
         }
 
+        final Object event = FlightRecorderEvents.begin(FlightRecorderEvents.Operation.PARSE);
+
         try {
             setState(State.PREPARING);
 
@@ -347,6 +519,8 @@ public abstract class SAXParser<TResult, TDocumentDataProvider extends IDocument
 
             attemptedParses++;
 
+            documentId = pendingDocumentId != null ? pendingDocumentId : data.getSystemId() != null ? data.getSystemId() : String.format("#%d", attemptedParses);
+
             final XMLReader reader = SAXParserFactory.newInstance().newSAXParser().getXMLReader();
 
             configureReader(reader);
@@ -361,6 +535,8 @@ public abstract class SAXParser<TResult, TDocumentDataProvider extends IDocument
 
         } catch (final Exception e) {
             throw new SAXParseException(null, null, e);
+        } finally {
+            FlightRecorderEvents.end(event, documentId, null);
         }
     }
 
@@ -440,6 +616,93 @@ public abstract class SAXParser<TResult, TDocumentDataProvider extends IDocument
 
     // region Private
 
+    /**
+     * Parses the data of the given stream, which must support {@link InputStream#mark(int)}. If the data is gzip compressed, it will be decompressed while
+     * being parsed, large data is decompressed on a separate thread using a {@link PipedGZIPInputStream}. The given stream will not be closed.
+     *
+     * @param stream the stream to read the data from
+     * @param length the amount of bytes provided by the stream or a negative value if unknown
+     *
+     * @throws SAXParseException     if an exception occurs while parsing the data
+     * @throws IllegalStateException if this method is being called while the parser is still busy
+     * @throws IOException           if the data can not be read
+     */
+    private void parse(final InputStream stream, final long length) throws SAXParseException, IllegalStateException, IOException {
+        final CountingInputStream counter = new CountingInputStream(stream);
+
+        try {
+            final byte[] prolog = new byte[XMLEncodingDetector.PROLOG_LENGTH];
+            final int prologLength = peek(counter, prolog);
+
+            if (prologLength < 2 || (prolog[0] & 0xFF) != GZIP_MAGIC_FIRST || (prolog[1] & 0xFF) != GZIP_MAGIC_SECOND) {
+                parse(counter, prolog, prologLength);
+                return;
+            }
+
+            // the decompressing streams would close the given stream, which is owned by the caller
+            final InputStream source = new FilterInputStream(counter) {
+                @Override
+                public void close() {}
+            };
+
+            try (final InputStream decompressed = length >= PIPELINED_DECOMPRESSION_THRESHOLD
+                                                  ? new PipedGZIPInputStream(source, BUFFER_SIZE, PIPELINED_DECOMPRESSION_CAPACITY)
+                                                  : new GZIPInputStream(source, BUFFER_SIZE)) {
+
+                final InputStream data = new BufferedInputStream(decompressed, BUFFER_SIZE);
+
+                parse(data, prolog, peek(data, prolog));
+            }
+        } finally {
+            dataRead(counter.getCount());
+        }
+    }
+
+    /**
+     * Parses the data of the given stream. The encoding of the data will be detected by the {@link XMLEncodingDetector} using the given prolog.
+     *
+     * @param stream       the stream to read the data from
+     * @param prolog       the first bytes of the stream
+     * @param prologLength the amount of valid bytes in the prolog
+     *
+     * @throws SAXParseException     if an exception occurs while parsing the data
+     * @throws IllegalStateException if this method is being called while the parser is still busy
+     */
+    private void parse(final InputStream stream, final byte[] prolog, final int prologLength) throws SAXParseException, IllegalStateException {
+        final InputSource source = new InputSource(stream);
+
+        final String encoding = XMLEncodingDetector.detect(prolog, prologLength);
+        if (encoding != null) {
+            source.setEncoding(encoding);
+        }
+
+        parse(source);
+    }
+
+    /**
+     * Reads the first bytes of the given stream into the given buffer without consuming them, the stream must support {@link InputStream#mark(int)}.
+     *
+     * @param stream the stream to read from
+     * @param buffer the buffer to fill
+     *
+     * @return the amount of bytes read into the buffer.
+     *
+     * @throws IOException if the stream can not be read
+     */
+    private static int peek(final InputStream stream, final byte[] buffer) throws IOException {
+        stream.mark(buffer.length);
+
+        int length = 0;
+        int read;
+        while (length < buffer.length && (read = stream.read(buffer, length, buffer.length - length)) >= 0) {
+            length += read;
+        }
+
+        stream.reset();
+
+        return length;
+    }
+
     private void cleanUp() {
         elementStack.clear();
         lastStackElement = null;
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.xml.core;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Determines the character encoding of an XML document by looking at its first bytes. The detection considers a byte order mark as well as the encoding
+ * declaration of the XML prolog, e.g. {@code <?xml version="1.0" encoding="ISO-8859-1"?>}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class XMLEncodingDetector {
+
+    // region Constants
+
+    /**
+     * The amount of bytes that need to be provided to be able to detect the encoding of the prolog.
+     */
+    public static final int PROLOG_LENGTH = 256;
+
+    /**
+     * The start of the XML prolog.
+     */
+    private static final String PROLOG_START = "<?xml";
+
+    /**
+     * The end of the XML prolog.
+     */
+    private static final String PROLOG_END = "?>";
+
+    /**
+     * The name of the encoding attribute in the XML prolog.
+     */
+    private static final String ENCODING_ATTRIBUTE = "encoding";
+
+    /**
+     * The name of the UTF-16 encoding, the actual byte order is determined by the byte order mark.
+     */
+    private static final String UTF_16 = "UTF-16";
+
+    // endregion
+
+    // region Constructor
+
+    /**
+     * Private constructor, since this is a utility class.
+     */
+    private XMLEncodingDetector() {
+    }
+
+    // endregion
+
+    // region Public
+
+    /**
+     * Detects the encoding of the XML document starting with the given bytes.
+     *
+     * @param data   the first bytes of the document, must not be null.
+     * @param length the amount of valid bytes in data.
+     *
+     * @return the name of the detected encoding or null if no encoding could be detected.
+     *
+     * @throws IllegalArgumentException if the given data is null.
+     */
+    public static String detect(final byte[] data, final int length) throws IllegalArgumentException {
+        if (data == null) {
+            throw new IllegalArgumentException("given data must not be null");
+        }
+
+        final int size = Math.min(length, data.length);
+
+        if (size >= 3 && (data[0] & 0xFF) == 0xEF && (data[1] & 0xFF) == 0xBB && (data[2] & 0xFF) == 0xBF) {
+            return StandardCharsets.UTF_8.name();
+        }
+
+        if (size >= 2 && (((data[0] & 0xFF) == 0xFE && (data[1] & 0xFF) == 0xFF) || ((data[0] & 0xFF) == 0xFF && (data[1] & 0xFF) == 0xFE))) {
+            return UTF_16;
+        }
+
+        // a document starting with '<' encoded in UTF-16 without a byte order mark
+        if (size >= 2 && data[0] == 0 && data[1] == '<') {
+            return StandardCharsets.UTF_16BE.name();
+        }
+
+        if (size >= 2 && data[0] == '<' && data[1] == 0) {
+            return StandardCharsets.UTF_16LE.name();
+        }
+
+        return getDeclaredEncoding(new String(data, 0, Math.max(size, 0), StandardCharsets.ISO_8859_1));
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Gets the value of the encoding attribute of the XML prolog in the given text.
+     *
+     * @param text the text which may start with the XML prolog.
+     *
+     * @return the declared encoding or null if there is none.
+     */
+    private static String getDeclaredEncoding(final String text) {
+        if (!text.startsWith(PROLOG_START)) {
+            return null;
+        }
+
+        final int end = text.indexOf(PROLOG_END);
+        if (end < 0) {
+            return null;
+        }
+
+        int index = text.indexOf(ENCODING_ATTRIBUTE, PROLOG_START.length());
+        if (index < 0 || index > end) {
+            return null;
+        }
+
+        index += ENCODING_ATTRIBUTE.length();
+
+        while (index < end && Character.isWhitespace(text.charAt(index))) {
+            index++;
+        }
+
+        if (index >= end || text.charAt(index) != '=') {
+            return null;
+        }
+
+        index++;
+
+        while (index < end && Character.isWhitespace(text.charAt(index))) {
+            index++;
+        }
+
+        if (index >= end) {
+            return null;
+        }
+
+        final char quote = text.charAt(index);
+        if (quote != '"' && quote != '\'') {
+            return null;
+        }
+
+        final int valueEnd = text.indexOf(quote, index + 1);
+        if (valueEnd < 0 || valueEnd > end) {
+            return null;
+        }
+
+        final String encoding = text.substring(index + 1, valueEnd).trim();
+
+        return encoding.isEmpty() ? null : encoding;
+    }
+
+    // endregion
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.jfr;
+
+/**
+ * Creates the {@link SVGEvent}s, this class is only loaded by {@link FlightRecorderEvents} if the Java Flight Recorder is available.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+final class JfrEventFactory implements FlightRecorderEvents.EventFactory {
+
+    // region Implement EventFactory
+
+    @Override
+    public Object begin(final FlightRecorderEvents.Operation operation) {
+        final SVGEvent event;
+
+        switch (operation) {
+            case PARSE:
+                event = new SVGEvent.Parse();
+                break;
+            case RESULT_CREATION:
+                event = new SVGEvent.ResultCreation();
+                break;
+            case STYLE_RESOLUTION:
+                event = new SVGEvent.StyleResolution();
+                break;
+            default:
+                event = new SVGEvent.BoundingBox();
+                break;
+        }
+
+        if (!event.isEnabled()) {
+            return null;
+        }
+
+        event.begin();
+
+        return event;
+    }
+
+    @Override
+    public void end(final Object event, final String documentId, final String elementName) {
+        final SVGEvent svgEvent = (SVGEvent) event;
+
+        svgEvent.end();
+
+        if (svgEvent.shouldCommit()) {
+            svgEvent.documentId = documentId;
+            svgEvent.elementName = elementName;
+            svgEvent.commit();
+        }
+    }
+
+    // endregion
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * The base of all Java Flight Recorder events emitted while loading a svg document, this class must only be loaded if the Java Flight Recorder is
+ * available.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+@Category ("svgFX")
+@StackTrace (false)
+abstract class SVGEvent extends Event {
+
+    // region Fields
+
+    /**
+     * The id of the document.
+     */
+    @Label ("Document")
+    String documentId;
+
+    /**
+     * The name of the element.
+     */
+    @Label ("Element")
+    String elementName;
+
+    // endregion
+
+    // region Class
+
+    /**
+     * Emitted when a document was parsed.
+     */
+    @Name ("de.saxsys.svgfx.Parse")
+    @Label ("SVG Parse")
+    @Description ("Parsing a whole svg document")
+    @Threshold ("20 ms")
+    static final class Parse extends SVGEvent {}
+
+    /**
+     * Emitted when the result of an element was created.
+     */
+    @Name ("de.saxsys.svgfx.ResultCreation")
+    @Label ("SVG Result Creation")
+    @Description ("Creating the result of a svg element including its children")
+    @Threshold ("5 ms")
+    static final class ResultCreation extends SVGEvent {}
+
+    /**
+     * Emitted when the style of an element was resolved.
+     */
+    @Name ("de.saxsys.svgfx.StyleResolution")
+    @Label ("SVG Style Resolution")
+    @Description ("Resolving the style of a svg element")
+    @Threshold ("1 ms")
+    static final class StyleResolution extends SVGEvent {}
+
+    /**
+     * Emitted when the bounding box of path data was determined.
+     */
+    @Name ("de.saxsys.svgfx.BoundingBox")
+    @Label ("SVG Bounding Box")
+    @Description ("Determining the bounding box of svg path data")
+    @Threshold ("1 ms")
+    static final class BoundingBox extends SVGEvent {}
+
+    // endregion
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core;
+
+import javafx.scene.Group;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+/**
+ * This class will test the {@link CachingSVGLoader}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+@SuppressWarnings ("ConstantConditions")
+public final class CachingSVGLoaderTest {
+
+    /**
+     * Creates a document containing the given amount of rectangles.
+     *
+     * @param rectangles the amount of rectangles.
+     *
+     * @return the document.
+     */
+    private static String createDocument(final int rectangles) {
+        final StringBuilder result = new StringBuilder("<svg xmlns=\"http://www.w3.org/2000/svg\">");
+
+        for (int i = 0; i < rectangles; i++) {
+            result.append("<rect width=\"1\" height=\"1\"/>");
+        }
+
+        return result.append("</svg>").toString();
+    }
+
+    /**
+     * Loading the same file twice will only parse it once, but return new nodes each time.
+     */
+    @Test
+    public void loadingTheSameFileTwiceWillOnlyParseItOnceButReturnNewNodes() throws IOException, SVGException {
+
+        final Path file = Files.createTempFile("svgfx", ".svg");
+        Files.write(file, createDocument(2).getBytes(StandardCharsets.UTF_8));
+
+        final CachingSVGLoader loader = new CachingSVGLoader(100, false);
+
+        final Group first = loader.load(file);
+        final Group second = loader.load(file);
+
+        assertNotSame(first, second);
+        assertEquals(2, second.getChildren().size());
+        assertEquals(1, loader.getMissCount());
+        assertEquals(1, loader.getHitCount());
+        assertEquals(1, loader.getSize());
+        assertEquals(3, loader.getWeight());
+    }
+
+    /**
+     * A file that has changed will be parsed again.
+     */
+    @Test
+    public void aFileThatHasChangedWillBeParsedAgain() throws IOException, SVGException {
+
+        final Path file = Files.createTempFile("svgfx", ".svg");
+        Files.write(file, createDocument(1).getBytes(StandardCharsets.UTF_8));
+
+        final CachingSVGLoader loader = new CachingSVGLoader(100, false);
+
+        assertEquals(1, loader.load(file).getChildren().size());
+
+        Files.write(file, createDocument(3).getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(3, loader.load(file).getChildren().size());
+        assertEquals(2, loader.getMissCount());
+        assertEquals(0, loader.getHitCount());
+    }
+
+    /**
+     * Streams with the same content will use the same template.
+     */
+    @Test
+    public void streamsWithTheSameContentWillUseTheSameTemplate() throws IOException, SVGException {
+
+        final byte[] data = createDocument(2).getBytes(StandardCharsets.UTF_8);
+
+        final CachingSVGLoader loader = new CachingSVGLoader(100, true);
+
+        final SVGTemplate first = loader.getTemplate(new ByteArrayInputStream(data));
+        final SVGTemplate second = loader.getTemplate(new ByteArrayInputStream(data));
+
+        assertSame(first, second);
+        assertEquals(1, loader.getMissCount());
+        assertEquals(1, loader.getHitCount());
+    }
+
+    /**
+     * If the maximum weight is exceeded, the least recently used templates will be evicted.
+     */
+    @Test
+    public void ifTheMaximumWeightIsExceededTheLeastRecentlyUsedTemplatesWillBeEvicted() throws IOException, SVGException {
+
+        final CachingSVGLoader loader = new CachingSVGLoader(10, false);
+
+        final byte[] first = createDocument(3).getBytes(StandardCharsets.UTF_8);
+        final byte[] second = createDocument(4).getBytes(StandardCharsets.UTF_8);
+        final byte[] third = createDocument(2).getBytes(StandardCharsets.UTF_8);
+
+        loader.load(new ByteArrayInputStream(first));
+        loader.load(new ByteArrayInputStream(second));
+        loader.load(new ByteArrayInputStream(first));
+        loader.load(new ByteArrayInputStream(third));
+
+        assertEquals(1, loader.getEvictionCount());
+        assertEquals(2, loader.getSize());
+        assertEquals(7, loader.getWeight());
+
+        loader.load(new ByteArrayInputStream(first));
+
+        assertEquals(2, loader.getHitCount());
+    }
+
+    /**
+     * A document that alone exceeds the maximum weight will not be cached.
+     */
+    @Test
+    public void aDocumentThatExceedsTheMaximumWeightWillNotBeCached() throws IOException, SVGException {
+
+        final CachingSVGLoader loader = new CachingSVGLoader(2, false);
+
+        loader.load(new ByteArrayInputStream(createDocument(5).getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(0, loader.getSize());
+        assertEquals(0, loader.getEvictionCount());
+    }
+
+    /**
+     * The maximum weight must be greater than 0.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void theMaximumWeightMustBeGreaterThanZero() {
+
+        new CachingSVGLoader(0, false);
+    }
+}
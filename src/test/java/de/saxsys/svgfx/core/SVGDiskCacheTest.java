@@ -0,0 +1,156 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class will test the {@link SVGDiskCache}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+@SuppressWarnings ("ConstantConditions")
+public final class SVGDiskCacheTest {
+
+    /**
+     * The document used by the tests.
+     */
+    private static final byte[] DOCUMENT = "<svg xmlns=\"http://www.w3.org/2000/svg\"><rect width=\"1\" height=\"1\"/><circle r=\"1\"/></svg>".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Gets the files contained in the given directory.
+     *
+     * @param directory the directory.
+     *
+     * @return the files.
+     */
+    private static List<Path> getFiles(final Path directory) throws IOException {
+        final List<Path> result = new ArrayList<>();
+
+        try (final DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            files.forEach(result::add);
+        }
+
+        return result;
+    }
+
+    /**
+     * A document that has been parsed will be stored and loaded by another cache using the same directory.
+     */
+    @Test
+    public void aParsedDocumentWillBeLoadedByAnotherCacheUsingTheSameDirectory() throws IOException, SVGException {
+
+        final Path directory = Files.createTempDirectory("svgfx");
+
+        final SVGDiskCache first = new SVGDiskCache(directory);
+
+        assertEquals(2, first.getTemplate(DOCUMENT).instantiate().getChildren().size());
+        assertEquals(1, first.getMissCount());
+        assertEquals(0, first.getHitCount());
+
+        final List<Path> files = getFiles(directory);
+
+        assertEquals(1, files.size());
+        assertTrue(files.get(0).getFileName().toString().endsWith(".svgb"));
+
+        final SVGDiskCache second = new SVGDiskCache(directory);
+
+        assertEquals(2, second.getTemplate(DOCUMENT).instantiate().getChildren().size());
+        assertEquals(0, second.getMissCount());
+        assertEquals(1, second.getHitCount());
+    }
+
+    /**
+     * An entry that can not be read will be replaced.
+     */
+    @Test
+    public void anEntryThatCanNotBeReadWillBeReplaced() throws IOException, SVGException {
+
+        final Path directory = Files.createTempDirectory("svgfx");
+
+        final SVGDiskCache cache = new SVGDiskCache(directory);
+
+        cache.getTemplate(DOCUMENT);
+
+        final Path entry = getFiles(directory).get(0);
+        Files.write(entry, new byte[]{1, 2, 3});
+
+        assertEquals(2, cache.getTemplate(DOCUMENT).instantiate().getChildren().size());
+        assertEquals(2, cache.getMissCount());
+
+        assertEquals(2, cache.getTemplate(DOCUMENT).instantiate().getChildren().size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, getFiles(directory).size());
+    }
+
+    /**
+     * An entry whose header is valid but whose content has been changed will be deleted and replaced instead of being returned.
+     */
+    @Test
+    public void anEntryWithACorruptContentWillBeReplaced() throws IOException, SVGException {
+
+        final Path directory = Files.createTempDirectory("svgfx");
+
+        final SVGDiskCache cache = new SVGDiskCache(directory);
+
+        cache.getTemplate(DOCUMENT);
+
+        final Path entry = getFiles(directory).get(0);
+        final byte[] data = Files.readAllBytes(entry);
+        data[data.length - 1] ^= 1;
+        Files.write(entry, data);
+
+        assertEquals(2, cache.getTemplate(DOCUMENT).instantiate().getChildren().size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+
+        final SVGDiskCache other = new SVGDiskCache(directory);
+
+        assertEquals(2, other.getTemplate(DOCUMENT).instantiate().getChildren().size());
+        assertEquals(1, other.getHitCount());
+        assertEquals(1, getFiles(directory).size());
+    }
+
+    /**
+     * A loader using a disk cache will load documents that are not in memory from the disk cache.
+     */
+    @Test
+    public void aLoaderUsingADiskCacheWillLoadDocumentsFromTheDiskCache() throws IOException, SVGException {
+
+        final Path directory = Files.createTempDirectory("svgfx");
+        final Path file = Files.createTempFile("svgfx", ".svg");
+        Files.write(file, DOCUMENT);
+
+        new CachingSVGLoader(100, false, new SVGDiskCache(directory)).load(file);
+
+        final SVGDiskCache cache = new SVGDiskCache(directory);
+        final CachingSVGLoader loader = new CachingSVGLoader(100, false, cache);
+
+        assertEquals(2, loader.load(file).getChildren().size());
+        assertEquals(1, loader.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+}
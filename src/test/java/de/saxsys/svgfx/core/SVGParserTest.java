@@ -13,17 +13,36 @@
 
 package de.saxsys.svgfx.core;
 
+import de.saxsys.svgfx.core.metrics.InMemorySVGMetrics;
+import de.saxsys.svgfx.core.metrics.SVGMetrics;
+import javafx.geometry.BoundingBox;
 import javafx.scene.Group;
 import javafx.scene.paint.LinearGradient;
+import javafx.scene.shape.Polyline;
 import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.SVGPath;
 import org.junit.Test;
+import org.xml.sax.InputSource;
 
+import java.io.StringReader;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
 
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 /**
@@ -108,4 +127,430 @@ public final class SVGParserTest {
 
         assertNotNull(parser.getResult());
     }
-}
\ No newline at end of file
+
+    /**
+     * Parsing a file using a path, a byte buffer or a channel will create the same result as parsing it using a file.
+     */
+    @Test
+    public void parsingASVGFileUsingAPathAByteBufferOrAChannelWillCreateAResult() throws Exception {
+
+        final URL url = getClass().getClassLoader().getResource("de/saxsys/svgfx/core/complex.svg");
+
+        assertNotNull(url);
+
+        final Path path = Paths.get(url.toURI());
+
+        final SVGParser parser = new SVGParser();
+
+        parser.parse(path);
+
+        assertNotNull(parser.getResult());
+
+        final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+
+        parser.parse(buffer);
+
+        assertNotNull(parser.getResult());
+        assertEquals(0, buffer.position());
+
+        try (final ReadableByteChannel channel = Channels.newChannel(Files.newInputStream(path))) {
+            parser.parse(channel);
+        }
+
+        assertNotNull(parser.getResult());
+        assertEquals(3, parser.getSuccessfulParses());
+    }
+
+    /**
+     * Parsing a file which is at least as large as the memory mapping threshold will map the file and create the same result.
+     */
+    @Test
+    public void parsingAFileAboveTheMemoryMappingThresholdWillCreateAResult() throws Exception {
+
+        final URL url = getClass().getClassLoader().getResource("de/saxsys/svgfx/core/complex.svg");
+
+        assertNotNull(url);
+
+        final Path path = Paths.get(url.toURI());
+
+        final InMemorySVGMetrics metrics = new InMemorySVGMetrics();
+
+        final SVGParser parser = new SVGParser();
+        parser.setMetrics(metrics);
+        parser.setMemoryMappingThreshold(0L);
+
+        parser.parse(path);
+
+        assertNotNull(parser.getResult());
+        assertEquals(Files.size(path), metrics.getBytesRead());
+
+        final int children = parser.getResult().getChildren().size();
+
+        parser.setMemoryMappingThreshold(SVGParser.DEFAULT_MEMORY_MAPPING_THRESHOLD);
+        parser.parse(path);
+
+        assertEquals(children, parser.getResult().getChildren().size());
+    }
+
+    /**
+     * A negative memory mapping threshold is not allowed.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void settingANegativeMemoryMappingThresholdWillThrowAnException() {
+        new SVGParser().setMemoryMappingThreshold(-1L);
+    }
+
+    /**
+     * Parsing data which declares its encoding in the XML prolog will use that encoding, so an id written in that encoding can be referenced using
+     * character references, which do not depend on the encoding.
+     */
+    @Test
+    public void parsingDataWhichDeclaresAnEncodingInTheXMLPrologWillUseThatEncoding() throws Exception {
+
+        final String data = "<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>"
+                            + "<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\">"
+                            + "<defs><rect id=\"\u00e4\u00f6\u00fc\" width=\"3\" height=\"1\"/></defs>"
+                            + "<use xlink:href=\"#&#228;&#246;&#252;\"/></svg>";
+
+        final SVGParser parser = new SVGParser();
+
+        parser.parse(ByteBuffer.wrap(data.getBytes(StandardCharsets.ISO_8859_1)));
+
+        assertEquals(1, parser.getSuccessfulParses());
+        assertEquals(1, parser.getResult().getChildren().size());
+
+        final Group use = Group.class.cast(parser.getResult().getChildren().get(0));
+
+        assertEquals(3.0d, Rectangle.class.cast(use.getChildren().get(0)).getWidth(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * Parsing a gzip compressed file will decompress the data and create a result.
+     */
+    @Test
+    public void parsingAGzipCompressedSVGFileWillCreateAResult() throws Exception {
+
+        final URL url = getClass().getClassLoader().getResource("de/saxsys/svgfx/core/complex.svgz");
+
+        assertNotNull(url);
+
+        final SVGParser parser = new SVGParser();
+
+        parser.parse(url.getFile());
+
+        assertNotNull(parser.getResult());
+
+        parser.parse(ByteBuffer.wrap(Files.readAllBytes(Paths.get(url.toURI()))));
+
+        assertNotNull(parser.getResult());
+        assertEquals(2, parser.getSuccessfulParses());
+    }
+
+    /**
+     * Creating the results of the top level elements in parallel will create them in the order of the document, even if they share styles and gradients.
+     */
+    @Test
+    public void creatingTheResultsInParallelWillKeepTheOrderOfTheDocument() throws Exception {
+
+        final StringBuilder data = new StringBuilder("<svg xmlns=\"http://www.w3.org/2000/svg\">"
+                                                     + "<style>.a{stroke-width:3}</style>"
+                                                     + "<defs><linearGradient id=\"g\"><stop offset=\"0\" stop-color=\"red\"/></linearGradient></defs>");
+
+        for (int i = 0; i < 64; i++) {
+            data.append(String.format("<g><rect class=\"a\" x=\"%d\" y=\"0\" width=\"1\" height=\"1\" fill=\"url(#g)\"/></g>", i));
+        }
+
+        data.append("</svg>");
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            final SVGParser parser = new SVGParser(pool);
+
+            parser.parse(new InputSource(new StringReader(data.toString())));
+
+            final Group result = parser.getResult();
+            int index = 0;
+
+            for (int i = 0; i < result.getChildren().size(); i++) {
+                if (!(result.getChildren().get(i) instanceof Group) || ((Group) result.getChildren().get(i)).getChildren().isEmpty()) {
+                    continue;
+                }
+
+                final Group group = (Group) result.getChildren().get(i);
+
+                assertThat(group.getChildren().get(0), instanceOf(Rectangle.class));
+
+                final Rectangle rectangle = (Rectangle) group.getChildren().get(0);
+
+                assertEquals(index++, rectangle.getX(), MINIMUM_DEVIATION);
+                assertEquals(3.0d, rectangle.getStrokeWidth(), MINIMUM_DEVIATION);
+                assertThat(rectangle.getFill(), instanceOf(LinearGradient.class));
+            }
+
+            assertEquals(64, index);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * When a viewport is set, shapes whose transformed bounding box lies completely outside of it will not be created, while the ones inside or
+     * referenced by a use element will be.
+     */
+    @Test
+    public void shapesOutsideOfTheViewportWillNotBeCreated() throws Exception {
+
+        final String data = "<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\">"
+                            + "<defs><g id=\"d\"><rect x=\"500\" y=\"500\" width=\"10\" height=\"10\"/></g></defs>"
+                            + "<rect x=\"10\" y=\"10\" width=\"10\" height=\"10\"/>"
+                            + "<rect x=\"200\" y=\"10\" width=\"10\" height=\"10\"/>"
+                            + "<g transform=\"translate(-200 0)\"><rect x=\"200\" y=\"20\" width=\"10\" height=\"10\"/><circle cx=\"50\" cy=\"50\" r=\"5\"/></g>"
+                            + "<use xlink:href=\"#d\" x=\"-500\" y=\"-500\"/>"
+                            + "</svg>";
+
+        final SVGParser parser = new SVGParser();
+        parser.setViewport(new BoundingBox(0.0d, 0.0d, 100.0d, 100.0d));
+
+        parser.parse(new InputSource(new StringReader(data)));
+
+        final Group result = parser.getResult();
+
+        assertEquals(3, result.getChildren().size());
+        assertEquals(10.0d, Rectangle.class.cast(result.getChildren().get(0)).getX(), MINIMUM_DEVIATION);
+
+        final Group group = Group.class.cast(result.getChildren().get(1));
+
+        assertEquals(1, group.getChildren().size());
+        assertEquals(200.0d, Rectangle.class.cast(group.getChildren().get(0)).getX(), MINIMUM_DEVIATION);
+
+        final Group use = Group.class.cast(result.getChildren().get(2));
+
+        assertEquals(1, Group.class.cast(use.getChildren().get(0)).getChildren().size());
+
+        parser.setViewport(null);
+        parser.parse(new InputSource(new StringReader(data)));
+
+        assertEquals(4, parser.getResult().getChildren().size());
+    }
+
+    /**
+     * The shape which is created to determine whether it lies inside of the viewport will be used as the result, so its path is only parsed once.
+     */
+    @Test
+    public void shapesInsideOfTheViewportWillOnlyBeCreatedOnce() throws Exception {
+
+        final String data = "<svg xmlns=\"http://www.w3.org/2000/svg\">"
+                            + "<path d=\"M10,10 L20,20\"/>"
+                            + "<g transform=\"translate(5 5)\"><path d=\"M10,10 L20,20\"/></g>"
+                            + "</svg>";
+
+        final InMemorySVGMetrics metrics = new InMemorySVGMetrics();
+
+        final SVGParser parser = new SVGParser();
+        parser.setMetrics(metrics);
+        parser.setViewport(new BoundingBox(0.0d, 0.0d, 100.0d, 100.0d));
+
+        parser.parse(new InputSource(new StringReader(data)));
+
+        assertEquals(2, parser.getResult().getChildren().size());
+        assertEquals(2L, metrics.getPhaseCount(SVGMetrics.Phase.PATH_PARSING));
+    }
+
+    /**
+     * Elements which are only referenced by other elements, such as a clip path, will not be part of the result even if they are direct children of the
+     * root.
+     */
+    @Test
+    public void aClipPathWhichIsAChildOfTheRootWillNotBePartOfTheResult() throws Exception {
+
+        final String data = "<svg xmlns=\"http://www.w3.org/2000/svg\">"
+                            + "<clipPath id=\"c\"><rect x=\"0\" y=\"0\" width=\"5\" height=\"5\"/></clipPath>"
+                            + "<rect x=\"10\" y=\"10\" width=\"10\" height=\"10\" clip-path=\"url(#c)\"/>"
+                            + "</svg>";
+
+        final SVGParser parser = new SVGParser();
+
+        parser.parse(new InputSource(new StringReader(data)));
+
+        assertEquals(1, parser.getResult().getChildren().size());
+        assertThat(parser.getResult().getChildren().get(0), instanceOf(Rectangle.class));
+    }
+
+    /**
+     * When a simplification tolerance is set, the points of polylines are simplified using the tolerance converted into their own coordinate system.
+     */
+    @Test
+    public void pointsWillBeSimplifiedUsingTheToleranceInTheCoordinateSystemOfTheResult() throws Exception {
+
+        final String data = "<svg xmlns=\"http://www.w3.org/2000/svg\">"
+                            + "<polyline points=\"0,0 1,0.2 2,0\"/>"
+                            + "<polyline points=\"0,0 1,0.2 2,0\" transform=\"scale(10)\"/>"
+                            + "</svg>";
+
+        final SVGParser parser = new SVGParser();
+        parser.setSimplificationTolerance(1.0d);
+
+        parser.parse(new InputSource(new StringReader(data)));
+
+        assertEquals(4, Polyline.class.cast(parser.getResult().getChildren().get(0)).getPoints().size());
+        assertEquals(6, Polyline.class.cast(parser.getResult().getChildren().get(1)).getPoints().size());
+
+        parser.setSimplificationTolerance(0.0d);
+        parser.parse(new InputSource(new StringReader(data)));
+
+        assertEquals(6, Polyline.class.cast(parser.getResult().getChildren().get(0)).getPoints().size());
+    }
+
+    /**
+     * A negative simplification tolerance is not allowed.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void settingANegativeSimplificationToleranceWillThrowAnException() {
+        new SVGParser().setSimplificationTolerance(-1.0d);
+    }
+
+    /**
+     * Styles are applied using grouped, type, id and multiple class selectors, the most specific style being preferred.
+     */
+    @Test
+    public void stylesAreAppliedUsingTheirSelectorsPreferringTheMostSpecificOne() throws Exception {
+
+        final String data = "<svg xmlns=\"http://www.w3.org/2000/svg\">"
+                            + "<style>rect{stroke-width:1} .a, .b{stroke-width:2} .a.b{stroke-width:3} #c{stroke-width:4}</style>"
+                            + "<rect width=\"1\" height=\"1\"/>"
+                            + "<rect class=\"b unused\" width=\"1\" height=\"1\"/>"
+                            + "<rect class=\"a b\" width=\"1\" height=\"1\"/>"
+                            + "<rect id=\"c\" class=\"a b\" width=\"1\" height=\"1\"/>"
+                            + "</svg>";
+
+        final SVGParser parser = new SVGParser();
+
+        parser.parse(new InputSource(new StringReader(data)));
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i + 1.0d, Rectangle.class.cast(parser.getResult().getChildren().get(i)).getStrokeWidth(), MINIMUM_DEVIATION);
+        }
+    }
+
+    /**
+     * Classes which are only used by selectors that can not be evaluated, such as descendant selectors or pseudo classes, are still referenced. A descendant
+     * selector ending with the class is applied to the elements of the class.
+     */
+    @Test
+    public void classesOnlyUsedByDescendantSelectorsOrPseudoClassesWillNotThrowAnException() throws Exception {
+
+        final String data = "<svg xmlns=\"http://www.w3.org/2000/svg\">"
+                            + "<style>.layer .st0{stroke-width:2} .st1:hover{stroke-width:3}</style>"
+                            + "<g class=\"layer\"><rect class=\"st0\" width=\"1\" height=\"1\"/><rect class=\"st1\" width=\"1\" height=\"1\"/></g>"
+                            + "</svg>";
+
+        final SVGParser parser = new SVGParser();
+
+        parser.parse(new InputSource(new StringReader(data)));
+
+        final Group layer = Group.class.cast(parser.getResult().getChildren().get(0));
+
+        assertEquals(2.0d, Rectangle.class.cast(layer.getChildren().get(0)).getStrokeWidth(), MINIMUM_DEVIATION);
+        assertEquals(1.0d, Rectangle.class.cast(layer.getChildren().get(1)).getStrokeWidth(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * A descendant selector ending with a class is applied to the elements of the class, even if another selector uses the same class.
+     */
+    @Test
+    public void descendantSelectorsWillBeAppliedEvenIfTheClassIsUsedByAnotherSelector() throws Exception {
+
+        final String data = "<svg xmlns=\"http://www.w3.org/2000/svg\">"
+                            + "<style>.st0{stroke-width:2} .layer .st0{stroke-width:4; stroke-miterlimit:3}</style>"
+                            + "<g class=\"layer\"><rect class=\"st0\" width=\"1\" height=\"1\"/></g>"
+                            + "</svg>";
+
+        final SVGParser parser = new SVGParser();
+
+        parser.parse(new InputSource(new StringReader(data)));
+
+        final Rectangle rectangle = Rectangle.class.cast(Group.class.cast(parser.getResult().getChildren().get(0)).getChildren().get(0));
+
+        assertEquals(2.0d, rectangle.getStrokeWidth(), MINIMUM_DEVIATION);
+        assertEquals(3.0d, rectangle.getStrokeMiterLimit(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * When the optimization is enabled, nested groups without any effect on their children are merged and their transforms are folded into the shapes.
+     */
+    @Test
+    public void redundantGroupsWillBeMergedWhenTheOptimizationIsEnabled() throws Exception {
+
+        final String data = "<svg xmlns=\"http://www.w3.org/2000/svg\">"
+                            + "<g><g transform=\"translate(10 0)\"><g><rect x=\"1\" y=\"1\" width=\"1\" height=\"1\"/></g></g></g>"
+                            + "</svg>";
+
+        final SVGParser parser = new SVGParser();
+        parser.setOptimizationEnabled(true);
+
+        parser.parse(new InputSource(new StringReader(data)));
+
+        assertEquals(1, parser.getResult().getChildren().size());
+
+        final Rectangle rectangle = Rectangle.class.cast(parser.getResult().getChildren().get(0));
+
+        assertEquals(1, rectangle.getTransforms().size());
+        assertEquals(10.0d, rectangle.getTransforms().get(0).getTx(), MINIMUM_DEVIATION);
+
+        parser.setOptimizationEnabled(false);
+        parser.parse(new InputSource(new StringReader(data)));
+
+        assertThat(parser.getResult().getChildren().get(0), instanceOf(Group.class));
+    }
+
+    /**
+     * When shape batching is enabled, adjacent shapes with the same style are merged into a single path, while differently styled shapes are kept.
+     */
+    @Test
+    public void adjacentShapesWithTheSameStyleWillBeMergedWhenShapeBatchingIsEnabled() throws Exception {
+
+        final StringBuilder data = new StringBuilder("<svg xmlns=\"http://www.w3.org/2000/svg\"><style>.m{fill:#ff0000}</style>");
+
+        for (int i = 0; i < 50; i++) {
+            data.append(String.format("<circle class=\"m\" cx=\"%d\" cy=\"0\" r=\"1\"/>", i));
+        }
+
+        data.append("<rect x=\"0\" y=\"0\" width=\"1\" height=\"1\" fill=\"#0000ff\"/></svg>");
+
+        final SVGParser parser = new SVGParser();
+        parser.setShapeBatchingEnabled(true);
+
+        parser.parse(new InputSource(new StringReader(data.toString())));
+
+        assertEquals(2, parser.getResult().getChildren().size());
+        assertThat(parser.getResult().getChildren().get(0), instanceOf(SVGPath.class));
+        assertThat(parser.getResult().getChildren().get(1), instanceOf(Rectangle.class));
+    }
+
+    /**
+     * When shape batching and the spatial index are enabled, the entries of the merged shapes keep their own bounds but refer to the path replacing them.
+     */
+    @Test
+    public void theSpatialIndexWillReferToTheMergedPathWhenShapeBatchingIsEnabled() throws Exception {
+
+        final String data = "<svg xmlns=\"http://www.w3.org/2000/svg\">"
+                            + "<rect x=\"0\" y=\"0\" width=\"10\" height=\"10\" fill=\"#ff0000\"/>"
+                            + "<rect x=\"20\" y=\"0\" width=\"10\" height=\"10\" fill=\"#ff0000\"/>"
+                            + "</svg>";
+
+        final SVGParser parser = new SVGParser();
+        parser.setShapeBatchingEnabled(true);
+        parser.setSpatialIndexEnabled(true);
+
+        parser.parse(new InputSource(new StringReader(data)));
+
+        assertEquals(1, parser.getResult().getChildren().size());
+        assertEquals(2, parser.getSpatialIndex().size());
+
+        final SVGSpatialIndex.Entry entry = parser.getSpatialIndex().pick(25.0d, 5.0d).get();
+
+        assertSame(parser.getResult().getChildren().get(0), entry.getNode());
+        assertEquals(20.0d, entry.getBounds().getMinX(), MINIMUM_DEVIATION);
+    }
+}
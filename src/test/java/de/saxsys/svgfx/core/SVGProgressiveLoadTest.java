@@ -0,0 +1,212 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core;
+
+import javafx.scene.Group;
+import org.junit.Test;
+import org.xml.sax.InputSource;
+
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * This class will test the {@link SVGProgressiveLoad}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+@SuppressWarnings ("ConstantConditions")
+public final class SVGProgressiveLoadTest {
+
+    // region Tests
+
+    /**
+     * The nodes will be added in chunks and the progress will be updated after each chunk.
+     */
+    @Test
+    public void theNodesWillBeAddedInChunksAndTheProgressWillBeUpdatedAfterEachChunk() throws Exception {
+
+        final Queue<Runnable> chunks = new ArrayDeque<>();
+        final Group target = new Group();
+
+        final SVGProgressiveLoad load = new SVGParser().loadInto(target, createData(100), Runnable::run, 0L, chunks::add);
+
+        assertEquals(-1.0d, load.getProgress(), MINIMUM_DEVIATION);
+        assertEquals(1, chunks.size());
+
+        int chunkCount = 0;
+
+        while (!chunks.isEmpty()) {
+            chunks.poll().run();
+            chunkCount++;
+
+            assertEquals(Math.min(100, chunkCount * 32), target.getChildren().size());
+        }
+
+        assertEquals(4, chunkCount);
+        assertEquals(1.0d, load.getProgress(), MINIMUM_DEVIATION);
+        assertTrue(load.isDone());
+        assertSame(target, load.getResult().toCompletableFuture().get());
+    }
+
+    /**
+     * A group with a lot of children will be added before its children, which will be added in chunks.
+     */
+    @Test
+    public void aGroupWithALotOfChildrenWillBeAddedBeforeItsChildren() {
+
+        final Queue<Runnable> chunks = new ArrayDeque<>();
+        final Group target = new Group();
+
+        final StringBuilder data = new StringBuilder("<svg xmlns=\"http://www.w3.org/2000/svg\"><g>");
+        for (int i = 0; i < 40; i++) {
+            data.append("<rect width=\"1\" height=\"1\"/>");
+        }
+        data.append("</g></svg>");
+
+        new SVGParser().loadInto(target, new InputSource(new StringReader(data.toString())), Runnable::run, 0L, chunks::add);
+
+        chunks.poll().run();
+
+        assertEquals(1, target.getChildren().size());
+
+        final Group group = (Group) target.getChildren().get(0);
+
+        assertEquals(0, group.getChildren().size());
+
+        while (!chunks.isEmpty()) {
+            chunks.poll().run();
+        }
+
+        assertEquals(40, group.getChildren().size());
+    }
+
+    /**
+     * A group wrapping a group with a lot of children will not be added with all of its descendants at once, but its descendants will be added in chunks.
+     */
+    @Test
+    public void theDescendantsOfAWrappingGroupWillBeAddedInChunks() {
+
+        final Queue<Runnable> chunks = new ArrayDeque<>();
+        final Group target = new Group();
+
+        final StringBuilder data = new StringBuilder("<svg xmlns=\"http://www.w3.org/2000/svg\"><g id=\"layer\"><g id=\"content\">");
+        for (int i = 0; i < 100; i++) {
+            data.append("<rect width=\"1\" height=\"1\"/>");
+        }
+        data.append("</g></g></svg>");
+
+        new SVGParser().loadInto(target, new InputSource(new StringReader(data.toString())), Runnable::run, 0L, chunks::add);
+
+        chunks.poll().run();
+
+        final Group layer = (Group) target.getChildren().get(0);
+
+        assertEquals(0, layer.getChildren().size());
+
+        int chunkCount = 1;
+
+        while (!chunks.isEmpty()) {
+            chunks.poll().run();
+            chunkCount++;
+        }
+
+        assertTrue(chunkCount > 2);
+        assertEquals(1, layer.getChildren().size());
+        assertEquals(100, ((Group) layer.getChildren().get(0)).getChildren().size());
+    }
+
+    /**
+     * A cancelled load will not add any more nodes.
+     */
+    @Test
+    public void aCancelledLoadWillNotAddAnyMoreNodes() {
+
+        final Queue<Runnable> chunks = new ArrayDeque<>();
+        final Group target = new Group();
+
+        final SVGProgressiveLoad load = new SVGParser().loadInto(target, createData(100), Runnable::run, 0L, chunks::add);
+
+        chunks.poll().run();
+
+        assertEquals(32, target.getChildren().size());
+        assertTrue(load.cancel());
+
+        while (!chunks.isEmpty()) {
+            chunks.poll().run();
+        }
+
+        assertEquals(32, target.getChildren().size());
+        assertTrue(load.isCancelled());
+        assertFalse(load.cancel());
+    }
+
+    /**
+     * If the data can not be parsed, the result will be completed exceptionally.
+     */
+    @Test
+    public void ifTheDataCanNotBeParsedTheResultWillBeCompletedExceptionally() throws InterruptedException {
+
+        final SVGProgressiveLoad load = new SVGParser().loadInto(new Group(), new InputSource(new StringReader("<svg")), Runnable::run, 0L, Runnable::run);
+
+        assertTrue(load.isDone());
+
+        try {
+            load.getResult().toCompletableFuture().get();
+            fail();
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof Exception);
+        }
+    }
+
+    /**
+     * A target is required to load data.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void aTargetIsRequiredToLoadData() {
+        new SVGParser().loadInto(null, createData(1), Runnable::run);
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Creates a document with the given number of rectangles.
+     *
+     * @param count the number of rectangles.
+     *
+     * @return a new {@link InputSource}.
+     */
+    private static InputSource createData(final int count) {
+        final StringBuilder data = new StringBuilder("<svg xmlns=\"http://www.w3.org/2000/svg\">");
+
+        for (int i = 0; i < count; i++) {
+            data.append(String.format("<rect x=\"%d\" width=\"1\" height=\"1\"/>", i));
+        }
+
+        return new InputSource(new StringReader(data.append("</svg>").toString()));
+    }
+
+    // endregion
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core;
+
+import javafx.scene.Group;
+import javafx.scene.effect.GaussianBlur;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Transform;
+import javafx.scene.transform.Translate;
+import org.junit.Test;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SVGSceneGraphOptimizerTest {
+
+    /**
+     * A chain of groups without any effect on their children is merged into the root, keeping the order of the children.
+     */
+    @Test
+    public void aChainOfRedundantGroupsWillBeMergedIntoTheRootKeepingTheOrderOfTheChildren() {
+
+        final Rectangle first = new Rectangle();
+        final Rectangle second = new Rectangle();
+        final Rectangle third = new Rectangle();
+
+        final Group root = new Group(first, new Group(new Group(new Group(second))), third);
+
+        assertEquals(3, SVGSceneGraphOptimizer.optimize(root));
+
+        assertEquals(3, root.getChildren().size());
+        assertSame(first, root.getChildren().get(0));
+        assertSame(second, root.getChildren().get(1));
+        assertSame(third, root.getChildren().get(2));
+    }
+
+    /**
+     * The transforms of merged groups are folded into their children, in front of the transforms of the children.
+     */
+    @Test
+    public void theTransformsOfMergedGroupsWillBeFoldedIntoTheirChildren() {
+
+        final Rectangle rectangle = new Rectangle();
+        rectangle.getTransforms().add(new Scale(2.0d, 2.0d));
+
+        final Group inner = new Group(rectangle);
+        inner.getTransforms().add(new Translate(10.0d, 0.0d));
+
+        final Group outer = new Group(inner);
+        outer.getTransforms().add(new Translate(0.0d, 5.0d));
+
+        final Group root = new Group(outer);
+
+        assertEquals(2, SVGSceneGraphOptimizer.optimize(root));
+
+        assertSame(rectangle, root.getChildren().get(0));
+        assertEquals(1, rectangle.getTransforms().size());
+
+        final Transform transform = rectangle.getTransforms().get(0);
+
+        assertEquals(2.0d, transform.getMxx(), MINIMUM_DEVIATION);
+        assertEquals(2.0d, transform.getMyy(), MINIMUM_DEVIATION);
+        assertEquals(10.0d, transform.getTx(), MINIMUM_DEVIATION);
+        assertEquals(5.0d, transform.getTy(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * Groups which clip, style or otherwise affect their children are kept, as are groups whose transforms can not be folded into their children.
+     */
+    @Test
+    public void groupsWhichAffectTheirChildrenWillBeKept() {
+
+        final Group clipped = new Group(new Rectangle());
+        clipped.setClip(new Rectangle());
+
+        final Group transparent = new Group(new Rectangle());
+        transparent.setOpacity(0.5d);
+
+        final Group blurred = new Group(new Rectangle());
+        blurred.setEffect(new GaussianBlur());
+
+        final Group named = new Group(new Rectangle());
+        named.setId("layer");
+
+        final Rectangle translated = new Rectangle();
+        translated.setTranslateX(1.0d);
+
+        final Group transformed = new Group(translated);
+        transformed.getTransforms().add(new Translate(1.0d, 1.0d));
+
+        final Group root = new Group(clipped, transparent, blurred, named, transformed);
+
+        assertEquals(0, SVGSceneGraphOptimizer.optimize(root));
+        assertEquals(5, root.getChildren().size());
+        assertSame(transformed, root.getChildren().get(4));
+        assertEquals(0, translated.getTransforms().size());
+    }
+
+    /**
+     * The root can not be null.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void optimizingANullRootWillThrowAnException() {
+        SVGSceneGraphOptimizer.optimize(null);
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core;
+
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Polygon;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.StrokeType;
+import javafx.scene.transform.Translate;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public final class SVGShapeBatcherTest {
+
+    /**
+     * Adjacent shapes with the same paint are merged into a single path with the same paint, containing the path data of all shapes.
+     */
+    @Test
+    public void adjacentShapesWithTheSamePaintWillBeMergedIntoASinglePath() {
+
+        final Rectangle rectangle = new Rectangle(0.0d, 0.0d, 10.0d, 5.0d);
+        rectangle.setFill(Color.RED);
+        rectangle.setStrokeWidth(2.0d);
+
+        final Circle circle = new Circle(20.0d, 20.0d, 5.0d);
+        circle.setFill(Color.RED);
+        circle.setStrokeWidth(2.0d);
+
+        final Line line = new Line(0.0d, 0.0d, 1.0d, 1.0d);
+        line.setFill(Color.RED);
+        line.setStroke(null);
+        line.setStrokeWidth(2.0d);
+
+        final Group root = new Group(rectangle, circle, line);
+
+        assertEquals(2, SVGShapeBatcher.batch(root));
+
+        assertEquals(1, root.getChildren().size());
+        assertThat(root.getChildren().get(0), instanceOf(SVGPath.class));
+
+        final SVGPath path = (SVGPath) root.getChildren().get(0);
+
+        assertEquals("M0.0 0.0 L10.0 0.0 L10.0 5.0 L0.0 5.0 Z "
+                     + "M25.0 20.0 A5.0 5.0 0 1 1 15.0 20.0 A5.0 5.0 0 1 1 25.0 20.0 Z "
+                     + "M0.0 0.0 L1.0 1.0 ", path.getContent());
+        assertEquals(Color.RED, path.getFill());
+        assertEquals(2.0d, path.getStrokeWidth(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * Shapes are only merged with their adjacent siblings, so the order in which the shapes are painted is kept.
+     */
+    @Test
+    public void shapesWillOnlyBeMergedWithAdjacentShapesWithTheSamePaint() {
+
+        final Rectangle first = new Rectangle(1.0d, 1.0d);
+        final Rectangle second = new Rectangle(1.0d, 1.0d);
+        second.setFill(Color.BLUE);
+        final Rectangle third = new Rectangle(1.0d, 1.0d);
+        final Rectangle fourth = new Rectangle(1.0d, 1.0d);
+
+        final Group root = new Group(first, second, third, new Group(fourth));
+
+        assertEquals(0, SVGShapeBatcher.batch(root));
+        assertEquals(4, root.getChildren().size());
+        assertSame(second, root.getChildren().get(1));
+    }
+
+    /**
+     * Shapes with an id, a transform, a gradient or filled paths are not merged.
+     */
+    @Test
+    public void shapesWhichNeedToBeNodesOnTheirOwnWillNotBeMerged() {
+
+        final Rectangle named = new Rectangle(1.0d, 1.0d);
+        named.setId("marker");
+
+        final Rectangle transformed = new Rectangle(1.0d, 1.0d);
+        transformed.getTransforms().add(new Translate(1.0d, 1.0d));
+
+        final Rectangle gradient = new Rectangle(1.0d, 1.0d);
+        gradient.setFill(new LinearGradient(0.0d, 0.0d, 1.0d, 1.0d, true, CycleMethod.NO_CYCLE, new Stop(0.0d, Color.RED)));
+
+        final SVGPath path = new SVGPath();
+        path.setContent("M0 0 L1 1");
+
+        final Group root = new Group(new Rectangle(1.0d, 1.0d), named, transformed, gradient, path, new Rectangle(1.0d, 1.0d));
+
+        assertEquals(0, SVGShapeBatcher.batch(root));
+        assertEquals(6, root.getChildren().size());
+    }
+
+    /**
+     * Shapes which are filled and stroked, painted with a translucent color or stroked outside of their outline are not merged, since the overlapping
+     * parts of the merged path would be painted differently.
+     */
+    @Test
+    public void shapesWhosePictureWouldChangeWillNotBeMerged() {
+
+        final Rectangle filledAndStroked = new Rectangle(1.0d, 1.0d);
+        filledAndStroked.setFill(Color.RED);
+        filledAndStroked.setStroke(Color.BLUE);
+
+        final Rectangle translucent = new Rectangle(1.0d, 1.0d);
+        translucent.setFill(Color.color(1.0d, 0.0d, 0.0d, 0.5d));
+
+        final Rectangle outside = new Rectangle(1.0d, 1.0d);
+        outside.setFill(null);
+        outside.setStroke(Color.RED);
+        outside.setStrokeType(StrokeType.OUTSIDE);
+
+        final Rectangle unpainted = new Rectangle(1.0d, 1.0d);
+        unpainted.setFill(null);
+        unpainted.setStroke(null);
+
+        final Group root = new Group(filledAndStroked, copy(filledAndStroked),
+                                     translucent, copy(translucent),
+                                     outside, copy(outside),
+                                     unpainted, copy(unpainted));
+
+        assertEquals(0, SVGShapeBatcher.batch(root));
+        assertEquals(8, root.getChildren().size());
+    }
+
+    /**
+     * Each created path is added to the given map together with the shapes it replaces.
+     */
+    @Test
+    public void mergedShapesWillBeAddedToTheGivenMap() {
+
+        final Rectangle first = new Rectangle(1.0d, 1.0d);
+        final Rectangle second = new Rectangle(1.0d, 1.0d);
+
+        final Group root = new Group(first, second);
+        final Map<Node, List<Node>> merged = new HashMap<>();
+
+        assertEquals(1, SVGShapeBatcher.batch(root, merged));
+
+        assertEquals(1, merged.size());
+        assertEquals(Arrays.asList(first, second), merged.get(root.getChildren().get(0)));
+    }
+
+    /**
+     * Polygons are converted in clockwise direction and unfilled paths starting with a relative move are moved to the origin first.
+     */
+    @Test
+    public void polygonsWillBeClockwiseAndRelativePathsWillStartAtTheOrigin() {
+
+        final Polygon counterClockwise = new Polygon(0.0d, 0.0d, 0.0d, 1.0d, 1.0d, 0.0d);
+        counterClockwise.setFill(null);
+        counterClockwise.setStroke(Color.BLACK);
+
+        final SVGPath path = new SVGPath();
+        path.setContent(" m1 1 l1 1");
+        path.setFill(null);
+        path.setStroke(Color.BLACK);
+
+        final Group root = new Group(counterClockwise, path);
+
+        assertEquals(1, SVGShapeBatcher.batch(root));
+        assertEquals("M1.0 0.0 L0.0 1.0 L0.0 0.0 Z M0.0 0.0 m1 1 l1 1 ", ((SVGPath) root.getChildren().get(0)).getContent());
+    }
+
+    /**
+     * The root can not be null.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void batchingANullRootWillThrowAnException() {
+        SVGShapeBatcher.batch(null);
+    }
+
+    /**
+     * The map of merged shapes can not be null.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void batchingWithoutAMapOfMergedShapesWillThrowAnException() {
+        SVGShapeBatcher.batch(new Group(), null);
+    }
+
+    /**
+     * Creates a rectangle with the same geometry and paint as the given one.
+     *
+     * @param rectangle the {@link Rectangle} to copy.
+     *
+     * @return a new {@link Rectangle}.
+     */
+    private static Rectangle copy(final Rectangle rectangle) {
+        final Rectangle result = new Rectangle(rectangle.getWidth(), rectangle.getHeight());
+        result.setFill(rectangle.getFill());
+        result.setStroke(rectangle.getStroke());
+        result.setStrokeType(rectangle.getStrokeType());
+
+        return result;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core;
+
+import de.saxsys.svgfx.core.elements.SVGCircle;
+import de.saxsys.svgfx.core.elements.SVGRectangle;
+import javafx.scene.Group;
+import javafx.scene.shape.Rectangle;
+import org.junit.Test;
+import org.xml.sax.InputSource;
+
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+@SuppressWarnings ("ConstantConditions")
+public final class SVGSpatialIndexTest {
+
+    /**
+     * Parses the given data with the spatial index enabled.
+     *
+     * @param data the data to parse.
+     *
+     * @return the parser used.
+     *
+     * @throws Exception if the data could not be parsed.
+     */
+    private static SVGParser parse(final String data) throws Exception {
+        final SVGParser parser = new SVGParser();
+        parser.setSpatialIndexEnabled(true);
+
+        parser.parse(new InputSource(new StringReader(data)));
+
+        return parser;
+    }
+
+    /**
+     * The spatial index is only created if it is enabled.
+     */
+    @Test
+    public void theSpatialIndexIsOnlyCreatedIfItIsEnabled() throws Exception {
+
+        final String data = "<svg xmlns=\"http://www.w3.org/2000/svg\"><rect x=\"10\" y=\"10\" width=\"10\" height=\"10\"/></svg>";
+
+        final SVGParser parser = new SVGParser();
+
+        parser.parse(new InputSource(new StringReader(data)));
+
+        assertNull(parser.getSpatialIndex());
+
+        parser.setSpatialIndexEnabled(true);
+        parser.parse(new InputSource(new StringReader(data)));
+
+        assertEquals(1, parser.getSpatialIndex().size());
+    }
+
+    /**
+     * Querying a region will return the elements and nodes whose transformed bounds intersect it, including the ones positioned by a use element, in the
+     * order in which they are painted.
+     */
+    @Test
+    public void queryingARegionWillReturnAllEntriesWhoseTransformedBoundsIntersectTheRegion() throws Exception {
+
+        final SVGParser parser = parse("<svg xmlns=\"http://www.w3.org/2000/svg\" xmlns:xlink=\"http://www.w3.org/1999/xlink\">"
+                                       + "<defs><circle id=\"c\" cx=\"0\" cy=\"0\" r=\"5\"/></defs>"
+                                       + "<rect x=\"0\" y=\"0\" width=\"10\" height=\"10\"/>"
+                                       + "<g transform=\"translate(100 0) scale(2)\"><rect x=\"0\" y=\"0\" width=\"10\" height=\"10\"/></g>"
+                                       + "<use xlink:href=\"#c\" x=\"50\" y=\"50\"/>"
+                                       + "</svg>");
+
+        final SVGSpatialIndex index = parser.getSpatialIndex();
+
+        assertEquals(3, index.size());
+
+        final List<SVGSpatialIndex.Entry> left = index.query(new Rectangle(0.0d, 0.0d, 60.0d, 60.0d));
+
+        assertEquals(2, left.size());
+        assertThat(left.get(0).getElement(), instanceOf(SVGRectangle.class));
+        assertSame(Group.class.cast(parser.getResult()).getChildren().get(0), left.get(0).getNode());
+        assertThat(left.get(1).getElement(), instanceOf(SVGCircle.class));
+        assertEquals(45.0d, left.get(1).getBounds().getMinX(), MINIMUM_DEVIATION);
+        assertEquals(55.0d, left.get(1).getBounds().getMaxY(), MINIMUM_DEVIATION);
+
+        final List<SVGSpatialIndex.Entry> right = index.query(new Rectangle(115.0d, 15.0d, 1.0d, 1.0d));
+
+        assertEquals(1, right.size());
+        assertEquals(100.0d, right.get(0).getBounds().getMinX(), MINIMUM_DEVIATION);
+        assertEquals(120.0d, right.get(0).getBounds().getMaxX(), MINIMUM_DEVIATION);
+
+        assertTrue(index.query(new Rectangle(200.0d, 200.0d, 10.0d, 10.0d)).isEmpty());
+    }
+
+    /**
+     * Picking a point will return the entry which is painted last at this point.
+     */
+    @Test
+    public void pickingAPointWillReturnTheTopmostEntry() throws Exception {
+
+        final SVGParser parser = parse("<svg xmlns=\"http://www.w3.org/2000/svg\">"
+                                       + "<rect x=\"0\" y=\"0\" width=\"20\" height=\"20\"/>"
+                                       + "<circle cx=\"15\" cy=\"15\" r=\"5\"/>"
+                                       + "</svg>");
+
+        final Optional<SVGSpatialIndex.Entry> top = parser.getSpatialIndex().pick(15.0d, 15.0d);
+
+        assertTrue(top.isPresent());
+        assertThat(top.get().getElement(), instanceOf(SVGCircle.class));
+
+        final Optional<SVGSpatialIndex.Entry> bottom = parser.getSpatialIndex().pick(2.0d, 2.0d);
+
+        assertTrue(bottom.isPresent());
+        assertThat(bottom.get().getElement(), instanceOf(SVGRectangle.class));
+
+        assertFalse(parser.getSpatialIndex().pick(30.0d, 30.0d).isPresent());
+    }
+
+    /**
+     * An index containing a lot of entries spanning multiple levels will return the same entries as testing each entry.
+     */
+    @Test
+    public void anIndexWithManyLevelsWillFindTheSameEntriesAsTestingEachEntry() throws Exception {
+
+        final StringBuilder data = new StringBuilder("<svg xmlns=\"http://www.w3.org/2000/svg\">");
+
+        for (int y = 0; y < 50; y++) {
+            for (int x = 0; x < 50; x++) {
+                data.append(String.format("<rect x=\"%d\" y=\"%d\" width=\"5\" height=\"5\"/>", x * 10, y * 10));
+            }
+        }
+
+        data.append("</svg>");
+
+        final SVGSpatialIndex index = parse(data.toString()).getSpatialIndex();
+
+        assertEquals(2500, index.size());
+
+        final List<SVGSpatialIndex.Entry> result = index.query(new Rectangle(102.0d, 202.0d, 30.0d, 20.0d));
+
+        // columns 10 to 13 and rows 20 to 22 intersect the region
+        assertEquals(12, result.size());
+
+        for (final SVGSpatialIndex.Entry entry : result) {
+            assertTrue(entry.getBounds().intersects(102.0d, 202.0d, 30.0d, 20.0d));
+        }
+
+        assertEquals(130.0d, index.pick(132.0d, 222.0d).get().getBounds().getMinX(), MINIMUM_DEVIATION);
+        assertFalse(index.pick(137.0d, 222.0d).isPresent());
+    }
+
+    /**
+     * Creating an index requires a root and bounds.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void creatingAnIndexWithoutARootWillThrowAnException() {
+        SVGSpatialIndex.create(null, new HashMap<>());
+    }
+
+    /**
+     * Querying requires a region.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void queryingWithoutARegionWillThrowAnException() {
+        SVGSpatialIndex.create(new Group(), new HashMap<>()).query(null);
+    }
+}
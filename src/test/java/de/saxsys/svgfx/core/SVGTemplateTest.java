@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core;
+
+import javafx.scene.Group;
+import javafx.scene.shape.Rectangle;
+import org.junit.Test;
+import org.xml.sax.InputSource;
+
+import java.io.StringReader;
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertThat;
+
+/**
+ * This class will test the {@link SVGTemplate}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+@SuppressWarnings ("ConstantConditions")
+public final class SVGTemplateTest {
+
+    /**
+     * Each instantiation of a template will create new nodes with the same properties.
+     */
+    @Test
+    public void eachInstantiationWillCreateNewNodesWithTheSameProperties() throws SVGException {
+
+        final SVGTemplate template = SVGTemplate.create(new InputSource(new StringReader(
+                "<svg xmlns=\"http://www.w3.org/2000/svg\"><rect x=\"1\" y=\"2\" width=\"3\" height=\"4\" style=\"stroke-width:5\"/></svg>")));
+
+        assertEquals(2, template.getNodeCount());
+
+        final Group first = template.instantiate();
+        final Group second = template.instantiate();
+
+        assertNotSame(first, second);
+        assertNotSame(first.getChildren().get(0), second.getChildren().get(0));
+
+        assertThat(second.getChildren().get(0), instanceOf(Rectangle.class));
+
+        final Rectangle rectangle = (Rectangle) second.getChildren().get(0);
+
+        assertEquals(1.0d, rectangle.getX(), MINIMUM_DEVIATION);
+        assertEquals(2.0d, rectangle.getY(), MINIMUM_DEVIATION);
+        assertEquals(3.0d, rectangle.getWidth(), MINIMUM_DEVIATION);
+        assertEquals(4.0d, rectangle.getHeight(), MINIMUM_DEVIATION);
+        assertEquals(5.0d, rectangle.getStrokeWidth(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * A template can be instantiated from several threads at the same time.
+     */
+    @Test
+    public void aTemplateCanBeInstantiatedFromSeveralThreadsAtTheSameTime() throws Exception {
+
+        final URL url = getClass().getClassLoader().getResource("de/saxsys/svgfx/core/complex.svg");
+
+        assertNotNull(url);
+
+        final SVGTemplate template = SVGTemplate.create(Paths.get(url.getFile()));
+        final int childCount = template.instantiate().getChildren().size();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<Group>> results = new ArrayList<>();
+
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(template::instantiate));
+            }
+
+            for (final Future<Group> result : results) {
+                assertEquals(childCount, result.get().getChildren().size());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.binary;
+
+import de.saxsys.svgfx.core.SVGException;
+import javafx.scene.Group;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.StrokeType;
+import javafx.scene.transform.Translate;
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+import java.net.URL;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * This class will test the {@link SVGImageRenderer}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+@SuppressWarnings ("ConstantConditions")
+public final class SVGImageRendererTest {
+
+    // region Constants
+
+    /**
+     * The argb value of an opaque red.
+     */
+    private static final int RED = 0xFFFF0000;
+
+    /**
+     * The argb value of an opaque blue.
+     */
+    private static final int BLUE = 0xFF0000FF;
+
+    /**
+     * The argb value of a transparent pixel.
+     */
+    private static final int TRANSPARENT = 0;
+
+    // endregion
+
+    // region Tests
+
+    /**
+     * Shapes will be filled using their transforms and the scale of the image.
+     */
+    @Test
+    public void shapesWillBeFilledUsingTheirTransformsAndTheScaleOfTheImage() throws SVGException {
+
+        final Rectangle rectangle = new Rectangle(0.0d, 0.0d, 10.0d, 10.0d);
+        rectangle.setFill(Color.RED);
+        rectangle.getTransforms().add(new Translate(5.0d, 0.0d));
+
+        final BufferedImage image = SVGImageRenderer.render(SVGSceneCompiler.compile(new Group(rectangle)), 40, 40, 2.0d);
+
+        assertEquals(TRANSPARENT, image.getRGB(5, 5));
+        assertEquals(RED, image.getRGB(15, 5));
+        assertEquals(RED, image.getRGB(25, 15));
+        assertEquals(TRANSPARENT, image.getRGB(35, 5));
+        assertEquals(TRANSPARENT, image.getRGB(15, 25));
+    }
+
+    /**
+     * A clip will restrict the area which is drawn.
+     */
+    @Test
+    public void aClipWillRestrictTheAreaWhichIsDrawn() throws SVGException {
+
+        final Rectangle rectangle = new Rectangle(0.0d, 0.0d, 20.0d, 20.0d);
+        rectangle.setFill(Color.RED);
+        rectangle.setClip(new Rectangle(0.0d, 0.0d, 10.0d, 20.0d));
+
+        final BufferedImage image = SVGImageRenderer.render(SVGSceneCompiler.compile(new Group(rectangle)), 20, 20, 1.0d);
+
+        assertEquals(RED, image.getRGB(5, 10));
+        assertEquals(TRANSPARENT, image.getRGB(15, 10));
+    }
+
+    /**
+     * Paths including arcs will be drawn using their fill rule.
+     */
+    @Test
+    public void pathsIncludingArcsWillBeDrawn() throws SVGException {
+
+        final SVGPath path = new SVGPath();
+        path.setContent("M 0 10 A 10 10 0 0 1 20 10 Z");
+        path.setFill(Color.RED);
+
+        final BufferedImage image = SVGImageRenderer.render(SVGSceneCompiler.compile(new Group(path)), 20, 20, 1.0d);
+
+        assertEquals(RED, image.getRGB(10, 5));
+        assertEquals(TRANSPARENT, image.getRGB(10, 15));
+        assertEquals(TRANSPARENT, image.getRGB(1, 1));
+    }
+
+    /**
+     * A proportional gradient will be relative to the bounds of the shape.
+     */
+    @Test
+    public void aProportionalGradientWillBeRelativeToTheBoundsOfTheShape() throws SVGException {
+
+        final Rectangle rectangle = new Rectangle(10.0d, 0.0d, 20.0d, 10.0d);
+        rectangle.setFill(new LinearGradient(0.0d, 0.0d, 1.0d, 0.0d, true, CycleMethod.NO_CYCLE, new Stop(0.5d, Color.RED), new Stop(0.5d, Color.BLUE)));
+
+        final BufferedImage image = SVGImageRenderer.render(SVGSceneCompiler.compile(new Group(rectangle)), 40, 10, 1.0d);
+
+        assertEquals(TRANSPARENT, image.getRGB(5, 5));
+        assertEquals(RED, image.getRGB(12, 5));
+        assertEquals(BLUE, image.getRGB(28, 5));
+    }
+
+    /**
+     * A stroke inside a shape will not be drawn outside the shape.
+     */
+    @Test
+    public void aStrokeInsideAShapeWillNotBeDrawnOutsideTheShape() throws SVGException {
+
+        final Circle circle = new Circle(10.0d, 10.0d, 5.0d);
+        circle.setFill(null);
+        circle.setStroke(Color.BLUE);
+        circle.setStrokeWidth(2.0d);
+        circle.setStrokeType(StrokeType.INSIDE);
+
+        final BufferedImage image = SVGImageRenderer.render(SVGSceneCompiler.compile(new Group(circle)), 20, 20, 1.0d);
+
+        assertEquals(BLUE, image.getRGB(13, 10));
+        assertEquals(TRANSPARENT, image.getRGB(16, 10));
+        assertEquals(TRANSPARENT, image.getRGB(10, 10));
+    }
+
+    /**
+     * A complete document can be rendered.
+     */
+    @Test
+    public void aCompleteDocumentCanBeRendered() throws Exception {
+
+        final URL url = getClass().getClassLoader().getResource("de/saxsys/svgfx/core/complex.svg");
+
+        assertNotNull(url);
+
+        final BufferedImage image = SVGImageRenderer.render(SVGSceneCompiler.compile(Paths.get(url.getFile())), 64, 64, 0.25d);
+
+        assertEquals(64, image.getWidth());
+        assertEquals(64, image.getHeight());
+    }
+
+    /**
+     * The size of the image must be greater than 0.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void theSizeOfTheImageMustBeGreaterThanZero() throws SVGException {
+        SVGImageRenderer.render(SVGSceneCompiler.compile(new Group()), 0, 10, 1.0d);
+    }
+
+    // endregion
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.binary;
+
+import de.saxsys.svgfx.core.SVGException;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.FillRule;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.SVGPath;
+import javafx.scene.shape.StrokeLineCap;
+import javafx.scene.transform.Translate;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.Paths;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+
+/**
+ * This class will test the {@link SVGSceneCompiler} together with the {@link SVGCompiledScene} and the {@link SVGSceneLoader}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+@SuppressWarnings ("ConstantConditions")
+public final class SVGSceneCompilerTest {
+
+    /**
+     * Writes the given scene and reads it again.
+     *
+     * @param scene the {@link SVGCompiledScene} to write.
+     *
+     * @return the {@link SVGCompiledScene} that was read.
+     */
+    private static SVGCompiledScene writeAndRead(final SVGCompiledScene scene) throws IOException, SVGException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        scene.write(output);
+
+        return SVGCompiledScene.read(new ByteArrayInputStream(output.toByteArray()));
+    }
+
+    /**
+     * A compiled scene that is written and read again will create nodes with the same properties as the original nodes.
+     */
+    @Test
+    public void aCompiledSceneWillCreateNodesWithTheSamePropertiesAsTheOriginalNodes() throws IOException, SVGException {
+
+        final LinearGradient gradient = new LinearGradient(0.0d, 0.0d, 1.0d, 1.0d, true, CycleMethod.REFLECT, new Stop(0.0d, Color.RED), new Stop(1.0d, Color.BLUE));
+
+        final Rectangle rectangle = new Rectangle(1.0d, 2.0d, 3.0d, 4.0d);
+        rectangle.setArcWidth(5.0d);
+        rectangle.setFill(gradient);
+        rectangle.setStroke(Color.GREEN);
+        rectangle.setStrokeWidth(2.5d);
+        rectangle.setStrokeLineCap(StrokeLineCap.ROUND);
+        rectangle.getStrokeDashArray().addAll(1.0d, 2.0d);
+        rectangle.getTransforms().add(new Translate(10.0d, 20.0d));
+        rectangle.setClip(new Circle(1.0d, 1.0d, 5.0d));
+
+        final SVGPath path = new SVGPath();
+        path.setContent("M0 0 L10 10 Z");
+        path.setFillRule(FillRule.EVEN_ODD);
+        path.setFill(null);
+
+        final Group use = new Group(path);
+        use.setLayoutX(7.0d);
+        use.setLayoutY(8.0d);
+
+        final SVGCompiledScene scene = writeAndRead(SVGSceneCompiler.compile(new Group(rectangle, use)));
+
+        assertEquals(5, scene.getNodeCount());
+
+        final Group result = SVGSceneLoader.load(scene);
+
+        assertEquals(2, result.getChildren().size());
+        assertThat(result.getChildren().get(0), instanceOf(Rectangle.class));
+
+        final Rectangle loadedRectangle = (Rectangle) result.getChildren().get(0);
+
+        assertEquals(1.0d, loadedRectangle.getX(), MINIMUM_DEVIATION);
+        assertEquals(2.0d, loadedRectangle.getY(), MINIMUM_DEVIATION);
+        assertEquals(3.0d, loadedRectangle.getWidth(), MINIMUM_DEVIATION);
+        assertEquals(4.0d, loadedRectangle.getHeight(), MINIMUM_DEVIATION);
+        assertEquals(5.0d, loadedRectangle.getArcWidth(), MINIMUM_DEVIATION);
+        assertEquals(2.5d, loadedRectangle.getStrokeWidth(), MINIMUM_DEVIATION);
+        assertEquals(StrokeLineCap.ROUND, loadedRectangle.getStrokeLineCap());
+        assertEquals(2, loadedRectangle.getStrokeDashArray().size());
+        assertEquals(Color.GREEN, loadedRectangle.getStroke());
+        assertThat(loadedRectangle.getFill(), instanceOf(LinearGradient.class));
+        assertEquals(CycleMethod.REFLECT, ((LinearGradient) loadedRectangle.getFill()).getCycleMethod());
+        assertEquals(2, ((LinearGradient) loadedRectangle.getFill()).getStops().size());
+        assertEquals(1, loadedRectangle.getTransforms().size());
+        assertEquals(10.0d, loadedRectangle.getTransforms().get(0).getTx(), MINIMUM_DEVIATION);
+        assertEquals(20.0d, loadedRectangle.getTransforms().get(0).getTy(), MINIMUM_DEVIATION);
+        assertThat(loadedRectangle.getClip(), instanceOf(Circle.class));
+        assertEquals(5.0d, ((Circle) loadedRectangle.getClip()).getRadius(), MINIMUM_DEVIATION);
+
+        final Group loadedUse = (Group) result.getChildren().get(1);
+
+        assertEquals(7.0d, loadedUse.getLayoutX(), MINIMUM_DEVIATION);
+        assertEquals(8.0d, loadedUse.getLayoutY(), MINIMUM_DEVIATION);
+
+        final SVGPath loadedPath = (SVGPath) loadedUse.getChildren().get(0);
+
+        assertEquals("M0 0 L10 10 Z", loadedPath.getContent());
+        assertEquals(FillRule.EVEN_ODD, loadedPath.getFillRule());
+        assertNull(loadedPath.getFill());
+    }
+
+    /**
+     * Each load of the same compiled scene will create new nodes.
+     */
+    @Test
+    public void eachLoadOfTheSameCompiledSceneWillCreateNewNodes() throws IOException, SVGException {
+
+        final URL url = getClass().getClassLoader().getResource("de/saxsys/svgfx/core/complex.svg");
+
+        assertNotNull(url);
+
+        final SVGCompiledScene scene = writeAndRead(SVGSceneCompiler.compile(Paths.get(url.getFile())));
+
+        final Group first = SVGSceneLoader.load(scene);
+        final Group second = SVGSceneLoader.load(scene);
+
+        assertNotSame(first, second);
+        assertEquals(first.getChildren().size(), second.getChildren().size());
+
+        for (int i = 0; i < first.getChildren().size(); i++) {
+            final Node child = first.getChildren().get(i);
+
+            assertNotSame(child, second.getChildren().get(i));
+            assertEquals(child.getClass(), second.getChildren().get(i).getClass());
+        }
+    }
+
+    /**
+     * Data that does not start with the magic number of the format can not be read.
+     */
+    @Test (expected = SVGException.class)
+    public void dataWithoutTheMagicNumberCanNotBeRead() throws IOException, SVGException {
+
+        SVGCompiledScene.read(new ByteArrayInputStream(new byte[]{0, 0, 0, 1, 0, 0, 0, 1}));
+    }
+
+    /**
+     * Data that was written using a different version of the format can not be read.
+     */
+    @Test (expected = SVGException.class)
+    public void dataOfADifferentVersionCanNotBeRead() throws IOException, SVGException {
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        SVGSceneCompiler.compile(new Group()).write(output);
+
+        final byte[] data = output.toByteArray();
+        data[7]++;
+
+        SVGCompiledScene.read(new ByteArrayInputStream(data));
+    }
+
+    /**
+     * Counts which exceed the maximum count can not be read, even if the length of the data is unknown.
+     */
+    @Test (expected = SVGException.class)
+    public void dataWithAHugeCountCanNotBeRead() throws IOException, SVGException {
+
+        final ByteBuffer data = ByteBuffer.allocate(16);
+        data.putInt(SVGBinaryFormat.MAGIC).putInt(SVGBinaryFormat.VERSION).putInt(0).putInt(Integer.MAX_VALUE);
+
+        SVGCompiledScene.read(new ByteArrayInputStream(data.array()));
+    }
+
+    /**
+     * Counts which exceed the remaining data can not be read if the length of the data is known.
+     */
+    @Test (expected = SVGException.class)
+    public void dataWithACountExceedingTheRemainingDataCanNotBeRead() throws IOException, SVGException {
+
+        final ByteBuffer data = ByteBuffer.allocate(16);
+        data.putInt(SVGBinaryFormat.MAGIC).putInt(SVGBinaryFormat.VERSION).putInt(0).putInt(1000);
+
+        SVGCompiledScene.read(new ByteArrayInputStream(data.array()), data.capacity());
+    }
+
+    /**
+     * A scene whose polygon contains more points than there are values can not be loaded.
+     */
+    @Test (expected = SVGException.class)
+    public void aSceneWhosePolygonExceedsTheValuesCanNotBeLoaded() throws SVGException {
+
+        final SVGCompiledScene scene = new SVGCompiledScene(1, new int[] {SVGBinaryFormat.NODE_POLYGON, 4, 0}, new double[] {1.0d, 2.0d}, new String[0], new Paint[0]);
+
+        SVGSceneLoader.load(scene);
+    }
+}
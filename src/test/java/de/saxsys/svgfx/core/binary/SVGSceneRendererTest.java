@@ -0,0 +1,121 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.binary;
+
+import de.saxsys.svgfx.core.SVGException;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.Scale;
+import org.junit.Test;
+
+import java.net.URL;
+import java.nio.file.Paths;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+/**
+ * This class will test the {@link SVGSceneRenderer}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+@SuppressWarnings ("ConstantConditions")
+public final class SVGSceneRendererTest {
+
+    /**
+     * Drawing a compiled document will leave the transform and the alpha of the context unchanged.
+     */
+    @Test
+    public void drawingACompiledDocumentWillLeaveTheStateOfTheContextUnchanged() throws Exception {
+
+        final URL url = getClass().getClassLoader().getResource("de/saxsys/svgfx/core/complex.svg");
+
+        assertNotNull(url);
+
+        final SVGCompiledScene scene = SVGSceneCompiler.compile(Paths.get(url.getFile()));
+
+        final GraphicsContext context = new Canvas(100.0d, 100.0d).getGraphicsContext2D();
+        context.translate(5.0d, 10.0d);
+
+        SVGSceneRenderer.draw(scene, context);
+
+        final Affine transform = context.getTransform();
+
+        assertEquals(1.0d, transform.getMxx(), MINIMUM_DEVIATION);
+        assertEquals(1.0d, transform.getMyy(), MINIMUM_DEVIATION);
+        assertEquals(5.0d, transform.getTx(), MINIMUM_DEVIATION);
+        assertEquals(10.0d, transform.getTy(), MINIMUM_DEVIATION);
+        assertEquals(1.0d, context.getGlobalAlpha(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * Nodes with transforms, clips and opacity can be drawn without changing the state of the context.
+     */
+    @Test
+    public void nodesWithTransformsClipsAndOpacityCanBeDrawnWithoutChangingTheStateOfTheContext() throws SVGException {
+
+        final Rectangle rectangle = new Rectangle(0.0d, 0.0d, 10.0d, 20.0d);
+        rectangle.setFill(Color.RED);
+        rectangle.setStroke(Color.BLUE);
+        rectangle.setOpacity(0.5d);
+        rectangle.getTransforms().add(new Scale(2.0d, 3.0d));
+
+        final Circle clip = new Circle(5.0d, 5.0d, 5.0d);
+        clip.getTransforms().add(new Scale(2.0d, 2.0d));
+        clip.setClip(new Rectangle(0.0d, 0.0d, 1.0d, 1.0d));
+
+        final Group group = new Group(rectangle);
+        group.setClip(clip);
+        group.setLayoutX(2.0d);
+        group.setLayoutY(4.0d);
+
+        final GraphicsContext context = new Canvas(100.0d, 100.0d).getGraphicsContext2D();
+
+        SVGSceneRenderer.draw(SVGSceneCompiler.compile(group), context);
+
+        final Affine transform = context.getTransform();
+
+        assertEquals(1.0d, transform.getMxx(), MINIMUM_DEVIATION);
+        assertEquals(0.0d, transform.getTx(), MINIMUM_DEVIATION);
+        assertEquals(0.0d, transform.getTy(), MINIMUM_DEVIATION);
+        assertEquals(1.0d, context.getGlobalAlpha(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * A scene whose operations end too early can not be drawn.
+     */
+    @Test (expected = SVGException.class)
+    public void aSceneWhoseOperationsEndTooEarlyCanNotBeDrawn() throws SVGException {
+
+        final SVGCompiledScene scene = new SVGCompiledScene(1, new int[] {SVGBinaryFormat.NODE_RECTANGLE}, new double[0], new String[0], new Paint[0]);
+
+        SVGSceneRenderer.draw(scene, new Canvas(1.0d, 1.0d).getGraphicsContext2D());
+    }
+
+    /**
+     * A scene is required to draw.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void aSceneIsRequiredToDraw() throws SVGException {
+        SVGSceneRenderer.draw(null, new Canvas(1.0d, 1.0d).getGraphicsContext2D());
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.canvas;
+
+import de.saxsys.svgfx.core.SVGParser;
+import de.saxsys.svgfx.core.SVGTemplate;
+import javafx.scene.Group;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.Translate;
+import org.junit.Test;
+
+import java.net.URL;
+import java.nio.file.Paths;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class will test the {@link SVGGraphicsRenderer} and the {@link SVGCanvas}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+@SuppressWarnings ("ConstantConditions")
+public final class SVGGraphicsRendererTest {
+
+    /**
+     * Drawing a complete document will leave the transform and the alpha of the context unchanged.
+     */
+    @Test
+    public void drawingACompleteDocumentWillLeaveTheStateOfTheContextUnchanged() throws Exception {
+
+        final URL url = getClass().getClassLoader().getResource("de/saxsys/svgfx/core/complex.svg");
+
+        assertNotNull(url);
+
+        final SVGParser parser = new SVGParser();
+        parser.parse(Paths.get(url.getFile()).toFile());
+
+        final GraphicsContext context = new Canvas(100.0d, 100.0d).getGraphicsContext2D();
+        context.translate(5.0d, 10.0d);
+
+        SVGGraphicsRenderer.draw(parser.getResult(), context);
+
+        final Affine transform = context.getTransform();
+
+        assertEquals(1.0d, transform.getMxx(), MINIMUM_DEVIATION);
+        assertEquals(1.0d, transform.getMyy(), MINIMUM_DEVIATION);
+        assertEquals(5.0d, transform.getTx(), MINIMUM_DEVIATION);
+        assertEquals(10.0d, transform.getTy(), MINIMUM_DEVIATION);
+        assertEquals(1.0d, context.getGlobalAlpha(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * Nodes with transforms, clips and opacity can be drawn without changing the state of the context.
+     */
+    @Test
+    public void nodesWithTransformsClipsAndOpacityCanBeDrawnWithoutChangingTheStateOfTheContext() {
+
+        final Rectangle rectangle = new Rectangle(0.0d, 0.0d, 10.0d, 20.0d);
+        rectangle.setArcWidth(4.0d);
+        rectangle.setArcHeight(4.0d);
+        rectangle.setOpacity(0.5d);
+        rectangle.getTransforms().add(new Translate(3.0d, 4.0d));
+
+        final Rectangle clip = new Rectangle(0.0d, 0.0d, 5.0d, 5.0d);
+        clip.getTransforms().add(new Translate(1.0d, 1.0d));
+
+        final Group group = new Group(rectangle);
+        group.setClip(clip);
+        group.setLayoutX(2.0d);
+
+        final GraphicsContext context = new Canvas(100.0d, 100.0d).getGraphicsContext2D();
+
+        SVGGraphicsRenderer.draw(group, context);
+
+        final Affine transform = context.getTransform();
+
+        assertEquals(0.0d, transform.getTx(), MINIMUM_DEVIATION);
+        assertEquals(0.0d, transform.getTy(), MINIMUM_DEVIATION);
+        assertEquals(1.0d, context.getGlobalAlpha(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * A node is required to draw.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void aNodeIsRequiredToDraw() {
+        SVGGraphicsRenderer.draw(null, new Canvas(1.0d, 1.0d).getGraphicsContext2D());
+    }
+
+    /**
+     * A context is required to draw.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void aContextIsRequiredToDraw() {
+        SVGGraphicsRenderer.draw(new Group(), null);
+    }
+
+    /**
+     * The canvas is resizable and will take the size it is resized to.
+     */
+    @Test
+    public void theCanvasIsResizableAndWillTakeTheSizeItIsResizedTo() {
+
+        final SVGCanvas canvas = new SVGCanvas(new Group(new Rectangle(0.0d, 0.0d, 10.0d, 20.0d)));
+
+        assertTrue(canvas.isResizable());
+
+        canvas.resize(30.0d, 40.0d);
+
+        assertEquals(30.0d, canvas.getWidth(), MINIMUM_DEVIATION);
+        assertEquals(40.0d, canvas.getHeight(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * A canvas created from a template will draw the compiled scene of the template when it is resized.
+     */
+    @Test
+    public void aCanvasCreatedFromATemplateWillDrawTheCompiledSceneWhenItIsResized() throws Exception {
+
+        final SVGCanvas canvas = new SVGCanvas(SVGTemplate.create(new Group(new Rectangle(0.0d, 0.0d, 10.0d, 20.0d))));
+
+        canvas.resize(30.0d, 40.0d);
+
+        assertEquals(30.0d, canvas.getWidth(), MINIMUM_DEVIATION);
+        assertEquals(40.0d, canvas.getHeight(), MINIMUM_DEVIATION);
+        assertEquals(1.0d, canvas.getGraphicsContext2D().getGlobalAlpha(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * Content is required to create a canvas.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void contentIsRequiredToCreateACanvas() {
+        new SVGCanvas((Group) null);
+    }
+}
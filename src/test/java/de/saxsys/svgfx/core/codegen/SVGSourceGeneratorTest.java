@@ -0,0 +1,171 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.codegen;
+
+import de.saxsys.svgfx.core.SVGException;
+import javafx.scene.Group;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Polyline;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Translate;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class will test the {@link SVGSourceGenerator}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+@SuppressWarnings ("ConstantConditions")
+public final class SVGSourceGeneratorTest {
+
+    /**
+     * Counts how often the given text is contained in the given source.
+     *
+     * @param source the source to search.
+     * @param text   the text to find.
+     *
+     * @return the amount of occurrences.
+     */
+    private static int count(final String source, final String text) {
+        int result = 0;
+        int index = source.indexOf(text);
+
+        while (index >= 0) {
+            result++;
+            index = source.indexOf(text, index + text.length());
+        }
+
+        return result;
+    }
+
+    /**
+     * The generated source will contain the package, the class and the creation of each node, using the same constant for paints that are equal.
+     */
+    @Test
+    public void theGeneratedSourceWillCreateEachNodeAndShareEqualPaints() throws SVGException {
+
+        final Rectangle rectangle = new Rectangle(1.0d, 2.0d, 3.0d, 4.0d);
+        rectangle.setFill(Color.RED);
+        rectangle.getTransforms().addAll(new Translate(10.0d, 20.0d), new Scale(2.0d, 2.0d));
+
+        final Circle circle = new Circle(1.0d, 2.0d, 3.0d);
+        circle.setFill(Color.RED);
+        circle.setStrokeWidth(5.0d);
+
+        final String source = SVGSourceGenerator.generate(new Group(rectangle, circle), "com.example", "Icon", "icon.svg");
+
+        assertTrue(source.startsWith("package com.example;"));
+        assertTrue(source.contains("public final class Icon {"));
+        assertTrue(source.contains("public static Group create() {"));
+        assertTrue(source.contains("new Rectangle(1.0d, 2.0d, 3.0d, 4.0d)"));
+        assertTrue(source.contains("new Circle(1.0d, 2.0d, 3.0d)"));
+        assertTrue(source.contains("node.setStrokeWidth(5.0d)"));
+        assertTrue(source.contains("new Affine(2.0d, 0.0d, 10.0d, 0.0d, 2.0d, 20.0d)"));
+        assertEquals(1, count(source, "private static final Paint"));
+        assertEquals(2, count(source, "node.setFill(PAINT_0)"));
+    }
+
+    /**
+     * The fill and the stroke are always generated, since lines and polylines have different defaults than other shapes.
+     */
+    @Test
+    public void theFillAndTheStrokeOfLinesAndPolylinesWillBeGenerated() throws SVGException {
+
+        final Line line = new Line(0.0d, 0.0d, 1.0d, 1.0d);
+        line.setFill(null);
+        line.setStroke(null);
+
+        final Polyline polyline = new Polyline(0.0d, 0.0d, 1.0d, 1.0d, 2.0d, 0.0d);
+        polyline.setFill(Color.BLACK);
+        polyline.setStroke(null);
+
+        final String source = SVGSourceGenerator.generate(new Group(line, polyline), "", "Icon", null);
+
+        assertEquals(1, count(source, "node.setFill(null)"));
+        assertEquals(1, count(source, "node.setFill(PAINT_0)"));
+        assertEquals(2, count(source, "node.setStroke(null)"));
+        assertTrue(source.contains("new Color(0.0d, 0.0d, 0.0d, 1.0d)"));
+    }
+
+    /**
+     * Groups with a lot of children will be split into several methods.
+     */
+    @Test
+    public void groupsWithALotOfChildrenWillBeSplitIntoSeveralMethods() throws SVGException {
+
+        final Group group = new Group();
+
+        for (int i = 0; i < 600; i++) {
+            group.getChildren().add(new Circle(i, i, 1.0d));
+        }
+
+        final String source = SVGSourceGenerator.generate(group, "", "Icon", null);
+
+        assertFalse(source.contains("package"));
+        assertEquals(3, count(source, "(final Group node)"));
+        assertEquals(600, count(source, "node.getChildren().add("));
+    }
+
+    /**
+     * Generating a class for a file will write the source into the directory of the package and derive the class name from the file name.
+     */
+    @Test
+    public void generatingAClassForAFileWillWriteTheSourceIntoThePackageDirectory() throws IOException, SVGException {
+
+        final URL url = getClass().getClassLoader().getResource("de/saxsys/svgfx/core/complex.svg");
+
+        assertNotNull(url);
+
+        final Path directory = Files.createTempDirectory("svgfx");
+
+        final Path result = SVGSourceGenerator.generate(Paths.get(url.getFile()), directory, "com.example.icons");
+
+        assertEquals(directory.resolve("com/example/icons/Complex.java"), result);
+        assertTrue(new String(Files.readAllBytes(result), StandardCharsets.UTF_8).contains("public final class Complex {"));
+    }
+
+    /**
+     * A class name that is not a valid java identifier can not be used.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void aClassNameThatIsNotAValidIdentifierCanNotBeUsed() throws SVGException {
+
+        SVGSourceGenerator.generate(new Group(), "", "status-icon", null);
+    }
+
+    /**
+     * A class name that is used by an import of the generated code can not be used.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void aClassNameThatIsUsedByAnImportCanNotBeUsed() throws SVGException {
+
+        SVGSourceGenerator.generate(new Group(), "", "Rectangle", null);
+    }
+}
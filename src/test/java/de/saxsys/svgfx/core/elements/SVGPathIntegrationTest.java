@@ -28,6 +28,7 @@ import org.xml.sax.SAXException;
 
 import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 import static org.mockito.Mockito.when;
 
@@ -66,6 +67,25 @@ public final class SVGPathIntegrationTest {
         assertEquals("M 100 100 L 300 100 L 200 300 z", line.getResult().getContent());
     }
 
+    /**
+     * The path measure of a path is created once and measures the path description.
+     */
+    @Test
+    public void thePathMeasureWillBeCreatedOnceAndMeasureThePath() throws Exception {
+
+        final Attributes attributes = Mockito.mock(Attributes.class);
+
+        when(attributes.getLength()).thenReturn(1);
+
+        when(attributes.getQName(0)).thenReturn(CoreAttributeMapper.PATH_DESCRIPTION.getName());
+        when(attributes.getValue(0)).thenReturn("M 100 100 L 300 100 L 300 200");
+
+        final SVGPath path = new SVGPath(SVGPath.ELEMENT_NAME, attributes, new SVGDocumentDataProvider(), commandParser);
+
+        assertSame(path.getPathMeasure(), path.getPathMeasure());
+        assertEquals(300.0d, path.getPathMeasure().getLength(), MINIMUM_DEVIATION);
+    }
+
     /**
      * Ensures that the fill rule is parsed correctly.
      */
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core.metrics;
+
+import de.saxsys.svgfx.core.SVGParser;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public final class InMemorySVGMetricsTest {
+
+    /**
+     * The recorded metrics are summed up and removed when the metrics are reset.
+     */
+    @Test
+    public void recordedMetricsAreSummedUpUntilTheyAreReset() {
+
+        final InMemorySVGMetrics metrics = new InMemorySVGMetrics();
+
+        metrics.recordPhase(SVGMetrics.Phase.PATH_PARSING, 10L);
+        metrics.recordPhase(SVGMetrics.Phase.PATH_PARSING, 5L);
+        metrics.recordElement("rect");
+        metrics.recordElement("rect");
+        metrics.recordBytesRead(100L);
+        metrics.recordCacheAccess("cache", true);
+        metrics.recordCacheAccess("cache", false);
+        metrics.recordCacheAccess("cache", true);
+        metrics.recordCacheAccess("cache", true);
+
+        assertEquals(15L, metrics.getPhaseNanos(SVGMetrics.Phase.PATH_PARSING));
+        assertEquals(2L, metrics.getPhaseCount(SVGMetrics.Phase.PATH_PARSING));
+        assertEquals(15L, metrics.getPhaseNanos().get(SVGMetrics.Phase.PATH_PARSING.name()).longValue());
+        assertEquals(0L, metrics.getPhaseCounts().get(SVGMetrics.Phase.XML_READ.name()).longValue());
+        assertEquals(2L, metrics.getElementCounts().get("rect").longValue());
+        assertEquals(100L, metrics.getBytesRead());
+        assertEquals(0.75d, metrics.getCacheHitRatios().get("cache"), MINIMUM_DEVIATION);
+
+        metrics.reset();
+
+        assertEquals(0L, metrics.getPhaseNanos(SVGMetrics.Phase.PATH_PARSING));
+        assertTrue(metrics.getElementCounts().isEmpty());
+        assertTrue(metrics.getCacheHitRatios().isEmpty());
+        assertEquals(0L, metrics.getBytesRead());
+    }
+
+    /**
+     * Parsing a document records the phases, the elements, the bytes read and the accesses of the style sheet cache. Elements which are not supported are
+     * recorded as other elements.
+     */
+    @Test
+    public void parsingADocumentWillRecordItsMetrics() throws Exception {
+
+        final byte[] data = ("<svg xmlns=\"http://www.w3.org/2000/svg\">"
+                             + "<style>.metricsTest{fill:url(#g)}</style>"
+                             + "<defs><linearGradient id=\"g\"><stop offset=\"0\" stop-color=\"red\"/></linearGradient></defs>"
+                             + "<rect class=\"metricsTest\" x=\"0\" y=\"0\" width=\"1\" height=\"1\"/><rect width=\"1\" height=\"1\"/>"
+                             + "<path d=\"M0,0 L10,10\"/>"
+                             + "<title>metrics</title><metadata/>"
+                             + "</svg>").getBytes(StandardCharsets.UTF_8);
+
+        final InMemorySVGMetrics metrics = new InMemorySVGMetrics();
+
+        final SVGParser parser = new SVGParser();
+        parser.setMetrics(metrics);
+
+        parser.parse(ByteBuffer.wrap(data));
+        parser.parse(ByteBuffer.wrap(data));
+
+        assertEquals(2L * data.length, metrics.getBytesRead());
+        assertEquals(4L, metrics.getElementCounts().get("rect").longValue());
+        assertEquals(2L, metrics.getElementCounts().get("svg").longValue());
+        assertEquals(4L, metrics.getElementCounts().get(SVGMetrics.OTHER_ELEMENTS).longValue());
+        assertFalse(metrics.getElementCounts().containsKey("title"));
+        assertEquals(2L, metrics.getPhaseCount(SVGMetrics.Phase.XML_READ));
+        assertEquals(2L, metrics.getPhaseCount(SVGMetrics.Phase.NODE_BUILDING));
+        assertEquals(2L, metrics.getPhaseCount(SVGMetrics.Phase.PATH_PARSING));
+        assertEquals(2L, metrics.getPhaseCount(SVGMetrics.Phase.GRADIENT_CREATION));
+        assertTrue(metrics.getPhaseCount(SVGMetrics.Phase.STYLE_RESOLUTION) >= 6L);
+        assertEquals(0.5d, metrics.getCacheHitRatios().get(SVGMetrics.CSS_RULE_CACHE), MINIMUM_DEVIATION);
+
+        parser.setMetrics(null);
+        parser.parse(ByteBuffer.wrap(data));
+
+        assertEquals(2L * data.length, metrics.getBytesRead());
+    }
+
+    /**
+     * The metrics can be registered and unregistered at the platform MBean server.
+     */
+    @Test
+    public void metricsCanBeRegisteredUsingJMX() throws Exception {
+
+        final InMemorySVGMetrics metrics = new InMemorySVGMetrics();
+        metrics.recordBytesRead(42L);
+
+        final ObjectName name = metrics.register("test");
+
+        try {
+            assertEquals(42L, ManagementFactory.getPlatformMBeanServer().getAttribute(name, "BytesRead"));
+        } finally {
+            metrics.unregister(name);
+        }
+
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core.path;
+
+import org.junit.Test;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public final class BezierBoundsTest {
+
+    /**
+     * The bounds of each curve contain its extrema, not only its control points.
+     */
+    @Test
+    public void theBoundsOfEachCurveWillContainItsExtrema() {
+
+        final double[] x = {0.0d, 0.0d, 100.0d, 100.0d, 0.0d, 10.0d, 20.0d, 30.0d, 0.0d, 100.0d, -100.0d, 0.0d};
+        final double[] y = {0.0d, 100.0d, 100.0d, 0.0d, 0.0d, 10.0d, 20.0d, 30.0d, 0.0d, 0.0d, 0.0d, 0.0d};
+
+        final double[] minX = new double[3];
+        final double[] minY = new double[3];
+        final double[] maxX = new double[3];
+        final double[] maxY = new double[3];
+
+        BezierBounds.getBounds(x, y, 3, minX, minY, maxX, maxY);
+
+        // the arch reaches 3/4 of the height of its control points
+        assertEquals(0.0d, minX[0], MINIMUM_DEVIATION);
+        assertEquals(0.0d, minY[0], MINIMUM_DEVIATION);
+        assertEquals(100.0d, maxX[0], MINIMUM_DEVIATION);
+        assertEquals(75.0d, maxY[0], MINIMUM_DEVIATION);
+
+        // a straight line only reaches its end points
+        assertEquals(0.0d, minX[1], MINIMUM_DEVIATION);
+        assertEquals(30.0d, maxX[1], MINIMUM_DEVIATION);
+        assertEquals(30.0d, maxY[1], MINIMUM_DEVIATION);
+
+        // a curve going back and forth has both a minimum and a maximum between its end points
+
+        assertEquals(0.0d, minY[2], MINIMUM_DEVIATION);
+        assertEquals(0.0d, maxY[2], MINIMUM_DEVIATION);
+        assertEquals(Math.max(evaluate(0.0d, 100.0d, -100.0d, 0.0d, getRoot(0.0d, 100.0d, -100.0d, 0.0d, 1.0d)),
+                              evaluate(0.0d, 100.0d, -100.0d, 0.0d, getRoot(0.0d, 100.0d, -100.0d, 0.0d, -1.0d))), maxX[2], MINIMUM_DEVIATION);
+        assertEquals(Math.min(evaluate(0.0d, 100.0d, -100.0d, 0.0d, getRoot(0.0d, 100.0d, -100.0d, 0.0d, 1.0d)),
+                              evaluate(0.0d, 100.0d, -100.0d, 0.0d, getRoot(0.0d, 100.0d, -100.0d, 0.0d, -1.0d))), minX[2], MINIMUM_DEVIATION);
+        assertEquals(28.8675d, maxX[2], 0.0001d);
+    }
+
+    /**
+     * The extrema of a single curve are the same as the ones computed for several curves.
+     */
+    @Test
+    public void theExtremaOfASingleCurveWillBeTheSameAsTheBoundsOfTheCurve() {
+
+        assertEquals(75.0d, BezierBounds.getMaximum(0.0d, 100.0d, 100.0d, 0.0d), MINIMUM_DEVIATION);
+        assertEquals(0.0d, BezierBounds.getMinimum(0.0d, 100.0d, 100.0d, 0.0d), MINIMUM_DEVIATION);
+        assertEquals(28.8675d, BezierBounds.getMaximum(0.0d, 100.0d, -100.0d, 0.0d), 0.0001d);
+        assertEquals(-28.8675d, BezierBounds.getMinimum(0.0d, 100.0d, -100.0d, 0.0d), 0.0001d);
+    }
+
+    /**
+     * The bounds of all curves enclose the bounds of each curve.
+     */
+    @Test
+    public void theBoundsOfAllCurvesWillEncloseEachCurve() {
+
+        final double[] x = {0.0d, 0.0d, 100.0d, 100.0d, 200.0d, 210.0d, 220.0d, 230.0d};
+        final double[] y = {0.0d, 100.0d, 100.0d, 0.0d, -10.0d, -10.0d, -10.0d, -10.0d};
+        final double[] result = new double[4];
+
+        BezierBounds.getBounds(x, y, 2, result);
+
+        assertEquals(0.0d, result[0], MINIMUM_DEVIATION);
+        assertEquals(-10.0d, result[1], MINIMUM_DEVIATION);
+        assertEquals(230.0d, result[2], MINIMUM_DEVIATION);
+        assertEquals(75.0d, result[3], MINIMUM_DEVIATION);
+
+        BezierBounds.getBounds(x, y, 0, result);
+
+        assertEquals(Double.POSITIVE_INFINITY, result[0], MINIMUM_DEVIATION);
+    }
+
+    /**
+     * The bounds of path data contain all its segments but not positions that are only moved to.
+     */
+    @Test
+    public void theBoundsOfPathDataWillContainAllSegments() throws PathException {
+
+        final double[] result = new double[4];
+
+        BezierBounds.getBounds("M-50 -50 M0 0 C0 100 100 100 100 0 Q150 -100 200 0 L200 20 z", result);
+
+        assertEquals(0.0d, result[0], MINIMUM_DEVIATION);
+        assertEquals(-50.0d, result[1], MINIMUM_DEVIATION);
+        assertEquals(200.0d, result[2], MINIMUM_DEVIATION);
+        assertEquals(75.0d, result[3], MINIMUM_DEVIATION);
+    }
+
+    /**
+     * The control points must contain the given number of curves.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void controlPointsWhichAreTooShortWillThrowAnException() {
+        BezierBounds.getBounds(new double[4], new double[4], 2, new double[4]);
+    }
+
+    // region Private
+
+    /**
+     * Evaluates a cubic bezier curve in one dimension.
+     */
+    private static double evaluate(final double p0, final double p1, final double p2, final double p3, final double t) {
+        return Math.pow(1 - t, 3) * p0 + 3 * Math.pow(1 - t, 2) * t * p1 + 3 * (1 - t) * t * t * p2 + Math.pow(t, 3) * p3;
+    }
+
+    /**
+     * Returns one of the roots of the derivative of a cubic bezier curve in one dimension.
+     */
+    private static double getRoot(final double p0, final double p1, final double p2, final double p3, final double sign) {
+        final double a = -3 * p0 + 9 * p1 - 9 * p2 + 3 * p3;
+        final double b = 6 * p0 - 12 * p1 + 6 * p2;
+        final double c = 3 * p1 - 3 * p0;
+
+        return (-b + sign * Math.sqrt(b * b - 4 * a * c)) / (2 * a);
+    }
+
+    // endregion
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.path;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * This class will test the {@link PathDataReader}.
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+@SuppressWarnings ("ConstantConditions")
+public final class PathDataReaderTest {
+
+    // region Tests
+
+    /**
+     * Relative and absolute commands will be converted into absolute segments.
+     */
+    @Test
+    public void relativeAndAbsoluteCommandsWillBeConvertedIntoAbsoluteSegments() throws PathException {
+        final Recorder recorder = read("M10 20 l5,5 H30 v-10 q5 0 5 5 t5 5 z");
+
+        assertEquals("M L L L Q Q Z", recorder.getNames());
+        assertPoint(recorder, 1, 15.0d, 25.0d);
+        assertPoint(recorder, 2, 30.0d, 25.0d);
+        assertPoint(recorder, 3, 30.0d, 15.0d);
+        assertPoint(recorder, 4, 35.0d, 20.0d);
+        // the control point of the short curve is the reflection of the previous control point
+        assertEquals(35.0d, recorder.getSegments().get(5)[0], MINIMUM_DEVIATION);
+        assertEquals(25.0d, recorder.getSegments().get(5)[1], MINIMUM_DEVIATION);
+        assertPoint(recorder, 5, 40.0d, 25.0d);
+    }
+
+    /**
+     * Coordinates following a move command will be treated as lines and numbers do not need to be separated by whitespaces.
+     */
+    @Test
+    public void coordinatesFollowingAMoveWillBeTreatedAsLinesAndNumbersDoNotNeedToBeSeparated() throws PathException {
+        final Recorder recorder = read("m1-1 2.5.5e1 1E1-3");
+
+        assertEquals("M L L", recorder.getNames());
+        assertPoint(recorder, 0, 1.0d, -1.0d);
+        assertPoint(recorder, 1, 3.5d, 4.0d);
+        assertPoint(recorder, 2, 13.5d, 1.0d);
+    }
+
+    /**
+     * A short cubic curve will reflect the second control point of a previous cubic curve.
+     */
+    @Test
+    public void aShortCubicCurveWillReflectTheSecondControlPointOfAPreviousCubicCurve() throws PathException {
+        final Recorder recorder = read("M0 0 C0 10 10 10 10 0 S20 -10 20 0");
+
+        assertEquals("M C C", recorder.getNames());
+        assertEquals(10.0d, recorder.getSegments().get(2)[0], MINIMUM_DEVIATION);
+        assertEquals(-10.0d, recorder.getSegments().get(2)[1], MINIMUM_DEVIATION);
+        assertPoint(recorder, 2, 20.0d, 0.0d);
+    }
+
+    /**
+     * An arc will be converted into cubic curves, each covering at most a quarter of the ellipse.
+     */
+    @Test
+    public void anArcWillBeConvertedIntoCubicCurves() throws PathException {
+        final Recorder recorder = read("M0 0 A10 10 0 1 1 0 20");
+
+        assertEquals("M C C", recorder.getNames());
+        assertPoint(recorder, 1, 10.0d, 10.0d);
+        assertPoint(recorder, 2, 0.0d, 20.0d);
+    }
+
+    /**
+     * Flags of an arc do not need to be separated.
+     */
+    @Test
+    public void flagsOfAnArcDoNotNeedToBeSeparated() throws PathException {
+        final Recorder recorder = read("M0 0a10 10 0 0120 0");
+
+        assertEquals("M C C", recorder.getNames());
+        assertPoint(recorder, 1, 10.0d, -10.0d);
+        assertPoint(recorder, 2, 20.0d, 0.0d);
+    }
+
+    /**
+     * Data which does not start with a command can not be read.
+     */
+    @Test (expected = PathException.class)
+    public void dataWhichDoesNotStartWithACommandCanNotBeRead() throws PathException {
+        read("10 10");
+    }
+
+    /**
+     * Data with missing coordinates can not be read.
+     */
+    @Test (expected = PathException.class)
+    public void dataWithMissingCoordinatesCanNotBeRead() throws PathException {
+        read("M 10 10 L 5");
+    }
+
+    // endregion
+
+    // region Private
+
+    /**
+     * Reads the given data.
+     *
+     * @param data the data to read.
+     *
+     * @return the {@link Recorder} containing the segments.
+     *
+     * @throws PathException if the data is not valid.
+     */
+    private static Recorder read(final String data) throws PathException {
+        final Recorder recorder = new Recorder();
+
+        PathDataReader.read(data, recorder);
+
+        return recorder;
+    }
+
+    /**
+     * Asserts the end point of the segment at the given index.
+     *
+     * @param recorder the {@link Recorder} containing the segments.
+     * @param index    the index of the segment.
+     * @param x        the expected x position.
+     * @param y        the expected y position.
+     */
+    private static void assertPoint(final Recorder recorder, final int index, final double x, final double y) {
+        final double[] segment = recorder.getSegments().get(index);
+
+        assertEquals(x, segment[segment.length - 2], MINIMUM_DEVIATION);
+        assertEquals(y, segment[segment.length - 1], MINIMUM_DEVIATION);
+    }
+
+    // endregion
+
+    // region Class
+
+    /**
+     * Records the segments it receives.
+     */
+    private static final class Recorder implements PathConsumer {
+
+        /**
+         * The names of the segments.
+         */
+        private final StringBuilder names = new StringBuilder();
+
+        /**
+         * The coordinates of the segments.
+         */
+        private final List<double[]> segments = new ArrayList<>();
+
+        @Override
+        public void moveTo(final double x, final double y) {
+            add('M', x, y);
+        }
+
+        @Override
+        public void lineTo(final double x, final double y) {
+            add('L', x, y);
+        }
+
+        @Override
+        public void quadTo(final double controlX, final double controlY, final double x, final double y) {
+            add('Q', controlX, controlY, x, y);
+        }
+
+        @Override
+        public void curveTo(final double startControlX,
+                            final double startControlY,
+                            final double endControlX,
+                            final double endControlY,
+                            final double x,
+                            final double y) {
+            add('C', startControlX, startControlY, endControlX, endControlY, x, y);
+        }
+
+        @Override
+        public void close() {
+            add('Z');
+        }
+
+        /**
+         * Adds a segment.
+         *
+         * @param name        the name of the segment.
+         * @param coordinates the coordinates of the segment.
+         */
+        private void add(final char name, final double... coordinates) {
+            if (names.length() > 0) {
+                names.append(' ');
+            }
+
+            names.append(name);
+            segments.add(coordinates);
+        }
+
+        /**
+         * @return the names of the segments separated by whitespaces.
+         */
+        private String getNames() {
+            return names.toString();
+        }
+
+        /**
+         * @return the coordinates of the segments.
+         */
+        private List<double[]> getSegments() {
+            return segments;
+        }
+    }
+
+    // endregion
+}
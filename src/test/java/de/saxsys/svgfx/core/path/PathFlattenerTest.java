@@ -0,0 +1,192 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core.path;
+
+import de.saxsys.svgfx.core.path.commands.CommandFactory;
+import javafx.geometry.Point2D;
+import org.junit.Test;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public final class PathFlattenerTest {
+
+    /**
+     * Returns the distance of the given point to the closest segment of the first polyline of the given flattener.
+     *
+     * @param flattener the flattener to use.
+     * @param x         the x position of the point.
+     * @param y         the y position of the point.
+     *
+     * @return the distance to the polyline.
+     */
+    private static double getDistanceToPolyline(final PathFlattener flattener, final double x, final double y) {
+        final double[] coordinates = flattener.getCoordinates();
+
+        double result = Double.MAX_VALUE;
+
+        for (int i = flattener.getSubPathStart(0); i < flattener.getSubPathEnd(0) - 1; i++) {
+            final double startX = coordinates[i * 2];
+            final double startY = coordinates[i * 2 + 1];
+            final double deltaX = coordinates[i * 2 + 2] - startX;
+            final double deltaY = coordinates[i * 2 + 3] - startY;
+            final double length = deltaX * deltaX + deltaY * deltaY;
+            final double factor = length > 0.0d ? Math.max(0.0d, Math.min(1.0d, ((x - startX) * deltaX + (y - startY) * deltaY) / length)) : 0.0d;
+
+            result = Math.min(result, Math.hypot(x - startX - factor * deltaX, y - startY - factor * deltaY));
+        }
+
+        return result;
+    }
+
+    /**
+     * Straight lines are copied as they are, each sub path becomes its own polyline and remembers whether it is closed.
+     */
+    @Test
+    public void straightLinesWillBeCopiedIntoOnePolylinePerSubPath() throws PathException {
+
+        final PathFlattener flattener = new PathFlattener(0.1d);
+
+        flattener.flatten("M0 0 L10 0 L10 10 Z l5 5 M20 20 h5");
+
+        assertEquals(3, flattener.getSubPathCount());
+        assertEquals(7, flattener.getPointCount());
+
+        assertEquals(0, flattener.getSubPathStart(0));
+        assertEquals(3, flattener.getSubPathEnd(0));
+        assertTrue(flattener.isSubPathClosed(0));
+
+        // the line after the close starts a new polyline at the start of the closed one
+        assertEquals(3, flattener.getSubPathStart(1));
+        assertEquals(5, flattener.getSubPathEnd(1));
+        assertFalse(flattener.isSubPathClosed(1));
+        assertEquals(0.0d, flattener.getCoordinates()[6], MINIMUM_DEVIATION);
+        assertEquals(5.0d, flattener.getCoordinates()[8], MINIMUM_DEVIATION);
+
+        assertEquals(5, flattener.getSubPathStart(2));
+        assertEquals(7, flattener.getSubPathEnd(2));
+        assertEquals(25.0d, flattener.getCoordinates()[12], MINIMUM_DEVIATION);
+        assertEquals(20.0d, flattener.getCoordinates()[13], MINIMUM_DEVIATION);
+    }
+
+    /**
+     * Curves are subdivided until the polyline does not deviate from the curve by more than the tolerance, a smaller tolerance creates more points.
+     */
+    @Test
+    public void curvesWillBeFlattenedWithinTheTolerance() throws PathException {
+
+        final PathFlattener flattener = new PathFlattener(1.0d);
+
+        flattener.flatten("M0 0 C0 100 100 100 100 0");
+
+        final int coarsePoints = flattener.getPointCount();
+
+        for (int i = 0; i <= 1000; i++) {
+            final double t = i / 1000.0d;
+            final double u = 1.0d - t;
+
+            assertTrue(getDistanceToPolyline(flattener, 3.0d * u * t * t * 100.0d + t * t * t * 100.0d, 3.0d * u * u * t * 100.0d + 3.0d * u * t * t * 100.0d) <= 1.0d);
+        }
+
+        assertEquals(100.0d, flattener.getCoordinates()[coarsePoints * 2 - 2], MINIMUM_DEVIATION);
+        assertEquals(0.0d, flattener.getCoordinates()[coarsePoints * 2 - 1], MINIMUM_DEVIATION);
+
+        flattener.setTolerance(0.01d);
+        flattener.flatten("M0 0 C0 100 100 100 100 0");
+
+        assertTrue(flattener.getPointCount() > coarsePoints);
+    }
+
+    /**
+     * Quadratic curves are flattened as well.
+     */
+    @Test
+    public void quadraticCurvesWillBeFlattenedWithinTheTolerance() throws PathException {
+
+        final PathFlattener flattener = new PathFlattener(0.5d);
+
+        flattener.flatten("M0 0 Q50 100 100 0");
+
+        assertTrue(flattener.getPointCount() > 2);
+
+        for (int i = 0; i <= 1000; i++) {
+            final double t = i / 1000.0d;
+
+            assertTrue(getDistanceToPolyline(flattener, t * 100.0d, 2.0d * (1.0d - t) * t * 100.0d) <= 0.5d);
+        }
+    }
+
+    /**
+     * The buffers are reused when the flattener is used again.
+     */
+    @Test
+    public void theBuffersWillBeReused() throws PathException {
+
+        final PathFlattener flattener = new PathFlattener(0.1d);
+
+        flattener.flatten("M0 0 C0 100 100 100 100 0 Z");
+
+        final double[] coordinates = flattener.getCoordinates();
+
+        flattener.flatten("M0 0 C0 100 100 100 100 0 Z");
+
+        assertSame(coordinates, flattener.getCoordinates());
+        assertEquals(1, flattener.getSubPathCount());
+
+        flattener.reset();
+
+        assertEquals(0, flattener.getPointCount());
+        assertEquals(0, flattener.getSubPathCount());
+    }
+
+    /**
+     * The curve commands created by the {@link CommandFactory} can be flattened.
+     */
+    @Test
+    public void curveCommandsWillBeFlattened() throws PathException {
+
+        final CommandFactory factory = new CommandFactory();
+        final PathFlattener flattener = new PathFlattener(0.5d);
+
+        flattener.curveTo(new Point2D(0.0d, 0.0d), factory.createCubicBezierCurveCommand('c', "0 100 100 100 100 0"));
+        flattener.curveTo(new Point2D(100.0d, 0.0d), factory.createQuadraticBezierCurveCommand('Q', "150 -100 200 0"));
+
+        assertEquals(1, flattener.getSubPathCount());
+        assertEquals(0.0d, flattener.getCoordinates()[0], MINIMUM_DEVIATION);
+        assertEquals(200.0d, flattener.getCoordinates()[flattener.getPointCount() * 2 - 2], MINIMUM_DEVIATION);
+        assertEquals(0.0d, flattener.getCoordinates()[flattener.getPointCount() * 2 - 1], MINIMUM_DEVIATION);
+    }
+
+    /**
+     * A tolerance which is not greater than 0 is not allowed.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void aToleranceWhichIsNotGreaterThanZeroWillThrowAnException() {
+        new PathFlattener(0.0d);
+    }
+
+    /**
+     * Only existing polylines can be accessed.
+     */
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void accessingAPolylineWhichDoesNotExistWillThrowAnException() {
+        new PathFlattener(1.0d).getSubPathStart(0);
+    }
+}
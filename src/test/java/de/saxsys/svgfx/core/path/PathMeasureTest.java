@@ -0,0 +1,192 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core.path;
+
+import javafx.geometry.Point2D;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public final class PathMeasureTest {
+
+    /**
+     * The length of straight lines is measured exactly, moving to another sub path does not add any length while closing a sub path does.
+     */
+    @Test
+    public void theLengthWillContainAllSubPathsIncludingTheirClosingLines() throws PathException {
+
+        assertEquals(30.0d, new PathMeasure("M0 0 h10 v20").getLength(), MINIMUM_DEVIATION);
+        assertEquals(40.0d, new PathMeasure("M0 0 h10 v10 h-10 z").getLength(), MINIMUM_DEVIATION);
+        assertEquals(20.0d, new PathMeasure("M0 0 h10 M100 100 h10").getLength(), MINIMUM_DEVIATION);
+        assertEquals(0.0d, new PathMeasure("").getLength(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * The length of curves is approximated within the tolerance.
+     */
+    @Test
+    public void theLengthOfCurvesWillBeApproximated() throws PathException {
+
+        // two arcs each forming a half circle with a radius of 50
+        assertEquals(Math.PI * 100.0d, new PathMeasure("M0 0 A50 50 0 0 1 100 0 A50 50 0 0 1 0 0").getLength(), 0.05d);
+    }
+
+    /**
+     * The position and direction at a distance are interpolated along the lines, distances outside of the path are clamped.
+     */
+    @Test
+    public void thePositionAndDirectionWillBeInterpolatedAlongThePath() throws PathException {
+
+        final PathMeasure measure = new PathMeasure("M0 0 h10 v20");
+
+        Point2D point = measure.getPointAtLength(5.0d);
+
+        assertEquals(5.0d, point.getX(), MINIMUM_DEVIATION);
+        assertEquals(0.0d, point.getY(), MINIMUM_DEVIATION);
+
+        point = measure.getPointAtLength(20.0d);
+
+        assertEquals(10.0d, point.getX(), MINIMUM_DEVIATION);
+        assertEquals(10.0d, point.getY(), MINIMUM_DEVIATION);
+
+        Point2D tangent = measure.getTangentAtLength(20.0d);
+
+        assertEquals(0.0d, tangent.getX(), MINIMUM_DEVIATION);
+        assertEquals(1.0d, tangent.getY(), MINIMUM_DEVIATION);
+
+        tangent = measure.getTangentAtLength(-5.0d);
+
+        assertEquals(1.0d, tangent.getX(), MINIMUM_DEVIATION);
+        assertEquals(0.0d, tangent.getY(), MINIMUM_DEVIATION);
+
+        final double[] result = new double[4];
+
+        measure.getPositionAndTangent(100.0d, result);
+
+        assertEquals(10.0d, result[0], MINIMUM_DEVIATION);
+        assertEquals(20.0d, result[1], MINIMUM_DEVIATION);
+        assertEquals(0.0d, result[2], MINIMUM_DEVIATION);
+        assertEquals(1.0d, result[3], MINIMUM_DEVIATION);
+    }
+
+    /**
+     * The position at a distance will continue on the next sub path.
+     */
+    @Test
+    public void thePositionWillContinueOnTheNextSubPath() throws PathException {
+
+        final PathMeasure measure = new PathMeasure("M0 0 h10 M100 100 v10");
+
+        final Point2D point = measure.getPointAtLength(15.0d);
+
+        assertEquals(100.0d, point.getX(), MINIMUM_DEVIATION);
+        assertEquals(105.0d, point.getY(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * The position on a curve lies on the curve.
+     */
+    @Test
+    public void thePositionOnACurveWillLieOnTheCurve() throws PathException {
+
+        final PathMeasure measure = new PathMeasure("M50 0 A50 50 0 0 1 50 100");
+
+        for (int i = 0; i <= 10; i++) {
+            final Point2D point = measure.getPointAtLength(measure.getLength() * i / 10.0d);
+
+            assertEquals(50.0d, point.distance(50.0d, 50.0d), 0.05d);
+        }
+    }
+
+    /**
+     * Extracting a part of the path will pass the lines between the distances to the consumer, including the moves to the next sub paths.
+     */
+    @Test
+    public void extractingAPartWillPassTheLinesBetweenTheDistances() throws PathException {
+
+        final List<String> segments = new ArrayList<>();
+
+        final PathConsumer consumer = new PathConsumer() {
+            @Override
+            public void moveTo(final double x, final double y) {
+                segments.add(String.format("M%.1f,%.1f", x, y));
+            }
+
+            @Override
+            public void lineTo(final double x, final double y) {
+                segments.add(String.format("L%.1f,%.1f", x, y));
+            }
+
+            @Override
+            public void quadTo(final double controlX, final double controlY, final double x, final double y) {
+                segments.add("Q");
+            }
+
+            @Override
+            public void curveTo(final double startControlX,
+                                final double startControlY,
+                                final double endControlX,
+                                final double endControlY,
+                                final double x,
+                                final double y) {
+                segments.add("C");
+            }
+
+            @Override
+            public void close() {
+                segments.add("Z");
+            }
+        };
+
+        final PathMeasure measure = new PathMeasure("M0 0 h10 v10 M100 100 h10");
+
+        measure.getSegment(5.0d, 25.0d, consumer);
+
+        assertEquals("[M5.0,0.0, L10.0,0.0, L10.0,10.0, M100.0,100.0, L105.0,100.0]", segments.toString());
+
+        segments.clear();
+        measure.getSegment(2.0d, 4.0d, consumer);
+
+        assertEquals("[M2.0,0.0, L4.0,0.0]", segments.toString());
+
+        segments.clear();
+        measure.getSegment(4.0d, 2.0d, consumer);
+
+        assertTrue(segments.isEmpty());
+    }
+
+    /**
+     * A path without any points can not be queried for a position.
+     */
+    @Test (expected = PathException.class)
+    public void queryingAPositionOfAnEmptyPathWillThrowAnException() throws PathException {
+        new PathMeasure("").getPointAtLength(0.0d);
+    }
+
+    /**
+     * The data must not be null.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void creatingAMeasureWithoutDataWillThrowAnException() {
+        new PathMeasure(null);
+    }
+}
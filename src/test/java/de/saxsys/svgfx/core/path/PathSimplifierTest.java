@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.core.path;
+
+import org.junit.Test;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public final class PathSimplifierTest {
+
+    /**
+     * Points which deviate less than the tolerance from the line between their neighbours are removed, while the others are kept.
+     */
+    @Test
+    public void pointsWithinTheToleranceWillBeRemoved() {
+
+        final double[] points = {0.0d, 0.0d, 1.0d, 0.1d, 2.0d, -0.1d, 3.0d, 5.0d, 4.0d, 6.5d, 5.0d, 7.0d, 6.0d, 0.0d};
+
+        assertArrayEquals(new double[] {0.0d, 0.0d, 2.0d, -0.1d, 3.0d, 5.0d, 5.0d, 7.0d, 6.0d, 0.0d}, PathSimplifier.simplify(points, 0.5d), MINIMUM_DEVIATION);
+        assertArrayEquals(points, PathSimplifier.simplify(points, 0.01d), MINIMUM_DEVIATION);
+        assertArrayEquals(new double[] {0.0d, 0.0d, 6.0d, 0.0d}, PathSimplifier.simplify(points, 10.0d), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * Less than three points can not be simplified.
+     */
+    @Test
+    public void lessThanThreePointsWillBeKept() {
+
+        assertArrayEquals(new double[] {1.0d, 2.0d, 3.0d, 4.0d}, PathSimplifier.simplify(new double[] {1.0d, 2.0d, 3.0d, 4.0d}, 10.0d), MINIMUM_DEVIATION);
+        assertEquals(0, PathSimplifier.simplify(new double[0], 10.0d).length);
+    }
+
+    /**
+     * Straight lines of a path are simplified for each sub path, closed sub paths stay closed.
+     */
+    @Test
+    public void theSubPathsOfAPathWillBeSimplifiedSeparately() throws PathException {
+
+        assertEquals("M0.0 0.0 L10.0 0.0 M0.0 5.0 L10.0 5.0 L10.0 10.0 Z",
+                     PathSimplifier.simplify("M0 0 L5 0.1 L10 0 M0 5 h5 h5 v5 z", 0.5d));
+    }
+
+    /**
+     * Curves are flattened into straight lines which do not deviate by more than the tolerance.
+     */
+    @Test
+    public void curvesWillBeFlattenedWithinTheTolerance() throws PathException {
+
+        final String result = PathSimplifier.simplify("M0 0 C0 100 100 100 100 0", 0.5d);
+
+        assertTrue(result.startsWith("M0.0 0.0 L"));
+        assertTrue(result.endsWith("L100.0 0.0"));
+
+        final String[] values = result.replace("M", "").replace("L", "").split(" ");
+
+        assertTrue(values.length > 10);
+
+        for (int i = 0; i < values.length; i += 2) {
+            final double x = Double.parseDouble(values[i]);
+            final double y = Double.parseDouble(values[i + 1]);
+
+            // the highest point of the curve is at y = 75
+            assertTrue(y >= 0.0d && y <= 75.0d + MINIMUM_DEVIATION);
+            assertTrue(x >= 0.0d && x <= 100.0d);
+        }
+
+        assertEquals("M0.0 0.0 L100.0 0.0", PathSimplifier.simplify("M0 0 C0 100 100 100 100 0", 200.0d));
+    }
+
+    /**
+     * A tolerance which is not greater than 0 is not allowed for path data.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void simplifyingPathDataWithoutAToleranceWillThrowAnException() throws PathException {
+        PathSimplifier.simplify("M0 0 L1 1", 0.0d);
+    }
+
+    /**
+     * Points must consist of pairs.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void simplifyingAnOddNumberOfValuesWillThrowAnException() {
+        PathSimplifier.simplify(new double[] {1.0d, 2.0d, 3.0d}, 1.0d);
+    }
+}
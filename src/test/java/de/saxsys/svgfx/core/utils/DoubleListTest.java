@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.utils;
+
+import org.junit.Test;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class will test all methods of the {@link DoubleList}
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class DoubleListTest {
+
+    /**
+     * Values that are added will be contained in the list, even if the initial capacity is exceeded.
+     */
+    @Test
+    public void addedValuesWillBeContainedEvenIfTheInitialCapacityIsExceeded() {
+        final DoubleList list = new DoubleList(0);
+
+        assertTrue(list.isEmpty());
+
+        list.add(1.0d);
+        list.addAll(2.0d, 3.0d);
+
+        assertFalse(list.isEmpty());
+        assertEquals(3, list.size());
+        assertEquals(2.0d, list.get(1), MINIMUM_DEVIATION);
+        assertArrayEquals(new double[]{1.0d, 2.0d, 3.0d}, list.toArray(), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * A value can be replaced using its index.
+     */
+    @Test
+    public void aValueCanBeReplacedUsingItsIndex() {
+        final DoubleList list = new DoubleList();
+
+        list.addAll(1.0d, 2.0d, 3.0d);
+        list.set(1, 5.0d);
+        assertEquals(5.0d, list.get(1), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * Clearing the list will remove all values.
+     */
+    @Test
+    public void clearingTheListWillRemoveAllValues() {
+        final DoubleList list = new DoubleList();
+
+        list.addAll(1.0d, 2.0d, 3.0d);
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.toArray().length);
+    }
+
+    /**
+     * Accessing an index outside of the size is not possible, even if the capacity would allow it.
+     */
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void accessingAnIndexOutsideOfTheSizeIsNotPossible() {
+        final DoubleList list = new DoubleList(10);
+
+        list.add(1.0d);
+        list.get(1);
+    }
+}
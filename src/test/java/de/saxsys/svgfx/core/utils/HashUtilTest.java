@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.utils;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * This class will test all methods of the {@link HashUtil}
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class HashUtilTest {
+
+    /**
+     * The hash will be the lower case hexadecimal SHA-256 hash of the data.
+     */
+    @Test
+    public void theHashWillBeTheHexadecimalSHA256HashOfTheData() {
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", HashUtil.createHash(new byte[0]));
+        assertEquals("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad", HashUtil.createHash("abc".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    /**
+     * The data must not be null.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void theDataMustNotBeNull() {
+        HashUtil.createHash(null);
+    }
+}
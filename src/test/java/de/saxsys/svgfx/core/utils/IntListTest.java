@@ -0,0 +1,85 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.core.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * This class will test all methods of the {@link IntList}
+ *
+ * @author Xyanid on 19.10.2026.
+ */
+public final class IntListTest {
+
+    /**
+     * Values that are added will be contained in the list, even if the initial capacity is exceeded.
+     */
+    @Test
+    public void addedValuesWillBeContainedEvenIfTheInitialCapacityIsExceeded() {
+        final IntList list = new IntList(0);
+
+        assertTrue(list.isEmpty());
+
+        list.add(1);
+        list.addAll(2, 3);
+
+        assertFalse(list.isEmpty());
+        assertEquals(3, list.size());
+        assertEquals(2, list.get(1));
+        assertArrayEquals(new int[]{1, 2, 3}, list.toArray());
+    }
+
+    /**
+     * A value can be replaced using its index.
+     */
+    @Test
+    public void aValueCanBeReplacedUsingItsIndex() {
+        final IntList list = new IntList();
+
+        list.addAll(1, 2, 3);
+        list.set(1, 5);
+        assertEquals(5, list.get(1));
+    }
+
+    /**
+     * Clearing the list will remove all values.
+     */
+    @Test
+    public void clearingTheListWillRemoveAllValues() {
+        final IntList list = new IntList();
+
+        list.addAll(1, 2, 3);
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.toArray().length);
+    }
+
+    /**
+     * Accessing an index outside of the size is not possible, even if the capacity would allow it.
+     */
+    @Test (expected = IndexOutOfBoundsException.class)
+    public void accessingAnIndexOutsideOfTheSizeIsNotPossible() {
+        final IntList list = new IntList(10);
+
+        list.add(1);
+        list.get(1);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.css.core;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public final class CssCascadeTest {
+
+    /**
+     * Styles are matched by type, id and classes and ordered by their specificity, the most specific style coming first.
+     */
+    @Test
+    public void matchingStylesAreOrderedByTheirSpecificity() {
+
+        final CssCascade<String> cascade = new CssCascade<>();
+
+        cascade.add("#b", "id");
+        cascade.add("rect.a.c", "typeAndClasses");
+        cascade.add(".a", "class");
+        cascade.add("rect", "type");
+        cascade.add("*", "universal");
+        cascade.add("circle", "otherType");
+        cascade.add(".d", "otherClass");
+
+        final List<String> result = cascade.match("rect", "b", new HashSet<>(Arrays.asList("a", "c")));
+
+        assertEquals(Arrays.asList("id", "typeAndClasses", "class", "type", "universal"), result);
+    }
+
+    /**
+     * Styles with the same specificity are ordered by their declaration, the style declared last coming first.
+     */
+    @Test
+    public void stylesWithTheSameSpecificityAreOrderedByTheirDeclaration() {
+
+        final CssCascade<String> cascade = new CssCascade<>();
+
+        cascade.add(".a", "first");
+        cascade.add(".b", "second");
+
+        assertEquals(Arrays.asList("second", "first"), cascade.match("rect", null, new HashSet<>(Arrays.asList("a", "b"))));
+    }
+
+    /**
+     * Grouped selectors are split, while selectors which are not supported are ignored.
+     */
+    @Test
+    public void groupedSelectorsAreSplitAndUnsupportedSelectorsAreIgnored() {
+
+        final CssCascade<String> cascade = new CssCascade<>();
+
+        assertTrue(cascade.add(".a, g > rect, #b", "grouped"));
+        assertFalse(cascade.add("g rect", "descendant"));
+        assertFalse(cascade.add("rect:hover", "pseudo"));
+
+        assertEquals(Collections.singletonList("grouped"), cascade.match("rect", null, Collections.singleton("a")));
+        assertEquals(Collections.singletonList("grouped"), cascade.match("circle", "b", Collections.emptySet()));
+        assertEquals(0, cascade.match("rect", null, Collections.emptySet()).size());
+    }
+
+    /**
+     * Selectors which can not be evaluated but end with a class are matched by that class after all evaluated selectors, the one declared last coming first,
+     * regardless of whether other selectors use the class. Their classes count as used.
+     */
+    @Test
+    public void unsupportedSelectorsEndingWithAClassAreMatchedAfterTheEvaluatedSelectors() {
+
+        final CssCascade<String> cascade = new CssCascade<>();
+
+        cascade.add(".layer .a", "descendant");
+        cascade.add(".a", "class");
+        cascade.add("g > .a", "child");
+        cascade.add(".b:hover", "pseudo");
+
+        assertEquals(Arrays.asList("class", "child", "descendant"), cascade.match("rect", null, Collections.singleton("a")));
+        assertEquals(0, cascade.match("rect", null, Collections.singleton("b")).size());
+
+        assertTrue(cascade.containsClass("layer"));
+        assertTrue(cascade.containsClass("b"));
+    }
+
+    /**
+     * The classes used by any selector can be checked and styles added later are matched as well.
+     */
+    @Test
+    public void classesUsedBySelectorsCanBeCheckedAndStylesAddedLaterAreMatched() {
+
+        final CssCascade<String> cascade = new CssCascade<>();
+
+        cascade.add("#b.a", "idAndClass");
+
+        assertTrue(cascade.containsClass("a"));
+        assertFalse(cascade.containsClass("c"));
+
+        cascade.add(".c", "class");
+
+        assertTrue(cascade.containsClass("c"));
+        assertEquals(1, cascade.match("rect", null, Collections.singleton("c")).size());
+
+        cascade.clear();
+
+        assertFalse(cascade.containsClass("a"));
+    }
+
+    /**
+     * A style which is null is not allowed.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void addingAStyleWhichIsNullWillThrowAnException() {
+        new CssCascade<String>().add(".a", null);
+    }
+}
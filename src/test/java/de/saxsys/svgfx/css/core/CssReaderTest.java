@@ -0,0 +1,141 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.css.core;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public final class CssReaderTest {
+
+    /**
+     * Records the tokens as strings.
+     */
+    private static final class Recorder implements CssConsumer {
+
+        /**
+         * Contains the recorded tokens.
+         */
+        private final List<String> tokens = new ArrayList<>();
+
+        @Override
+        public void startRule(final CharSequence data, final int start, final int end) {
+            tokens.add(String.format("rule [%s]", data.subSequence(start, end)));
+        }
+
+        @Override
+        public void declaration(final CharSequence data, final int nameStart, final int nameEnd, final int valueStart, final int valueEnd) {
+            tokens.add(String.format("[%s]=[%s]", data.subSequence(nameStart, nameEnd), data.subSequence(valueStart, valueEnd)));
+        }
+
+        @Override
+        public void endRule() {
+            tokens.add("end");
+        }
+    }
+
+    /**
+     * All rules of a style sheet are read, selectors and declarations being trimmed and string indicators being removed from the values.
+     */
+    @Test
+    public void allRulesOfAStyleSheetWillBeReadAsTrimmedTokens() {
+
+        final Recorder recorder = new Recorder();
+
+        CssReader.read(" .a { fill : red ; stroke:\"#808080\" }\n#b{stroke-width:3;}", recorder);
+
+        assertEquals(7, recorder.tokens.size());
+        assertEquals("rule [.a]", recorder.tokens.get(0));
+        assertEquals("[fill]=[red]", recorder.tokens.get(1));
+        assertEquals("[stroke]=[#808080]", recorder.tokens.get(2));
+        assertEquals("end", recorder.tokens.get(3));
+        assertEquals("rule [#b]", recorder.tokens.get(4));
+        assertEquals("[stroke-width]=[3]", recorder.tokens.get(5));
+        assertEquals("end", recorder.tokens.get(6));
+    }
+
+    /**
+     * Comments are removed from the tokens, even if they are inside of a token, while comment and css characters inside of strings are kept.
+     */
+    @Test
+    public void commentsWillBeRemovedButStringsWillBeKept() {
+
+        final Recorder recorder = new Recorder();
+
+        CssReader.read(".a/*x*/b{/*{\"this is ;:a string\";:}*/fill:/*y*/red;clip-rule:\";{ar;asd:j}:sda;asd:\";}", recorder);
+
+        assertEquals(4, recorder.tokens.size());
+        assertEquals("rule [.ab]", recorder.tokens.get(0));
+        assertEquals("[fill]=[red]", recorder.tokens.get(1));
+        assertEquals("[clip-rule]=[;{ar;asd:j}:sda;asd:]", recorder.tokens.get(2));
+        assertEquals("end", recorder.tokens.get(3));
+    }
+
+    /**
+     * Reading a single rule will stop after the first rule.
+     */
+    @Test
+    public void readingASingleRuleWillIgnoreTheDataAfterTheFirstRule() {
+
+        final Recorder recorder = new Recorder();
+
+        CssReader.readRule(".a{fill:red}.b{fill:blue}", recorder);
+
+        assertEquals(3, recorder.tokens.size());
+    }
+
+    /**
+     * A rule which is not closed at the end of a style sheet is started but not ended.
+     */
+    @Test
+    public void aRuleWhichIsNotClosedAtTheEndOfAStyleSheetWillNotBeEnded() {
+
+        final Recorder recorder = new Recorder();
+
+        CssReader.read(".a{fill:red}.b{fill:blue", recorder);
+
+        assertEquals(4, recorder.tokens.size());
+        assertEquals("rule [.b]", recorder.tokens.get(3));
+    }
+
+    /**
+     * A single rule which is not closed is not allowed.
+     */
+    @Test (expected = IllegalStateException.class)
+    public void aSingleRuleWhichIsNotClosedWillThrowAnException() {
+        CssReader.readRule(".a{fill:red", new Recorder());
+    }
+
+    /**
+     * A declaration without a separator is not allowed.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void aDeclarationWithoutASeparatorWillThrowAnException() {
+        CssReader.read(".a{fill red}", new Recorder());
+    }
+
+    /**
+     * An empty declaration is not allowed.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void anEmptyDeclarationWillThrowAnException() {
+        CssReader.read(".a{fill:red;;}", new Recorder());
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.css.core;
+
+import de.saxsys.svgfx.core.metrics.InMemorySVGMetrics;
+import de.saxsys.svgfx.core.metrics.SVGMetrics;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static de.saxsys.svgfx.core.TestUtil.MINIMUM_DEVIATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public final class CssRuleCacheTest {
+
+    /**
+     * Clears the cache before each test.
+     */
+    @Before
+    public void setUp() {
+        CssRuleCache.clear();
+    }
+
+    /**
+     * A style sheet is split into its rules, keeping the order of the rules and their properties and ignoring data after the last rule.
+     */
+    @Test
+    public void aStyleSheetWillBeSplitIntoItsRulesInTheOrderOfTheirDeclaration() {
+
+        final List<CssRule> rules = CssRuleCache.getRules(".a{fill:red; stroke : \"blue\"}/* comment */ #b{stroke-width:3} c{");
+
+        assertEquals(2, rules.size());
+
+        assertEquals(".a", rules.get(0).getName());
+        assertEquals(2, rules.get(0).getProperties().size());
+        assertEquals("fill", rules.get(0).getProperties().get(0).getKey());
+        assertEquals("red", rules.get(0).getProperties().get(0).getValue());
+        assertEquals("stroke", rules.get(0).getProperties().get(1).getKey());
+        assertEquals("blue", rules.get(0).getProperties().get(1).getValue());
+
+        assertEquals("#b", rules.get(1).getName());
+        assertEquals(1, rules.get(1).getProperties().size());
+        assertEquals("3", rules.get(1).getProperties().get(0).getValue());
+    }
+
+    /**
+     * Requesting the rules of the same style sheet twice will return the same shared instance.
+     */
+    @Test
+    public void requestingTheSameStyleSheetTwiceWillReturnTheCachedRules() {
+
+        final List<CssRule> rules = CssRuleCache.getRules(".a{fill:red}");
+
+        assertSame(rules, CssRuleCache.getRules(new StringBuilder(".a{").append("fill:red}").toString()));
+        assertEquals(1, CssRuleCache.size());
+
+        CssRuleCache.clear();
+
+        assertEquals(0, CssRuleCache.size());
+    }
+
+    /**
+     * The cache will not keep more than the maximum amount of style sheets.
+     */
+    @Test
+    public void theCacheWillNotExceedItsMaximumSize() {
+
+        for (int i = 0; i <= CssRuleCache.MAXIMUM_SIZE; i++) {
+            CssRuleCache.getRules(String.format(".a%d{fill:red}", i));
+        }
+
+        assertEquals(CssRuleCache.MAXIMUM_SIZE, CssRuleCache.size());
+    }
+
+    /**
+     * The cache will not keep more than the maximum amount of characters and will not cache style sheets which are larger on their own.
+     */
+    @Test
+    public void theCacheWillNotExceedItsMaximumAmountOfCharacters() {
+
+        final String padding = new String(new char[(int) (CssRuleCache.MAXIMUM_CHARACTERS / 4)]).replace('\0', ' ');
+
+        for (int i = 0; i < 5; i++) {
+            CssRuleCache.getRules(String.format(".a%d{fill:red}%s", i, padding));
+        }
+
+        assertEquals(3, CssRuleCache.size());
+        assertTrue(CssRuleCache.getCharacters() <= CssRuleCache.MAXIMUM_CHARACTERS);
+
+        final String styleSheet = String.format(".a{fill:red}%s%s%s%s", padding, padding, padding, padding);
+
+        final List<CssRule> rules = CssRuleCache.getRules(styleSheet);
+
+        assertEquals(1, rules.size());
+        assertNotSame(rules, CssRuleCache.getRules(styleSheet));
+    }
+
+    /**
+     * A css text without a declaration block start will create a rule without a name.
+     */
+    @Test
+    public void aCssTextWithoutADeclarationBlockStartWillCreateARuleWithoutAName() {
+
+        final CssRule rule = CssRule.parse("fill:red;");
+
+        assertNull(rule.getName());
+        assertEquals(1, rule.getProperties().size());
+    }
+
+    /**
+     * The rules returned by the cache can not be modified.
+     */
+    @Test (expected = UnsupportedOperationException.class)
+    public void theReturnedRulesCanNotBeModified() {
+        CssRuleCache.getRules(".a{fill:red}").clear();
+    }
+
+    /**
+     * Each request records exactly one access of the css rule cache, which is a hit if the style sheet was already cached.
+     */
+    @Test
+    public void eachRequestWillRecordWhetherTheStyleSheetWasCached() {
+
+        final InMemorySVGMetrics metrics = new InMemorySVGMetrics();
+
+        CssRuleCache.getRules(".a{fill:red}", metrics);
+
+        assertEquals(0.0d, metrics.getCacheHitRatios().get(SVGMetrics.CSS_RULE_CACHE), MINIMUM_DEVIATION);
+
+        CssRuleCache.getRules(".a{fill:red}", metrics);
+
+        assertEquals(0.5d, metrics.getCacheHitRatios().get(SVGMetrics.CSS_RULE_CACHE), MINIMUM_DEVIATION);
+    }
+
+    /**
+     * Metrics which are null are not allowed.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void metricsWhichAreNullWillThrowAnException() {
+        CssRuleCache.getRules(".a{fill:red}", null);
+    }
+
+    /**
+     * A style sheet which is null is not allowed.
+     */
+    @Test (expected = IllegalArgumentException.class)
+    public void aStyleSheetWhichIsNullWillThrowAnException() {
+        CssRuleCache.getRules(null);
+    }
+
+    /**
+     * A rule which is not closed properly will throw an exception.
+     */
+    @Test (expected = IllegalStateException.class)
+    public void aRuleWhichIsNotClosedProperlyWillThrowAnException() {
+        CssRule.parse(".a{fill:red");
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.xml.core;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+@SuppressWarnings ("ConstantConditions")
+public final class PipedGZIPInputStreamTest {
+
+    /**
+     * Creates gzip compressed data of the given bytes.
+     *
+     * @param data the data to compress.
+     *
+     * @return the compressed data.
+     *
+     * @throws IOException if the data can not be compressed.
+     */
+    private static byte[] compress(final byte[] data) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (final GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(data);
+        }
+
+        return output.toByteArray();
+    }
+
+    /**
+     * Reads all the data of the given stream.
+     *
+     * @param stream the stream to read.
+     *
+     * @return the data.
+     *
+     * @throws IOException if the data can not be read.
+     */
+    private static byte[] readAll(final InputStream stream) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[1000];
+
+        int read;
+        while ((read = stream.read(buffer)) >= 0) {
+            output.write(buffer, 0, read);
+        }
+
+        return output.toByteArray();
+    }
+
+    /**
+     * The decompressed data will be the same as the original data, even if there are more chunks than the capacity allows.
+     */
+    @Test
+    public void theDecompressedDataWillBeTheSameAsTheOriginalData() throws IOException {
+
+        final byte[] data = new byte[100000];
+        new Random(42).nextBytes(data);
+
+        try (final PipedGZIPInputStream stream = new PipedGZIPInputStream(new ByteArrayInputStream(compress(data)), 1024, 2)) {
+            assertEquals(data[0] & 0xFF, stream.read());
+            assertArrayEquals(Arrays.copyOfRange(data, 1, data.length), readAll(stream));
+            assertEquals(-1, stream.read());
+        }
+    }
+
+    /**
+     * Empty data will result in the end of the stream.
+     */
+    @Test
+    public void emptyDataWillResultInTheEndOfTheStream() throws IOException {
+
+        try (final PipedGZIPInputStream stream = new PipedGZIPInputStream(new ByteArrayInputStream(compress(new byte[0])), 1024, 2)) {
+            assertEquals(-1, stream.read());
+        }
+    }
+
+    /**
+     * If the compressed data is corrupt, the reader will get an {@link IOException}.
+     */
+    @Test
+    public void corruptDataWillCauseAnIOExceptionForTheReader() throws IOException {
+
+        final byte[] data = new byte[100000];
+        new Random(42).nextBytes(data);
+
+        final byte[] compressed = compress(data);
+
+        try (final PipedGZIPInputStream stream = new PipedGZIPInputStream(new ByteArrayInputStream(Arrays.copyOf(compressed, compressed.length / 2)), 1024, 2)) {
+            readAll(stream);
+            fail();
+        } catch (final IOException ignored) {
+        }
+    }
+
+    /**
+     * Data that is not gzip compressed can not be used.
+     */
+    @Test (expected = IOException.class)
+    public void dataThatIsNotCompressedCanNotBeUsed() throws IOException {
+
+        new PipedGZIPInputStream(new ByteArrayInputStream(new byte[]{'<', 's', 'v', 'g'}), 1024, 2);
+    }
+
+    /**
+     * Reading from a closed stream is not possible.
+     */
+    @Test (expected = IOException.class)
+    public void readingFromAClosedStreamIsNotPossible() throws IOException {
+
+        final PipedGZIPInputStream stream = new PipedGZIPInputStream(new ByteArrayInputStream(compress(new byte[100000])), 1024, 2);
+
+        stream.close();
+        stream.read();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+
+package de.saxsys.svgfx.xml.core;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+@SuppressWarnings ("ConstantConditions")
+public final class XMLEncodingDetectorTest {
+
+    /**
+     * A byte order mark will determine the encoding.
+     */
+    @Test
+    public void aByteOrderMarkWillDetermineTheEncoding() {
+
+        assertEquals("UTF-8", XMLEncodingDetector.detect(new byte[]{(byte) 0xEF, (byte) 0xBB, (byte) 0xBF, '<'}, 4));
+        assertEquals("UTF-16", XMLEncodingDetector.detect(new byte[]{(byte) 0xFE, (byte) 0xFF, 0, '<'}, 4));
+        assertEquals("UTF-16", XMLEncodingDetector.detect(new byte[]{(byte) 0xFF, (byte) 0xFE, '<', 0}, 4));
+    }
+
+    /**
+     * UTF-16 data without a byte order mark will be detected by the first character.
+     */
+    @Test
+    public void utf16DataWithoutAByteOrderMarkWillBeDetected() {
+
+        assertEquals("UTF-16BE", XMLEncodingDetector.detect("<?xml".getBytes(StandardCharsets.UTF_16BE), 10));
+        assertEquals("UTF-16LE", XMLEncodingDetector.detect("<?xml".getBytes(StandardCharsets.UTF_16LE), 10));
+    }
+
+    /**
+     * The encoding declared in the prolog will be returned.
+     */
+    @Test
+    public void theEncodingDeclaredInThePrologWillBeReturned() {
+
+        final byte[] doubleQuoted = "<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?><svg/>".getBytes(StandardCharsets.US_ASCII);
+        final byte[] singleQuoted = "<?xml version='1.0' encoding = 'windows-1252' ?><svg/>".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals("ISO-8859-1", XMLEncodingDetector.detect(doubleQuoted, doubleQuoted.length));
+        assertEquals("windows-1252", XMLEncodingDetector.detect(singleQuoted, singleQuoted.length));
+    }
+
+    /**
+     * If there is no prolog or the prolog does not declare an encoding, null will be returned.
+     */
+    @Test
+    public void ifThereIsNoEncodingDeclaredNullWillBeReturned() {
+
+        final byte[] noProlog = "<svg/>".getBytes(StandardCharsets.US_ASCII);
+        final byte[] noEncoding = "<?xml version=\"1.0\"?><svg encoding=\"UTF-8\"/>".getBytes(StandardCharsets.US_ASCII);
+        final byte[] incomplete = "<?xml version=\"1.0\" encoding=\"UTF".getBytes(StandardCharsets.US_ASCII);
+
+        assertNull(XMLEncodingDetector.detect(noProlog, noProlog.length));
+        assertNull(XMLEncodingDetector.detect(noEncoding, noEncoding.length));
+        assertNull(XMLEncodingDetector.detect(incomplete, incomplete.length));
+        assertNull(XMLEncodingDetector.detect(new byte[0], 0));
+    }
+
+    /**
+     * Only the given amount of bytes will be considered.
+     */
+    @Test
+    public void onlyTheGivenAmountOfBytesWillBeConsidered() {
+
+        final byte[] data = "<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>".getBytes(StandardCharsets.US_ASCII);
+
+        assertNull(XMLEncodingDetector.detect(data, 20));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015 - 2017 Xyanid
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package de.saxsys.svgfx.jfr;
+
+import de.saxsys.svgfx.core.SVGParser;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import org.xml.sax.InputSource;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author Xyanid on 19.10.2026.
+ */
+public final class FlightRecorderEventsTest {
+
+    /**
+     * If no recording is running, no event is enabled and ending the returned token does nothing.
+     */
+    @Test
+    public void withoutARecordingNoEventWillBeBegun() {
+        assertTrue(FlightRecorderEvents.isAvailable());
+
+        final Object token = FlightRecorderEvents.begin(FlightRecorderEvents.Operation.PARSE);
+
+        assertNull(token);
+
+        FlightRecorderEvents.end(token, "document", "svg");
+    }
+
+    /**
+     * Parsing a document while a recording without thresholds is running will emit an event for each operation containing the id of the document, the
+     * bounding box of the path being needed by its gradient.
+     */
+    @Test
+    public void parsingADocumentWillEmitEventsContainingTheDocumentIdAndElementName() throws Exception {
+
+        final Path file = Files.createTempFile("svgfx", ".jfr");
+
+        try (final Recording recording = new Recording()) {
+            for (final String name : new String[] {"Parse", "ResultCreation", "StyleResolution", "BoundingBox"}) {
+                recording.enable("de.saxsys.svgfx." + name).withThreshold(Duration.ZERO);
+            }
+
+            recording.start();
+
+            final InputSource source = new InputSource(new StringReader("<svg xmlns=\"http://www.w3.org/2000/svg\">"
+                                                                        + "<defs><linearGradient id=\"g\"><stop offset=\"0\" stop-color=\"red\"/></linearGradient></defs>"
+                                                                        + "<path d=\"M0,0 L10,10\" fill=\"url(#g)\"/>"
+                                                                        + "</svg>"));
+            source.setSystemId("test.svg");
+
+            new SVGParser().parse(source);
+
+            recording.stop();
+            recording.dump(file);
+
+            final Set<String> names = new HashSet<>();
+
+            for (final RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                names.add(event.getEventType().getName());
+
+                assertEquals("test.svg", event.getString("documentId"));
+
+                if (event.getEventType().getName().equals("de.saxsys.svgfx.BoundingBox")) {
+                    assertEquals("path", event.getString("elementName"));
+                }
+            }
+
+            assertEquals(4, names.size());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}